@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.cache;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Base class for in-memory indexes over whole catalogs, kept current by {@link CatalogChangeEvent}s.
+ * <p>
+ * The index is fully built once the application is ready and again on every resync. Changes to one
+ * of the {@link #tables() indexed tables} are handed to {@link #refresh(CatalogChangeEvent)}, which
+ * rebuilds the affected part of the index. Builds run one at a time, in the order the changes were
+ * observed, so subclasses can swap their state without further locking; readers only ever see a
+ * complete state.
+ */
+@Slf4j
+public abstract class AbstractCatalogIndex {
+
+    private static final Duration EMIT_TIMEOUT = Duration.ofSeconds(1);
+
+    private final Sinks.Many<Mono<Void>> builds = Sinks.many().unicast().onBackpressureBuffer();
+
+    private final AtomicBoolean rebuildPending = new AtomicBoolean();
+
+    private Disposable subscription;
+
+    /**
+     * @return the tables whose changes affect this index
+     */
+    protected abstract Set<String> tables();
+
+    /**
+     * Builds the whole index from the database.
+     *
+     * @return a Mono completing once the new state is in place
+     */
+    protected abstract Mono<Void> rebuild();
+
+    /**
+     * Updates the index after a change to one of its tables. Rebuilds the whole index unless
+     * overridden.
+     *
+     * @param event the change
+     * @return a Mono completing once the new state is in place
+     */
+    protected Mono<Void> refresh(CatalogChangeEvent event) {
+        return rebuild();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (subscription != null && !subscription.isDisposed()) {
+            return;
+        }
+        subscription = builds.asFlux()
+                .concatMap(build -> build.onErrorResume(e -> {
+                    log.error("Failed to build {}", getClass().getSimpleName(), e);
+                    return Mono.empty();
+                }), 1)
+                .subscribe();
+        requestRebuild();
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if (event.isResync()) {
+            requestRebuild();
+        } else if (tables().contains(event.table())) {
+            submit(Mono.defer(() -> refresh(event)));
+        }
+    }
+
+    private void requestRebuild() {
+        // A queued full rebuild will already see every change made before it runs
+        if (rebuildPending.compareAndSet(false, true)) {
+            submit(Mono.defer(() -> {
+                rebuildPending.set(false);
+                return rebuild();
+            }));
+        }
+    }
+
+    private void submit(Mono<Void> build) {
+        builds.emitNext(build, Sinks.EmitFailureHandler.busyLooping(EMIT_TIMEOUT));
+    }
+}
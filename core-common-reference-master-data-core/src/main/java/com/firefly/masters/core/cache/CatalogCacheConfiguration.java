@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Sets up the bounded, per-catalog caches that sit in front of the repositories.
+ * <p>
+ * Caches run in Caffeine's asynchronous mode, so reactive {@code @Cacheable(sync = true)} lookups
+ * share a single in-flight database call for concurrent misses on the same key. Statistics are
+ * recorded so the actuator can publish hit, miss and eviction metrics per cache.
+ */
+@Configuration
+@EnableCaching
+@EnableConfigurationProperties(CatalogCacheProperties.class)
+public class CatalogCacheConfiguration {
+
+    @Bean
+    public CacheManager cacheManager(CatalogCacheProperties properties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setAsyncCacheMode(true);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.setCaffeine(caffeine(properties.getDefaults()));
+        for (String cacheName : CatalogCacheNames.ALL) {
+            cacheManager.registerCustomCache(cacheName, caffeine(properties.resolve(cacheName)).buildAsync());
+        }
+        return cacheManager;
+    }
+
+    private static Caffeine<Object, Object> caffeine(CatalogCacheProperties.CacheSpec spec) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder().recordStats();
+        if (spec.getMaximumSize() != null) {
+            builder.maximumSize(spec.getMaximumSize());
+        }
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        return builder;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Evicts cache entries affected by a {@link CatalogChangeEvent}.
+ */
+@Component
+public class CatalogCacheInvalidator {
+
+    /**
+     * Catalogs whose cached values embed other rows of the same table, or whose entries are not keyed
+     * by row id, so a change to one row can invalidate entries stored under other keys.
+     */
+    private static final Set<String> CLEAR_ON_CHANGE = Set.of(
+            CatalogCacheNames.TRANSACTION_CATEGORY_CATALOG,
+            CatalogCacheNames.IDENTITY_DOCUMENT_LOCALIZATION
+    );
+
+    /**
+     * Caches holding values derived from several tables, cleared whenever any of them changes.
+     */
+    private static final Map<String, Set<String>> DERIVED_CACHES = Map.of(
+            CatalogCacheNames.TRANSACTION_CATEGORY_CATALOG, Set.of(CatalogCacheNames.TRANSACTION_CATEGORY_TREE),
+            CatalogCacheNames.TRANSACTION_CATEGORY_LOCALIZATION, Set.of(CatalogCacheNames.TRANSACTION_CATEGORY_TREE),
+            CatalogCacheNames.LANGUAGE_LOCALE, Set.of(CatalogCacheNames.TRANSACTION_CATEGORY_TREE)
+    );
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if (event.isResync()) {
+            CatalogCacheNames.ALL.forEach(this::clear);
+            return;
+        }
+        DERIVED_CACHES.getOrDefault(event.table(), Set.of()).forEach(this::clear);
+        if (!CatalogCacheNames.ALL.contains(event.table())) {
+            return;
+        }
+        Cache cache = cacheManager.getCache(event.table());
+        if (cache == null) {
+            return;
+        }
+        if (event.id() == null || CLEAR_ON_CHANGE.contains(event.table())) {
+            cache.clear();
+        } else {
+            cache.evict(UUID.fromString(event.id()));
+        }
+    }
+
+    private void clear(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.cache;
+
+import java.util.List;
+
+/**
+ * Names of the per-catalog caches. Each cache is named after the table it fronts so that change
+ * notifications carrying a table name can be routed to the matching cache.
+ */
+public final class CatalogCacheNames {
+
+    public static final String ACTIVITY_CODE = "activity_code";
+    public static final String ADMINISTRATIVE_DIVISION = "administrative_division";
+    public static final String ASSET_TYPE = "asset_type";
+    public static final String BANK_INSTITUTION_CODES = "bank_institution_codes";
+    public static final String CONSENT_CATALOG = "consent_catalog";
+    public static final String CONTRACT_DOCUMENT_TYPE = "contract_document_type";
+    public static final String CONTRACT_ROLE = "contract_role";
+    public static final String CONTRACT_ROLE_SCOPE = "contract_role_scope";
+    public static final String CONTRACT_TYPE = "contract_type";
+    public static final String COUNTRIES = "countries";
+    public static final String CURRENCIES = "currencies";
+    public static final String DOCUMENT_TEMPLATE_CATALOG = "document_template_catalog";
+    public static final String DOCUMENT_TEMPLATE_LOCALIZATION = "document_template_localization";
+    public static final String DOCUMENT_TEMPLATE_TYPE_CATALOG = "document_template_type_catalog";
+    public static final String IDENTITY_DOCUMENT_CATALOG = "identity_document_catalog";
+    public static final String IDENTITY_DOCUMENT_CATEGORY_CATALOG = "identity_document_category_catalog";
+    public static final String IDENTITY_DOCUMENT_LOCALIZATION = "identity_document_localization";
+    public static final String LANGUAGE_LOCALE = "language_locale";
+    public static final String LEGAL_FORM = "legal_form";
+    public static final String LOOKUP_DOMAIN = "lookup_domain";
+    public static final String LOOKUP_ITEM = "lookup_item";
+    public static final String MESSAGE_TYPE_CATALOG = "message_type_catalog";
+    public static final String NOTIFICATION_MESSAGE_CATALOG = "notification_message_catalog";
+    public static final String NOTIFICATION_MESSAGE_LOCALIZATION = "notification_message_localization";
+    public static final String NOTIFICATION_MESSAGE_TEMPLATE = "notification_message_template";
+    public static final String RELATIONSHIP_TYPE_MASTER = "relationship_type_master";
+    public static final String RULE_OPERATION_TYPE = "rule_operation_type";
+    public static final String TITLE_MASTER = "title_master";
+    public static final String TRANSACTION_CATEGORY_CATALOG = "transaction_category_catalog";
+    public static final String TRANSACTION_CATEGORY_LOCALIZATION = "transaction_category_localization";
+
+    /**
+     * Localized transaction category trees, keyed by locale code. Not backed by a single table; see
+     * {@link CatalogCacheInvalidator} for the tables it is derived from.
+     */
+    public static final String TRANSACTION_CATEGORY_TREE = "transaction_category_tree";
+
+    /**
+     * All catalog caches, registered eagerly so their metrics are bound at startup.
+     */
+    public static final List<String> ALL = List.of(
+            ACTIVITY_CODE,
+            ADMINISTRATIVE_DIVISION,
+            ASSET_TYPE,
+            BANK_INSTITUTION_CODES,
+            CONSENT_CATALOG,
+            CONTRACT_DOCUMENT_TYPE,
+            CONTRACT_ROLE,
+            CONTRACT_ROLE_SCOPE,
+            CONTRACT_TYPE,
+            COUNTRIES,
+            CURRENCIES,
+            DOCUMENT_TEMPLATE_CATALOG,
+            DOCUMENT_TEMPLATE_LOCALIZATION,
+            DOCUMENT_TEMPLATE_TYPE_CATALOG,
+            IDENTITY_DOCUMENT_CATALOG,
+            IDENTITY_DOCUMENT_CATEGORY_CATALOG,
+            IDENTITY_DOCUMENT_LOCALIZATION,
+            LANGUAGE_LOCALE,
+            LEGAL_FORM,
+            LOOKUP_DOMAIN,
+            LOOKUP_ITEM,
+            MESSAGE_TYPE_CATALOG,
+            NOTIFICATION_MESSAGE_CATALOG,
+            NOTIFICATION_MESSAGE_LOCALIZATION,
+            NOTIFICATION_MESSAGE_TEMPLATE,
+            RELATIONSHIP_TYPE_MASTER,
+            RULE_OPERATION_TYPE,
+            TITLE_MASTER,
+            TRANSACTION_CATEGORY_CATALOG,
+            TRANSACTION_CATEGORY_LOCALIZATION,
+            TRANSACTION_CATEGORY_TREE
+    );
+
+    private CatalogCacheNames() {
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.cache;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Configuration of the per-catalog read-through caches.
+ *
+ * <pre>
+ * firefly:
+ *   masters:
+ *     cache:
+ *       defaults:
+ *         maximum-size: 10000
+ *         expire-after-write: 1h
+ *       catalogs:
+ *         lookup_item:
+ *           maximum-size: 100000
+ * </pre>
+ */
+@Data
+@ConfigurationProperties(prefix = "firefly.masters.cache")
+public class CatalogCacheProperties {
+
+    /**
+     * Settings applied to every catalog cache unless overridden.
+     */
+    private CacheSpec defaults = new CacheSpec(10_000L, Duration.ofHours(1));
+
+    /**
+     * Per-catalog overrides keyed by cache name (see {@link CatalogCacheNames}).
+     */
+    private Map<String, CacheSpec> catalogs = new HashMap<>();
+
+    /**
+     * Resolves the effective settings for a cache, falling back to the defaults for any value
+     * that is not overridden.
+     *
+     * @param cacheName the name of the cache
+     * @return the effective cache settings
+     */
+    public CacheSpec resolve(String cacheName) {
+        CacheSpec override = catalogs.get(cacheName);
+        if (override == null) {
+            return defaults;
+        }
+        return new CacheSpec(
+                override.getMaximumSize() != null ? override.getMaximumSize() : defaults.getMaximumSize(),
+                override.getExpireAfterWrite() != null ? override.getExpireAfterWrite() : defaults.getExpireAfterWrite()
+        );
+    }
+
+    @Data
+    public static class CacheSpec {
+
+        /**
+         * Maximum number of entries held by the cache.
+         */
+        private Long maximumSize;
+
+        /**
+         * Time after which an entry expires once written.
+         */
+        private Duration expireAfterWrite;
+
+        public CacheSpec() {
+        }
+
+        public CacheSpec(Long maximumSize, Duration expireAfterWrite) {
+            this.maximumSize = maximumSize;
+            this.expireAfterWrite = expireAfterWrite;
+        }
+    }
+}
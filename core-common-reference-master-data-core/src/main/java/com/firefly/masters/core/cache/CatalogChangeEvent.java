@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.cache;
+
+/**
+ * Application event describing a change to a catalog row, as announced by the database on the
+ * {@value CatalogChangeListener#CHANNEL} notification channel.
+ *
+ * @param table     the name of the changed table
+ * @param id        the primary key of the changed row, or {@code null} for a resync
+ * @param operation the kind of change
+ */
+public record CatalogChangeEvent(String table, String id, Operation operation) {
+
+    public enum Operation {
+        INSERT,
+        UPDATE,
+        DELETE,
+        /**
+         * Published after the notification connection is (re)established. Changes made while the
+         * listener was disconnected are unknown, so every cache must be treated as stale.
+         */
+        RESYNC
+    }
+
+    public static CatalogChangeEvent resync() {
+        return new CatalogChangeEvent(null, null, Operation.RESYNC);
+    }
+
+    public boolean isResync() {
+        return operation == Operation.RESYNC;
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.cache;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.r2dbc.postgresql.PostgresqlConnectionFactory;
+import io.r2dbc.postgresql.api.Notification;
+import io.r2dbc.postgresql.api.PostgresqlResult;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+
+/**
+ * Subscribes to the database change channel on a dedicated connection and republishes every
+ * notification as a {@link CatalogChangeEvent}, so that each instance can drop stale cache entries
+ * as soon as any other instance (or a direct SQL change) modifies a catalog.
+ * <p>
+ * If the connection is lost the listener reconnects with exponential backoff and publishes a
+ * {@link CatalogChangeEvent#resync() resync} event once listening again, since changes made in the
+ * meantime were not observed.
+ */
+@Slf4j
+@Component
+public class CatalogChangeListener {
+
+    public static final String CHANNEL = "master_data_changes";
+
+    private static final Duration MIN_BACKOFF = Duration.ofMillis(500);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    @Autowired
+    @Qualifier("notificationConnectionFactory")
+    private PostgresqlConnectionFactory connectionFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private Disposable subscription;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (subscription != null && !subscription.isDisposed()) {
+            return;
+        }
+        subscription = listen()
+                .retryWhen(Retry.backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.warn("Lost catalog change notifications, reconnecting (attempt {})",
+                                signal.totalRetries() + 1, signal.failure())))
+                .subscribe(this::publish);
+    }
+
+    @PreDestroy
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    private Flux<CatalogChangeEvent> listen() {
+        return Flux.usingWhen(
+                connectionFactory.create(),
+                connection -> connection.createStatement("LISTEN " + CHANNEL)
+                        .execute()
+                        .flatMap(PostgresqlResult::getRowsUpdated)
+                        .then(Mono.fromRunnable(() -> log.info("Listening for catalog changes on channel {}", CHANNEL)))
+                        .thenMany(Flux.just(CatalogChangeEvent.resync())
+                                .concatWith(connection.getNotifications().mapNotNull(this::toEvent)))
+                        // The notification stream only ends when the connection goes away.
+                        .concatWith(Mono.error(new IllegalStateException("Notification connection closed"))),
+                connection -> connection.close());
+    }
+
+    private CatalogChangeEvent toEvent(Notification notification) {
+        String payload = notification.getParameter();
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            return new CatalogChangeEvent(
+                    node.path("table").asText(null),
+                    node.path("id").asText(null),
+                    CatalogChangeEvent.Operation.valueOf(node.path("op").asText()));
+        } catch (Exception e) {
+            log.warn("Ignoring malformed catalog change notification: {}", payload, e);
+            return null;
+        }
+    }
+
+    private void publish(CatalogChangeEvent event) {
+        try {
+            eventPublisher.publishEvent(event);
+        } catch (RuntimeException e) {
+            log.error("Failed to handle catalog change {}", event, e);
+        }
+    }
+}
@@ -26,4 +26,10 @@ import org.mapstruct.Mapping;
 public interface BankInstitutionCodeMapper {
     BankInstitutionCodeDTO toDTO(BankInstitutionCode entity);
     BankInstitutionCode toEntity(BankInstitutionCodeDTO dto);
+
+    /**
+     * Converts an institution without its icon, for responses listing several institutions.
+     */
+    @Mapping(target = "svgIcon", ignore = true)
+    BankInstitutionCodeDTO toSummaryDTO(BankInstitutionCode entity);
 }
@@ -19,6 +19,7 @@ package com.firefly.masters.core.mappers.country.v1;
 
 import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
 import com.firefly.masters.models.entities.country.v1.Country;
+import com.firefly.masters.models.entities.country.v1.CountrySummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -26,4 +27,22 @@ import org.mapstruct.Mapping;
 public interface CountryMapper {
     CountryDTO toDTO(Country entity);
     Country toEntity(CountryDTO dto);
+
+    /**
+     * Converts a country without its flag, for responses listing several countries.
+     */
+    @Mapping(target = "svgFlag", ignore = true)
+    CountryDTO toSummaryDTO(Country entity);
+
+    /**
+     * Copies a country without its flag, for responses listing several countries.
+     */
+    @Mapping(target = "svgFlag", ignore = true)
+    CountryDTO toSummaryDTO(CountryDTO dto);
+
+    /**
+     * Converts a country read from the {@code country_summary} view, which has no flag.
+     */
+    @Mapping(target = "svgFlag", ignore = true)
+    CountryDTO toSummaryDTO(CountrySummary entity);
 }
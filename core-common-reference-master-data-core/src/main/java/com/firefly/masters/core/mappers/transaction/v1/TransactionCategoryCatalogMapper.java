@@ -36,6 +36,16 @@ public interface TransactionCategoryCatalogMapper {
      */
     @Mapping(target = "parentCategory", ignore = true)
     TransactionCategoryCatalogDTO toDTO(TransactionCategoryCatalog entity);
+
+    /**
+     * Convert entity to DTO without its icon, for responses listing several categories.
+     *
+     * @param entity the entity to convert
+     * @return the converted DTO
+     */
+    @Mapping(target = "parentCategory", ignore = true)
+    @Mapping(target = "svgIcon", ignore = true)
+    TransactionCategoryCatalogDTO toSummaryDTO(TransactionCategoryCatalog entity);
     
     /**
      * Convert DTO to entity.
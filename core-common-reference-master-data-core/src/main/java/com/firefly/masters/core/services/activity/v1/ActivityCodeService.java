@@ -20,6 +20,10 @@ package com.firefly.masters.core.services.activity.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.interfaces.dtos.activity.v1.ActivityCodeDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
@@ -32,6 +36,24 @@ public interface ActivityCodeService {
      * @return a Mono emitting a PaginationResponse containing a list of ActivityCodeDTO objects
      */
     Mono<PaginationResponse<ActivityCodeDTO>> listActivityCodes(PaginationRequest paginationRequest);
+
+    /**
+     * Retrieves a paginated list of activity codes, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the activity codes
+     */
+    Mono<PaginationResponse<ActivityCodeDTO>> listActivityCodes(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of activity codes using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the activity codes and the cursor of the next page
+     */
+    Mono<CursorPageDTO<ActivityCodeDTO>> listActivityCodesByCursor(CursorPaginationRequest cursorPaginationRequest);
     
     /**
      * Retrieves all activity codes for a specific country.
@@ -48,6 +70,34 @@ public interface ActivityCodeService {
      * @return a Flux emitting ActivityCodeDTO objects that are children of the specified parent
      */
     Flux<ActivityCodeDTO> getChildActivityCodes(UUID parentCodeId);
+
+    /**
+     * Retrieves an activity code and all of its descendants in a single query, in depth-first order.
+     *
+     * @param activityCodeId the unique identifier of the activity code at the top of the branch
+     * @param highRisk when not null, only returns activity codes with this high-risk flag
+     * @return a Flux emitting the ActivityCodeDTO objects of the branch, starting with the activity code itself
+     */
+    Flux<ActivityCodeDTO> getActivityCodeSubtree(UUID activityCodeId, Boolean highRisk);
+
+    /**
+     * Retrieves the descendants of an activity code down to a given number of levels, in a single query.
+     *
+     * @param activityCodeId the unique identifier of the parent activity code
+     * @param maxDepth how many levels below the activity code to return, between 1 and
+     *                 {@link com.firefly.masters.models.repositories.activity.v1.ActivityCodeRepository#MAX_TREE_DEPTH}
+     * @param highRisk when not null, only returns activity codes with this high-risk flag
+     * @return a Flux emitting the descendant ActivityCodeDTO objects in depth-first order
+     */
+    Flux<ActivityCodeDTO> getActivityCodeDescendants(UUID activityCodeId, int maxDepth, Boolean highRisk);
+
+    /**
+     * Retrieves the ancestor path of an activity code in a single query.
+     *
+     * @param activityCodeId the unique identifier of the activity code
+     * @return a Flux emitting the ancestor ActivityCodeDTO objects from the root down to the direct parent
+     */
+    Flux<ActivityCodeDTO> getActivityCodeAncestors(UUID activityCodeId);
     
     /**
      * Creates a new activity code based on the provided ActivityCodeDTO.
@@ -56,6 +106,16 @@ public interface ActivityCodeService {
      * @return a Mono emitting the created ActivityCodeDTO object
      */
     Mono<ActivityCodeDTO> createActivityCode(ActivityCodeDTO activityCodeDto);
+
+    /**
+     * Creates or updates activity codes in bulk, matching existing rows on their classification system, code and country.
+     * Rows are written in chunked, multi-row statements, each chunk in its own transaction, and
+     * the input is consumed one chunk at a time.
+     *
+     * @param activityCodes the rows to write
+     * @return a Flux emitting one result per input row, in input order
+     */
+    Flux<BulkUpsertResultDTO> upsertActivityCodes(Flux<ActivityCodeDTO> activityCodes);
     
     /**
      * Retrieves the details of an activity code by its unique identifier.
@@ -81,4 +141,14 @@ public interface ActivityCodeService {
      * @return a Mono signaling completion of the delete operation
      */
     Mono<Void> deleteActivityCode(UUID activityCodeId);
-}
\ No newline at end of file
+
+    /**
+     * Searches activity codes for typeahead: the description starts with the query or contains a word similar to
+     * it. Prefix matches come first, then the closest fuzzy matches.
+     *
+     * @param query the search term
+     * @param limit the maximum number of matches; a default applies if null
+     * @return a Flux emitting the matches, or an IllegalArgumentException for a blank query or a limit out of range
+     */
+    Flux<ActivityCodeDTO> searchActivityCodes(String query, Integer limit);
+}
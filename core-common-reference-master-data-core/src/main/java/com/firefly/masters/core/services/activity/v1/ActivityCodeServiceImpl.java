@@ -20,13 +20,26 @@ package com.firefly.masters.core.services.activity.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.activity.v1.ActivityCodeMapper;
+import com.firefly.masters.core.utils.BulkUpsertUtils;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.core.utils.SearchUtils;
 import com.firefly.masters.interfaces.dtos.activity.v1.ActivityCodeDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.activity.v1.ActivityCode;
 import com.firefly.masters.models.repositories.activity.v1.ActivityCodeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
@@ -41,13 +54,30 @@ public class ActivityCodeServiceImpl implements ActivityCodeService {
     @Autowired
     private ActivityCodeMapper mapper;
 
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
     @Override
     public Mono<PaginationResponse<ActivityCodeDTO>> listActivityCodes(PaginationRequest paginationRequest) {
+        return listActivityCodes(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<ActivityCodeDTO>> listActivityCodes(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<ActivityCodeDTO>> listActivityCodesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -63,6 +93,28 @@ public class ActivityCodeServiceImpl implements ActivityCodeService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Flux<ActivityCodeDTO> getActivityCodeSubtree(UUID activityCodeId, Boolean highRisk) {
+        return repository.findBranch(activityCodeId, 0, ActivityCodeRepository.MAX_TREE_DEPTH, highRisk)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<ActivityCodeDTO> getActivityCodeDescendants(UUID activityCodeId, int maxDepth, Boolean highRisk) {
+        if (maxDepth < 1 || maxDepth > ActivityCodeRepository.MAX_TREE_DEPTH) {
+            return Flux.error(new IllegalArgumentException(
+                    "maxDepth must be between 1 and " + ActivityCodeRepository.MAX_TREE_DEPTH));
+        }
+        return repository.findBranch(activityCodeId, 1, maxDepth, highRisk)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<ActivityCodeDTO> getActivityCodeAncestors(UUID activityCodeId) {
+        return repository.findAncestors(activityCodeId, ActivityCodeRepository.MAX_TREE_DEPTH)
+                .map(mapper::toDTO);
+    }
+
     @Override
     public Mono<ActivityCodeDTO> createActivityCode(ActivityCodeDTO activityCodeDto) {
         ActivityCode activityCode = mapper.toEntity(activityCodeDto);
@@ -71,24 +123,42 @@ public class ActivityCodeServiceImpl implements ActivityCodeService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = CatalogCacheNames.ACTIVITY_CODE, allEntries = true)
+    public Flux<BulkUpsertResultDTO> upsertActivityCodes(Flux<ActivityCodeDTO> activityCodes) {
+        // Each chunk commits in its own transaction, so the call itself must not run in one
+        return BulkUpsertUtils.upsert(
+                activityCodes,
+                mapper::toEntity,
+                repository,
+                ActivityCodeRepository.NATURAL_KEY,
+                transactionalOperator
+        );
+    }
+
+    @Override
+    @Cacheable(cacheNames = CatalogCacheNames.ACTIVITY_CODE, key = "#activityCodeId", sync = true)
     public Mono<ActivityCodeDTO> getActivityCode(UUID activityCodeId) {
         return repository.findById(activityCodeId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.ACTIVITY_CODE, key = "#activityCodeId")
     public Mono<ActivityCodeDTO> updateActivityCode(UUID activityCodeId, ActivityCodeDTO activityCodeDto) {
-        return repository.findById(activityCodeId)
-                .flatMap(foundActivityCode -> {
-                    ActivityCode updatedActivityCode = mapper.toEntity(activityCodeDto);
-                    updatedActivityCode.setActivityCodeId(foundActivityCode.getActivityCodeId());
-                    return repository.save(updatedActivityCode);
-                })
+        return repository.updateById(activityCodeId, mapper.toEntity(activityCodeDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.ACTIVITY_CODE, key = "#activityCodeId")
     public Mono<Void> deleteActivityCode(UUID activityCodeId) {
         return repository.deleteById(activityCodeId);
     }
-}
\ No newline at end of file
+
+    @Override
+    public Flux<ActivityCodeDTO> searchActivityCodes(String query, Integer limit) {
+        return SearchUtils.search(query, limit, repository::search)
+                .map(mapper::toDTO);
+    }
+}
@@ -20,11 +20,19 @@ package com.firefly.masters.core.services.assettype.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.assettype.v1.AssetTypeMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
 import com.firefly.masters.interfaces.dtos.assettype.v1.AssetTypeDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.assettype.v1.AssetType;
 import com.firefly.masters.models.repositories.assettype.v1.AssetTypeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -44,11 +52,25 @@ public class AssetTypeServiceImpl implements AssetTypeService {
 
     @Override
     public Mono<PaginationResponse<AssetTypeDTO>> listAssetTypes(PaginationRequest paginationRequest) {
+        return listAssetTypes(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<AssetTypeDTO>> listAssetTypes(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<AssetTypeDTO>> listAssetTypesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -61,26 +83,23 @@ public class AssetTypeServiceImpl implements AssetTypeService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.ASSET_TYPE, key = "#assetId", sync = true)
     public Mono<AssetTypeDTO> getAssetType(UUID assetId) {
         return repository.findById(assetId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.ASSET_TYPE, key = "#assetId")
     public Mono<AssetTypeDTO> updateAssetType(UUID assetId, AssetTypeDTO assetTypeDto) {
-        return repository.findById(assetId)
-                .flatMap(assetType -> {
-                    AssetType updatedAssetType = mapper.toEntity(assetTypeDto);
-                    updatedAssetType.setAssetId(assetId); // Preserve actual id
-                    updatedAssetType.setDateUpdated(LocalDateTime.now()); // Update the field
-                    return repository.save(updatedAssetType);
-                })
+        return repository.updateById(assetId, mapper.toEntity(assetTypeDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.ASSET_TYPE, key = "#assetId")
     public Mono<Void> deleteAssetType(UUID assetId) {
-        return repository.findById(assetId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(assetId)
+                .then();
     }
 }
\ No newline at end of file
@@ -20,7 +20,15 @@ package com.firefly.masters.core.services.bank.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.interfaces.dtos.bank.v1.BankInstitutionCodeDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionRequestDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 public interface BankInstitutionCodeService {
@@ -36,6 +44,35 @@ public interface BankInstitutionCodeService {
      */
     Mono<PaginationResponse<BankInstitutionCodeDTO>> listBankInstitutionCodes(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of bank institution codes, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the bank institution codes
+     */
+    Mono<PaginationResponse<BankInstitutionCodeDTO>> listBankInstitutionCodes(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a paginated list of bank institution codes, reading only the requested fields from the database.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @param fields the fields to return, {@code *} for all; null or empty for every field except large ones
+     * @return a Mono emitting a PaginationResponse containing the bank institution codes, or an IllegalArgumentException
+     *         if a field is unknown
+     */
+    Mono<PaginationResponse<BankInstitutionCodeDTO>> listBankInstitutionCodes(PaginationRequest paginationRequest, CountModeEnum countMode, List<String> fields);
+
+    /**
+     * Retrieves a page of bank institution codes using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the bank institution codes and the cursor of the next page
+     */
+    Mono<CursorPageDTO<BankInstitutionCodeDTO>> listBankInstitutionCodesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * Creates a new bank institution code with the provided details.
      *
@@ -45,6 +82,16 @@ public interface BankInstitutionCodeService {
      */
     Mono<BankInstitutionCodeDTO> createBankInstitutionCode(BankInstitutionCodeDTO dto);
 
+    /**
+     * Creates or updates bank institution codes in bulk, matching existing rows on their SWIFT/BIC code.
+     * Rows are written in chunked, multi-row statements, each chunk in its own transaction, and
+     * the input is consumed one chunk at a time.
+     *
+     * @param bankInstitutionCodes the rows to write
+     * @return a Flux emitting one result per input row, in input order
+     */
+    Flux<BulkUpsertResultDTO> upsertBankInstitutionCodes(Flux<BankInstitutionCodeDTO> bankInstitutionCodes);
+
     /**
      * Retrieves a bank institution code by its unique identifier.
      *
@@ -69,4 +116,31 @@ public interface BankInstitutionCodeService {
      * @return a Mono that completes when the deletion operation is finished
      */
     Mono<Void> deleteBankInstitutionCode(UUID id);
+
+    /**
+     * Resolves bank identifiers to the institution they belong to, from memory. The SWIFT/BIC code is
+     * tried first, then the IBAN by longest matching IBAN prefix, then the routing number.
+     *
+     * @param request the identifiers to resolve
+     * @return a Mono emitting the outcome, with or without an institution
+     */
+    Mono<BankResolutionResultDTO> resolveBankInstitution(BankResolutionRequestDTO request);
+
+    /**
+     * Resolves many sets of bank identifiers, streaming back one outcome per row in input order.
+     *
+     * @param requests the identifiers to resolve
+     * @return a Flux emitting the outcomes, each carrying the position of its row
+     */
+    Flux<BankResolutionResultDTO> resolveBankInstitutions(Flux<BankResolutionRequestDTO> requests);
+
+    /**
+     * Searches bank institution codes for typeahead: the bank name starts with the query or contains a word similar to
+     * it. Prefix matches come first, then the closest fuzzy matches.
+     *
+     * @param query the search term
+     * @param limit the maximum number of matches; a default applies if null
+     * @return a Flux emitting the matches, or an IllegalArgumentException for a blank query or a limit out of range
+     */
+    Flux<BankInstitutionCodeDTO> searchBankInstitutionCodes(String query, Integer limit);
 }
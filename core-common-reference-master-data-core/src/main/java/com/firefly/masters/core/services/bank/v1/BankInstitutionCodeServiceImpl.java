@@ -20,14 +20,31 @@ package com.firefly.masters.core.services.bank.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.bank.v1.BankInstitutionCodeMapper;
+import com.firefly.masters.core.utils.BulkUpsertUtils;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.core.utils.SearchUtils;
 import com.firefly.masters.interfaces.dtos.bank.v1.BankInstitutionCodeDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionRequestDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.bank.v1.BankInstitutionCode;
 import com.firefly.masters.models.repositories.bank.v1.BankInstitutionCodeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -40,13 +57,43 @@ public class BankInstitutionCodeServiceImpl implements BankInstitutionCodeServic
     @Autowired
     private BankInstitutionCodeMapper mapper;
 
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private BankInstitutionIndex bankInstitutionIndex;
+
     @Override
     public Mono<PaginationResponse<BankInstitutionCodeDTO>> listBankInstitutionCodes(PaginationRequest paginationRequest) {
+        return listBankInstitutionCodes(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<BankInstitutionCodeDTO>> listBankInstitutionCodes(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<PaginationResponse<BankInstitutionCodeDTO>> listBankInstitutionCodes(PaginationRequest paginationRequest, CountModeEnum countMode, List<String> fields) {
+        return PaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                pageable -> repository.findAllBy(pageable, fields),
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<BankInstitutionCodeDTO>> listBankInstitutionCodesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -58,24 +105,59 @@ public class BankInstitutionCodeServiceImpl implements BankInstitutionCodeServic
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = CatalogCacheNames.BANK_INSTITUTION_CODES, allEntries = true)
+    public Flux<BulkUpsertResultDTO> upsertBankInstitutionCodes(Flux<BankInstitutionCodeDTO> bankInstitutionCodes) {
+        // Each chunk commits in its own transaction, so the call itself must not run in one
+        return BulkUpsertUtils.upsert(
+                bankInstitutionCodes,
+                mapper::toEntity,
+                repository,
+                BankInstitutionCodeRepository.NATURAL_KEY,
+                transactionalOperator
+        );
+    }
+
+    @Override
+    @Cacheable(cacheNames = CatalogCacheNames.BANK_INSTITUTION_CODES, key = "#id", sync = true)
     public Mono<BankInstitutionCodeDTO> getBankInstitutionCode(UUID id) {
         return repository.findById(id)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.BANK_INSTITUTION_CODES, key = "#id")
     public Mono<BankInstitutionCodeDTO> updateBankInstitutionCode(UUID id, BankInstitutionCodeDTO dto) {
-        return repository.findById(id)
-                .flatMap(existingEntity -> {
-                    BankInstitutionCode updatedEntity = mapper.toEntity(dto);
-                    updatedEntity.setInstitutionId(existingEntity.getInstitutionId());
-                    return repository.save(updatedEntity);
-                })
+        return repository.updateById(id, mapper.toEntity(dto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.BANK_INSTITUTION_CODES, key = "#id")
     public Mono<Void> deleteBankInstitutionCode(UUID id) {
         return repository.deleteById(id);
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<BankResolutionResultDTO> resolveBankInstitution(BankResolutionRequestDTO request) {
+        return Mono.fromSupplier(() -> bankInstitutionIndex.resolve(request));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<BankResolutionResultDTO> resolveBankInstitutions(Flux<BankResolutionRequestDTO> requests) {
+        return requests.index()
+                .map(indexed -> {
+                    BankResolutionResultDTO result = bankInstitutionIndex.resolve(indexed.getT2());
+                    result.setIndex(indexed.getT1());
+                    return result;
+                });
+    }
+
+    @Override
+    public Flux<BankInstitutionCodeDTO> searchBankInstitutionCodes(String query, Integer limit) {
+        return SearchUtils.search(query, limit, repository::search)
+                .map(mapper::toSummaryDTO);
+    }
 }
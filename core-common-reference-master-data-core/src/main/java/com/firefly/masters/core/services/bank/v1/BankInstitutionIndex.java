@@ -0,0 +1,314 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.bank.v1;
+
+import com.firefly.masters.core.cache.AbstractCatalogIndex;
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.bank.v1.BankInstitutionCodeMapper;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankInstitutionCodeDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionRequestDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionResultDTO;
+import com.firefly.masters.interfaces.enums.bank.v1.BankResolutionMatchEnum;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.repositories.bank.v1.BankInstitutionCodeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * In-memory resolution of bank institutions by SWIFT/BIC code, IBAN and routing number.
+ * <p>
+ * IBANs are matched against {@code iban_prefix} with a longest-prefix-match trie. An
+ * {@code iban_prefix} is the country code followed by the leading characters of the BBAN, e.g.
+ * {@code DE37040044} for the German bank code 37040044; the two check digits at positions 3 and 4
+ * of an IBAN depend on the account and are skipped when an IBAN is looked up. SWIFT codes are
+ * indexed both in their 11-character form (an 8-character code stands for its head office,
+ * {@code XXX}) and by their first 8 characters, so that an unknown branch code falls back to the
+ * bank. A change to an institution only re-links that institution. Only active institutions are
+ * indexed, and their icons are not kept in memory.
+ */
+@Slf4j
+@Component
+public class BankInstitutionIndex extends AbstractCatalogIndex {
+
+    private static final String HEAD_OFFICE_BRANCH = "XXX";
+
+    /**
+     * Head offices first, then by SWIFT code, so that ambiguous matches resolve deterministically.
+     */
+    private static final Comparator<BankInstitutionCodeDTO> PREFERENCE = Comparator
+            .comparing((BankInstitutionCodeDTO institution) -> !HEAD_OFFICE_BRANCH.equals(branchCode(institution.getSwiftCode())))
+            .thenComparing(BankInstitutionCodeDTO::getSwiftCode, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(BankInstitutionCodeDTO::getInstitutionId);
+
+    @Autowired
+    private BankInstitutionCodeRepository repository;
+
+    @Autowired
+    private BankInstitutionCodeMapper mapper;
+
+    private volatile State state = new State();
+
+    /**
+     * Resolves the first identifier of the request that matches an institution, in the order
+     * SWIFT/BIC, IBAN, routing number.
+     *
+     * @param request the identifiers to resolve
+     * @return the outcome; never null, without institution if nothing matched
+     */
+    public BankResolutionResultDTO resolve(BankResolutionRequestDTO request) {
+        BankResolutionResultDTO result = BankResolutionResultDTO.builder()
+                .bic(request.getBic())
+                .iban(request.getIban())
+                .routingNumber(request.getRoutingNumber())
+                .build();
+        Optional<BankInstitutionCodeDTO> institution = findBySwiftCode(request.getBic());
+        BankResolutionMatchEnum matchedBy = BankResolutionMatchEnum.SWIFT_CODE;
+        if (institution.isEmpty()) {
+            institution = findByIban(request.getIban());
+            matchedBy = BankResolutionMatchEnum.IBAN_PREFIX;
+        }
+        if (institution.isEmpty()) {
+            institution = findByRoutingNumber(request.getRoutingNumber());
+            matchedBy = BankResolutionMatchEnum.ROUTING_NUMBER;
+        }
+        if (institution.isPresent()) {
+            result.setInstitution(institution.get());
+            result.setMatchedBy(matchedBy);
+        }
+        return result;
+    }
+
+    /**
+     * @param bic an 8 or 11 character SWIFT/BIC code, case and spaces ignored
+     * @return the institution of the exact code, else the head office of its first 8 characters
+     */
+    public Optional<BankInstitutionCodeDTO> findBySwiftCode(String bic) {
+        String code = normalize(bic);
+        if (code == null || (code.length() != 8 && code.length() != 11)) {
+            return Optional.empty();
+        }
+        State current = state;
+        return current.pick(current.bySwiftCode.get(swiftCodeKey(code)))
+                .or(() -> current.pick(current.byBankCode.get(code.substring(0, 8))));
+    }
+
+    /**
+     * @param iban an IBAN, case and spaces ignored
+     * @return the institution with the longest IBAN prefix that the IBAN's country code and BBAN start with
+     */
+    public Optional<BankInstitutionCodeDTO> findByIban(String iban) {
+        String value = ibanKey(iban);
+        if (value == null) {
+            return Optional.empty();
+        }
+        State current = state;
+        TrieNode node = current.ibanPrefixes;
+        Optional<BankInstitutionCodeDTO> longest = Optional.empty();
+        for (int i = 0; i < value.length() && node != null; i++) {
+            node = node.children.get(value.charAt(i));
+            if (node != null && !node.institutionIds.isEmpty()) {
+                Optional<BankInstitutionCodeDTO> match = current.pick(node.institutionIds);
+                if (match.isPresent()) {
+                    longest = match;
+                }
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * @param routingNumber a routing number, surrounding whitespace ignored
+     * @return the institution with that routing number
+     */
+    public Optional<BankInstitutionCodeDTO> findByRoutingNumber(String routingNumber) {
+        String value = normalize(routingNumber);
+        State current = state;
+        return value == null ? Optional.empty() : current.pick(current.byRoutingNumber.get(value));
+    }
+
+    @Override
+    protected Set<String> tables() {
+        return Set.of(CatalogCacheNames.BANK_INSTITUTION_CODES);
+    }
+
+    @Override
+    protected Mono<Void> rebuild() {
+        return repository.findAll()
+                .map(mapper::toDTO)
+                .collectList()
+                .doOnNext(institutions -> {
+                    State rebuilt = new State();
+                    institutions.forEach(institution -> rebuilt.update(institution.getInstitutionId(), indexable(institution)));
+                    state = rebuilt;
+                    log.info("Indexed {} active bank institutions", rebuilt.byId.size());
+                })
+                .then();
+    }
+
+    @Override
+    protected Mono<Void> refresh(CatalogChangeEvent event) {
+        if (event.id() == null) {
+            return rebuild();
+        }
+        UUID institutionId = UUID.fromString(event.id());
+        return repository.findById(institutionId)
+                .map(mapper::toDTO)
+                .map(institution -> Optional.ofNullable(indexable(institution)))
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(institution -> state.update(institutionId, institution.orElse(null)))
+                .then();
+    }
+
+    private static BankInstitutionCodeDTO indexable(BankInstitutionCodeDTO institution) {
+        if (institution.getStatus() != StatusEnum.ACTIVE) {
+            return null;
+        }
+        institution.setSvgIcon(null);
+        return institution;
+    }
+
+    private static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        String normalized = value.replace(" ", "").trim().toUpperCase(Locale.ROOT);
+        return normalized.isEmpty() ? null : normalized;
+    }
+
+    /**
+     * @return the country code and BBAN of the IBAN, i.e. the IBAN without its check digits
+     */
+    private static String ibanKey(String iban) {
+        String value = normalize(iban);
+        return value == null || value.length() <= 4 ? null : value.substring(0, 2) + value.substring(4);
+    }
+
+    private static String swiftCodeKey(String swiftCode) {
+        return swiftCode.length() == 8 ? swiftCode + HEAD_OFFICE_BRANCH : swiftCode;
+    }
+
+    private static String branchCode(String swiftCode) {
+        String code = normalize(swiftCode);
+        return code == null || (code.length() != 8 && code.length() != 11) ? null : swiftCodeKey(code).substring(8);
+    }
+
+    private static String swiftCodeKeyOf(BankInstitutionCodeDTO institution) {
+        String code = normalize(institution.getSwiftCode());
+        return code == null || (code.length() != 8 && code.length() != 11) ? null : swiftCodeKey(code);
+    }
+
+    private static String bankCodeOf(BankInstitutionCodeDTO institution) {
+        String key = swiftCodeKeyOf(institution);
+        return key == null ? null : key.substring(0, 8);
+    }
+
+    /**
+     * One generation of the index. Full rebuilds fill a new generation and swap it in; single changes
+     * update the current one, linking the new keys before unlinking the old ones so that an updated
+     * institution never disappears.
+     */
+    private static final class State {
+
+        final Map<UUID, BankInstitutionCodeDTO> byId = new ConcurrentHashMap<>();
+
+        final Map<String, Set<UUID>> bySwiftCode = new ConcurrentHashMap<>();
+
+        final Map<String, Set<UUID>> byBankCode = new ConcurrentHashMap<>();
+
+        final Map<String, Set<UUID>> byRoutingNumber = new ConcurrentHashMap<>();
+
+        final TrieNode ibanPrefixes = new TrieNode();
+
+        void update(UUID institutionId, BankInstitutionCodeDTO current) {
+            BankInstitutionCodeDTO previous = current == null ? byId.remove(institutionId) : byId.put(institutionId, current);
+            relink(bySwiftCode, institutionId, previous, current, BankInstitutionIndex::swiftCodeKeyOf);
+            relink(byBankCode, institutionId, previous, current, BankInstitutionIndex::bankCodeOf);
+            relink(byRoutingNumber, institutionId, previous, current,
+                    institution -> normalize(institution.getRoutingNumber()));
+
+            String previousPrefix = previous == null ? null : normalize(previous.getIbanPrefix());
+            String currentPrefix = current == null ? null : normalize(current.getIbanPrefix());
+            if (currentPrefix != null) {
+                ibanPrefixes.node(currentPrefix, true).institutionIds.add(institutionId);
+            }
+            if (previousPrefix != null && !previousPrefix.equals(currentPrefix)) {
+                TrieNode node = ibanPrefixes.node(previousPrefix, false);
+                if (node != null) {
+                    node.institutionIds.remove(institutionId);
+                }
+            }
+        }
+
+        Optional<BankInstitutionCodeDTO> pick(Set<UUID> institutionIds) {
+            if (institutionIds == null) {
+                return Optional.empty();
+            }
+            return institutionIds.stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .min(PREFERENCE);
+        }
+
+        private static void relink(Map<String, Set<UUID>> index,
+                                   UUID institutionId,
+                                   BankInstitutionCodeDTO previous,
+                                   BankInstitutionCodeDTO current,
+                                   Function<BankInstitutionCodeDTO, String> key) {
+            String previousKey = previous == null ? null : key.apply(previous);
+            String currentKey = current == null ? null : key.apply(current);
+            if (currentKey != null) {
+                index.computeIfAbsent(currentKey, k -> ConcurrentHashMap.newKeySet()).add(institutionId);
+            }
+            if (previousKey != null && !previousKey.equals(currentKey)) {
+                index.computeIfPresent(previousKey, (k, ids) -> {
+                    ids.remove(institutionId);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+    }
+
+    private static final class TrieNode {
+
+        final Map<Character, TrieNode> children = new ConcurrentHashMap<>();
+
+        final Set<UUID> institutionIds = ConcurrentHashMap.newKeySet();
+
+        TrieNode node(String prefix, boolean create) {
+            TrieNode node = this;
+            for (int i = 0; i < prefix.length() && node != null; i++) {
+                char c = prefix.charAt(i);
+                node = create ? node.children.computeIfAbsent(c, key -> new TrieNode()) : node.children.get(c);
+            }
+            return node;
+        }
+    }
+}
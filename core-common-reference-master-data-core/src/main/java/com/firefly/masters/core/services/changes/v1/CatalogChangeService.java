@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.changes.v1;
+
+import com.firefly.masters.core.services.snapshot.v1.SnapshotCatalog;
+import com.firefly.masters.interfaces.dtos.changes.v1.CatalogChangeSetDTO;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+public interface CatalogChangeService {
+
+    /**
+     * Retrieves the rows of a catalog changed or deleted after a watermark, in the order their
+     * transactions were assigned ids. Changes of transactions that may still be running are held back,
+     * so the returned cursor never moves past a change that commits later.
+     *
+     * @param catalog the catalog to read changes from
+     * @param since the watermark to start from when no cursor is given; null starts from the beginning
+     * @param cursor the cursor returned by a previous call, or null
+     * @param limit the maximum number of changed rows and of deletions to return; null for the default
+     * @return a Mono emitting a CatalogChangeSetDTO with the changes, or an IllegalArgumentException if the cursor is invalid
+     */
+    Mono<CatalogChangeSetDTO<?>> getChanges(SnapshotCatalog catalog, LocalDateTime since, String cursor, Integer limit);
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.changes.v1;
+
+import com.firefly.masters.core.mappers.country.v1.CountryMapper;
+import com.firefly.masters.core.mappers.currency.v1.CurrencyMapper;
+import com.firefly.masters.core.mappers.legal.v1.LegalFormMapper;
+import com.firefly.masters.core.mappers.locale.v1.LanguageLocaleMapper;
+import com.firefly.masters.core.mappers.lookup.v1.LookupItemMapper;
+import com.firefly.masters.core.services.snapshot.v1.SnapshotCatalog;
+import com.firefly.masters.interfaces.dtos.changes.v1.CatalogChangeSetDTO;
+import com.firefly.masters.interfaces.dtos.changes.v1.CatalogTombstoneDTO;
+import com.firefly.masters.models.entities.changes.v1.CatalogTombstone;
+import com.firefly.masters.models.entities.country.v1.Country;
+import com.firefly.masters.models.entities.currency.v1.Currency;
+import com.firefly.masters.models.entities.legal.v1.LegalForm;
+import com.firefly.masters.models.entities.locale.v1.LanguageLocale;
+import com.firefly.masters.models.entities.lookup.v1.LookupItem;
+import com.firefly.masters.models.repositories.changes.v1.CatalogTombstoneRepository;
+import com.firefly.masters.models.repositories.country.v1.CountryRepository;
+import com.firefly.masters.models.repositories.currency.v1.CurrencyRepository;
+import com.firefly.masters.models.repositories.legal.v1.LegalFormRepository;
+import com.firefly.masters.models.repositories.locale.v1.LanguageLocaleRepository;
+import com.firefly.masters.models.repositories.lookup.v1.LookupItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+public class CatalogChangeServiceImpl implements CatalogChangeService {
+
+    static final int DEFAULT_LIMIT = 500;
+    static final int MAX_LIMIT = 1000;
+
+    @Autowired
+    private CatalogTombstoneRepository tombstoneRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CountryMapper countryMapper;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private CurrencyMapper currencyMapper;
+
+    @Autowired
+    private LanguageLocaleRepository languageLocaleRepository;
+
+    @Autowired
+    private LanguageLocaleMapper languageLocaleMapper;
+
+    @Autowired
+    private LegalFormRepository legalFormRepository;
+
+    @Autowired
+    private LegalFormMapper legalFormMapper;
+
+    @Autowired
+    private LookupItemRepository lookupItemRepository;
+
+    @Autowired
+    private LookupItemMapper lookupItemMapper;
+
+    @Override
+    public Mono<CatalogChangeSetDTO<?>> getChanges(SnapshotCatalog catalog, LocalDateTime since, String cursor, Integer limit) {
+        ChangeCursor position;
+        try {
+            position = cursor != null ? ChangeCursor.decode(cursor) : ChangeCursor.since(since);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        int pageSize = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(limit, MAX_LIMIT));
+        // One extra row is read from each stream to learn whether another page follows.
+        int fetchSize = pageSize + 1;
+
+        return switch (catalog) {
+            case COUNTRIES -> changes(catalog, position, pageSize,
+                    countryRepository.findChangedSince(position.since(), position.rowXid(), position.rowId(), fetchSize),
+                    Country::getChangeXid, Country::getCountryId, countryMapper::toDTO);
+            case CURRENCIES -> changes(catalog, position, pageSize,
+                    currencyRepository.findChangedSince(position.since(), position.rowXid(), position.rowId(), fetchSize),
+                    Currency::getChangeXid, Currency::getCurrencyId, currencyMapper::toDTO);
+            case LANGUAGE_LOCALES -> changes(catalog, position, pageSize,
+                    languageLocaleRepository.findChangedSince(position.since(), position.rowXid(), position.rowId(), fetchSize),
+                    LanguageLocale::getChangeXid, LanguageLocale::getLocaleId, languageLocaleMapper::toDTO);
+            case LEGAL_FORMS -> changes(catalog, position, pageSize,
+                    legalFormRepository.findChangedSince(position.since(), position.rowXid(), position.rowId(), fetchSize),
+                    LegalForm::getChangeXid, LegalForm::getLegalFormId, legalFormMapper::toDTO);
+            case LOOKUP_ITEMS -> changes(catalog, position, pageSize,
+                    lookupItemRepository.findChangedSince(position.since(), position.rowXid(), position.rowId(), fetchSize),
+                    LookupItem::getChangeXid, LookupItem::getItemId, lookupItemMapper::toDTO);
+        };
+    }
+
+    private <E, D> Mono<CatalogChangeSetDTO<?>> changes(SnapshotCatalog catalog,
+                                                        ChangeCursor position,
+                                                        int pageSize,
+                                                        Flux<E> changedRows,
+                                                        Function<E, Long> changeXid,
+                                                        Function<E, UUID> id,
+                                                        Function<E, D> toDTO) {
+        Mono<List<CatalogTombstone>> tombstones = tombstoneRepository.findChangedSince(
+                catalog.getTable(), position.since(), position.tombstoneXid(), position.tombstoneId(), pageSize + 1)
+                .collectList();
+
+        return Mono.zip(changedRows.collectList(), tombstones)
+                .<CatalogChangeSetDTO<?>>map(tuple -> {
+                    List<E> rows = head(tuple.getT1(), pageSize);
+                    List<CatalogTombstone> deletions = head(tuple.getT2(), pageSize);
+
+                    ChangeCursor next = position;
+                    if (!rows.isEmpty()) {
+                        E last = rows.get(rows.size() - 1);
+                        next = next.withRow(changeXid.apply(last), id.apply(last));
+                    }
+                    if (!deletions.isEmpty()) {
+                        CatalogTombstone last = deletions.get(deletions.size() - 1);
+                        next = next.withTombstone(last.getChangeXid(), last.getRowId());
+                    }
+
+                    return CatalogChangeSetDTO.<D>builder()
+                            .changed(rows.stream().map(toDTO).toList())
+                            .deleted(deletions.stream()
+                                    .map(tombstone -> new CatalogTombstoneDTO(tombstone.getRowId(), tombstone.getDateDeleted()))
+                                    .toList())
+                            .cursor(next.encode())
+                            .hasMore(tuple.getT1().size() > pageSize || tuple.getT2().size() > pageSize)
+                            .build();
+                });
+    }
+
+    private static <T> List<T> head(List<T> list, int size) {
+        return list.size() > size ? list.subList(0, size) : list;
+    }
+}
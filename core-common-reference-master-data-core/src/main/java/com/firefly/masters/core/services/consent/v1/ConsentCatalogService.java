@@ -19,7 +19,10 @@ package com.firefly.masters.core.services.consent.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.consent.v1.ConsentCatalogDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -39,6 +42,24 @@ public interface ConsentCatalogService {
      */
     Mono<PaginationResponse<ConsentCatalogDTO>> listConsentCatalog(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of consent catalog, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the consent catalog
+     */
+    Mono<PaginationResponse<ConsentCatalogDTO>> listConsentCatalog(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of consent catalog using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the consent catalog and the cursor of the next page
+     */
+    Mono<CursorPageDTO<ConsentCatalogDTO>> listConsentCatalogByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * Retrieves a paginated list of consent catalog entries of a specific type.
      *
@@ -20,11 +20,19 @@ package com.firefly.masters.core.services.consent.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.consent.v1.ConsentCatalogMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.consent.v1.ConsentCatalogDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.consent.v1.ConsentCatalog;
 import com.firefly.masters.models.repositories.consent.v1.ConsentCatalogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -47,11 +55,25 @@ public class ConsentCatalogServiceImpl implements ConsentCatalogService {
 
     @Override
     public Mono<PaginationResponse<ConsentCatalogDTO>> listConsentCatalog(PaginationRequest paginationRequest) {
+        return listConsentCatalog(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<ConsentCatalogDTO>> listConsentCatalog(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<ConsentCatalogDTO>> listConsentCatalogByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -78,27 +100,21 @@ public class ConsentCatalogServiceImpl implements ConsentCatalogService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.CONSENT_CATALOG, key = "#id", sync = true)
     public Mono<ConsentCatalogDTO> getConsentCatalog(UUID id) {
         return repository.findById(id)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONSENT_CATALOG, key = "#id")
     public Mono<ConsentCatalogDTO> updateConsentCatalog(UUID id, ConsentCatalogDTO dto) {
-        return repository.findById(id)
-                .flatMap(existingEntity -> {
-                    // Update audit fields
-                    dto.setDateUpdated(LocalDateTime.now());
-                    dto.setDateCreated(existingEntity.getDateCreated());
-
-                    ConsentCatalog updatedEntity = mapper.toEntity(dto);
-                    updatedEntity.setConsentId(existingEntity.getConsentId());
-                    return repository.save(updatedEntity);
-                })
+        return repository.updateById(id, mapper.toEntity(dto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONSENT_CATALOG, key = "#id")
     public Mono<Void> deleteConsentCatalog(UUID id) {
         return repository.deleteById(id);
     }
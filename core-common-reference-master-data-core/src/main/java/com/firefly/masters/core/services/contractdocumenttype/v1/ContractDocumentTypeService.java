@@ -19,7 +19,10 @@ package com.firefly.masters.core.services.contractdocumenttype.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.contractdocumenttype.v1.ContractDocumentTypeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -36,6 +39,24 @@ public interface ContractDocumentTypeService {
      */
     Mono<PaginationResponse<ContractDocumentTypeDTO>> listContractDocumentTypes(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of contract document types, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the contract document types
+     */
+    Mono<PaginationResponse<ContractDocumentTypeDTO>> listContractDocumentTypes(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of contract document types using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the contract document types and the cursor of the next page
+     */
+    Mono<CursorPageDTO<ContractDocumentTypeDTO>> listContractDocumentTypesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * Creates a new contract document type record based on the provided ContractDocumentTypeDTO.
      *
@@ -20,11 +20,19 @@ package com.firefly.masters.core.services.contractdocumenttype.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.contractdocumenttype.v1.ContractDocumentTypeMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.contractdocumenttype.v1.ContractDocumentTypeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.contractdocumenttype.v1.ContractDocumentType;
 import com.firefly.masters.models.repositories.contractdocumenttype.v1.ContractDocumentTypeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -44,11 +52,25 @@ public class ContractDocumentTypeServiceImpl implements ContractDocumentTypeServ
 
     @Override
     public Mono<PaginationResponse<ContractDocumentTypeDTO>> listContractDocumentTypes(PaginationRequest paginationRequest) {
+        return listContractDocumentTypes(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<ContractDocumentTypeDTO>> listContractDocumentTypes(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<ContractDocumentTypeDTO>> listContractDocumentTypesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -62,6 +84,7 @@ public class ContractDocumentTypeServiceImpl implements ContractDocumentTypeServ
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.CONTRACT_DOCUMENT_TYPE, key = "#documentTypeId", sync = true)
     public Mono<ContractDocumentTypeDTO> getContractDocumentType(UUID documentTypeId) {
         return repository.findById(documentTypeId)
                 .map(mapper::toDTO);
@@ -74,21 +97,16 @@ public class ContractDocumentTypeServiceImpl implements ContractDocumentTypeServ
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONTRACT_DOCUMENT_TYPE, key = "#documentTypeId")
     public Mono<ContractDocumentTypeDTO> updateContractDocumentType(UUID documentTypeId, ContractDocumentTypeDTO contractDocumentTypeDto) {
-        return repository.findById(documentTypeId)
-                .flatMap(contractDocumentType -> {
-                    ContractDocumentType updatedContractDocumentType = mapper.toEntity(contractDocumentTypeDto);
-                    updatedContractDocumentType.setDocumentTypeId(documentTypeId); // Preserve actual id
-                    updatedContractDocumentType.setDateCreated(contractDocumentType.getDateCreated()); // Preserve creation date
-                    updatedContractDocumentType.setDateUpdated(LocalDateTime.now()); // Update the field
-                    return repository.save(updatedContractDocumentType);
-                })
+        return repository.updateById(documentTypeId, mapper.toEntity(contractDocumentTypeDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONTRACT_DOCUMENT_TYPE, key = "#documentTypeId")
     public Mono<Void> deleteContractDocumentType(UUID documentTypeId) {
-        return repository.findById(documentTypeId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(documentTypeId)
+                .then();
     }
 }
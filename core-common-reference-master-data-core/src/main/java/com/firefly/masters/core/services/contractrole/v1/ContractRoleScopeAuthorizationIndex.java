@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.contractrole.v1;
+
+import com.firefly.masters.core.cache.AbstractCatalogIndex;
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeCheckRequestDTO;
+import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeCheckResultDTO;
+import com.firefly.masters.models.entities.contractrole.v1.ContractRoleScope;
+import com.firefly.masters.models.repositories.contractrole.v1.ContractRoleScopeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * In-memory permission matrix compiled from the active contract role scopes.
+ * <p>
+ * Action and resource types are interned to ordinals when the matrix is built, and each role gets a
+ * bitset with one bit per (action, resource) pair, so a check is two hash lookups and a bit test.
+ * Types are matched exactly as stored. A scope without a {@code resource_type} grants nothing, since no
+ * wildcard has been defined for scopes. The whole matrix is rebuilt when any scope changes, since a
+ * new action or resource type changes the layout.
+ */
+@Slf4j
+@Component
+public class ContractRoleScopeAuthorizationIndex extends AbstractCatalogIndex {
+
+    @Autowired
+    private ContractRoleScopeRepository repository;
+
+    private volatile PermissionMatrix matrix = PermissionMatrix.EMPTY;
+
+    /**
+     * Checks whether a role may perform an action on a resource type.
+     *
+     * @param request the role, action type and resource type
+     * @return the outcome; incomplete requests are reported as not allowed, with an error
+     */
+    public ContractRoleScopeCheckResultDTO check(ContractRoleScopeCheckRequestDTO request) {
+        ContractRoleScopeCheckResultDTO result = ContractRoleScopeCheckResultDTO.builder()
+                .roleId(request.getRoleId())
+                .actionType(request.getActionType())
+                .resourceType(request.getResourceType())
+                .allowed(false)
+                .build();
+        if (request.getRoleId() == null || isBlank(request.getActionType()) || isBlank(request.getResourceType())) {
+            result.setError("Role ID, action type and resource type are required");
+            return result;
+        }
+        result.setAllowed(matrix.allows(request.getRoleId(), request.getActionType(), request.getResourceType()));
+        return result;
+    }
+
+    @Override
+    protected Set<String> tables() {
+        return Set.of(CatalogCacheNames.CONTRACT_ROLE_SCOPE);
+    }
+
+    @Override
+    protected Mono<Void> rebuild() {
+        return repository.findAll()
+                .filter(scope -> Boolean.TRUE.equals(scope.getIsActive())
+                        && scope.getRoleId() != null
+                        && !isBlank(scope.getActionType())
+                        && !isBlank(scope.getResourceType()))
+                .collectList()
+                .doOnNext(scopes -> {
+                    matrix = PermissionMatrix.of(scopes);
+                    log.info("Compiled {} active contract role scopes of {} roles", scopes.size(), matrix.grants().size());
+                })
+                .then();
+    }
+
+    private static boolean isBlank(String type) {
+        return type == null || type.isBlank();
+    }
+
+    private record PermissionMatrix(Map<String, Integer> actions,
+                                    Map<String, Integer> resources,
+                                    int width,
+                                    Map<UUID, BitSet> grants) {
+
+        static final PermissionMatrix EMPTY = new PermissionMatrix(Map.of(), Map.of(), 0, Map.of());
+
+        static PermissionMatrix of(List<ContractRoleScope> scopes) {
+            Map<String, Integer> actions = new HashMap<>();
+            Map<String, Integer> resources = new HashMap<>();
+            for (ContractRoleScope scope : scopes) {
+                actions.putIfAbsent(scope.getActionType(), actions.size());
+                resources.putIfAbsent(scope.getResourceType(), resources.size());
+            }
+            int width = resources.size();
+            Map<UUID, BitSet> grants = new HashMap<>();
+            for (ContractRoleScope scope : scopes) {
+                int bit = actions.get(scope.getActionType()) * width + resources.get(scope.getResourceType());
+                grants.computeIfAbsent(scope.getRoleId(), roleId -> new BitSet(actions.size() * width)).set(bit);
+            }
+            return new PermissionMatrix(Map.copyOf(actions), Map.copyOf(resources), width, Map.copyOf(grants));
+        }
+
+        boolean allows(UUID roleId, String actionType, String resourceType) {
+            BitSet granted = grants.get(roleId);
+            Integer action = actions.get(actionType);
+            Integer resource = resources.get(resourceType);
+            return granted != null && action != null && resource != null && granted.get(action * width + resource);
+        }
+    }
+}
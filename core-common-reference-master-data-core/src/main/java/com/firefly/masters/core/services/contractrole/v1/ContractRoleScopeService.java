@@ -19,6 +19,8 @@ package com.firefly.masters.core.services.contractrole.v1;
 
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeCheckRequestDTO;
+import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeCheckResultDTO;
 import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -85,4 +87,21 @@ public interface ContractRoleScopeService {
      * @return a Flux emitting active ContractRoleScopeDTO objects for the specified role
      */
     Flux<ContractRoleScopeDTO> getActiveScopesByRoleId(UUID roleId);
+
+    /**
+     * Checks whether a contract role may perform an action on a resource type, according to its
+     * active scopes.
+     *
+     * @param request the role, action type and, optionally, resource type
+     * @return a Mono emitting the outcome of the check
+     */
+    Mono<ContractRoleScopeCheckResultDTO> checkContractRoleScope(ContractRoleScopeCheckRequestDTO request);
+
+    /**
+     * Checks many (role, action, resource) triples, streaming back one outcome per check in input order.
+     *
+     * @param requests the checks to evaluate
+     * @return a Flux emitting the outcomes, each carrying the position of its check
+     */
+    Flux<ContractRoleScopeCheckResultDTO> checkContractRoleScopes(Flux<ContractRoleScopeCheckRequestDTO> requests);
 }
@@ -20,12 +20,18 @@ package com.firefly.masters.core.services.contractrole.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.contractrole.v1.ContractRoleScopeMapper;
+import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeCheckRequestDTO;
+import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeCheckResultDTO;
 import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeDTO;
 import com.firefly.masters.models.entities.contractrole.v1.ContractRoleScope;
 import com.firefly.masters.models.repositories.contractrole.v1.ContractRoleScopeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -43,6 +49,9 @@ public class ContractRoleScopeServiceImpl implements ContractRoleScopeService {
     @Autowired
     private ContractRoleScopeMapper mapper;
 
+    @Autowired
+    private ContractRoleScopeAuthorizationIndex authorizationIndex;
+
     @Override
     public Mono<PaginationResponse<ContractRoleScopeDTO>> listContractRoleScopes(FilterRequest<ContractRoleScopeDTO> filterRequest) {
         return FilterUtils
@@ -62,31 +71,21 @@ public class ContractRoleScopeServiceImpl implements ContractRoleScopeService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.CONTRACT_ROLE_SCOPE, key = "#scopeId", sync = true)
     public Mono<ContractRoleScopeDTO> getContractRoleScope(UUID scopeId) {
         return repository.findById(scopeId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONTRACT_ROLE_SCOPE, key = "#scopeId")
     public Mono<ContractRoleScopeDTO> updateContractRoleScope(UUID scopeId, ContractRoleScopeDTO contractRoleScopeDto) {
-        return repository.findById(scopeId)
-                .flatMap(existingEntity -> {
-                    // Update fields from DTO
-                    existingEntity.setRoleId(contractRoleScopeDto.getRoleId());
-                    existingEntity.setScopeCode(contractRoleScopeDto.getScopeCode());
-                    existingEntity.setScopeName(contractRoleScopeDto.getScopeName());
-                    existingEntity.setDescription(contractRoleScopeDto.getDescription());
-                    existingEntity.setActionType(contractRoleScopeDto.getActionType());
-                    existingEntity.setResourceType(contractRoleScopeDto.getResourceType());
-                    existingEntity.setIsActive(contractRoleScopeDto.getIsActive());
-                    existingEntity.setDateUpdated(LocalDateTime.now());
-                    
-                    return repository.save(existingEntity);
-                })
+        return repository.updateById(scopeId, mapper.toEntity(contractRoleScopeDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONTRACT_ROLE_SCOPE, key = "#scopeId")
     public Mono<Void> deleteContractRoleScope(UUID scopeId) {
         return repository.deleteById(scopeId);
     }
@@ -102,4 +101,21 @@ public class ContractRoleScopeServiceImpl implements ContractRoleScopeService {
         return repository.findByRoleIdAndIsActive(roleId, true)
                 .map(mapper::toDTO);
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<ContractRoleScopeCheckResultDTO> checkContractRoleScope(ContractRoleScopeCheckRequestDTO request) {
+        return Mono.fromSupplier(() -> authorizationIndex.check(request));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<ContractRoleScopeCheckResultDTO> checkContractRoleScopes(Flux<ContractRoleScopeCheckRequestDTO> requests) {
+        return requests.index()
+                .map(indexed -> {
+                    ContractRoleScopeCheckResultDTO result = authorizationIndex.check(indexed.getT2());
+                    result.setIndex(indexed.getT1());
+                    return result;
+                });
+    }
 }
@@ -20,11 +20,14 @@ package com.firefly.masters.core.services.contractrole.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.contractrole.v1.ContractRoleMapper;
 import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleDTO;
 import com.firefly.masters.models.entities.contractrole.v1.ContractRole;
 import com.firefly.masters.models.repositories.contractrole.v1.ContractRoleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -61,26 +64,23 @@ public class ContractRoleServiceImpl implements ContractRoleService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.CONTRACT_ROLE, key = "#roleId", sync = true)
     public Mono<ContractRoleDTO> getContractRole(UUID roleId) {
         return repository.findById(roleId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONTRACT_ROLE, key = "#roleId")
     public Mono<ContractRoleDTO> updateContractRole(UUID roleId, ContractRoleDTO contractRoleDto) {
-        return repository.findById(roleId)
-                .flatMap(role -> {
-                    ContractRole updated = mapper.toEntity(contractRoleDto);
-                    updated.setRoleId(roleId);
-                    updated.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updated);
-                })
+        return repository.updateById(roleId, mapper.toEntity(contractRoleDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONTRACT_ROLE, key = "#roleId")
     public Mono<Void> deleteContractRole(UUID roleId) {
-        return repository.findById(roleId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(roleId)
+                .then();
     }
 }
@@ -20,11 +20,19 @@ package com.firefly.masters.core.services.contracttype.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.contracttype.v1.ContractTypeMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.contracttype.v1.ContractTypeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.contracttype.v1.ContractType;
 import com.firefly.masters.models.repositories.contracttype.v1.ContractTypeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -44,11 +52,25 @@ public class ContractTypeServiceImpl implements ContractTypeService {
 
     @Override
     public Mono<PaginationResponse<ContractTypeDTO>> listContractTypes(PaginationRequest paginationRequest) {
+        return listContractTypes(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<ContractTypeDTO>> listContractTypes(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<ContractTypeDTO>> listContractTypesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -61,26 +83,23 @@ public class ContractTypeServiceImpl implements ContractTypeService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.CONTRACT_TYPE, key = "#contractId", sync = true)
     public Mono<ContractTypeDTO> getContractType(UUID contractId) {
         return repository.findById(contractId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONTRACT_TYPE, key = "#contractId")
     public Mono<ContractTypeDTO> updateContractType(UUID contractId, ContractTypeDTO contractTypeDto) {
-        return repository.findById(contractId)
-                .flatMap(contractType -> {
-                    ContractType updatedContractType = mapper.toEntity(contractTypeDto);
-                    updatedContractType.setContractId(contractId); // Preserve actual id
-                    updatedContractType.setDateUpdated(LocalDateTime.now()); // Update the field
-                    return repository.save(updatedContractType);
-                })
+        return repository.updateById(contractId, mapper.toEntity(contractTypeDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CONTRACT_TYPE, key = "#contractId")
     public Mono<Void> deleteContractType(UUID contractId) {
-        return repository.findById(contractId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(contractId)
+                .then();
     }
 }
\ No newline at end of file
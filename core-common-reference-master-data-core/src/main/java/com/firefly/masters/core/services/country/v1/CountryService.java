@@ -20,8 +20,13 @@ package com.firefly.masters.core.services.country.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 public interface CountryService {
@@ -32,6 +37,15 @@ public interface CountryService {
      * @return a Mono emitting a PaginationResponse containing a list of CountryDTO objects
      */
     Mono<PaginationResponse<CountryDTO>> listCountries(FilterRequest<CountryDTO> filterRequest);
+
+    /**
+     * Retrieves a page of countries using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size, the sort key and the fields to return
+     * @return a Mono emitting a CursorPageDTO containing the countries and the cursor of the next page
+     */
+    Mono<CursorPageDTO<CountryDTO>> listCountriesByCursor(CursorPaginationRequest cursorPaginationRequest);
     /**
      * Creates a new country based on the provided CountryDTO.
      *
@@ -39,6 +53,16 @@ public interface CountryService {
      * @return a Mono emitting the created CountryDTO object
      */
     Mono<CountryDTO> createCountry(CountryDTO countryDto);
+
+    /**
+     * Creates or updates countries in bulk, matching existing rows on their ISO code.
+     * Rows are written in chunked, multi-row statements, each chunk in its own transaction, and
+     * the input is consumed one chunk at a time.
+     *
+     * @param countries the rows to write
+     * @return a Flux emitting one result per input row, in input order
+     */
+    Flux<BulkUpsertResultDTO> upsertCountries(Flux<CountryDTO> countries);
     /**
      * Retrieves the details of a country by its unique identifier.
      *
@@ -46,6 +70,25 @@ public interface CountryService {
      * @return a Mono emitting the CountryDTO containing details about the specified country, or an empty Mono if not found
      */
     Mono<CountryDTO> getCountry(UUID countryId);
+
+    /**
+     * Retrieves a country by its ISO code, matched case-insensitively, from the in-memory natural-key index.
+     *
+     * @param isoCode the ISO code, such as ES
+     * @return a Mono emitting the CountryDTO, an empty Mono if not found, or an IllegalArgumentException
+     *         if the code matches several countries when case is ignored
+     */
+    Mono<CountryDTO> getCountryByIsoCode(String isoCode);
+
+    /**
+     * Retrieves the countries with any of the given ISO codes, matched case-insensitively, from the
+     * in-memory natural-key index. Unknown and repeated ISO codes are skipped.
+     *
+     * @param isoCodes the ISO codes
+     * @return a Flux emitting the matches in the order of their ISO codes, or an IllegalArgumentException
+     *         if no or too many ISO codes are given
+     */
+    Flux<CountryDTO> getCountriesByIsoCodes(List<String> isoCodes);
     /**
      * Updates the details of an existing country by its unique identifier.
      *
@@ -61,4 +104,14 @@ public interface CountryService {
      * @return a Mono signaling completion of the delete operation
      */
     Mono<Void> deleteCountry(UUID countryId);
-}
\ No newline at end of file
+
+    /**
+     * Searches countries for typeahead: the name starts with the query or contains a word similar to
+     * it. Prefix matches come first, then the closest fuzzy matches.
+     *
+     * @param query the search term
+     * @param limit the maximum number of matches; a default applies if null
+     * @return a Flux emitting the matches, or an IllegalArgumentException for a blank query or a limit out of range
+     */
+    Flux<CountryDTO> searchCountries(String query, Integer limit);
+}
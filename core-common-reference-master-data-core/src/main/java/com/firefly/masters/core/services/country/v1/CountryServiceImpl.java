@@ -22,15 +22,29 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.country.v1.CountryMapper;
+import com.firefly.masters.core.services.naturalkey.v1.NaturalKeyIndex;
+import com.firefly.masters.core.utils.BulkUpsertUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.core.utils.SearchUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
 import com.firefly.masters.models.entities.country.v1.Country;
+import com.firefly.masters.models.entities.country.v1.CountrySummary;
 import com.firefly.masters.models.repositories.country.v1.CountryRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -43,16 +57,32 @@ public class CountryServiceImpl implements CountryService {
     @Autowired
     private CountryMapper mapper;
 
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private NaturalKeyIndex naturalKeyIndex;
+
     @Override
     public Mono<PaginationResponse<CountryDTO>> listCountries(FilterRequest<CountryDTO> filterRequest) {
+        // The summary view has no flag column, so the filter's SELECT cannot read it
         return FilterUtils
                 .createFilter(
-                        Country.class,
-                        mapper::toDTO
+                        CountrySummary.class,
+                        mapper::toSummaryDTO
                 )
                 .filter(filterRequest);
     }
 
+    @Override
+    public Mono<CursorPageDTO<CountryDTO>> listCountriesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
+        );
+    }
+
     @Override
     public Mono<CountryDTO> createCountry(CountryDTO countryDto) {
         Country country = mapper.toEntity(countryDto);
@@ -61,25 +91,55 @@ public class CountryServiceImpl implements CountryService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = CatalogCacheNames.COUNTRIES, allEntries = true)
+    public Flux<BulkUpsertResultDTO> upsertCountries(Flux<CountryDTO> countries) {
+        // Each chunk commits in its own transaction, so the call itself must not run in one
+        return BulkUpsertUtils.upsert(
+                countries,
+                mapper::toEntity,
+                repository,
+                CountryRepository.NATURAL_KEY,
+                transactionalOperator
+        );
+    }
+
+    @Override
+    @Cacheable(cacheNames = CatalogCacheNames.COUNTRIES, key = "#countryId", sync = true)
     public Mono<CountryDTO> getCountry(UUID countryId) {
         return repository.findById(countryId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<CountryDTO> getCountryByIsoCode(String isoCode) {
+        return Mono.fromSupplier(() -> naturalKeyIndex.getCountry(isoCode));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<CountryDTO> getCountriesByIsoCodes(List<String> isoCodes) {
+        return Flux.defer(() -> Flux.fromIterable(naturalKeyIndex.getCountries(isoCodes)));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.COUNTRIES, key = "#countryId")
     public Mono<CountryDTO> updateCountry(UUID countryId, CountryDTO countryDto) {
-        return repository.findById(countryId)
-                .flatMap(foundCountry -> {
-                    Country updatedCountry = mapper.toEntity(countryDto);
-                    updatedCountry.setCountryId(foundCountry.getCountryId());
-                    return repository.save(updatedCountry);
-                })
+        return repository.updateById(countryId, mapper.toEntity(countryDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.COUNTRIES, key = "#countryId")
     public Mono<Void> deleteCountry(UUID countryId) {
-        return repository.findById(countryId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(countryId)
+                .then();
+    }
+
+    @Override
+    public Flux<CountryDTO> searchCountries(String query, Integer limit) {
+        return SearchUtils.search(query, limit, repository::search)
+                .map(mapper::toSummaryDTO);
     }
 }
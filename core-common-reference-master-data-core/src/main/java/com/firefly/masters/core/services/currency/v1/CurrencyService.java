@@ -20,8 +20,11 @@ package com.firefly.masters.core.services.currency.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
 import com.firefly.masters.interfaces.dtos.currency.v1.CurrencyDTO;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 public interface CurrencyService {
@@ -42,6 +45,16 @@ public interface CurrencyService {
      */
     Mono<CurrencyDTO> createCurrency(CurrencyDTO currencyDto);
 
+    /**
+     * Creates or updates currencies in bulk, matching existing rows on their ISO 4217 code.
+     * Rows are written in chunked, multi-row statements, each chunk in its own transaction, and
+     * the input is consumed one chunk at a time.
+     *
+     * @param currencies the rows to write
+     * @return a Flux emitting one result per input row, in input order
+     */
+    Flux<BulkUpsertResultDTO> upsertCurrencies(Flux<CurrencyDTO> currencies);
+
     /**
      * Retrieves currency information based on the provided currency ID.
      *
@@ -50,6 +63,25 @@ public interface CurrencyService {
      */
     Mono<CurrencyDTO> getCurrency(UUID currencyId);
 
+    /**
+     * Retrieves a currency by its ISO code, matched case-insensitively, from the in-memory natural-key index.
+     *
+     * @param isoCode the ISO code, such as EUR
+     * @return a Mono emitting the CurrencyDTO, an empty Mono if not found, or an IllegalArgumentException
+     *         if the code matches several currencies when case is ignored
+     */
+    Mono<CurrencyDTO> getCurrencyByIsoCode(String isoCode);
+
+    /**
+     * Retrieves the currencies with any of the given ISO codes, matched case-insensitively, from the
+     * in-memory natural-key index. Unknown and repeated ISO codes are skipped.
+     *
+     * @param isoCodes the ISO codes
+     * @return a Flux emitting the matches in the order of their ISO codes, or an IllegalArgumentException
+     *         if no or too many ISO codes are given
+     */
+    Flux<CurrencyDTO> getCurrenciesByIsoCodes(List<String> isoCodes);
+
     /**
      * Updates the details of an existing currency identified by the given currency ID.
      *
@@ -22,16 +22,26 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.currency.v1.CurrencyMapper;
+import com.firefly.masters.core.services.naturalkey.v1.NaturalKeyIndex;
+import com.firefly.masters.core.utils.BulkUpsertUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
 import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
 import com.firefly.masters.interfaces.dtos.currency.v1.CurrencyDTO;
 import com.firefly.masters.models.entities.country.v1.Country;
 import com.firefly.masters.models.entities.currency.v1.Currency;
 import com.firefly.masters.models.repositories.currency.v1.CurrencyRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -44,6 +54,12 @@ public class CurrencyServiceImpl implements CurrencyService {
     @Autowired
     private CurrencyMapper mapper;
 
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private NaturalKeyIndex naturalKeyIndex;
+
     @Override
     public Mono<PaginationResponse<CurrencyDTO>> listCurrencies(FilterRequest<CurrencyDTO> filterRequest) {
         return FilterUtils
@@ -62,23 +78,47 @@ public class CurrencyServiceImpl implements CurrencyService {
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = CatalogCacheNames.CURRENCIES, allEntries = true)
+    public Flux<BulkUpsertResultDTO> upsertCurrencies(Flux<CurrencyDTO> currencies) {
+        // Each chunk commits in its own transaction, so the call itself must not run in one
+        return BulkUpsertUtils.upsert(
+                currencies,
+                mapper::toEntity,
+                repository,
+                CurrencyRepository.NATURAL_KEY,
+                transactionalOperator
+        );
+    }
+
+    @Override
+    @Cacheable(cacheNames = CatalogCacheNames.CURRENCIES, key = "#currencyId", sync = true)
     public Mono<CurrencyDTO> getCurrency(UUID currencyId) {
         return repository.findById(currencyId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<CurrencyDTO> getCurrencyByIsoCode(String isoCode) {
+        return Mono.fromSupplier(() -> naturalKeyIndex.getCurrency(isoCode));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<CurrencyDTO> getCurrenciesByIsoCodes(List<String> isoCodes) {
+        return Flux.defer(() -> Flux.fromIterable(naturalKeyIndex.getCurrencies(isoCodes)));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CURRENCIES, key = "#currencyId")
     public Mono<CurrencyDTO> updateCurrency(UUID currencyId, CurrencyDTO currencyDto) {
-        return repository.findById(currencyId)
-                .flatMap(existingCurrency -> {
-                    Currency updatedCurrency = mapper.toEntity(currencyDto);
-                    updatedCurrency.setCurrencyId(currencyId); // Ensure ID matches the existing record
-                    return repository.save(updatedCurrency);
-                })
+        return repository.updateById(currencyId, mapper.toEntity(currencyDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.CURRENCIES, key = "#currencyId")
     public Mono<Void> deleteCurrency(UUID currencyId) {
         return repository.deleteById(currencyId);
     }
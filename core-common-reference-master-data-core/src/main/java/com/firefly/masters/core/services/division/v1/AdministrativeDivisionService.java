@@ -19,7 +19,11 @@ package com.firefly.masters.core.services.division.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.division.v1.AdministrativeDivisionDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -31,6 +35,24 @@ public interface AdministrativeDivisionService {
      * @return a Mono emitting a PaginationResponse containing a list of AdministrativeDivisionDTO objects
      */
     Mono<PaginationResponse<AdministrativeDivisionDTO>> listDivisions(PaginationRequest paginationRequest);
+
+    /**
+     * Retrieves a paginated list of divisions, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the divisions
+     */
+    Mono<PaginationResponse<AdministrativeDivisionDTO>> listDivisions(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of divisions using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the divisions and the cursor of the next page
+     */
+    Mono<CursorPageDTO<AdministrativeDivisionDTO>> listDivisionsByCursor(CursorPaginationRequest cursorPaginationRequest);
     
     /**
      * Creates a new administrative division based on the provided AdministrativeDivisionDTO.
@@ -39,6 +61,32 @@ public interface AdministrativeDivisionService {
      * @return a Mono emitting the created AdministrativeDivisionDTO object
      */
     Mono<AdministrativeDivisionDTO> createDivision(AdministrativeDivisionDTO divisionDto);
+
+    /**
+     * Retrieves the path from the top-level division of the country down to a division, from the
+     * in-memory division tree.
+     *
+     * @param divisionId the unique identifier of the division
+     * @return a Flux emitting the divisions of the path, root first and ending with the division itself
+     */
+    Flux<AdministrativeDivisionDTO> getDivisionPath(UUID divisionId);
+
+    /**
+     * Retrieves the direct children of a division from the in-memory division tree.
+     *
+     * @param divisionId the unique identifier of the parent division
+     * @return a Flux emitting the child divisions sorted by code
+     */
+    Flux<AdministrativeDivisionDTO> getChildDivisions(UUID divisionId);
+
+    /**
+     * Finds the active divisions of a country whose postal code pattern matches a postal code.
+     *
+     * @param countryId the unique identifier of the country
+     * @param postalCode the postal code to resolve
+     * @return a Flux emitting the matching divisions, most specific first
+     */
+    Flux<AdministrativeDivisionDTO> resolvePostalCode(UUID countryId, String postalCode);
     
     /**
      * Retrieves the details of an administrative division by its unique identifier.
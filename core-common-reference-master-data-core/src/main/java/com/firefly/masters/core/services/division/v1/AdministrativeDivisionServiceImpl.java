@@ -20,13 +20,22 @@ package com.firefly.masters.core.services.division.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.division.v1.AdministrativeDivisionMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.division.v1.AdministrativeDivisionDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.division.v1.AdministrativeDivision;
 import com.firefly.masters.models.repositories.division.v1.AdministrativeDivisionRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -40,13 +49,30 @@ public class AdministrativeDivisionServiceImpl implements AdministrativeDivision
     @Autowired
     private AdministrativeDivisionMapper mapper;
 
+    @Autowired
+    private DivisionTreeIndex divisionTreeIndex;
+
     @Override
     public Mono<PaginationResponse<AdministrativeDivisionDTO>> listDivisions(PaginationRequest paginationRequest) {
+        return listDivisions(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<AdministrativeDivisionDTO>> listDivisions(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<AdministrativeDivisionDTO>> listDivisionsByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -58,25 +84,38 @@ public class AdministrativeDivisionServiceImpl implements AdministrativeDivision
     }
 
     @Override
+    public Flux<AdministrativeDivisionDTO> getDivisionPath(UUID divisionId) {
+        return Flux.defer(() -> Flux.fromIterable(divisionTreeIndex.getPath(divisionId)));
+    }
+
+    @Override
+    public Flux<AdministrativeDivisionDTO> getChildDivisions(UUID divisionId) {
+        return Flux.defer(() -> Flux.fromIterable(divisionTreeIndex.getChildren(divisionId)));
+    }
+
+    @Override
+    public Flux<AdministrativeDivisionDTO> resolvePostalCode(UUID countryId, String postalCode) {
+        return Flux.defer(() -> Flux.fromIterable(divisionTreeIndex.resolvePostalCode(countryId, postalCode)));
+    }
+
+    @Override
+    @Cacheable(cacheNames = CatalogCacheNames.ADMINISTRATIVE_DIVISION, key = "#divisionId", sync = true)
     public Mono<AdministrativeDivisionDTO> getDivision(UUID divisionId) {
         return repository.findById(divisionId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.ADMINISTRATIVE_DIVISION, key = "#divisionId")
     public Mono<AdministrativeDivisionDTO> updateDivision(UUID divisionId, AdministrativeDivisionDTO divisionDto) {
-        return repository.findById(divisionId)
-                .flatMap(foundDivision -> {
-                    AdministrativeDivision updatedDivision = mapper.toEntity(divisionDto);
-                    updatedDivision.setDivisionId(foundDivision.getDivisionId());
-                    return repository.save(updatedDivision);
-                })
+        return repository.updateById(divisionId, mapper.toEntity(divisionDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.ADMINISTRATIVE_DIVISION, key = "#divisionId")
     public Mono<Void> deleteDivision(UUID divisionId) {
-        return repository.findById(divisionId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(divisionId)
+                .then();
     }
 }
\ No newline at end of file
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.division.v1;
+
+import com.firefly.masters.core.cache.AbstractCatalogIndex;
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.division.v1.AdministrativeDivisionMapper;
+import com.firefly.masters.interfaces.dtos.division.v1.AdministrativeDivisionDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.repositories.division.v1.AdministrativeDivisionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory tree of administrative divisions, one per country.
+ * <p>
+ * Answers path, children and postal code lookups without touching the database. Postal code patterns
+ * are compiled when a country is indexed, and an invalid pattern is logged and ignored rather than
+ * failing the whole country. A change to a division only rebuilds the countries it belonged to before
+ * and after the change. Each build publishes a new immutable {@link State}, so a reader never sees a
+ * division mapped to a country whose tree does not contain it. Divisions without a country are not indexed.
+ */
+@Slf4j
+@Component
+public class DivisionTreeIndex extends AbstractCatalogIndex {
+
+    /**
+     * Guards path walks against cycles in {@code parent_division_id}.
+     */
+    private static final int MAX_DEPTH = 32;
+
+    @Autowired
+    private AdministrativeDivisionRepository repository;
+
+    @Autowired
+    private AdministrativeDivisionMapper mapper;
+
+    private volatile State state = State.EMPTY;
+
+    /**
+     * Returns the path from the top-level division of the country down to the given division.
+     *
+     * @param divisionId the unique identifier of the division
+     * @return the divisions of the path, root first and ending with the division itself; empty if unknown
+     */
+    public List<AdministrativeDivisionDTO> getPath(UUID divisionId) {
+        CountryTree tree = state.treeOf(divisionId);
+        return tree == null ? List.of() : tree.path(divisionId);
+    }
+
+    /**
+     * Returns the direct children of a division.
+     *
+     * @param divisionId the unique identifier of the parent division
+     * @return the child divisions sorted by code; empty if none or unknown
+     */
+    public List<AdministrativeDivisionDTO> getChildren(UUID divisionId) {
+        CountryTree tree = state.treeOf(divisionId);
+        return tree == null ? List.of() : tree.children().getOrDefault(divisionId, List.of());
+    }
+
+    /**
+     * Finds the active divisions of a country whose postal code pattern matches the whole postal code.
+     *
+     * @param countryId the unique identifier of the country
+     * @param postalCode the postal code, surrounding whitespace ignored
+     * @return the matching divisions, most specific (deepest) first
+     */
+    public List<AdministrativeDivisionDTO> resolvePostalCode(UUID countryId, String postalCode) {
+        CountryTree tree = state.trees().get(countryId);
+        if (tree == null || postalCode == null) {
+            return List.of();
+        }
+        String candidate = postalCode.trim();
+        List<AdministrativeDivisionDTO> matches = new ArrayList<>();
+        for (PostalCodeRule rule : tree.postalCodeRules()) {
+            if (rule.pattern().matcher(candidate).matches()) {
+                matches.add(rule.division());
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    protected Set<String> tables() {
+        return Set.of(CatalogCacheNames.ADMINISTRATIVE_DIVISION);
+    }
+
+    @Override
+    protected Mono<Void> rebuild() {
+        return repository.findAll()
+                .map(mapper::toDTO)
+                .filter(division -> division.getCountryId() != null)
+                .collect(Collectors.groupingBy(AdministrativeDivisionDTO::getCountryId))
+                .doOnNext(byCountry -> {
+                    state = State.EMPTY.with(byCountry);
+                    log.info("Indexed administrative divisions of {} countries", byCountry.size());
+                })
+                .then();
+    }
+
+    @Override
+    protected Mono<Void> refresh(CatalogChangeEvent event) {
+        if (event.id() == null) {
+            return rebuild();
+        }
+        UUID divisionId = UUID.fromString(event.id());
+        Set<UUID> countries = new LinkedHashSet<>();
+        UUID previousCountry = state.countryByDivision().get(divisionId);
+        if (previousCountry != null) {
+            countries.add(previousCountry);
+        }
+        return repository.findById(divisionId)
+                .doOnNext(division -> {
+                    if (division.getCountryId() != null) {
+                        countries.add(division.getCountryId());
+                    }
+                })
+                .thenMany(Flux.defer(() -> Flux.fromIterable(countries)))
+                .concatMap(countryId -> repository.findByCountryId(countryId)
+                        .map(mapper::toDTO)
+                        .collectList()
+                        .map(divisions -> Map.entry(countryId, divisions)))
+                .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                .doOnNext(changed -> state = state.with(changed))
+                .then();
+    }
+
+    private static CountryTree build(List<AdministrativeDivisionDTO> divisions) {
+        Map<UUID, AdministrativeDivisionDTO> byId = new HashMap<>();
+        Map<UUID, List<AdministrativeDivisionDTO>> children = new HashMap<>();
+        for (AdministrativeDivisionDTO division : divisions) {
+            byId.put(division.getDivisionId(), division);
+            if (division.getParentDivisionId() != null) {
+                children.computeIfAbsent(division.getParentDivisionId(), parentId -> new ArrayList<>()).add(division);
+            }
+        }
+        children.replaceAll((parentId, siblings) -> siblings.stream()
+                .sorted(Comparator.comparing(AdministrativeDivisionDTO::getCode))
+                .toList());
+
+        CountryTree tree = new CountryTree(Map.copyOf(byId), Map.copyOf(children), List.of());
+        List<PostalCodeRule> rules = new ArrayList<>();
+        for (AdministrativeDivisionDTO division : divisions) {
+            if (division.getStatus() != StatusEnum.ACTIVE
+                    || division.getPostalCodePattern() == null
+                    || division.getPostalCodePattern().isBlank()) {
+                continue;
+            }
+            try {
+                rules.add(new PostalCodeRule(
+                        Pattern.compile(division.getPostalCodePattern()),
+                        division,
+                        tree.path(division.getDivisionId()).size()));
+            } catch (PatternSyntaxException e) {
+                log.warn("Ignoring invalid postal code pattern of division {}: {}",
+                        division.getDivisionId(), e.getMessage());
+            }
+        }
+        rules.sort(Comparator.comparingInt(PostalCodeRule::depth).reversed());
+        return new CountryTree(tree.byId(), tree.children(), List.copyOf(rules));
+    }
+
+    /**
+     * One generation of the index. Builds never modify a published state; they derive the next one
+     * and swap it in.
+     */
+    private record State(Map<UUID, CountryTree> trees, Map<UUID, UUID> countryByDivision) {
+
+        static final State EMPTY = new State(Map.of(), Map.of());
+
+        CountryTree treeOf(UUID divisionId) {
+            UUID countryId = countryByDivision.get(divisionId);
+            return countryId == null ? null : trees.get(countryId);
+        }
+
+        /**
+         * @param changed the current divisions of each rebuilt country; an empty list drops the country
+         * @return a copy of this state with the given countries replaced
+         */
+        State with(Map<UUID, List<AdministrativeDivisionDTO>> changed) {
+            Map<UUID, CountryTree> nextTrees = new HashMap<>(trees);
+            Map<UUID, UUID> nextCountryByDivision = new HashMap<>(countryByDivision);
+            changed.forEach((countryId, divisions) -> {
+                CountryTree previous = divisions.isEmpty()
+                        ? nextTrees.remove(countryId)
+                        : nextTrees.put(countryId, build(divisions));
+                if (previous != null) {
+                    previous.byId().keySet().forEach(divisionId -> nextCountryByDivision.remove(divisionId, countryId));
+                }
+                divisions.forEach(division -> nextCountryByDivision.put(division.getDivisionId(), countryId));
+            });
+            return new State(Map.copyOf(nextTrees), Map.copyOf(nextCountryByDivision));
+        }
+    }
+
+    private record CountryTree(Map<UUID, AdministrativeDivisionDTO> byId,
+                               Map<UUID, List<AdministrativeDivisionDTO>> children,
+                               List<PostalCodeRule> postalCodeRules) {
+
+        List<AdministrativeDivisionDTO> path(UUID divisionId) {
+            List<AdministrativeDivisionDTO> path = new ArrayList<>();
+            AdministrativeDivisionDTO current = byId.get(divisionId);
+            while (current != null && path.size() < MAX_DEPTH) {
+                path.add(current);
+                current = current.getParentDivisionId() == null ? null : byId.get(current.getParentDivisionId());
+            }
+            Collections.reverse(path);
+            return path;
+        }
+    }
+
+    private record PostalCodeRule(Pattern pattern, AdministrativeDivisionDTO division, int depth) {
+    }
+}
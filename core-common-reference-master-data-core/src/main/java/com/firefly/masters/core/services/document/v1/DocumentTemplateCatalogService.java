@@ -19,8 +19,12 @@ package com.firefly.masters.core.services.document.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.document.v1.DocumentTemplateCatalogDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,6 +40,35 @@ public interface DocumentTemplateCatalogService {
      */
     Mono<PaginationResponse<DocumentTemplateCatalogDTO>> listDocumentTemplates(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of document templates, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the document templates
+     */
+    Mono<PaginationResponse<DocumentTemplateCatalogDTO>> listDocumentTemplates(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a paginated list of document templates, reading only the requested fields from the database.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @param fields the fields to return, {@code *} for all; null or empty for every field except large ones
+     * @return a Mono emitting a PaginationResponse containing the document templates, or an IllegalArgumentException
+     *         if a field is unknown
+     */
+    Mono<PaginationResponse<DocumentTemplateCatalogDTO>> listDocumentTemplates(PaginationRequest paginationRequest, CountModeEnum countMode, List<String> fields);
+
+    /**
+     * Retrieves a page of document templates using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the document templates and the cursor of the next page
+     */
+    Mono<CursorPageDTO<DocumentTemplateCatalogDTO>> listDocumentTemplatesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * List document templates by category with pagination.
      *
@@ -20,16 +20,24 @@ package com.firefly.masters.core.services.document.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.document.v1.DocumentTemplateCatalogMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.document.v1.DocumentTemplateCatalogDTO;
-import com.firefly.masters.models.entities.document.v1.DocumentTemplateCatalog;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.document.v1.DocumentTemplateCatalogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -47,11 +55,35 @@ public class DocumentTemplateCatalogServiceImpl implements DocumentTemplateCatal
 
     @Override
     public Mono<PaginationResponse<DocumentTemplateCatalogDTO>> listDocumentTemplates(PaginationRequest paginationRequest) {
+        return listDocumentTemplates(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<DocumentTemplateCatalogDTO>> listDocumentTemplates(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<PaginationResponse<DocumentTemplateCatalogDTO>> listDocumentTemplates(PaginationRequest paginationRequest, CountModeEnum countMode, List<String> fields) {
+        return PaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                pageable -> repository.findAllBy(pageable, fields),
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<DocumentTemplateCatalogDTO>> listDocumentTemplatesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -90,6 +122,7 @@ public class DocumentTemplateCatalogServiceImpl implements DocumentTemplateCatal
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_CATALOG, key = "#templateId", sync = true)
     public Mono<DocumentTemplateCatalogDTO> getDocumentTemplate(UUID templateId) {
         return repository.findById(templateId)
                 .map(mapper::toDTO)
@@ -104,25 +137,21 @@ public class DocumentTemplateCatalogServiceImpl implements DocumentTemplateCatal
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_CATALOG, key = "#templateId")
     public Mono<DocumentTemplateCatalogDTO> updateDocumentTemplate(UUID templateId, DocumentTemplateCatalogDTO documentTemplateDTO) {
-        return repository.findById(templateId)
+        return repository.updateById(templateId, mapper.toEntity(documentTemplateDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Document template not found with ID: " + templateId)))
-                .flatMap(existingEntity -> {
-                    DocumentTemplateCatalog updatedEntity = mapper.toEntity(documentTemplateDTO);
-                    updatedEntity.setTemplateId(templateId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating document template: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_CATALOG, key = "#templateId")
     public Mono<Void> deleteDocumentTemplate(UUID templateId) {
-        return repository.findById(templateId)
+        return repository.deleteByIdReturningCount(templateId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Document template not found with ID: " + templateId)))
-                .flatMap(repository::delete)
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting document template: " + e.getMessage(), e)));
     }
 }
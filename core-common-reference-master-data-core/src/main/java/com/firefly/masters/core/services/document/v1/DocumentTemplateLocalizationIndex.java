@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.document.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.mappers.document.v1.DocumentTemplateLocalizationMapper;
+import com.firefly.masters.core.services.locale.v1.AbstractLocalizationIndex;
+import com.firefly.masters.interfaces.dtos.document.v1.DocumentTemplateLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.document.v1.DocumentTemplateCatalog;
+import com.firefly.masters.models.repositories.document.v1.DocumentTemplateCatalogRepository;
+import com.firefly.masters.models.repositories.document.v1.DocumentTemplateLocalizationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Resolves document template localizations through the locale fallback chain. The catalog default is
+ * {@code template_name} and {@code template_content} of the document template itself.
+ */
+@Component
+public class DocumentTemplateLocalizationIndex extends AbstractLocalizationIndex<DocumentTemplateCatalog, DocumentTemplateLocalizationDTO> {
+
+    @Autowired
+    private DocumentTemplateCatalogRepository catalogRepository;
+
+    @Autowired
+    private DocumentTemplateLocalizationRepository repository;
+
+    @Autowired
+    private DocumentTemplateLocalizationMapper mapper;
+
+    @Override
+    protected String catalogTable() {
+        return CatalogCacheNames.DOCUMENT_TEMPLATE_CATALOG;
+    }
+
+    @Override
+    protected String localizationTable() {
+        return CatalogCacheNames.DOCUMENT_TEMPLATE_LOCALIZATION;
+    }
+
+    @Override
+    protected Flux<DocumentTemplateCatalog> loadCatalog() {
+        return catalogRepository.findAll();
+    }
+
+    @Override
+    protected Flux<DocumentTemplateLocalizationDTO> loadLocalizations() {
+        return repository.findAll().map(mapper::toDTO);
+    }
+
+    @Override
+    protected Mono<DocumentTemplateCatalog> loadCatalogRow(UUID id) {
+        return catalogRepository.findById(id);
+    }
+
+    @Override
+    protected Mono<DocumentTemplateLocalizationDTO> loadLocalization(UUID id) {
+        return repository.findById(id).map(mapper::toDTO);
+    }
+
+    @Override
+    protected UUID idOf(DocumentTemplateCatalog row) {
+        return row.getTemplateId();
+    }
+
+    @Override
+    protected UUID localizationIdOf(DocumentTemplateLocalizationDTO localization) {
+        return localization.getLocalizationId();
+    }
+
+    @Override
+    protected UUID ownerOf(DocumentTemplateLocalizationDTO localization) {
+        return localization.getTemplateId();
+    }
+
+    @Override
+    protected UUID localeOf(DocumentTemplateLocalizationDTO localization) {
+        return localization.getLocaleId();
+    }
+
+    @Override
+    protected StatusEnum statusOf(DocumentTemplateLocalizationDTO localization) {
+        return localization.getStatus();
+    }
+
+    @Override
+    protected DocumentTemplateLocalizationDTO catalogDefault(DocumentTemplateCatalog row) {
+        if (row.getTemplateName() == null && row.getTemplateContent() == null) {
+            return null;
+        }
+        return DocumentTemplateLocalizationDTO.builder()
+                .templateId(row.getTemplateId())
+                .templateName(row.getTemplateName())
+                .templateContent(row.getTemplateContent())
+                .status(row.getStatus())
+                .build();
+    }
+}
@@ -18,6 +18,7 @@
 package com.firefly.masters.core.services.document.v1;
 
 import com.firefly.masters.interfaces.dtos.document.v1.DocumentTemplateLocalizationDTO;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
@@ -92,4 +93,15 @@ public interface DocumentTemplateLocalizationService {
      * @return a Mono of Void
      */
     Mono<Void> deleteLocalizationsByTemplateId(UUID templateId);
+
+    /**
+     * Resolve a document template in a locale, falling back to its language, then to the template's own name
+     * and content, and finally to the platform default locale.
+     *
+     * @param templateId the ID of the document template
+     * @param locale the requested locale code, such as es-MX
+     * @return the resolved localization and the fallback step it was found at, or empty if the
+     *         document template is unknown or nothing along the chain localizes it
+     */
+    Mono<ResolvedLocalizationDTO<DocumentTemplateLocalizationDTO>> resolveDocumentTemplateLocalization(UUID templateId, String locale);
 }
@@ -17,12 +17,16 @@
 
 package com.firefly.masters.core.services.document.v1;
 
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.document.v1.DocumentTemplateLocalizationMapper;
 import com.firefly.masters.interfaces.dtos.document.v1.DocumentTemplateLocalizationDTO;
-import com.firefly.masters.models.entities.document.v1.DocumentTemplateLocalization;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import com.firefly.masters.models.repositories.document.v1.DocumentTemplateLocalizationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -43,6 +47,9 @@ public class DocumentTemplateLocalizationServiceImpl implements DocumentTemplate
     @Autowired
     private DocumentTemplateLocalizationMapper mapper;
 
+    @Autowired
+    private DocumentTemplateLocalizationIndex index;
+
     @Override
     public Flux<DocumentTemplateLocalizationDTO> getLocalizationsByTemplateId(UUID templateId) {
         return repository.findByTemplateId(templateId)
@@ -72,6 +79,7 @@ public class DocumentTemplateLocalizationServiceImpl implements DocumentTemplate
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_LOCALIZATION, key = "#localizationId", sync = true)
     public Mono<DocumentTemplateLocalizationDTO> getDocumentTemplateLocalization(UUID localizationId) {
         return repository.findById(localizationId)
                 .map(mapper::toDTO)
@@ -86,31 +94,34 @@ public class DocumentTemplateLocalizationServiceImpl implements DocumentTemplate
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_LOCALIZATION, key = "#localizationId")
     public Mono<DocumentTemplateLocalizationDTO> updateDocumentTemplateLocalization(UUID localizationId, DocumentTemplateLocalizationDTO localizationDTO) {
-        return repository.findById(localizationId)
+        return repository.updateById(localizationId, mapper.toEntity(localizationDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Document template localization not found with ID: " + localizationId)))
-                .flatMap(existingEntity -> {
-                    DocumentTemplateLocalization updatedEntity = mapper.toEntity(localizationDTO);
-                    updatedEntity.setLocalizationId(localizationId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating document template localization: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_LOCALIZATION, key = "#localizationId")
     public Mono<Void> deleteDocumentTemplateLocalization(UUID localizationId) {
-        return repository.findById(localizationId)
+        return repository.deleteByIdReturningCount(localizationId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Document template localization not found with ID: " + localizationId)))
-                .flatMap(repository::delete)
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting document template localization: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_LOCALIZATION, allEntries = true)
     public Mono<Void> deleteLocalizationsByTemplateId(UUID templateId) {
         return repository.deleteByTemplateId(templateId)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting localizations for template ID: " + templateId, e)));
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<ResolvedLocalizationDTO<DocumentTemplateLocalizationDTO>> resolveDocumentTemplateLocalization(UUID templateId, String locale) {
+        return Mono.fromSupplier(() -> index.resolve(templateId, locale));
+    }
 }
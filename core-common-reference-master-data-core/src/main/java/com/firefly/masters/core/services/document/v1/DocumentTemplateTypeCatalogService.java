@@ -19,7 +19,10 @@ package com.firefly.masters.core.services.document.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.document.v1.DocumentTemplateTypeCatalogDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -36,6 +39,24 @@ public interface DocumentTemplateTypeCatalogService {
      */
     Mono<PaginationResponse<DocumentTemplateTypeCatalogDTO>> listDocumentTemplateTypes(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of document template types, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the document template types
+     */
+    Mono<PaginationResponse<DocumentTemplateTypeCatalogDTO>> listDocumentTemplateTypes(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of document template types using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the document template types and the cursor of the next page
+     */
+    Mono<CursorPageDTO<DocumentTemplateTypeCatalogDTO>> listDocumentTemplateTypesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * Create a new document template type.
      *
@@ -20,11 +20,18 @@ package com.firefly.masters.core.services.document.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.document.v1.DocumentTemplateTypeCatalogMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.document.v1.DocumentTemplateTypeCatalogDTO;
-import com.firefly.masters.models.entities.document.v1.DocumentTemplateTypeCatalog;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.document.v1.DocumentTemplateTypeCatalogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -47,11 +54,25 @@ public class DocumentTemplateTypeCatalogServiceImpl implements DocumentTemplateT
 
     @Override
     public Mono<PaginationResponse<DocumentTemplateTypeCatalogDTO>> listDocumentTemplateTypes(PaginationRequest paginationRequest) {
+        return listDocumentTemplateTypes(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<DocumentTemplateTypeCatalogDTO>> listDocumentTemplateTypes(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<DocumentTemplateTypeCatalogDTO>> listDocumentTemplateTypesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -70,6 +91,7 @@ public class DocumentTemplateTypeCatalogServiceImpl implements DocumentTemplateT
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_TYPE_CATALOG, key = "#typeId", sync = true)
     public Mono<DocumentTemplateTypeCatalogDTO> getDocumentTemplateType(UUID typeId) {
         return repository.findById(typeId)
                 .map(mapper::toDTO)
@@ -84,25 +106,21 @@ public class DocumentTemplateTypeCatalogServiceImpl implements DocumentTemplateT
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_TYPE_CATALOG, key = "#typeId")
     public Mono<DocumentTemplateTypeCatalogDTO> updateDocumentTemplateType(UUID typeId, DocumentTemplateTypeCatalogDTO documentTemplateTypeDTO) {
-        return repository.findById(typeId)
+        return repository.updateById(typeId, mapper.toEntity(documentTemplateTypeDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Document template type not found with ID: " + typeId)))
-                .flatMap(existingEntity -> {
-                    DocumentTemplateTypeCatalog updatedEntity = mapper.toEntity(documentTemplateTypeDTO);
-                    updatedEntity.setTypeId(typeId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating document template type: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.DOCUMENT_TEMPLATE_TYPE_CATALOG, key = "#typeId")
     public Mono<Void> deleteDocumentTemplateType(UUID typeId) {
-        return repository.findById(typeId)
+        return repository.deleteByIdReturningCount(typeId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Document template type not found with ID: " + typeId)))
-                .flatMap(repository::delete)
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting document template type: " + e.getMessage(), e)));
     }
 }
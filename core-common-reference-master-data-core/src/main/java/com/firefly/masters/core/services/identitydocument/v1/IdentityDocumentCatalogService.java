@@ -19,7 +19,13 @@ package com.firefly.masters.core.services.identitydocument.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentCatalogDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationRequestDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationResultDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -36,6 +42,24 @@ public interface IdentityDocumentCatalogService {
      */
     Mono<PaginationResponse<IdentityDocumentCatalogDTO>> listIdentityDocuments(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of identity documents, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the identity documents
+     */
+    Mono<PaginationResponse<IdentityDocumentCatalogDTO>> listIdentityDocuments(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of identity documents using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the identity documents and the cursor of the next page
+     */
+    Mono<CursorPageDTO<IdentityDocumentCatalogDTO>> listIdentityDocumentsByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * List identity documents by category with pagination.
      *
@@ -94,4 +118,20 @@ public interface IdentityDocumentCatalogService {
      * @return a Mono of Void
      */
     Mono<Void> deleteIdentityDocument(UUID documentId);
+
+    /**
+     * Validate a document number against the validation pattern of its identity document.
+     *
+     * @param request the value and the identity document, or country and category, to validate it against
+     * @return the outcome of the validation
+     */
+    Mono<IdentityDocumentValidationResultDTO> validateIdentityDocument(IdentityDocumentValidationRequestDTO request);
+
+    /**
+     * Validate many document numbers, streaming back one result per value in input order.
+     *
+     * @param requests the values to validate
+     * @return the outcomes, each carrying the position of its value
+     */
+    Flux<IdentityDocumentValidationResultDTO> validateIdentityDocuments(Flux<IdentityDocumentValidationRequestDTO> requests);
 }
@@ -20,14 +20,24 @@ package com.firefly.masters.core.services.identitydocument.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.identitydocument.v1.IdentityDocumentCatalogMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentCatalogDTO;
-import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentCatalog;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationRequestDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationResultDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentCatalogRepository;
-import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentLocalizationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
@@ -44,18 +54,32 @@ public class IdentityDocumentCatalogServiceImpl implements IdentityDocumentCatal
     private IdentityDocumentCatalogRepository repository;
 
     @Autowired
-    private IdentityDocumentLocalizationRepository localizationRepository;
+    private IdentityDocumentCatalogMapper mapper;
 
     @Autowired
-    private IdentityDocumentCatalogMapper mapper;
+    private IdentityDocumentValidator validator;
 
     @Override
     public Mono<PaginationResponse<IdentityDocumentCatalogDTO>> listIdentityDocuments(PaginationRequest paginationRequest) {
+        return listIdentityDocuments(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<IdentityDocumentCatalogDTO>> listIdentityDocuments(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<IdentityDocumentCatalogDTO>> listIdentityDocumentsByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -94,6 +118,7 @@ public class IdentityDocumentCatalogServiceImpl implements IdentityDocumentCatal
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_CATALOG, key = "#documentId", sync = true)
     public Mono<IdentityDocumentCatalogDTO> getIdentityDocument(UUID documentId) {
         return repository.findById(documentId)
                 .map(mapper::toDTO)
@@ -108,26 +133,39 @@ public class IdentityDocumentCatalogServiceImpl implements IdentityDocumentCatal
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_CATALOG, key = "#documentId")
     public Mono<IdentityDocumentCatalogDTO> updateIdentityDocument(UUID documentId, IdentityDocumentCatalogDTO identityDocumentDTO) {
-        return repository.findById(documentId)
+        return repository.updateById(documentId, mapper.toEntity(identityDocumentDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Identity document not found with ID: " + documentId)))
-                .flatMap(existingEntity -> {
-                    IdentityDocumentCatalog updatedEntity = mapper.toEntity(identityDocumentDTO);
-                    updatedEntity.setDocumentId(documentId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating identity document: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_CATALOG, key = "#documentId")
     public Mono<Void> deleteIdentityDocument(UUID documentId) {
-        return repository.findById(documentId)
+        // Localizations are removed by ON DELETE CASCADE in the same statement
+        return repository.deleteByIdReturningCount(documentId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Identity document not found with ID: " + documentId)))
-                .flatMap(entity -> localizationRepository.deleteByDocumentId(documentId)
-                        .then(repository.deleteById(documentId)))
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting identity document: " + e.getMessage(), e)));
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<IdentityDocumentValidationResultDTO> validateIdentityDocument(IdentityDocumentValidationRequestDTO request) {
+        return Mono.fromSupplier(() -> validator.validate(request));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<IdentityDocumentValidationResultDTO> validateIdentityDocuments(Flux<IdentityDocumentValidationRequestDTO> requests) {
+        return requests.index()
+                .map(indexed -> {
+                    IdentityDocumentValidationResultDTO result = validator.validate(indexed.getT2());
+                    result.setIndex(indexed.getT1());
+                    return result;
+                });
+    }
 }
@@ -20,11 +20,18 @@ package com.firefly.masters.core.services.identitydocument.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.identitydocument.v1.IdentityDocumentCategoryCatalogMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentCategoryCatalogDTO;
-import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentCategoryCatalog;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentCategoryCatalogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -47,11 +54,25 @@ public class IdentityDocumentCategoryCatalogServiceImpl implements IdentityDocum
 
     @Override
     public Mono<PaginationResponse<IdentityDocumentCategoryCatalogDTO>> listIdentityDocumentCategories(PaginationRequest paginationRequest) {
+        return listIdentityDocumentCategories(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<IdentityDocumentCategoryCatalogDTO>> listIdentityDocumentCategories(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<IdentityDocumentCategoryCatalogDTO>> listIdentityDocumentCategoriesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -70,6 +91,7 @@ public class IdentityDocumentCategoryCatalogServiceImpl implements IdentityDocum
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_CATEGORY_CATALOG, key = "#categoryId", sync = true)
     public Mono<IdentityDocumentCategoryCatalogDTO> getIdentityDocumentCategory(UUID categoryId) {
         return repository.findById(categoryId)
                 .map(mapper::toDTO)
@@ -84,25 +106,21 @@ public class IdentityDocumentCategoryCatalogServiceImpl implements IdentityDocum
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_CATEGORY_CATALOG, key = "#categoryId")
     public Mono<IdentityDocumentCategoryCatalogDTO> updateIdentityDocumentCategory(UUID categoryId, IdentityDocumentCategoryCatalogDTO identityDocumentCategoryDTO) {
-        return repository.findById(categoryId)
+        return repository.updateById(categoryId, mapper.toEntity(identityDocumentCategoryDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Identity document category not found with ID: " + categoryId)))
-                .flatMap(existingEntity -> {
-                    IdentityDocumentCategoryCatalog updatedEntity = mapper.toEntity(identityDocumentCategoryDTO);
-                    updatedEntity.setCategoryId(categoryId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating identity document category: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_CATEGORY_CATALOG, key = "#categoryId")
     public Mono<Void> deleteIdentityDocumentCategory(UUID categoryId) {
-        return repository.findById(categoryId)
+        return repository.deleteByIdReturningCount(categoryId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Identity document category not found with ID: " + categoryId)))
-                .flatMap(entity -> repository.deleteById(categoryId))
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting identity document category: " + e.getMessage(), e)));
     }
 }
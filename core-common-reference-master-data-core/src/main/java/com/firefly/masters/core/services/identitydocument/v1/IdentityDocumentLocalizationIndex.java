@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.identitydocument.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.mappers.identitydocument.v1.IdentityDocumentLocalizationMapper;
+import com.firefly.masters.core.services.locale.v1.AbstractLocalizationIndex;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentCatalog;
+import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentCatalogRepository;
+import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentLocalizationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Resolves identity document localizations through the locale fallback chain. The catalog default is
+ * {@code document_name}, {@code description} and {@code format_description} of the identity document itself.
+ */
+@Component
+public class IdentityDocumentLocalizationIndex extends AbstractLocalizationIndex<IdentityDocumentCatalog, IdentityDocumentLocalizationDTO> {
+
+    @Autowired
+    private IdentityDocumentCatalogRepository catalogRepository;
+
+    @Autowired
+    private IdentityDocumentLocalizationRepository repository;
+
+    @Autowired
+    private IdentityDocumentLocalizationMapper mapper;
+
+    @Override
+    protected String catalogTable() {
+        return CatalogCacheNames.IDENTITY_DOCUMENT_CATALOG;
+    }
+
+    @Override
+    protected String localizationTable() {
+        return CatalogCacheNames.IDENTITY_DOCUMENT_LOCALIZATION;
+    }
+
+    @Override
+    protected Flux<IdentityDocumentCatalog> loadCatalog() {
+        return catalogRepository.findAll();
+    }
+
+    @Override
+    protected Flux<IdentityDocumentLocalizationDTO> loadLocalizations() {
+        return repository.findAll().map(mapper::toDTO);
+    }
+
+    @Override
+    protected Mono<IdentityDocumentCatalog> loadCatalogRow(UUID id) {
+        return catalogRepository.findById(id);
+    }
+
+    @Override
+    protected Mono<IdentityDocumentLocalizationDTO> loadLocalization(UUID id) {
+        return repository.findById(id).map(mapper::toDTO);
+    }
+
+    @Override
+    protected UUID idOf(IdentityDocumentCatalog row) {
+        return row.getDocumentId();
+    }
+
+    @Override
+    protected UUID localizationIdOf(IdentityDocumentLocalizationDTO localization) {
+        return localization.getLocalizationId();
+    }
+
+    @Override
+    protected UUID ownerOf(IdentityDocumentLocalizationDTO localization) {
+        return localization.getDocumentId();
+    }
+
+    @Override
+    protected UUID localeOf(IdentityDocumentLocalizationDTO localization) {
+        return localization.getLocaleId();
+    }
+
+    @Override
+    protected StatusEnum statusOf(IdentityDocumentLocalizationDTO localization) {
+        return localization.getStatus();
+    }
+
+    @Override
+    protected IdentityDocumentLocalizationDTO catalogDefault(IdentityDocumentCatalog row) {
+        if (row.getDocumentName() == null && row.getDescription() == null && row.getFormatDescription() == null) {
+            return null;
+        }
+        return IdentityDocumentLocalizationDTO.builder()
+                .documentId(row.getDocumentId())
+                .documentName(row.getDocumentName())
+                .description(row.getDescription())
+                .formatDescription(row.getFormatDescription())
+                .status(row.getStatus())
+                .build();
+    }
+}
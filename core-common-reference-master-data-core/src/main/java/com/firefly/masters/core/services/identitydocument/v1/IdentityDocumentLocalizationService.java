@@ -19,7 +19,11 @@ package com.firefly.masters.core.services.identitydocument.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentLocalizationDTO;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -36,6 +40,24 @@ public interface IdentityDocumentLocalizationService {
      */
     Mono<PaginationResponse<IdentityDocumentLocalizationDTO>> listIdentityDocumentLocalizations(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of identity document localizations, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the identity document localizations
+     */
+    Mono<PaginationResponse<IdentityDocumentLocalizationDTO>> listIdentityDocumentLocalizations(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of identity document localizations using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the identity document localizations and the cursor of the next page
+     */
+    Mono<CursorPageDTO<IdentityDocumentLocalizationDTO>> listIdentityDocumentLocalizationsByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * Get all localizations for a specific identity document.
      *
@@ -86,4 +108,15 @@ public interface IdentityDocumentLocalizationService {
      * @return a Mono of Void
      */
     Mono<Void> deleteLocalizationsByDocumentId(UUID documentId);
+
+    /**
+     * Resolve an identity document in a locale. When neither the locale nor its language is localized, the
+     * name and descriptions stored on the document are used, then the platform default locale.
+     *
+     * @param documentId the ID of the identity document
+     * @param locale the requested locale code, such as es-MX
+     * @return the resolved localization and the fallback step it was found at, or empty if the
+     *         identity document is unknown or nothing along the chain localizes it
+     */
+    Mono<ResolvedLocalizationDTO<IdentityDocumentLocalizationDTO>> resolveIdentityDocumentLocalization(UUID documentId, String locale);
 }
@@ -20,13 +20,22 @@ package com.firefly.masters.core.services.identitydocument.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.identitydocument.v1.IdentityDocumentLocalizationMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentLocalizationDTO;
-import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentLocalization;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentLocalizationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
@@ -46,13 +55,30 @@ public class IdentityDocumentLocalizationServiceImpl implements IdentityDocument
     @Autowired
     private IdentityDocumentLocalizationMapper mapper;
 
+    @Autowired
+    private IdentityDocumentLocalizationIndex index;
+
     @Override
     public Mono<PaginationResponse<IdentityDocumentLocalizationDTO>> listIdentityDocumentLocalizations(PaginationRequest paginationRequest) {
+        return listIdentityDocumentLocalizations(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<IdentityDocumentLocalizationDTO>> listIdentityDocumentLocalizations(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<IdentityDocumentLocalizationDTO>> listIdentityDocumentLocalizationsByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -81,6 +107,7 @@ public class IdentityDocumentLocalizationServiceImpl implements IdentityDocument
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_LOCALIZATION, key = "#documentId + ':' + #localeId", sync = true)
     public Mono<IdentityDocumentLocalizationDTO> getIdentityDocumentLocalizationByDocumentAndLocale(UUID documentId, UUID localeId) {
         return repository.findByDocumentIdAndLocaleId(documentId, localeId)
                 .map(mapper::toDTO)
@@ -88,31 +115,34 @@ public class IdentityDocumentLocalizationServiceImpl implements IdentityDocument
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_LOCALIZATION, allEntries = true)
     public Mono<IdentityDocumentLocalizationDTO> updateIdentityDocumentLocalization(UUID localizationId, IdentityDocumentLocalizationDTO localizationDTO) {
-        return repository.findById(localizationId)
+        return repository.updateById(localizationId, mapper.toEntity(localizationDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Identity document localization not found with ID: " + localizationId)))
-                .flatMap(existingEntity -> {
-                    IdentityDocumentLocalization updatedEntity = mapper.toEntity(localizationDTO);
-                    updatedEntity.setLocalizationId(localizationId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating identity document localization: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_LOCALIZATION, allEntries = true)
     public Mono<Void> deleteIdentityDocumentLocalization(UUID localizationId) {
-        return repository.findById(localizationId)
+        return repository.deleteByIdReturningCount(localizationId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Identity document localization not found with ID: " + localizationId)))
-                .flatMap(entity -> repository.deleteById(localizationId))
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting identity document localization: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.IDENTITY_DOCUMENT_LOCALIZATION, allEntries = true)
     public Mono<Void> deleteLocalizationsByDocumentId(UUID documentId) {
         return repository.deleteByDocumentId(documentId)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting localizations for document ID: " + documentId, e)));
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<ResolvedLocalizationDTO<IdentityDocumentLocalizationDTO>> resolveIdentityDocumentLocalization(UUID documentId, String locale) {
+        return Mono.fromSupplier(() -> index.resolve(documentId, locale));
+    }
 }
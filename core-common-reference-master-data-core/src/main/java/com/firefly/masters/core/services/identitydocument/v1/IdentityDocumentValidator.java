@@ -0,0 +1,233 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.identitydocument.v1;
+
+import com.firefly.masters.core.cache.AbstractCatalogIndex;
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationRequestDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationResultDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentCatalog;
+import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentCategoryCatalog;
+import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentCatalogRepository;
+import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentCategoryCatalogRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Validates document numbers against the {@code validation_regex} of the identity document catalog.
+ * <p>
+ * The patterns are compiled once per document and kept by document ID; a change to a document only
+ * recompiles that document's pattern. Only active documents are used for validation. A document
+ * without a pattern accepts any non-blank value, while a document whose pattern does not compile
+ * rejects every value until it is fixed.
+ */
+@Slf4j
+@Component
+public class IdentityDocumentValidator extends AbstractCatalogIndex {
+
+    @Autowired
+    private IdentityDocumentCatalogRepository documentRepository;
+
+    @Autowired
+    private IdentityDocumentCategoryCatalogRepository categoryRepository;
+
+    private final Map<UUID, CompiledDocument> documents = new ConcurrentHashMap<>();
+
+    private volatile Lookups lookups = Lookups.EMPTY;
+
+    private volatile Map<String, UUID> categoryIdsByCode = Map.of();
+
+    /**
+     * Validates one document number.
+     *
+     * @param request the value and the identity document, or country and category, to validate it against
+     * @return the outcome; never null
+     */
+    public IdentityDocumentValidationResultDTO validate(IdentityDocumentValidationRequestDTO request) {
+        IdentityDocumentValidationResultDTO.IdentityDocumentValidationResultDTOBuilder result =
+                IdentityDocumentValidationResultDTO.builder().value(request.getValue());
+        List<CompiledDocument> candidates;
+        if (request.getDocumentCode() != null) {
+            CompiledDocument document = lookups.byCode().get(request.getDocumentCode());
+            if (document == null) {
+                return invalid(result, "No active identity document with code " + request.getDocumentCode());
+            }
+            candidates = List.of(document);
+        } else if (request.getCountryId() != null && request.getCategoryCode() != null) {
+            UUID categoryId = categoryIdsByCode.get(request.getCategoryCode());
+            candidates = categoryId == null
+                    ? List.of()
+                    : lookups.byCountryAndCategory().getOrDefault(new CountryCategory(request.getCountryId(), categoryId), List.of());
+            if (candidates.isEmpty()) {
+                return invalid(result, "No active identity document for country " + request.getCountryId()
+                        + " and category " + request.getCategoryCode());
+            }
+        } else {
+            return invalid(result, "Either documentCode or countryId and categoryCode is required");
+        }
+
+        if (request.getValue() == null || request.getValue().isBlank()) {
+            return invalid(result, "Value is required");
+        }
+        String value = request.getValue().trim();
+        for (CompiledDocument candidate : candidates) {
+            if (candidate.matches(value)) {
+                return result.valid(true)
+                        .documentId(candidate.document().getDocumentId())
+                        .documentCode(candidate.document().getDocumentCode())
+                        .build();
+            }
+        }
+        if (candidates.size() == 1) {
+            CompiledDocument document = candidates.getFirst();
+            result.documentId(document.document().getDocumentId())
+                    .documentCode(document.document().getDocumentCode());
+            return invalid(result, document.patternInvalid()
+                    ? "The validation pattern of identity document " + document.document().getDocumentCode() + " is invalid"
+                    : describeMismatch(document));
+        }
+        return invalid(result, "Value does not match any of the identity documents "
+                + candidates.stream().map(candidate -> candidate.document().getDocumentCode()).toList());
+    }
+
+    @Override
+    protected Set<String> tables() {
+        return Set.of(CatalogCacheNames.IDENTITY_DOCUMENT_CATALOG, CatalogCacheNames.IDENTITY_DOCUMENT_CATEGORY_CATALOG);
+    }
+
+    @Override
+    protected Mono<Void> rebuild() {
+        return reloadCategories()
+                .then(documentRepository.findAll()
+                        .map(IdentityDocumentValidator::compile)
+                        .collectList())
+                .doOnNext(compiled -> {
+                    Set<UUID> ids = new HashSet<>();
+                    compiled.forEach(document -> {
+                        documents.put(document.document().getDocumentId(), document);
+                        ids.add(document.document().getDocumentId());
+                    });
+                    documents.keySet().retainAll(ids);
+                    lookups = Lookups.of(documents.values());
+                    log.info("Compiled validation patterns of {} identity documents", compiled.size());
+                })
+                .then();
+    }
+
+    @Override
+    protected Mono<Void> refresh(CatalogChangeEvent event) {
+        if (CatalogCacheNames.IDENTITY_DOCUMENT_CATEGORY_CATALOG.equals(event.table())) {
+            return reloadCategories();
+        }
+        if (event.id() == null) {
+            return rebuild();
+        }
+        UUID documentId = UUID.fromString(event.id());
+        return documentRepository.findById(documentId)
+                .map(IdentityDocumentValidator::compile)
+                .doOnNext(document -> documents.put(documentId, document))
+                .switchIfEmpty(Mono.fromRunnable(() -> documents.remove(documentId)))
+                .then(Mono.fromRunnable(() -> lookups = Lookups.of(documents.values())));
+    }
+
+    private Mono<Void> reloadCategories() {
+        return categoryRepository.findAll()
+                .filter(category -> category.getCategoryCode() != null)
+                .collectMap(IdentityDocumentCategoryCatalog::getCategoryCode, IdentityDocumentCategoryCatalog::getCategoryId)
+                .doOnNext(byCode -> categoryIdsByCode = Map.copyOf(byCode))
+                .then();
+    }
+
+    private static CompiledDocument compile(IdentityDocumentCatalog document) {
+        String regex = document.getValidationRegex();
+        if (regex == null || regex.isBlank()) {
+            return new CompiledDocument(document, null, false);
+        }
+        try {
+            return new CompiledDocument(document, Pattern.compile(regex), false);
+        } catch (PatternSyntaxException e) {
+            log.warn("Invalid validation pattern of identity document {}: {}", document.getDocumentId(), e.getMessage());
+            return new CompiledDocument(document, null, true);
+        }
+    }
+
+    private static String describeMismatch(CompiledDocument document) {
+        String format = document.document().getFormatDescription();
+        return "Value does not match the format of identity document " + document.document().getDocumentCode()
+                + (format == null || format.isBlank() ? "" : ": " + format);
+    }
+
+    private static IdentityDocumentValidationResultDTO invalid(
+            IdentityDocumentValidationResultDTO.IdentityDocumentValidationResultDTOBuilder result, String error) {
+        return result.valid(false).error(error).build();
+    }
+
+    private record CompiledDocument(IdentityDocumentCatalog document, Pattern pattern, boolean patternInvalid) {
+
+        boolean matches(String value) {
+            return !patternInvalid && (pattern == null || pattern.matcher(value).matches());
+        }
+    }
+
+    private record CountryCategory(UUID countryId, UUID categoryId) {
+    }
+
+    /**
+     * Active documents by code and by country and category, derived from the compiled documents.
+     */
+    private record Lookups(Map<String, CompiledDocument> byCode,
+                           Map<CountryCategory, List<CompiledDocument>> byCountryAndCategory) {
+
+        static final Lookups EMPTY = new Lookups(Map.of(), Map.of());
+
+        static Lookups of(Iterable<CompiledDocument> documents) {
+            Map<String, CompiledDocument> byCode = new HashMap<>();
+            Map<CountryCategory, List<CompiledDocument>> byCountryAndCategory = new HashMap<>();
+            for (CompiledDocument document : documents) {
+                IdentityDocumentCatalog entity = document.document();
+                if (entity.getStatus() != StatusEnum.ACTIVE || entity.getDocumentCode() == null) {
+                    continue;
+                }
+                byCode.put(entity.getDocumentCode(), document);
+                byCountryAndCategory
+                        .computeIfAbsent(new CountryCategory(entity.getCountryId(), entity.getCategoryId()), key -> new ArrayList<>())
+                        .add(document);
+            }
+            byCountryAndCategory.replaceAll((key, candidates) -> candidates.stream()
+                    .sorted(Comparator.comparing(candidate -> candidate.document().getDocumentCode()))
+                    .toList());
+            return new Lookups(Map.copyOf(byCode), Map.copyOf(byCountryAndCategory));
+        }
+    }
+}
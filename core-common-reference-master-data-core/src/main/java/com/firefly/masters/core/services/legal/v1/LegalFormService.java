@@ -23,6 +23,7 @@ import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.interfaces.dtos.legal.v1.LegalFormDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 public interface LegalFormService {
@@ -58,6 +59,28 @@ public interface LegalFormService {
      * @return a Mono emitting the LegalFormDTO containing details about the specified legal form, or an empty Mono if not found
      */
     Mono<LegalFormDTO> getLegalForm(UUID legalFormId);
+
+    /**
+     * Retrieves a legal form by its code, matched case-insensitively, from the in-memory natural-key index.
+     * Legal form codes are only unique within a country.
+     *
+     * @param code the legal form code, such as SL
+     * @param countryId the country of the legal form; may be null when the code is used in one country only
+     * @return a Mono emitting the LegalFormDTO, or an empty Mono if not found, or an IllegalArgumentException
+     *         if no country is given and the code is used in several countries
+     */
+    Mono<LegalFormDTO> getLegalFormByCode(String code, UUID countryId);
+
+    /**
+     * Retrieves the legal forms with any of the given codes, matched case-insensitively, from the in-memory
+     * natural-key index. Unknown and repeated codes are skipped.
+     *
+     * @param codes the legal form codes
+     * @param countryId the country to restrict the legal forms to, or null for every country
+     * @return a Flux emitting the matches in the order of their codes, or an IllegalArgumentException
+     *         if no or too many codes are given
+     */
+    Flux<LegalFormDTO> getLegalFormsByCodes(List<String> codes, UUID countryId);
     
     /**
      * Updates the details of an existing legal form by its unique identifier.
@@ -75,4 +98,14 @@ public interface LegalFormService {
      * @return a Mono signaling completion of the delete operation
      */
     Mono<Void> deleteLegalForm(UUID legalFormId);
-}
\ No newline at end of file
+
+    /**
+     * Searches legal forms for typeahead: the name starts with the query or contains a word similar to
+     * it. Prefix matches come first, then the closest fuzzy matches.
+     *
+     * @param query the search term
+     * @param limit the maximum number of matches; a default applies if null
+     * @return a Flux emitting the matches, or an IllegalArgumentException for a blank query or a limit out of range
+     */
+    Flux<LegalFormDTO> searchLegalForms(String query, Integer limit);
+}
@@ -22,16 +22,23 @@ import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.legal.v1.LegalFormMapper;
+import com.firefly.masters.core.services.naturalkey.v1.NaturalKeyIndex;
+import com.firefly.masters.core.utils.SearchUtils;
 import com.firefly.masters.interfaces.dtos.legal.v1.LegalFormDTO;
 import com.firefly.masters.models.entities.currency.v1.Currency;
 import com.firefly.masters.models.entities.legal.v1.LegalForm;
 import com.firefly.masters.models.repositories.legal.v1.LegalFormRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -44,6 +51,9 @@ public class LegalFormServiceImpl implements LegalFormService {
     @Autowired
     private LegalFormMapper mapper;
 
+    @Autowired
+    private NaturalKeyIndex naturalKeyIndex;
+
     @Override
     public Mono<PaginationResponse<LegalFormDTO>> listLegalForms(FilterRequest<LegalFormDTO> filterRequest) {
         return FilterUtils
@@ -68,25 +78,41 @@ public class LegalFormServiceImpl implements LegalFormService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.LEGAL_FORM, key = "#legalFormId", sync = true)
     public Mono<LegalFormDTO> getLegalForm(UUID legalFormId) {
         return repository.findById(legalFormId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<LegalFormDTO> getLegalFormByCode(String code, UUID countryId) {
+        return Mono.fromSupplier(() -> naturalKeyIndex.getLegalForm(code, countryId));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<LegalFormDTO> getLegalFormsByCodes(List<String> codes, UUID countryId) {
+        return Flux.defer(() -> Flux.fromIterable(naturalKeyIndex.getLegalForms(codes, countryId)));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.LEGAL_FORM, key = "#legalFormId")
     public Mono<LegalFormDTO> updateLegalForm(UUID legalFormId, LegalFormDTO legalFormDto) {
-        return repository.findById(legalFormId)
-                .flatMap(foundLegalForm -> {
-                    LegalForm updatedLegalForm = mapper.toEntity(legalFormDto);
-                    updatedLegalForm.setLegalFormId(foundLegalForm.getLegalFormId());
-                    return repository.save(updatedLegalForm);
-                })
+        return repository.updateById(legalFormId, mapper.toEntity(legalFormDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.LEGAL_FORM, key = "#legalFormId")
     public Mono<Void> deleteLegalForm(UUID legalFormId) {
-        return repository.findById(legalFormId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(legalFormId)
+                .then();
+    }
+
+    @Override
+    public Flux<LegalFormDTO> searchLegalForms(String query, Integer limit) {
+        return SearchUtils.search(query, limit, repository::search)
+                .map(mapper::toDTO);
     }
-}
\ No newline at end of file
+}
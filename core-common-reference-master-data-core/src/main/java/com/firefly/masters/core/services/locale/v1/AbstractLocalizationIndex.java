@@ -0,0 +1,324 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.locale.v1;
+
+import com.firefly.masters.core.cache.AbstractCatalogIndex;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.interfaces.enums.locale.v1.LocaleFallbackEnum;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Base class for in-memory indexes resolving the localizations of a catalog through the locale
+ * fallback chain: the exact locale, then the language, then the default text of the catalog row, and
+ * finally the platform default locale (see {@link LocaleFallbackIndex}).
+ * <p>
+ * Only active localizations are indexed. The outcome of every row for a chain is computed once per
+ * distinct chain and kept until the catalog or its localizations change, so a lookup is a single
+ * hash lookup. Tables are keyed by the chain rather than the requested code, which bounds their
+ * number by the locales in the catalog whatever codes are requested.
+ * <p>
+ * A change to a single catalog row or localization reloads only that row and re-resolves its owner in
+ * the tables built so far; only a resync reloads the whole catalog.
+ *
+ * @param <C> the catalog row type
+ * @param <L> the localization type
+ */
+@Slf4j
+public abstract class AbstractLocalizationIndex<C, L> extends AbstractCatalogIndex {
+
+    @Autowired
+    private LocaleFallbackIndex locales;
+
+    private volatile Localizations<L> localizations = Localizations.empty();
+
+    /**
+     * @return the table of the localized catalog
+     */
+    protected abstract String catalogTable();
+
+    /**
+     * @return the table of the localizations
+     */
+    protected abstract String localizationTable();
+
+    /**
+     * @return every row of the catalog
+     */
+    protected abstract Flux<C> loadCatalog();
+
+    /**
+     * @return every localization of the catalog
+     */
+    protected abstract Flux<L> loadLocalizations();
+
+    /**
+     * @param id the unique identifier of the catalog row
+     * @return the catalog row, or empty if it no longer exists
+     */
+    protected abstract Mono<C> loadCatalogRow(UUID id);
+
+    /**
+     * @param id the unique identifier of the localization
+     * @return the localization, or empty if it no longer exists
+     */
+    protected abstract Mono<L> loadLocalization(UUID id);
+
+    protected abstract UUID idOf(C row);
+
+    protected abstract UUID localizationIdOf(L localization);
+
+    protected abstract UUID ownerOf(L localization);
+
+    protected abstract UUID localeOf(L localization);
+
+    protected abstract StatusEnum statusOf(L localization);
+
+    /**
+     * Builds a localization from the default text of a catalog row.
+     *
+     * @param row the catalog row
+     * @return the default text as a localization without locale, or {@code null} if the row has none
+     */
+    protected abstract L catalogDefault(C row);
+
+    /**
+     * Resolves the localization of a catalog row for a locale.
+     *
+     * @param id the unique identifier of the catalog row
+     * @param localeCode the requested locale code, such as {@code es-MX}
+     * @return the first localization found along the fallback chain, or {@code null} if the row is
+     *         unknown or nothing along the chain localizes it
+     */
+    public ResolvedLocalizationDTO<L> resolve(UUID id, String localeCode) {
+        Localizations<L> current = localizations;
+        LocaleChain chain = locales.chain(localeCode);
+        Resolution<L> resolution = current.tables().computeIfAbsent(chain, current::table).get(id);
+        if (resolution == null) {
+            return null;
+        }
+        return ResolvedLocalizationDTO.<L>builder()
+                .requestedLocale(localeCode)
+                .resolvedLocale(resolution.localeId() == null ? null : locales.localeCode(resolution.localeId()))
+                .fallback(resolution.fallback())
+                .localization(resolution.localization())
+                .build();
+    }
+
+    @Override
+    protected Set<String> tables() {
+        return Set.of(catalogTable(), localizationTable());
+    }
+
+    @Override
+    protected Mono<Void> rebuild() {
+        return Mono.zip(
+                        loadCatalog().collectList(),
+                        loadLocalizations().filter(localization -> statusOf(localization) == StatusEnum.ACTIVE).collectList())
+                .doOnNext(rows -> {
+                    localizations = index(rows.getT1(), rows.getT2());
+                    log.info("Indexed {} localizations of {} {} rows",
+                            rows.getT2().size(), rows.getT1().size(), catalogTable());
+                })
+                .then();
+    }
+
+    @Override
+    protected Mono<Void> refresh(CatalogChangeEvent event) {
+        if (event.id() == null) {
+            return rebuild();
+        }
+        UUID id = UUID.fromString(event.id());
+        if (catalogTable().equals(event.table())) {
+            return loadCatalogRow(id)
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .doOnNext(row -> localizations = row.isPresent()
+                            ? localizations.withRow(id, catalogDefault(row.get()))
+                            : localizations.withoutRow(id))
+                    .then();
+        }
+        return loadLocalization(id)
+                .filter(localization -> statusOf(localization) == StatusEnum.ACTIVE)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .doOnNext(localization -> localizations = localizations.withLocalization(id,
+                        localization.map(active -> new Placement(ownerOf(active), localeOf(active))).orElse(null),
+                        localization.orElse(null)))
+                .then();
+    }
+
+    private Localizations<L> index(List<C> rows, List<L> active) {
+        Map<UUID, L> defaults = new HashMap<>();
+        for (C row : rows) {
+            // A row without default text still resolves through its localizations
+            defaults.put(idOf(row), catalogDefault(row));
+        }
+        Map<UUID, Map<UUID, L>> byOwner = new HashMap<>();
+        Map<UUID, Placement> placements = new HashMap<>();
+        for (L localization : active) {
+            if (defaults.containsKey(ownerOf(localization))) {
+                byOwner.computeIfAbsent(ownerOf(localization), owner -> new HashMap<>())
+                        .put(localeOf(localization), localization);
+                placements.put(localizationIdOf(localization), new Placement(ownerOf(localization), localeOf(localization)));
+            }
+        }
+        return new Localizations<>(defaults, byOwner, placements, new ConcurrentHashMap<>());
+    }
+
+    /**
+     * @param defaults   the default text of every catalog row by row ID; {@code null} for rows without one
+     * @param byOwner    the active localizations of each catalog row by locale ID
+     * @param placements the owner and locale of every indexed localization by localization ID
+     * @param tables     the resolutions computed so far, by chain
+     */
+    private record Localizations<L>(Map<UUID, L> defaults,
+                                    Map<UUID, Map<UUID, L>> byOwner,
+                                    Map<UUID, Placement> placements,
+                                    Map<LocaleChain, Map<UUID, Resolution<L>>> tables) {
+
+        static <L> Localizations<L> empty() {
+            return new Localizations<>(Map.of(), Map.of(), Map.of(), new ConcurrentHashMap<>());
+        }
+
+        Map<UUID, Resolution<L>> table(LocaleChain chain) {
+            Map<UUID, Resolution<L>> table = new HashMap<>();
+            defaults.keySet().forEach(id -> {
+                Resolution<L> resolution = resolution(id, chain);
+                if (resolution != null) {
+                    table.put(id, resolution);
+                }
+            });
+            return Map.copyOf(table);
+        }
+
+        /**
+         * @param id             the unique identifier of an existing catalog row
+         * @param catalogDefault its default text, or {@code null} if it has none
+         * @return a copy of this state with the default text of the row replaced
+         */
+        Localizations<L> withRow(UUID id, L catalogDefault) {
+            Map<UUID, L> nextDefaults = new HashMap<>(defaults);
+            nextDefaults.put(id, catalogDefault);
+            return new Localizations<>(nextDefaults, byOwner, placements, new ConcurrentHashMap<>())
+                    .retabled(tables, Set.of(id));
+        }
+
+        /**
+         * @param id the unique identifier of a deleted catalog row
+         * @return a copy of this state without the row and its localizations
+         */
+        Localizations<L> withoutRow(UUID id) {
+            Map<UUID, L> nextDefaults = new HashMap<>(defaults);
+            nextDefaults.remove(id);
+            Map<UUID, Map<UUID, L>> nextByOwner = new HashMap<>(byOwner);
+            nextByOwner.remove(id);
+            Map<UUID, Placement> nextPlacements = new HashMap<>(placements);
+            nextPlacements.values().removeIf(placement -> placement.owner().equals(id));
+            return new Localizations<>(nextDefaults, nextByOwner, nextPlacements, new ConcurrentHashMap<>())
+                    .retabled(tables, Set.of(id));
+        }
+
+        /**
+         * @param localizationId the unique identifier of the changed localization
+         * @param placement      its owner and locale, or {@code null} if it was deleted or is not active
+         * @param localization   the localization, or {@code null} if it was deleted or is not active
+         * @return a copy of this state with the localization moved, replaced or removed
+         */
+        Localizations<L> withLocalization(UUID localizationId, Placement placement, L localization) {
+            Map<UUID, Map<UUID, L>> nextByOwner = new HashMap<>(byOwner);
+            Map<UUID, Placement> nextPlacements = new HashMap<>(placements);
+            Set<UUID> owners = new HashSet<>();
+            Placement previous = nextPlacements.remove(localizationId);
+            if (previous != null) {
+                Map<UUID, L> localized = new HashMap<>(nextByOwner.getOrDefault(previous.owner(), Map.of()));
+                localized.remove(previous.localeId());
+                nextByOwner.put(previous.owner(), localized);
+                owners.add(previous.owner());
+            }
+            if (placement != null && defaults.containsKey(placement.owner())) {
+                Map<UUID, L> localized = new HashMap<>(nextByOwner.getOrDefault(placement.owner(), Map.of()));
+                localized.put(placement.localeId(), localization);
+                nextByOwner.put(placement.owner(), localized);
+                nextPlacements.put(localizationId, placement);
+                owners.add(placement.owner());
+            }
+            return new Localizations<>(defaults, nextByOwner, nextPlacements, new ConcurrentHashMap<>())
+                    .retabled(tables, owners);
+        }
+
+        /**
+         * Carries the tables of a previous state over, re-resolving only the changed catalog rows.
+         */
+        private Localizations<L> retabled(Map<LocaleChain, Map<UUID, Resolution<L>>> previous, Set<UUID> changed) {
+            previous.forEach((chain, table) -> {
+                Map<UUID, Resolution<L>> next = new HashMap<>(table);
+                for (UUID id : changed) {
+                    Resolution<L> resolution = defaults.containsKey(id) ? resolution(id, chain) : null;
+                    if (resolution == null) {
+                        next.remove(id);
+                    } else {
+                        next.put(id, resolution);
+                    }
+                }
+                tables.put(chain, Map.copyOf(next));
+            });
+            return this;
+        }
+
+        private Resolution<L> resolution(UUID id, LocaleChain chain) {
+            Map<UUID, L> localized = byOwner.getOrDefault(id, Map.of());
+            Resolution<L> resolution = localized(localized, chain.exact(), LocaleFallbackEnum.EXACT);
+            if (resolution == null) {
+                resolution = localized(localized, chain.language(), LocaleFallbackEnum.LANGUAGE);
+            }
+            L catalogDefault = defaults.get(id);
+            if (resolution == null && catalogDefault != null) {
+                resolution = new Resolution<>(catalogDefault, null, LocaleFallbackEnum.CATALOG_DEFAULT);
+            }
+            if (resolution == null) {
+                resolution = localized(localized, chain.platformDefault(), LocaleFallbackEnum.PLATFORM_DEFAULT);
+            }
+            return resolution;
+        }
+
+        private static <L> Resolution<L> localized(Map<UUID, L> localized, UUID localeId, LocaleFallbackEnum fallback) {
+            L localization = localeId == null ? null : localized.get(localeId);
+            return localization == null ? null : new Resolution<>(localization, localeId, fallback);
+        }
+    }
+
+    private record Placement(UUID owner, UUID localeId) {
+    }
+
+    private record Resolution<L>(L localization, UUID localeId, LocaleFallbackEnum fallback) {
+    }
+}
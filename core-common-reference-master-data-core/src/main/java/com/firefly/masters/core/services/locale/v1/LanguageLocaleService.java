@@ -19,8 +19,13 @@ package com.firefly.masters.core.services.locale.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.locale.v1.LanguageLocaleDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 public interface LanguageLocaleService {
@@ -33,6 +38,24 @@ public interface LanguageLocaleService {
      */
     Mono<PaginationResponse<LanguageLocaleDTO>> listLanguageLocales(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of language locales, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the language locales
+     */
+    Mono<PaginationResponse<LanguageLocaleDTO>> listLanguageLocales(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of language locales using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the language locales and the cursor of the next page
+     */
+    Mono<CursorPageDTO<LanguageLocaleDTO>> listLanguageLocalesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * Creates a new language locale entry.
      *
@@ -49,6 +72,26 @@ public interface LanguageLocaleService {
      */
     Mono<LanguageLocaleDTO> getLanguageLocale(UUID id);
 
+    /**
+     * Retrieves a language locale by its locale code from the in-memory natural-key index. Codes are matched
+     * case-insensitively and with {@code _} read as {@code -}, as for locale fallback.
+     *
+     * @param localeCode the locale code, such as es-ES
+     * @return a Mono emitting the LanguageLocaleDTO, an empty Mono if not found, or an IllegalArgumentException
+     *         if several locales share the normalized code
+     */
+    Mono<LanguageLocaleDTO> getLanguageLocaleByCode(String localeCode);
+
+    /**
+     * Retrieves the language locales with any of the given locale codes, matched case-insensitively and with
+     * {@code _} read as {@code -}, from the in-memory natural-key index. Unknown and repeated locale codes are skipped.
+     *
+     * @param localeCodes the locale codes
+     * @return a Flux emitting the matches in the order of their locale codes, or an IllegalArgumentException
+     *         if no or too many locale codes are given
+     */
+    Flux<LanguageLocaleDTO> getLanguageLocalesByCodes(List<String> localeCodes);
+
     /**
      * Updates an existing language locale with the provided details.
      *
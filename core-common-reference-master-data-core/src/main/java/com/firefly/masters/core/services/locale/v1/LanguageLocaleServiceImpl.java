@@ -20,14 +20,26 @@ package com.firefly.masters.core.services.locale.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.locale.v1.LanguageLocaleMapper;
+import com.firefly.masters.core.services.naturalkey.v1.NaturalKeyIndex;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.locale.v1.LanguageLocaleDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.locale.v1.LanguageLocale;
 import com.firefly.masters.models.repositories.locale.v1.LanguageLocaleRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -40,13 +52,30 @@ public class LanguageLocaleServiceImpl implements LanguageLocaleService {
     @Autowired
     private LanguageLocaleMapper mapper;
 
+    @Autowired
+    private NaturalKeyIndex naturalKeyIndex;
+
     @Override
     public Mono<PaginationResponse<LanguageLocaleDTO>> listLanguageLocales(PaginationRequest paginationRequest) {
+        return listLanguageLocales(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<LanguageLocaleDTO>> listLanguageLocales(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<LanguageLocaleDTO>> listLanguageLocalesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -59,25 +88,35 @@ public class LanguageLocaleServiceImpl implements LanguageLocaleService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.LANGUAGE_LOCALE, key = "#id", sync = true)
     public Mono<LanguageLocaleDTO> getLanguageLocale(UUID id) {
         return repository.findById(id)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<LanguageLocaleDTO> getLanguageLocaleByCode(String localeCode) {
+        return Mono.fromSupplier(() -> naturalKeyIndex.getLanguageLocale(localeCode));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<LanguageLocaleDTO> getLanguageLocalesByCodes(List<String> localeCodes) {
+        return Flux.defer(() -> Flux.fromIterable(naturalKeyIndex.getLanguageLocales(localeCodes)));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.LANGUAGE_LOCALE, key = "#id")
     public Mono<LanguageLocaleDTO> updateLanguageLocale(UUID id, LanguageLocaleDTO dto) {
-        return repository.findById(id)
-                .flatMap(existingEntity -> {
-                    LanguageLocale updatedEntity = mapper.toEntity(dto);
-                    updatedEntity.setLocaleId(id); // Ensure the ID is preserved
-                    return repository.save(updatedEntity);
-                })
+        return repository.updateById(id, mapper.toEntity(dto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.LANGUAGE_LOCALE, key = "#id")
     public Mono<Void> deleteLanguageLocale(UUID id) {
-        return repository.findById(id)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(id)
+                .then();
     }
 }
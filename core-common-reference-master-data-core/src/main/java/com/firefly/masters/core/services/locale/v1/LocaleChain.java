@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.locale.v1;
+
+import java.util.UUID;
+
+/**
+ * The locales to try, in order, when localizing to a requested locale. The catalog default is
+ * tried between {@code language} and {@code platformDefault}. A step is {@code null} when there is no
+ * such locale or it repeats an earlier step.
+ *
+ * @param exact           the locale with the requested locale code
+ * @param language        the preferred locale of the requested language
+ * @param platformDefault the platform default locale
+ */
+public record LocaleChain(UUID exact, UUID language, UUID platformDefault) {
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.locale.v1;
+
+import com.firefly.masters.core.cache.AbstractCatalogIndex;
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.locale.v1.LanguageLocale;
+import com.firefly.masters.models.repositories.locale.v1.LanguageLocaleRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory locale fallback chains, one per active language locale.
+ * <p>
+ * A requested locale code falls back to the preferred locale of its language and then to the platform
+ * default locale ({@code firefly.masters.localization.default-locale}). The preferred locale of a
+ * language is the one whose locale code is the bare language code, else one without a country, else
+ * the one sorted first. Locale codes are matched case-insensitively and {@code _} is read as
+ * {@code -}. Chains of codes that are not in the catalog, such as {@code es-AR}, are computed on request.
+ */
+@Slf4j
+@Component
+public class LocaleFallbackIndex extends AbstractCatalogIndex {
+
+    private static final Comparator<LanguageLocale> LANGUAGE_PREFERENCE = Comparator
+            .comparing((LanguageLocale locale) -> !normalize(locale.getLocaleCode()).equals(normalize(locale.getLanguageCode())))
+            .thenComparing(locale -> locale.getCountryCode() != null && !locale.getCountryCode().isBlank())
+            .thenComparing(LanguageLocale::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(locale -> normalize(locale.getLocaleCode()));
+
+    @Autowired
+    private LanguageLocaleRepository repository;
+
+    @Value("${firefly.masters.localization.default-locale:en-US}")
+    private String defaultLocale;
+
+    private volatile Locales locales = Locales.EMPTY;
+
+    /**
+     * Returns the fallback chain of a locale code.
+     *
+     * @param localeCode the requested locale code, such as {@code es-MX}; blank for none
+     * @return the locales to try, in order
+     */
+    public LocaleChain chain(String localeCode) {
+        Locales current = locales;
+        String code = normalize(localeCode);
+        LocaleChain chain = current.chains().get(code);
+        return chain != null ? chain : current.chainOf(code);
+    }
+
+    /**
+     * Returns the locale code of an active locale.
+     *
+     * @param localeId the unique identifier of the locale
+     * @return the locale code as stored, or {@code null} if unknown
+     */
+    public String localeCode(UUID localeId) {
+        LanguageLocale locale = localeId == null ? null : locales.byId().get(localeId);
+        return locale == null ? null : locale.getLocaleCode();
+    }
+
+    @Override
+    protected Set<String> tables() {
+        return Set.of(CatalogCacheNames.LANGUAGE_LOCALE);
+    }
+
+    @Override
+    protected Mono<Void> rebuild() {
+        return repository.findAll()
+                .filter(locale -> locale.getStatus() == StatusEnum.ACTIVE && locale.getLocaleCode() != null)
+                .collectList()
+                .doOnNext(active -> {
+                    locales = Locales.of(active, normalize(defaultLocale));
+                    log.info("Indexed locale fallback chains of {} language locales", active.size());
+                })
+                .then();
+    }
+
+    /**
+     * Normalizes a locale code for lookups: trimmed, lower-cased and with {@code _} read as {@code -}.
+     *
+     * @param localeCode a locale code, such as {@code es_MX}
+     * @return the normalized code, such as {@code es-mx}, or an empty string if none is given
+     */
+    public static String normalize(String localeCode) {
+        if (localeCode == null || localeCode.isBlank()) {
+            return "";
+        }
+        return localeCode.trim().replace('_', '-').toLowerCase(Locale.ROOT);
+    }
+
+    private static String languageOf(String code) {
+        int separator = code.indexOf('-');
+        return separator < 0 ? code : code.substring(0, separator);
+    }
+
+    private record Locales(Map<UUID, LanguageLocale> byId,
+                           Map<String, LanguageLocale> byCode,
+                           Map<String, LanguageLocale> byLanguage,
+                           UUID platformDefault,
+                           Map<String, LocaleChain> chains) {
+
+        static final Locales EMPTY = new Locales(Map.of(), Map.of(), Map.of(), null, Map.of());
+
+        static Locales of(List<LanguageLocale> active, String defaultLocale) {
+            Map<UUID, LanguageLocale> byId = active.stream()
+                    .collect(Collectors.toMap(LanguageLocale::getLocaleId, Function.identity(), (first, second) -> first));
+            Map<String, LanguageLocale> byCode = active.stream()
+                    .collect(Collectors.toMap(locale -> normalize(locale.getLocaleCode()), Function.identity(), (first, second) -> first));
+            Map<String, LanguageLocale> byLanguage = new HashMap<>();
+            active.stream()
+                    .sorted(LANGUAGE_PREFERENCE)
+                    .forEach(locale -> byLanguage.putIfAbsent(languageOf(normalize(locale.getLocaleCode())), locale));
+            LanguageLocale platformDefault = byCode.getOrDefault(defaultLocale, byLanguage.get(languageOf(defaultLocale)));
+
+            Locales locales = new Locales(Map.copyOf(byId), Map.copyOf(byCode), Map.copyOf(byLanguage),
+                    platformDefault == null ? null : platformDefault.getLocaleId(), Map.of());
+            Map<String, LocaleChain> chains = new HashMap<>();
+            byCode.keySet().forEach(code -> chains.put(code, locales.chainOf(code)));
+            chains.put("", locales.chainOf(""));
+            return new Locales(locales.byId(), locales.byCode(), locales.byLanguage(), locales.platformDefault(), Map.copyOf(chains));
+        }
+
+        LocaleChain chainOf(String code) {
+            UUID exact = idOf(byCode.get(code));
+            UUID language = code.isEmpty() ? null : idOf(byLanguage.get(languageOf(code)));
+            if (Objects.equals(language, exact)) {
+                language = null;
+            }
+            UUID fallback = Objects.equals(platformDefault, exact) || Objects.equals(platformDefault, language)
+                    ? null
+                    : platformDefault;
+            return new LocaleChain(exact, language, fallback);
+        }
+
+        private static UUID idOf(LanguageLocale locale) {
+            return locale == null ? null : locale.getLocaleId();
+        }
+    }
+}
@@ -19,7 +19,10 @@ package com.firefly.masters.core.services.lookup.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -31,6 +34,24 @@ public interface LookupDomainService {
      * @return a Mono emitting a PaginationResponse containing a list of LookupDomainDTO objects
      */
     Mono<PaginationResponse<LookupDomainDTO>> listDomains(PaginationRequest paginationRequest);
+
+    /**
+     * Retrieves a paginated list of domains, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the domains
+     */
+    Mono<PaginationResponse<LookupDomainDTO>> listDomains(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of domains using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the domains and the cursor of the next page
+     */
+    Mono<CursorPageDTO<LookupDomainDTO>> listDomainsByCursor(CursorPaginationRequest cursorPaginationRequest);
     
     /**
      * Creates a new lookup domain based on the provided LookupDomainDTO.
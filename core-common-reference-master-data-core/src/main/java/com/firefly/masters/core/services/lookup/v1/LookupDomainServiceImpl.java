@@ -20,11 +20,19 @@ package com.firefly.masters.core.services.lookup.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.lookup.v1.LookupDomainMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.lookup.v1.LookupDomain;
 import com.firefly.masters.models.repositories.lookup.v1.LookupDomainRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -42,11 +50,25 @@ public class LookupDomainServiceImpl implements LookupDomainService {
 
     @Override
     public Mono<PaginationResponse<LookupDomainDTO>> listDomains(PaginationRequest paginationRequest) {
+        return listDomains(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<LookupDomainDTO>> listDomains(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<LookupDomainDTO>> listDomainsByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -58,25 +80,23 @@ public class LookupDomainServiceImpl implements LookupDomainService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.LOOKUP_DOMAIN, key = "#domainId", sync = true)
     public Mono<LookupDomainDTO> getDomain(UUID domainId) {
         return repository.findById(domainId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.LOOKUP_DOMAIN, key = "#domainId")
     public Mono<LookupDomainDTO> updateDomain(UUID domainId, LookupDomainDTO domainDto) {
-        return repository.findById(domainId)
-                .flatMap(foundDomain -> {
-                    LookupDomain updatedDomain = mapper.toEntity(domainDto);
-                    updatedDomain.setDomainId(foundDomain.getDomainId());
-                    return repository.save(updatedDomain);
-                })
+        return repository.updateById(domainId, mapper.toEntity(domainDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.LOOKUP_DOMAIN, key = "#domainId")
     public Mono<Void> deleteDomain(UUID domainId) {
-        return repository.findById(domainId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(domainId)
+                .then();
     }
 }
\ No newline at end of file
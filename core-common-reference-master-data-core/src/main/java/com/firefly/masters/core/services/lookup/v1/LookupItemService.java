@@ -19,9 +19,16 @@ package com.firefly.masters.core.services.lookup.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainItemsDTO;
 import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 public interface LookupItemService {
@@ -32,6 +39,24 @@ public interface LookupItemService {
      * @return a Mono emitting a PaginationResponse containing a list of LookupItemDTO objects
      */
     Mono<PaginationResponse<LookupItemDTO>> listItems(PaginationRequest paginationRequest);
+
+    /**
+     * Retrieves a paginated list of items, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the items
+     */
+    Mono<PaginationResponse<LookupItemDTO>> listItems(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of items using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the items and the cursor of the next page
+     */
+    Mono<CursorPageDTO<LookupItemDTO>> listItemsByCursor(CursorPaginationRequest cursorPaginationRequest);
     
     /**
      * Retrieves all lookup items for a specific domain.
@@ -40,6 +65,47 @@ public interface LookupItemService {
      * @return a Flux emitting LookupItemDTO objects for the specified domain
      */
     Flux<LookupItemDTO> getItemsByDomain(UUID domainId);
+
+    /**
+     * Retrieves the lookup items of a domain that are effective on a date, both bounds inclusive.
+     *
+     * @param domainId the unique identifier of the domain to retrieve items for
+     * @param asOf the date the items must be effective on
+     * @return a Flux emitting the effective LookupItemDTO objects, ordered by sort order and code
+     */
+    Flux<LookupItemDTO> getItemsByDomain(UUID domainId, LocalDate asOf);
+
+    /**
+     * Retrieves the items of several domains at once, nested by parent item and sorted by sort order.
+     * Only active, global items effective today are returned, and the trees are served from memory.
+     *
+     * @param domainCodes the codes of the domains to retrieve
+     * @return a Flux emitting one LookupDomainItemsDTO per known domain code, in request order
+     */
+    Flux<LookupDomainItemsDTO> getItemTreesByDomainCodes(List<String> domainCodes);
+
+    /**
+     * Retrieves the item trees of several domains as a tenant sees them on a date. The tenant's items
+     * replace global items with the same item code, and the tenant's own domains take precedence over
+     * global domains with the same code.
+     *
+     * @param domainCodes the codes of the domains to retrieve
+     * @param tenantId the tenant whose overrides apply; global items only if null
+     * @param asOf the date the items must be effective on; today if null
+     * @return a Flux emitting one LookupDomainItemsDTO per known domain code, in request order
+     */
+    Flux<LookupDomainItemsDTO> getItemTreesByDomainCodes(List<String> domainCodes, UUID tenantId, LocalDate asOf);
+
+    /**
+     * Resolves the version of an item code that is effective on a date, from memory.
+     *
+     * @param domainCode the code of the domain
+     * @param itemCode the code of the item
+     * @param tenantId the tenant whose overrides apply; global items only if null
+     * @param asOf the date the version must be effective on; today if null
+     * @return a Mono emitting the effective LookupItemDTO, or empty if there is none
+     */
+    Mono<LookupItemDTO> resolveItem(String domainCode, String itemCode, UUID tenantId, LocalDate asOf);
     
     /**
      * Creates a new lookup item based on the provided LookupItemDTO.
@@ -48,6 +114,16 @@ public interface LookupItemService {
      * @return a Mono emitting the created LookupItemDTO object
      */
     Mono<LookupItemDTO> createItem(LookupItemDTO itemDto);
+
+    /**
+     * Creates or updates lookup items in bulk, matching existing rows on their domain, item code, tenant and effective date.
+     * Rows are written in chunked, multi-row statements, each chunk in its own transaction, and
+     * the input is consumed one chunk at a time.
+     *
+     * @param items the rows to write
+     * @return a Flux emitting one result per input row, in input order
+     */
+    Flux<BulkUpsertResultDTO> upsertItems(Flux<LookupItemDTO> items);
     
     /**
      * Retrieves the details of a lookup item by its unique identifier.
@@ -20,15 +20,29 @@ package com.firefly.masters.core.services.lookup.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.lookup.v1.LookupItemMapper;
+import com.firefly.masters.core.utils.BulkUpsertUtils;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainItemsDTO;
 import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemDTO;
-import com.firefly.masters.models.entities.lookup.v1.LookupItem;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.lookup.v1.LookupItemRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -41,13 +55,33 @@ public class LookupItemServiceImpl implements LookupItemService {
     @Autowired
     private LookupItemMapper mapper;
 
+    @Autowired
+    private TransactionalOperator transactionalOperator;
+
+    @Autowired
+    private LookupItemTreeIndex lookupItemTreeIndex;
+
     @Override
     public Mono<PaginationResponse<LookupItemDTO>> listItems(PaginationRequest paginationRequest) {
+        return listItems(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<LookupItemDTO>> listItems(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<LookupItemDTO>> listItemsByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -57,33 +91,85 @@ public class LookupItemServiceImpl implements LookupItemService {
                 .map(mapper::toDTO);
     }
 
+    @Override
+    public Flux<LookupItemDTO> getItemsByDomain(UUID domainId, LocalDate asOf) {
+        return repository.findByDomainIdAsOf(domainId, asOf)
+                .map(mapper::toDTO);
+    }
+
+    @Override
+    public Flux<LookupDomainItemsDTO> getItemTreesByDomainCodes(List<String> domainCodes) {
+        return getItemTreesByDomainCodes(domainCodes, null, null);
+    }
+
+    @Override
+    public Flux<LookupDomainItemsDTO> getItemTreesByDomainCodes(List<String> domainCodes, UUID tenantId, LocalDate asOf) {
+        return Flux.defer(() -> {
+            LocalDate date = asOf != null ? asOf : LocalDate.now();
+            return Flux.fromIterable(domainCodes)
+                    .distinct()
+                    .mapNotNull(domainCode -> lookupItemTreeIndex.getDomainItems(domainCode, tenantId, date).orElse(null));
+        });
+    }
+
+    @Override
+    public Mono<LookupItemDTO> resolveItem(String domainCode, String itemCode, UUID tenantId, LocalDate asOf) {
+        return Mono.defer(() -> Mono.justOrEmpty(lookupItemTreeIndex.resolveItem(
+                domainCode, tenantId, itemCode, asOf != null ? asOf : LocalDate.now())));
+    }
+
     @Override
     public Mono<LookupItemDTO> createItem(LookupItemDTO itemDto) {
-        LookupItem item = mapper.toEntity(itemDto);
-        return repository.save(item)
+        return Mono.fromCallable(() -> mapper.toEntity(validated(itemDto)))
+                .flatMap(repository::save)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @CacheEvict(cacheNames = CatalogCacheNames.LOOKUP_ITEM, allEntries = true)
+    public Flux<BulkUpsertResultDTO> upsertItems(Flux<LookupItemDTO> items) {
+        // Each chunk commits in its own transaction, so the call itself must not run in one
+        return BulkUpsertUtils.upsert(
+                items,
+                item -> mapper.toEntity(validated(item)),
+                repository,
+                LookupItemRepository.NATURAL_KEY,
+                transactionalOperator
+        );
+    }
+
+    @Override
+    @Cacheable(cacheNames = CatalogCacheNames.LOOKUP_ITEM, key = "#itemId", sync = true)
     public Mono<LookupItemDTO> getItem(UUID itemId) {
         return repository.findById(itemId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.LOOKUP_ITEM, key = "#itemId")
     public Mono<LookupItemDTO> updateItem(UUID itemId, LookupItemDTO itemDto) {
-        return repository.findById(itemId)
-                .flatMap(foundItem -> {
-                    LookupItem updatedItem = mapper.toEntity(itemDto);
-                    updatedItem.setItemId(foundItem.getItemId());
-                    return repository.save(updatedItem);
-                })
+        return Mono.fromCallable(() -> mapper.toEntity(validated(itemDto)))
+                .flatMap(item -> repository.updateById(itemId, item))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.LOOKUP_ITEM, key = "#itemId")
     public Mono<Void> deleteItem(UUID itemId) {
-        return repository.findById(itemId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(itemId)
+                .then();
+    }
+
+    /**
+     * Rejects a validity range that ends before it starts; the table's CHECK constraint would otherwise
+     * fail the write with a database error.
+     */
+    private static LookupItemDTO validated(LookupItemDTO item) {
+        if (item.getEffectiveFrom() != null && item.getEffectiveTo() != null
+                && item.getEffectiveTo().isBefore(item.getEffectiveFrom())) {
+            throw new IllegalArgumentException("effectiveTo must not be before effectiveFrom");
+        }
+        return item;
     }
 }
\ No newline at end of file
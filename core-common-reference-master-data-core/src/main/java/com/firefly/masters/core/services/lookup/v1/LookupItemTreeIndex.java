@@ -0,0 +1,412 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.lookup.v1;
+
+import com.firefly.masters.core.cache.AbstractCatalogIndex;
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.lookup.v1.LookupDomainMapper;
+import com.firefly.masters.core.mappers.lookup.v1.LookupItemMapper;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainDTO;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainItemsDTO;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemDTO;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemNodeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.repositories.lookup.v1.LookupDomainRepository;
+import com.firefly.masters.models.repositories.lookup.v1.LookupItemRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory lookup items of every domain, pre-sorted and grouped by parent item.
+ * <p>
+ * A change to an item only reloads the domains it belonged to before and after the change, and a
+ * change to a domain only reloads the domain definitions.
+ * <p>
+ * Tenants see the global items of a domain overlaid with their own: a tenant item replaces every
+ * global version with the same item code, and the children of a replaced item move under the tenant
+ * item. The merged view is computed on first use per tenant and domain, and is dropped together with
+ * the domain when either layer changes. Domains that are not tenant overridable always show their
+ * global items only. A tenant's own domains take precedence over global domains with the same code.
+ * <p>
+ * The versions of each item code are also kept sorted by start date, so that the version effective
+ * on a given date is found by binary search. Items caught in a {@code parent_item_id} cycle, and the
+ * items below them, never reach a root; they are logged and left out of the tree.
+ */
+@Slf4j
+@Component
+public class LookupItemTreeIndex extends AbstractCatalogIndex {
+
+    private static final Comparator<LookupItemDTO> VERSION_ORDER = Comparator
+            .comparing(LookupItemDTO::getEffectiveFrom, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private static final Comparator<LookupItemDTO> ITEM_ORDER = Comparator
+            .comparing(LookupItemDTO::getSortOrder, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(LookupItemDTO::getItemCode);
+
+    @Autowired
+    private LookupDomainRepository domainRepository;
+
+    @Autowired
+    private LookupItemRepository itemRepository;
+
+    @Autowired
+    private LookupDomainMapper domainMapper;
+
+    @Autowired
+    private LookupItemMapper itemMapper;
+
+    private volatile Map<String, LookupDomainDTO> domainsByCode = Map.of();
+
+    private volatile Map<UUID, Map<String, LookupDomainDTO>> tenantDomainsByCode = Map.of();
+
+    private final Map<UUID, DomainItems> itemsByDomain = new ConcurrentHashMap<>();
+
+    private final Map<UUID, UUID> domainByItem = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the active items of a domain that are effective on a date, nested by parent item.
+     * Items whose parent is not effective are left out together with their parent.
+     *
+     * @param domainCode the code of the domain
+     * @param tenantId the tenant whose overrides apply, or null for the global items only
+     * @param date the date the items must be effective on
+     * @return the domain with its item tree, or empty if the domain is unknown
+     */
+    public Optional<LookupDomainItemsDTO> getDomainItems(String domainCode, UUID tenantId, LocalDate date) {
+        LookupDomainDTO domain = findDomain(domainCode, tenantId);
+        if (domain == null) {
+            return Optional.empty();
+        }
+        ItemTree tree = treeOf(domain, tenantId);
+        return Optional.of(LookupDomainItemsDTO.builder()
+                .domainId(domain.getDomainId())
+                .domainCode(domain.getDomainCode())
+                .domainName(domain.getDomainName())
+                .parentDomainId(domain.getParentDomainId())
+                .multiselectAllowed(domain.getMultiselectAllowed())
+                .hierarchyAllowed(domain.getHierarchyAllowed())
+                .items(tree.nest(tree.roots(), date))
+                .build());
+    }
+
+    /**
+     * Resolves the version of an item code that is effective on a date. Status is not considered, as
+     * superseded versions are usually deactivated while staying valid for their period. If several
+     * versions cover the date, the one that started last wins; a later version that has already ended
+     * does not hide an earlier one that is still open.
+     *
+     * @param domainCode the code of the domain
+     * @param tenantId the tenant whose overrides apply, or null for the global items only
+     * @param itemCode the code of the item
+     * @param date the date the version must be effective on
+     * @return the effective version, or empty if the domain or item is unknown or not effective then
+     */
+    public Optional<LookupItemDTO> resolveItem(String domainCode, UUID tenantId, String itemCode, LocalDate date) {
+        LookupDomainDTO domain = findDomain(domainCode, tenantId);
+        if (domain == null) {
+            return Optional.empty();
+        }
+        List<LookupItemDTO> versions = treeOf(domain, tenantId).versions().getOrDefault(itemCode, List.of());
+        // Last version starting on or before the date
+        int low = 0;
+        int high = versions.size() - 1;
+        int found = -1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            LocalDate from = versions.get(mid).getEffectiveFrom();
+            if (from == null || !from.isAfter(date)) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        // Walk back to the latest of those still effective on the date
+        for (int i = found; i >= 0; i--) {
+            LookupItemDTO version = versions.get(i);
+            if (version.getEffectiveTo() == null || !date.isAfter(version.getEffectiveTo())) {
+                return Optional.of(version);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    protected Set<String> tables() {
+        return Set.of(CatalogCacheNames.LOOKUP_DOMAIN, CatalogCacheNames.LOOKUP_ITEM);
+    }
+
+    @Override
+    protected Mono<Void> rebuild() {
+        return reloadDomains()
+                .then(itemRepository.findAll()
+                        .map(itemMapper::toDTO)
+                        .filter(item -> item.getDomainId() != null)
+                        .collect(Collectors.groupingBy(LookupItemDTO::getDomainId)))
+                .doOnNext(byDomain -> {
+                    byDomain.forEach(this::index);
+                    itemsByDomain.keySet().stream()
+                            .filter(domainId -> !byDomain.containsKey(domainId))
+                            .toList()
+                            .forEach(domainId -> index(domainId, List.of()));
+                    log.info("Indexed lookup items of {} domains", byDomain.size());
+                })
+                .then();
+    }
+
+    @Override
+    protected Mono<Void> refresh(CatalogChangeEvent event) {
+        if (CatalogCacheNames.LOOKUP_DOMAIN.equals(event.table())) {
+            return reloadDomains();
+        }
+        if (event.id() == null) {
+            return rebuild();
+        }
+        UUID itemId = UUID.fromString(event.id());
+        Set<UUID> domains = new LinkedHashSet<>();
+        UUID previousDomain = domainByItem.get(itemId);
+        if (previousDomain != null) {
+            domains.add(previousDomain);
+        }
+        return itemRepository.findById(itemId)
+                .doOnNext(item -> {
+                    if (item.getDomainId() != null) {
+                        domains.add(item.getDomainId());
+                    }
+                })
+                .thenMany(Flux.defer(() -> Flux.fromIterable(domains)))
+                .concatMap(domainId -> itemRepository.findByDomainId(domainId)
+                        .map(itemMapper::toDTO)
+                        .collectList()
+                        .doOnNext(items -> index(domainId, items)))
+                .then();
+    }
+
+    private LookupDomainDTO findDomain(String domainCode, UUID tenantId) {
+        if (tenantId != null) {
+            LookupDomainDTO own = tenantDomainsByCode.getOrDefault(tenantId, Map.of()).get(domainCode);
+            if (own != null) {
+                return own;
+            }
+        }
+        return domainsByCode.get(domainCode);
+    }
+
+    private ItemTree treeOf(LookupDomainDTO domain, UUID tenantId) {
+        DomainItems items = itemsByDomain.get(domain.getDomainId());
+        if (items == null) {
+            return ItemTree.EMPTY;
+        }
+        if (tenantId == null
+                || Boolean.FALSE.equals(domain.getTenantOverridable())
+                || !items.tenantItems().containsKey(tenantId)) {
+            return items.global();
+        }
+        return items.overlays().computeIfAbsent(tenantId,
+                key -> overlay(items.globalItems(), items.tenantItems().get(key)));
+    }
+
+    private Mono<Void> reloadDomains() {
+        return domainRepository.findAll()
+                .map(domainMapper::toDTO)
+                .collectList()
+                .doOnNext(domains -> {
+                    Map<String, LookupDomainDTO> global = new HashMap<>();
+                    Map<UUID, Map<String, LookupDomainDTO>> byTenant = new HashMap<>();
+                    for (LookupDomainDTO domain : domains) {
+                        if (domain.getTenantId() == null) {
+                            global.put(domain.getDomainCode(), domain);
+                        } else {
+                            byTenant.computeIfAbsent(domain.getTenantId(), tenantId -> new HashMap<>())
+                                    .put(domain.getDomainCode(), domain);
+                        }
+                    }
+                    byTenant.replaceAll((tenantId, byCode) -> Map.copyOf(byCode));
+                    domainsByCode = Map.copyOf(global);
+                    tenantDomainsByCode = Map.copyOf(byTenant);
+                })
+                .then();
+    }
+
+    private void index(UUID domainId, List<LookupItemDTO> items) {
+        DomainItems previous = items.isEmpty() ? itemsByDomain.remove(domainId) : itemsByDomain.put(domainId, build(items));
+        if (previous != null) {
+            previous.ids().forEach(itemId -> domainByItem.remove(itemId, domainId));
+        }
+        items.forEach(item -> domainByItem.put(item.getItemId(), domainId));
+    }
+
+    private static DomainItems build(List<LookupItemDTO> items) {
+        List<LookupItemDTO> global = new ArrayList<>();
+        Map<UUID, List<LookupItemDTO>> tenantItems = new HashMap<>();
+        for (LookupItemDTO item : items) {
+            if (item.getTenantId() == null) {
+                global.add(item);
+            } else {
+                tenantItems.computeIfAbsent(item.getTenantId(), tenantId -> new ArrayList<>()).add(item);
+            }
+        }
+        tenantItems.replaceAll((tenantId, tenantLayer) -> List.copyOf(tenantLayer));
+        return new DomainItems(
+                items.stream().map(LookupItemDTO::getItemId).collect(Collectors.toUnmodifiableSet()),
+                List.copyOf(global),
+                ItemTree.of(global, Map.of()),
+                Map.copyOf(tenantItems),
+                new ConcurrentHashMap<>());
+    }
+
+    private static ItemTree overlay(List<LookupItemDTO> global, List<LookupItemDTO> tenantLayer) {
+        Map<String, LookupItemDTO> latestOverride = new HashMap<>();
+        for (LookupItemDTO item : tenantLayer) {
+            latestOverride.merge(item.getItemCode(), item,
+                    (current, candidate) -> VERSION_ORDER.compare(candidate, current) >= 0 ? candidate : current);
+        }
+        List<LookupItemDTO> merged = new ArrayList<>(tenantLayer);
+        Map<UUID, UUID> parentRemap = new HashMap<>();
+        for (LookupItemDTO item : global) {
+            LookupItemDTO override = latestOverride.get(item.getItemCode());
+            if (override == null) {
+                merged.add(item);
+            } else {
+                parentRemap.put(item.getItemId(), override.getItemId());
+            }
+        }
+        return ItemTree.of(merged, parentRemap);
+    }
+
+    private static boolean isEffective(LookupItemDTO item, LocalDate date) {
+        return item.getStatus() == StatusEnum.ACTIVE
+                && (item.getEffectiveFrom() == null || !date.isBefore(item.getEffectiveFrom()))
+                && (item.getEffectiveTo() == null || !date.isAfter(item.getEffectiveTo()));
+    }
+
+    private static LookupItemNodeDTO toNode(LookupItemDTO item) {
+        return LookupItemNodeDTO.builder()
+                .itemId(item.getItemId())
+                .itemCode(item.getItemCode())
+                .itemLabelDefault(item.getItemLabelDefault())
+                .itemDesc(item.getItemDesc())
+                .sortOrder(item.getSortOrder())
+                .effectiveFrom(item.getEffectiveFrom())
+                .effectiveTo(item.getEffectiveTo())
+                .extraJson(item.getExtraJson())
+                .build();
+    }
+
+    /**
+     * The items of one domain. {@code ids} covers every item of the domain; {@code overlays} caches
+     * the merged trees of the tenants that have items in the domain.
+     */
+    private record DomainItems(Set<UUID> ids,
+                               List<LookupItemDTO> globalItems,
+                               ItemTree global,
+                               Map<UUID, List<LookupItemDTO>> tenantItems,
+                               Map<UUID, ItemTree> overlays) {
+    }
+
+    private record ItemTree(List<LookupItemDTO> roots,
+                            Map<UUID, List<LookupItemDTO>> children,
+                            Map<String, List<LookupItemDTO>> versions) {
+
+        static final ItemTree EMPTY = new ItemTree(List.of(), Map.of(), Map.of());
+
+        /**
+         * @param items the items of the tree
+         * @param parentRemap parents to attach children to instead of the parent they reference
+         */
+        static ItemTree of(List<LookupItemDTO> items, Map<UUID, UUID> parentRemap) {
+            List<LookupItemDTO> sorted = items.stream().sorted(ITEM_ORDER).toList();
+            Set<UUID> ids = sorted.stream().map(LookupItemDTO::getItemId).collect(Collectors.toSet());
+            List<LookupItemDTO> roots = new ArrayList<>();
+            Map<UUID, List<LookupItemDTO>> children = new HashMap<>();
+            for (LookupItemDTO item : sorted) {
+                UUID parentId = item.getParentItemId() == null
+                        ? null
+                        : parentRemap.getOrDefault(item.getParentItemId(), item.getParentItemId());
+                if (parentId == null || !ids.contains(parentId)) {
+                    roots.add(item);
+                } else {
+                    children.computeIfAbsent(parentId, key -> new ArrayList<>()).add(item);
+                }
+            }
+            children.replaceAll((parentId, siblings) -> List.copyOf(siblings));
+            logUnreachable(sorted, roots, children);
+            Map<String, List<LookupItemDTO>> versions = sorted.stream()
+                    .collect(Collectors.groupingBy(LookupItemDTO::getItemCode));
+            versions.replaceAll((itemCode, candidates) -> candidates.stream().sorted(VERSION_ORDER).toList());
+            return new ItemTree(List.copyOf(roots), Map.copyOf(children), Map.copyOf(versions));
+        }
+
+        /**
+         * Every item reachable from a root has a parent chain ending at that root, so only items in or
+         * below a parent cycle are missed by the walk.
+         */
+        private static void logUnreachable(List<LookupItemDTO> items,
+                                           List<LookupItemDTO> roots,
+                                           Map<UUID, List<LookupItemDTO>> children) {
+            Set<UUID> reached = new HashSet<>();
+            Deque<LookupItemDTO> pending = new ArrayDeque<>(roots);
+            while (!pending.isEmpty()) {
+                LookupItemDTO item = pending.pop();
+                if (reached.add(item.getItemId())) {
+                    pending.addAll(children.getOrDefault(item.getItemId(), List.of()));
+                }
+            }
+            if (reached.size() < items.size()) {
+                log.warn("Leaving lookup items {} out of the tree: they are in or below a parent_item_id cycle",
+                        items.stream()
+                                .map(LookupItemDTO::getItemId)
+                                .filter(itemId -> !reached.contains(itemId))
+                                .toList());
+            }
+        }
+
+        List<LookupItemNodeDTO> nest(List<LookupItemDTO> items, LocalDate date) {
+            List<LookupItemNodeDTO> nodes = new ArrayList<>();
+            for (LookupItemDTO item : items) {
+                if (!isEffective(item, date)) {
+                    continue;
+                }
+                LookupItemNodeDTO node = toNode(item);
+                node.setChildren(nest(children.getOrDefault(item.getItemId(), List.of()), date));
+                nodes.add(node);
+            }
+            return nodes;
+        }
+    }
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.naturalkey.v1;
+
+import com.firefly.masters.core.cache.AbstractCatalogIndex;
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.country.v1.CountryMapper;
+import com.firefly.masters.core.mappers.currency.v1.CurrencyMapper;
+import com.firefly.masters.core.mappers.legal.v1.LegalFormMapper;
+import com.firefly.masters.core.mappers.locale.v1.LanguageLocaleMapper;
+import com.firefly.masters.core.mappers.title.v1.TitleMasterMapper;
+import com.firefly.masters.core.services.locale.v1.LocaleFallbackIndex;
+import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
+import com.firefly.masters.interfaces.dtos.currency.v1.CurrencyDTO;
+import com.firefly.masters.interfaces.dtos.legal.v1.LegalFormDTO;
+import com.firefly.masters.interfaces.dtos.locale.v1.LanguageLocaleDTO;
+import com.firefly.masters.interfaces.dtos.title.v1.TitleMasterDTO;
+import com.firefly.masters.models.repositories.country.v1.CountryRepository;
+import com.firefly.masters.models.repositories.currency.v1.CurrencyRepository;
+import com.firefly.masters.models.repositories.legal.v1.LegalFormRepository;
+import com.firefly.masters.models.repositories.locale.v1.LanguageLocaleRepository;
+import com.firefly.masters.models.repositories.title.v1.TitleMasterRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * In-memory code → row maps for the catalogs callers usually know by natural key: countries and
+ * currencies by ISO code, language locales by locale code, legal forms by code and titles by prefix.
+ * <p>
+ * Codes are matched trimmed and case-insensitively; locale codes are normalized as by
+ * {@link LocaleFallbackIndex#normalize(String)}, so {@code es_MX} finds {@code es-MX}. Every status is
+ * indexed, as for lookups by ID. A change to one of the catalogs reloads that catalog only. Legal form
+ * codes are only unique within a country, so legal forms are looked up by code and, when a code is used
+ * in several countries, country. Title prefixes are not unique at all: a single-prefix lookup matching
+ * several titles is rejected, while a multi-prefix lookup returns every match.
+ */
+@Slf4j
+@Component
+public class NaturalKeyIndex extends AbstractCatalogIndex {
+
+    /**
+     * Upper bound on the codes of one multi-code lookup.
+     */
+    public static final int MAX_CODES = 500;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CountryMapper countryMapper;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private CurrencyMapper currencyMapper;
+
+    @Autowired
+    private LanguageLocaleRepository languageLocaleRepository;
+
+    @Autowired
+    private LanguageLocaleMapper languageLocaleMapper;
+
+    @Autowired
+    private LegalFormRepository legalFormRepository;
+
+    @Autowired
+    private LegalFormMapper legalFormMapper;
+
+    @Autowired
+    private TitleMasterRepository titleRepository;
+
+    @Autowired
+    private TitleMasterMapper titleMapper;
+
+    private volatile Map<String, List<CountryDTO>> countries = Map.of();
+
+    private volatile Map<String, List<CurrencyDTO>> currencies = Map.of();
+
+    private volatile Map<String, List<LanguageLocaleDTO>> languageLocales = Map.of();
+
+    private volatile Map<String, List<LegalFormDTO>> legalForms = Map.of();
+
+    private volatile Map<String, List<TitleMasterDTO>> titles = Map.of();
+
+    public CountryDTO getCountry(String isoCode) {
+        return single(countries, normalize(isoCode), "Country ISO code " + isoCode);
+    }
+
+    /**
+     * @return the countries with any of the given ISO codes, without their flags
+     */
+    public List<CountryDTO> getCountries(List<String> isoCodes) {
+        return all(countries, isoCodes, NaturalKeyIndex::normalize).stream()
+                .map(countryMapper::toSummaryDTO)
+                .toList();
+    }
+
+    public CurrencyDTO getCurrency(String isoCode) {
+        return single(currencies, normalize(isoCode), "Currency ISO code " + isoCode);
+    }
+
+    public List<CurrencyDTO> getCurrencies(List<String> isoCodes) {
+        return all(currencies, isoCodes, NaturalKeyIndex::normalize);
+    }
+
+    public LanguageLocaleDTO getLanguageLocale(String localeCode) {
+        return single(languageLocales, normalizeLocaleCode(localeCode), "Locale code " + localeCode);
+    }
+
+    public List<LanguageLocaleDTO> getLanguageLocales(List<String> localeCodes) {
+        return all(languageLocales, localeCodes, NaturalKeyIndex::normalizeLocaleCode);
+    }
+
+    /**
+     * Finds a title by prefix.
+     *
+     * @param prefix the title prefix
+     * @return the title, or {@code null} if unknown
+     * @throws IllegalArgumentException if several titles use the prefix
+     */
+    public TitleMasterDTO getTitle(String prefix) {
+        return single(titles, normalize(prefix), "Title prefix " + prefix);
+    }
+
+    /**
+     * @return every title using any of the given prefixes, in the order of their prefixes
+     */
+    public List<TitleMasterDTO> getTitles(List<String> prefixes) {
+        return all(titles, prefixes, NaturalKeyIndex::normalize);
+    }
+
+    /**
+     * Finds a legal form by code.
+     *
+     * @param code the legal form code
+     * @param countryId the country of the legal form; may be omitted when the code is used in one country only
+     * @return the legal form, or {@code null} if unknown
+     * @throws IllegalArgumentException if no country is given and the code is used in several countries
+     */
+    public LegalFormDTO getLegalForm(String code, UUID countryId) {
+        List<LegalFormDTO> matches = inCountry(matches(legalForms, normalize(code)), countryId);
+        if (matches.size() > 1) {
+            throw new IllegalArgumentException("Legal form code " + code + " is used in several countries; pass a country ID");
+        }
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    /**
+     * Finds the legal forms with any of the given codes.
+     *
+     * @param codes the legal form codes
+     * @param countryId the country to restrict the legal forms to, or {@code null} for every country
+     * @return the legal forms, in the order of their codes
+     */
+    public List<LegalFormDTO> getLegalForms(List<String> codes, UUID countryId) {
+        return inCountry(all(legalForms, codes, NaturalKeyIndex::normalize), countryId);
+    }
+
+    @Override
+    protected Set<String> tables() {
+        return Set.of(
+                CatalogCacheNames.COUNTRIES,
+                CatalogCacheNames.CURRENCIES,
+                CatalogCacheNames.LANGUAGE_LOCALE,
+                CatalogCacheNames.LEGAL_FORM,
+                CatalogCacheNames.TITLE_MASTER);
+    }
+
+    @Override
+    protected Mono<Void> rebuild() {
+        return Flux.fromIterable(tables())
+                .concatMap(this::reload)
+                .then();
+    }
+
+    @Override
+    protected Mono<Void> refresh(CatalogChangeEvent event) {
+        return reload(event.table());
+    }
+
+    private Mono<Void> reload(String table) {
+        return switch (table) {
+            case CatalogCacheNames.COUNTRIES -> load(table, countryRepository.findAll().map(countryMapper::toDTO),
+                    country -> normalize(country.getIsoCode()), index -> countries = index);
+            case CatalogCacheNames.CURRENCIES -> load(table, currencyRepository.findAll().map(currencyMapper::toDTO),
+                    currency -> normalize(currency.getIsoCode()), index -> currencies = index);
+            case CatalogCacheNames.LANGUAGE_LOCALE -> load(table, languageLocaleRepository.findAll().map(languageLocaleMapper::toDTO),
+                    locale -> normalizeLocaleCode(locale.getLocaleCode()), index -> languageLocales = index);
+            case CatalogCacheNames.LEGAL_FORM -> load(table, legalFormRepository.findAll().map(legalFormMapper::toDTO),
+                    legalForm -> normalize(legalForm.getCode()), index -> legalForms = index);
+            case CatalogCacheNames.TITLE_MASTER -> load(table, titleRepository.findAll().map(titleMapper::toDTO),
+                    title -> normalize(title.getPrefix()), index -> titles = index);
+            default -> Mono.empty();
+        };
+    }
+
+    private static <D> Mono<Void> load(String table, Flux<D> rows, Function<D, String> key, Consumer<Map<String, List<D>>> publish) {
+        return rows.collectList()
+                .doOnNext(dtos -> {
+                    Map<String, List<D>> byCode = new HashMap<>();
+                    for (D dto : dtos) {
+                        String code = key.apply(dto);
+                        if (code != null) {
+                            byCode.computeIfAbsent(code, k -> new ArrayList<>(1)).add(dto);
+                        }
+                    }
+                    byCode.replaceAll((key, matches) -> List.copyOf(matches));
+                    publish.accept(Map.copyOf(byCode));
+                    log.info("Indexed {} codes of {}", byCode.size(), table);
+                })
+                .then();
+    }
+
+    private static <D> List<D> matches(Map<String, List<D>> index, String key) {
+        return key == null ? List.of() : index.getOrDefault(key, List.of());
+    }
+
+    private static <D> D single(Map<String, List<D>> index, String key, String described) {
+        List<D> matches = matches(index, key);
+        if (matches.size() > 1) {
+            throw new IllegalArgumentException(described + " matches " + matches.size() + " rows; look the row up by ID");
+        }
+        return matches.isEmpty() ? null : matches.get(0);
+    }
+
+    private static <D> List<D> all(Map<String, List<D>> index, List<String> codes, Function<String, String> normalizer) {
+        if (codes == null || codes.isEmpty()) {
+            throw new IllegalArgumentException("At least one code is required");
+        }
+        if (codes.size() > MAX_CODES) {
+            throw new IllegalArgumentException("At most " + MAX_CODES + " codes can be looked up at once");
+        }
+        Set<String> keys = new LinkedHashSet<>();
+        codes.forEach(code -> keys.add(normalizer.apply(code)));
+        List<D> matches = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            matches.addAll(matches(index, key));
+        }
+        return matches;
+    }
+
+    private static List<LegalFormDTO> inCountry(List<LegalFormDTO> legalForms, UUID countryId) {
+        if (countryId == null) {
+            return legalForms;
+        }
+        return legalForms.stream()
+                .filter(legalForm -> Objects.equals(countryId, legalForm.getCountryId()))
+                .toList();
+    }
+
+    private static String normalize(String code) {
+        if (code == null || code.isBlank()) {
+            return null;
+        }
+        return code.trim().toUpperCase(Locale.ROOT);
+    }
+
+    private static String normalizeLocaleCode(String localeCode) {
+        String code = LocaleFallbackIndex.normalize(localeCode);
+        return code.isEmpty() ? null : code;
+    }
+}
@@ -20,11 +20,18 @@ package com.firefly.masters.core.services.notification.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.notification.v1.MessageTypeCatalogMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.notification.v1.MessageTypeCatalogDTO;
-import com.firefly.masters.models.entities.notification.v1.MessageTypeCatalog;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.notification.v1.MessageTypeCatalogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -47,11 +54,25 @@ public class MessageTypeCatalogServiceImpl implements MessageTypeCatalogService
 
     @Override
     public Mono<PaginationResponse<MessageTypeCatalogDTO>> listMessageTypes(PaginationRequest paginationRequest) {
+        return listMessageTypes(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<MessageTypeCatalogDTO>> listMessageTypes(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<MessageTypeCatalogDTO>> listMessageTypesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -70,6 +91,7 @@ public class MessageTypeCatalogServiceImpl implements MessageTypeCatalogService
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.MESSAGE_TYPE_CATALOG, key = "#typeId", sync = true)
     public Mono<MessageTypeCatalogDTO> getMessageType(UUID typeId) {
         return repository.findById(typeId)
                 .map(mapper::toDTO)
@@ -84,25 +106,21 @@ public class MessageTypeCatalogServiceImpl implements MessageTypeCatalogService
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.MESSAGE_TYPE_CATALOG, key = "#typeId")
     public Mono<MessageTypeCatalogDTO> updateMessageType(UUID typeId, MessageTypeCatalogDTO messageTypeDTO) {
-        return repository.findById(typeId)
+        return repository.updateById(typeId, mapper.toEntity(messageTypeDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Message type not found with ID: " + typeId)))
-                .flatMap(existingEntity -> {
-                    MessageTypeCatalog updatedEntity = mapper.toEntity(messageTypeDTO);
-                    updatedEntity.setTypeId(typeId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating message type: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.MESSAGE_TYPE_CATALOG, key = "#typeId")
     public Mono<Void> deleteMessageType(UUID typeId) {
-        return repository.findById(typeId)
+        return repository.deleteByIdReturningCount(typeId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Message type not found with ID: " + typeId)))
-                .flatMap(repository::delete)
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting message type: " + e.getMessage(), e)));
     }
 }
@@ -21,11 +21,18 @@ package com.firefly.masters.core.services.notification.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.notification.v1.NotificationMessageCatalogMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageCatalogDTO;
-import com.firefly.masters.models.entities.notification.v1.NotificationMessageCatalog;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.notification.v1.NotificationMessageCatalogRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -48,11 +55,25 @@ public class NotificationMessageCatalogServiceImpl implements NotificationMessag
 
     @Override
     public Mono<PaginationResponse<NotificationMessageCatalogDTO>> listNotificationMessages(PaginationRequest paginationRequest) {
+        return listNotificationMessages(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<NotificationMessageCatalogDTO>> listNotificationMessages(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<NotificationMessageCatalogDTO>> listNotificationMessagesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -91,6 +112,7 @@ public class NotificationMessageCatalogServiceImpl implements NotificationMessag
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_CATALOG, key = "#messageId", sync = true)
     public Mono<NotificationMessageCatalogDTO> getNotificationMessage(UUID messageId) {
         return repository.findById(messageId)
                 .map(mapper::toDTO)
@@ -105,25 +127,21 @@ public class NotificationMessageCatalogServiceImpl implements NotificationMessag
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_CATALOG, key = "#messageId")
     public Mono<NotificationMessageCatalogDTO> updateNotificationMessage(UUID messageId, NotificationMessageCatalogDTO notificationMessageDTO) {
-        return repository.findById(messageId)
+        return repository.updateById(messageId, mapper.toEntity(notificationMessageDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Notification message not found with ID: " + messageId)))
-                .flatMap(existingEntity -> {
-                    NotificationMessageCatalog updatedEntity = mapper.toEntity(notificationMessageDTO);
-                    updatedEntity.setMessageId(messageId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating notification message: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_CATALOG, key = "#messageId")
     public Mono<Void> deleteNotificationMessage(UUID messageId) {
-        return repository.findById(messageId)
+        return repository.deleteByIdReturningCount(messageId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Notification message not found with ID: " + messageId)))
-                .flatMap(repository::delete)
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting notification message: " + e.getMessage(), e)));
     }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.notification.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.mappers.notification.v1.NotificationMessageLocalizationMapper;
+import com.firefly.masters.core.services.locale.v1.AbstractLocalizationIndex;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.notification.v1.NotificationMessageCatalog;
+import com.firefly.masters.models.repositories.notification.v1.NotificationMessageCatalogRepository;
+import com.firefly.masters.models.repositories.notification.v1.NotificationMessageLocalizationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Resolves notification message localizations through the locale fallback chain. The catalog default is
+ * {@code default_subject} and {@code default_message} of the notification message itself.
+ */
+@Component
+public class NotificationMessageLocalizationIndex extends AbstractLocalizationIndex<NotificationMessageCatalog, NotificationMessageLocalizationDTO> {
+
+    @Autowired
+    private NotificationMessageCatalogRepository catalogRepository;
+
+    @Autowired
+    private NotificationMessageLocalizationRepository repository;
+
+    @Autowired
+    private NotificationMessageLocalizationMapper mapper;
+
+    @Override
+    protected String catalogTable() {
+        return CatalogCacheNames.NOTIFICATION_MESSAGE_CATALOG;
+    }
+
+    @Override
+    protected String localizationTable() {
+        return CatalogCacheNames.NOTIFICATION_MESSAGE_LOCALIZATION;
+    }
+
+    @Override
+    protected Flux<NotificationMessageCatalog> loadCatalog() {
+        return catalogRepository.findAll();
+    }
+
+    @Override
+    protected Flux<NotificationMessageLocalizationDTO> loadLocalizations() {
+        return repository.findAll().map(mapper::toDTO);
+    }
+
+    @Override
+    protected Mono<NotificationMessageCatalog> loadCatalogRow(UUID id) {
+        return catalogRepository.findById(id);
+    }
+
+    @Override
+    protected Mono<NotificationMessageLocalizationDTO> loadLocalization(UUID id) {
+        return repository.findById(id).map(mapper::toDTO);
+    }
+
+    @Override
+    protected UUID idOf(NotificationMessageCatalog row) {
+        return row.getMessageId();
+    }
+
+    @Override
+    protected UUID localizationIdOf(NotificationMessageLocalizationDTO localization) {
+        return localization.getLocalizationId();
+    }
+
+    @Override
+    protected UUID ownerOf(NotificationMessageLocalizationDTO localization) {
+        return localization.getMessageId();
+    }
+
+    @Override
+    protected UUID localeOf(NotificationMessageLocalizationDTO localization) {
+        return localization.getLocaleId();
+    }
+
+    @Override
+    protected StatusEnum statusOf(NotificationMessageLocalizationDTO localization) {
+        return localization.getStatus();
+    }
+
+    @Override
+    protected NotificationMessageLocalizationDTO catalogDefault(NotificationMessageCatalog row) {
+        if (row.getDefaultSubject() == null && row.getDefaultMessage() == null) {
+            return null;
+        }
+        return NotificationMessageLocalizationDTO.builder()
+                .messageId(row.getMessageId())
+                .subject(row.getDefaultSubject())
+                .message(row.getDefaultMessage())
+                .status(row.getStatus())
+                .build();
+    }
+}
@@ -17,6 +17,7 @@
 
 package com.firefly.masters.core.services.notification.v1;
 
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageLocalizationDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -92,4 +93,15 @@ public interface NotificationMessageLocalizationService {
      * @return a Mono of Void
      */
     Mono<Void> deleteLocalizationsByMessageId(UUID messageId);
+
+    /**
+     * Resolve the subject and message of a notification for a locale, falling back to its language, then to
+     * the default subject and message of the notification, and finally to the platform default locale.
+     *
+     * @param messageId the ID of the notification message
+     * @param locale the requested locale code, such as es-MX
+     * @return the resolved localization and the fallback step it was found at, or empty if the
+     *         notification message is unknown or nothing along the chain localizes it
+     */
+    Mono<ResolvedLocalizationDTO<NotificationMessageLocalizationDTO>> resolveNotificationMessageLocalization(UUID messageId, String locale);
 }
@@ -17,12 +17,16 @@
 
 package com.firefly.masters.core.services.notification.v1;
 
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.notification.v1.NotificationMessageLocalizationMapper;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageLocalizationDTO;
-import com.firefly.masters.models.entities.notification.v1.NotificationMessageLocalization;
 import com.firefly.masters.models.repositories.notification.v1.NotificationMessageLocalizationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -43,6 +47,9 @@ public class NotificationMessageLocalizationServiceImpl implements NotificationM
     @Autowired
     private NotificationMessageLocalizationMapper mapper;
 
+    @Autowired
+    private NotificationMessageLocalizationIndex index;
+
     @Override
     public Flux<NotificationMessageLocalizationDTO> getLocalizationsByMessageId(UUID messageId) {
         return repository.findByMessageId(messageId)
@@ -72,6 +79,7 @@ public class NotificationMessageLocalizationServiceImpl implements NotificationM
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_LOCALIZATION, key = "#localizationId", sync = true)
     public Mono<NotificationMessageLocalizationDTO> getNotificationMessageLocalization(UUID localizationId) {
         return repository.findById(localizationId)
                 .map(mapper::toDTO)
@@ -86,31 +94,34 @@ public class NotificationMessageLocalizationServiceImpl implements NotificationM
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_LOCALIZATION, key = "#localizationId")
     public Mono<NotificationMessageLocalizationDTO> updateNotificationMessageLocalization(UUID localizationId, NotificationMessageLocalizationDTO localizationDTO) {
-        return repository.findById(localizationId)
+        return repository.updateById(localizationId, mapper.toEntity(localizationDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Notification message localization not found with ID: " + localizationId)))
-                .flatMap(existingEntity -> {
-                    NotificationMessageLocalization updatedEntity = mapper.toEntity(localizationDTO);
-                    updatedEntity.setLocalizationId(localizationId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating notification message localization: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_LOCALIZATION, key = "#localizationId")
     public Mono<Void> deleteNotificationMessageLocalization(UUID localizationId) {
-        return repository.findById(localizationId)
+        return repository.deleteByIdReturningCount(localizationId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Notification message localization not found with ID: " + localizationId)))
-                .flatMap(repository::delete)
+                .then()
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting notification message localization: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_LOCALIZATION, allEntries = true)
     public Mono<Void> deleteLocalizationsByMessageId(UUID messageId) {
         return repository.deleteByMessageId(messageId)
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting localizations for message ID: " + messageId, e)));
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<ResolvedLocalizationDTO<NotificationMessageLocalizationDTO>> resolveNotificationMessageLocalization(UUID messageId, String locale) {
+        return Mono.fromSupplier(() -> index.resolve(messageId, locale));
+    }
 }
@@ -19,9 +19,15 @@ package com.firefly.masters.core.services.notification.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageTemplateDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderRequestDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderResultDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -37,6 +43,35 @@ public interface NotificationMessageTemplateService {
      */
     Mono<PaginationResponse<NotificationMessageTemplateDTO>> listNotificationMessageTemplates(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of notification message templates, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the notification message templates
+     */
+    Mono<PaginationResponse<NotificationMessageTemplateDTO>> listNotificationMessageTemplates(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a paginated list of notification message templates, reading only the requested fields from the database.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @param fields the fields to return, {@code *} for all; null or empty for every field except large ones
+     * @return a Mono emitting a PaginationResponse containing the notification message templates, or an IllegalArgumentException
+     *         if a field is unknown
+     */
+    Mono<PaginationResponse<NotificationMessageTemplateDTO>> listNotificationMessageTemplates(PaginationRequest paginationRequest, CountModeEnum countMode, List<String> fields);
+
+    /**
+     * Retrieves a page of notification message templates using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the notification message templates and the cursor of the next page
+     */
+    Mono<CursorPageDTO<NotificationMessageTemplateDTO>> listNotificationMessageTemplatesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * List notification message templates by template type with pagination.
      *
@@ -103,4 +138,24 @@ public interface NotificationMessageTemplateService {
      * @return a Mono of Void
      */
     Mono<Void> deleteTemplatesByMessageId(UUID messageId);
+
+    /**
+     * Render one message from a notification message template. Invalid bindings are reported in the
+     * result rather than as an error; an unknown template fails with a {@link java.util.NoSuchElementException}.
+     *
+     * @param templateId the ID of the notification message template
+     * @param request the variable bindings
+     * @return the rendered message, or the binding problems
+     */
+    Mono<NotificationTemplateRenderResultDTO> renderNotificationMessageTemplate(UUID templateId, NotificationTemplateRenderRequestDTO request);
+
+    /**
+     * Render one message per set of bindings, streaming back the results in input order. An unknown
+     * template fails with a {@link java.util.NoSuchElementException} before any result is emitted.
+     *
+     * @param templateId the ID of the notification message template
+     * @param requests the variable bindings
+     * @return the outcomes, each carrying the position of its bindings
+     */
+    Flux<NotificationTemplateRenderResultDTO> renderNotificationMessageTemplates(UUID templateId, Flux<NotificationTemplateRenderRequestDTO> requests);
 }
@@ -20,17 +20,28 @@ package com.firefly.masters.core.services.notification.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.notification.v1.NotificationMessageTemplateMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageTemplateDTO;
-import com.firefly.masters.models.entities.notification.v1.NotificationMessageTemplate;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderRequestDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderResultDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.repositories.notification.v1.NotificationMessageTemplateRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -46,13 +57,40 @@ public class NotificationMessageTemplateServiceImpl implements NotificationMessa
     @Autowired
     private NotificationMessageTemplateMapper mapper;
 
+    @Autowired
+    private NotificationTemplateRenderer renderer;
+
     @Override
     public Mono<PaginationResponse<NotificationMessageTemplateDTO>> listNotificationMessageTemplates(PaginationRequest paginationRequest) {
+        return listNotificationMessageTemplates(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<NotificationMessageTemplateDTO>> listNotificationMessageTemplates(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<PaginationResponse<NotificationMessageTemplateDTO>> listNotificationMessageTemplates(PaginationRequest paginationRequest, CountModeEnum countMode, List<String> fields) {
+        return PaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toDTO,
+                pageable -> repository.findAllBy(pageable, fields),
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<NotificationMessageTemplateDTO>> listNotificationMessageTemplatesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -88,6 +126,7 @@ public class NotificationMessageTemplateServiceImpl implements NotificationMessa
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_TEMPLATE, key = "#templateId", sync = true)
     public Mono<NotificationMessageTemplateDTO> getNotificationMessageTemplate(UUID templateId) {
         return repository.findById(templateId)
                 .map(mapper::toDTO)
@@ -102,31 +141,43 @@ public class NotificationMessageTemplateServiceImpl implements NotificationMessa
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_TEMPLATE, key = "#templateId")
     public Mono<NotificationMessageTemplateDTO> updateNotificationMessageTemplate(UUID templateId, NotificationMessageTemplateDTO templateDTO) {
-        return repository.findById(templateId)
+        return repository.updateById(templateId, mapper.toEntity(templateDTO))
                 .switchIfEmpty(Mono.error(new RuntimeException("Notification message template not found with ID: " + templateId)))
-                .flatMap(existingEntity -> {
-                    NotificationMessageTemplate updatedEntity = mapper.toEntity(templateDTO);
-                    updatedEntity.setTemplateId(templateId);
-                    updatedEntity.setDateCreated(existingEntity.getDateCreated());
-                    updatedEntity.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedEntity);
-                })
                 .map(mapper::toDTO)
+                .doOnSuccess(updated -> renderer.evict(templateId))
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error updating notification message template: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_TEMPLATE, key = "#templateId")
     public Mono<Void> deleteNotificationMessageTemplate(UUID templateId) {
-        return repository.findById(templateId)
+        return repository.deleteByIdReturningCount(templateId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Notification message template not found with ID: " + templateId)))
-                .flatMap(repository::delete)
+                .then()
+                .doOnSuccess(deleted -> renderer.evict(templateId))
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting notification message template: " + e.getMessage(), e)));
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.NOTIFICATION_MESSAGE_TEMPLATE, allEntries = true)
     public Mono<Void> deleteTemplatesByMessageId(UUID messageId) {
         return repository.deleteByMessageId(messageId)
+                .doOnSuccess(deleted -> renderer.evictAll())
                 .onErrorResume(e -> Mono.error(new RuntimeException("Error deleting templates for message ID: " + messageId, e)));
     }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<NotificationTemplateRenderResultDTO> renderNotificationMessageTemplate(UUID templateId, NotificationTemplateRenderRequestDTO request) {
+        return renderer.render(templateId, request);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<NotificationTemplateRenderResultDTO> renderNotificationMessageTemplates(UUID templateId, Flux<NotificationTemplateRenderRequestDTO> requests) {
+        return renderer.render(templateId, requests);
+    }
 }
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.notification.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.notification.v1.NotificationMessageTemplateMapper;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageTemplateDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderRequestDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderResultDTO;
+import com.firefly.masters.models.repositories.notification.v1.NotificationMessageTemplateRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.HtmlUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Renders notification message templates from a cache of compiled templates.
+ * <p>
+ * A template is parsed into literal and {@code {{variable}}} segments the first time it is rendered,
+ * and the compiled form is kept until the template row changes. Bindings are checked against the
+ * template's {@code template_variables}: each key declares a variable, and a declaration may be an
+ * object with {@code required} (defaults to {@code true}) and {@code default} entries. Placeholders that
+ * are not declared are treated as required, and when the template declares variables, bindings
+ * outside the declaration are rejected. Values bound into {@code HTML} templates are HTML-escaped.
+ */
+@Component
+public class NotificationTemplateRenderer {
+
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{\\{\\s*([A-Za-z_][A-Za-z0-9_.-]*)\\s*}}");
+
+    private static final String HTML = "HTML";
+
+    @Autowired
+    private NotificationMessageTemplateRepository repository;
+
+    @Autowired
+    private NotificationMessageTemplateMapper mapper;
+
+    private final Map<UUID, Mono<CompiledTemplate>> templates = new ConcurrentHashMap<>();
+
+    /**
+     * Renders one message.
+     *
+     * @param templateId the unique identifier of the template
+     * @param request the variable bindings
+     * @return the outcome, or a {@link NoSuchElementException} if the template does not exist
+     */
+    public Mono<NotificationTemplateRenderResultDTO> render(UUID templateId, NotificationTemplateRenderRequestDTO request) {
+        return compiled(templateId).map(template -> template.render(request));
+    }
+
+    /**
+     * Renders one message per set of bindings, compiling the template at most once for the whole stream.
+     *
+     * @param templateId the unique identifier of the template
+     * @param requests the variable bindings
+     * @return the outcomes in input order, each carrying the position of its bindings, or a
+     *         {@link NoSuchElementException} before any outcome if the template does not exist
+     */
+    public Flux<NotificationTemplateRenderResultDTO> render(UUID templateId, Flux<NotificationTemplateRenderRequestDTO> requests) {
+        return compiled(templateId)
+                .flatMapMany(template -> requests.index()
+                        .map(indexed -> {
+                            NotificationTemplateRenderResultDTO result = template.render(indexed.getT2());
+                            result.setIndex(indexed.getT1());
+                            return result;
+                        }));
+    }
+
+    /**
+     * Drops the compiled form of a template. It is compiled again on the next render.
+     *
+     * @param templateId the unique identifier of the template
+     */
+    public void evict(UUID templateId) {
+        templates.remove(templateId);
+    }
+
+    /**
+     * Drops every compiled template.
+     */
+    public void evictAll() {
+        templates.clear();
+    }
+
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if (event.isResync() || (CatalogCacheNames.NOTIFICATION_MESSAGE_TEMPLATE.equals(event.table()) && event.id() == null)) {
+            evictAll();
+        } else if (CatalogCacheNames.NOTIFICATION_MESSAGE_TEMPLATE.equals(event.table())) {
+            evict(UUID.fromString(event.id()));
+        }
+    }
+
+    private Mono<CompiledTemplate> compiled(UUID templateId) {
+        Mono<CompiledTemplate> template = templates.computeIfAbsent(templateId, key -> load(key).cache());
+        // Failed loads, including unknown templates, must not be served from memory; the next request retries.
+        return template.doOnError(e -> templates.remove(templateId, template));
+    }
+
+    private Mono<CompiledTemplate> load(UUID templateId) {
+        return repository.findById(templateId)
+                .map(mapper::toDTO)
+                .map(CompiledTemplate::compile)
+                .switchIfEmpty(Mono.error(new NoSuchElementException("Notification message template not found with ID: " + templateId)));
+    }
+
+    /**
+     * A template split into literal text and variables. {@code literals} always holds one element more
+     * than {@code variables}: the text before, between and after the placeholders.
+     */
+    record CompiledTemplate(UUID templateId,
+                            String version,
+                            String templateType,
+                            boolean html,
+                            String[] literals,
+                            String[] variables,
+                            int literalLength,
+                            Map<String, Declaration> declarations,
+                            boolean declared) {
+
+        static CompiledTemplate compile(NotificationMessageTemplateDTO template) {
+            String content = template.getTemplateContent() == null ? "" : template.getTemplateContent();
+            List<String> literals = new ArrayList<>();
+            List<String> variables = new ArrayList<>();
+            Matcher matcher = PLACEHOLDER.matcher(content);
+            int start = 0;
+            int literalLength = 0;
+            while (matcher.find()) {
+                literals.add(content.substring(start, matcher.start()));
+                variables.add(matcher.group(1));
+                literalLength += matcher.start() - start;
+                start = matcher.end();
+            }
+            literals.add(content.substring(start));
+            literalLength += content.length() - start;
+
+            Map<String, Declaration> declarations = new LinkedHashMap<>();
+            Map<String, Object> declared = template.getTemplateVariables();
+            if (declared != null) {
+                declared.forEach((name, declaration) -> declarations.put(name, Declaration.of(declaration)));
+            }
+            for (String variable : variables) {
+                declarations.putIfAbsent(variable, Declaration.REQUIRED);
+            }
+            return new CompiledTemplate(
+                    template.getTemplateId(),
+                    template.getVersion(),
+                    template.getTemplateType(),
+                    HTML.equalsIgnoreCase(template.getTemplateType()),
+                    literals.toArray(String[]::new),
+                    variables.toArray(String[]::new),
+                    literalLength,
+                    Map.copyOf(declarations),
+                    declared != null && !declared.isEmpty());
+        }
+
+        NotificationTemplateRenderResultDTO render(NotificationTemplateRenderRequestDTO request) {
+            Map<String, Object> bindings = request == null || request.getVariables() == null
+                    ? Map.of()
+                    : request.getVariables();
+            NotificationTemplateRenderResultDTO result = NotificationTemplateRenderResultDTO.builder()
+                    .templateId(templateId)
+                    .version(version)
+                    .templateType(templateType)
+                    .build();
+
+            Set<String> unknown = new LinkedHashSet<>();
+            if (declared) {
+                for (String name : bindings.keySet()) {
+                    if (!declarations.containsKey(name)) {
+                        unknown.add(name);
+                    }
+                }
+            }
+            Set<String> missing = new LinkedHashSet<>();
+            declarations.forEach((name, declaration) -> {
+                if (declaration.required() && bindings.get(name) == null && declaration.defaultValue() == null) {
+                    missing.add(name);
+                }
+            });
+            if (!missing.isEmpty() || !unknown.isEmpty()) {
+                result.setMissingVariables(List.copyOf(missing));
+                result.setUnknownVariables(List.copyOf(unknown));
+                result.setError(bindingError(missing, unknown));
+                return result;
+            }
+
+            StringBuilder content = new StringBuilder(literalLength + 16 * variables.length);
+            for (int i = 0; i < variables.length; i++) {
+                content.append(literals[i]);
+                Object value = bindings.get(variables[i]);
+                if (value == null) {
+                    Declaration declaration = declarations.get(variables[i]);
+                    value = declaration.defaultValue();
+                }
+                if (value != null) {
+                    content.append(html ? HtmlUtils.htmlEscape(value.toString()) : value.toString());
+                }
+            }
+            content.append(literals[variables.length]);
+            result.setContent(content.toString());
+            return result;
+        }
+
+        private static String bindingError(Set<String> missing, Set<String> unknown) {
+            List<String> problems = new ArrayList<>();
+            if (!missing.isEmpty()) {
+                problems.add("missing required variables " + missing);
+            }
+            if (!unknown.isEmpty()) {
+                problems.add("unknown variables " + unknown);
+            }
+            return "Invalid template variables: " + String.join(", ", problems);
+        }
+    }
+
+    /**
+     * One declared variable. A declaration that is not an object, such as a description string,
+     * declares a required variable without a default.
+     */
+    record Declaration(boolean required, Object defaultValue) {
+
+        static final Declaration REQUIRED = new Declaration(true, null);
+
+        static Declaration of(Object declaration) {
+            if (!(declaration instanceof Map<?, ?> attributes)) {
+                return REQUIRED;
+            }
+            return new Declaration(
+                    !Boolean.FALSE.equals(attributes.get("required")),
+                    attributes.get("default"));
+        }
+    }
+}
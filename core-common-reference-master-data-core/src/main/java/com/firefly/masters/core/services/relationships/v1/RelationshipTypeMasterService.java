@@ -19,7 +19,10 @@ package com.firefly.masters.core.services.relationships.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.relationships.v1.RelationshipTypeMasterDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
@@ -37,6 +40,24 @@ public interface RelationshipTypeMasterService {
      */
     Mono<PaginationResponse<RelationshipTypeMasterDTO>> listRelationshipTypes(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of relationship types, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the relationship types
+     */
+    Mono<PaginationResponse<RelationshipTypeMasterDTO>> listRelationshipTypes(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of relationship types using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the relationship types and the cursor of the next page
+     */
+    Mono<CursorPageDTO<RelationshipTypeMasterDTO>> listRelationshipTypesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
 
     /**
      * Creates a new relationship type record based on the provided RelationshipTypeMasterDTO.
@@ -20,16 +20,23 @@ package com.firefly.masters.core.services.relationships.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.relationships.v1.RelationshipTypeMasterMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.relationships.v1.RelationshipTypeMasterDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.relationships.v1.RelationshipTypeMaster;
 import com.firefly.masters.models.repositories.relationships.v1.RelationshipTypeMasterRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Service
@@ -44,11 +51,25 @@ public class RelationshipTypeMasterServiceImpl implements RelationshipTypeMaster
 
     @Override
     public Mono<PaginationResponse<RelationshipTypeMasterDTO>> listRelationshipTypes(PaginationRequest paginationRequest) {
+        return listRelationshipTypes(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<RelationshipTypeMasterDTO>> listRelationshipTypes(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<RelationshipTypeMasterDTO>> listRelationshipTypesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -60,26 +81,23 @@ public class RelationshipTypeMasterServiceImpl implements RelationshipTypeMaster
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.RELATIONSHIP_TYPE_MASTER, key = "#relationshipTypeId", sync = true)
     public Mono<RelationshipTypeMasterDTO> getRelationshipType(UUID relationshipTypeId) {
         return repository.findById(relationshipTypeId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.RELATIONSHIP_TYPE_MASTER, key = "#relationshipTypeId")
     public Mono<RelationshipTypeMasterDTO> updateRelationshipType(UUID relationshipTypeId, RelationshipTypeMasterDTO relationshipTypeDto) {
-        return repository.findById(relationshipTypeId)
-                .flatMap(foundRelationshipTypeMaster -> {
-                    RelationshipTypeMaster updatedRelationshipType = mapper.toEntity(relationshipTypeDto);
-                    updatedRelationshipType.setRelationshipTypeId(relationshipTypeId); // Preserving original id
-                    updatedRelationshipType.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedRelationshipType);
-                })
+        return repository.updateById(relationshipTypeId, mapper.toEntity(relationshipTypeDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.RELATIONSHIP_TYPE_MASTER, key = "#relationshipTypeId")
     public Mono<Void> deleteRelationshipType(UUID relationshipTypeId) {
-        return repository.findById(relationshipTypeId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(relationshipTypeId)
+                .then();
     }
 }
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.resolve.v1;
+
+import com.firefly.masters.interfaces.dtos.resolve.v1.ReferenceRequestDTO;
+import com.firefly.masters.interfaces.dtos.resolve.v1.ReferenceResultDTO;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+public interface ReferenceResolutionService {
+
+    /**
+     * Resolves references into several catalogs at once. References by ID are grouped per catalog and
+     * each group is fetched with a single query; references by code are answered from the in-memory
+     * natural-key, bank and lookup indexes.
+     *
+     * @param references the references to resolve
+     * @return a Mono emitting one result per reference, in request order, or an IllegalArgumentException
+     *         if more than {@link ReferenceResolutionServiceImpl#MAX_REFERENCES} references are given
+     */
+    Mono<List<ReferenceResultDTO>> resolveReferences(List<ReferenceRequestDTO> references);
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.resolve.v1;
+
+import com.firefly.masters.core.mappers.activity.v1.ActivityCodeMapper;
+import com.firefly.masters.core.mappers.bank.v1.BankInstitutionCodeMapper;
+import com.firefly.masters.core.mappers.country.v1.CountryMapper;
+import com.firefly.masters.core.mappers.currency.v1.CurrencyMapper;
+import com.firefly.masters.core.mappers.legal.v1.LegalFormMapper;
+import com.firefly.masters.core.mappers.locale.v1.LanguageLocaleMapper;
+import com.firefly.masters.core.mappers.lookup.v1.LookupItemMapper;
+import com.firefly.masters.core.mappers.title.v1.TitleMasterMapper;
+import com.firefly.masters.core.services.bank.v1.BankInstitutionIndex;
+import com.firefly.masters.core.services.lookup.v1.LookupItemTreeIndex;
+import com.firefly.masters.core.services.naturalkey.v1.NaturalKeyIndex;
+import com.firefly.masters.interfaces.dtos.activity.v1.ActivityCodeDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankInstitutionCodeDTO;
+import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
+import com.firefly.masters.interfaces.dtos.currency.v1.CurrencyDTO;
+import com.firefly.masters.interfaces.dtos.legal.v1.LegalFormDTO;
+import com.firefly.masters.interfaces.dtos.locale.v1.LanguageLocaleDTO;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemDTO;
+import com.firefly.masters.interfaces.dtos.resolve.v1.ReferenceRequestDTO;
+import com.firefly.masters.interfaces.dtos.resolve.v1.ReferenceResultDTO;
+import com.firefly.masters.interfaces.dtos.title.v1.TitleMasterDTO;
+import com.firefly.masters.interfaces.enums.resolve.v1.ReferenceCatalogEnum;
+import com.firefly.masters.models.repositories.activity.v1.ActivityCodeRepository;
+import com.firefly.masters.models.repositories.bank.v1.BankInstitutionCodeRepository;
+import com.firefly.masters.models.repositories.country.v1.CountryRepository;
+import com.firefly.masters.models.repositories.currency.v1.CurrencyRepository;
+import com.firefly.masters.models.repositories.legal.v1.LegalFormRepository;
+import com.firefly.masters.models.repositories.locale.v1.LanguageLocaleRepository;
+import com.firefly.masters.models.repositories.lookup.v1.LookupItemRepository;
+import com.firefly.masters.models.repositories.title.v1.TitleMasterRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+@Service
+@Transactional
+public class ReferenceResolutionServiceImpl implements ReferenceResolutionService {
+
+    /**
+     * Upper bound on the references of one request.
+     */
+    public static final int MAX_REFERENCES = 500;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CountryMapper countryMapper;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private CurrencyMapper currencyMapper;
+
+    @Autowired
+    private LanguageLocaleRepository languageLocaleRepository;
+
+    @Autowired
+    private LanguageLocaleMapper languageLocaleMapper;
+
+    @Autowired
+    private LegalFormRepository legalFormRepository;
+
+    @Autowired
+    private LegalFormMapper legalFormMapper;
+
+    @Autowired
+    private TitleMasterRepository titleRepository;
+
+    @Autowired
+    private TitleMasterMapper titleMapper;
+
+    @Autowired
+    private BankInstitutionCodeRepository bankRepository;
+
+    @Autowired
+    private BankInstitutionCodeMapper bankMapper;
+
+    @Autowired
+    private ActivityCodeRepository activityCodeRepository;
+
+    @Autowired
+    private ActivityCodeMapper activityCodeMapper;
+
+    @Autowired
+    private LookupItemRepository lookupItemRepository;
+
+    @Autowired
+    private LookupItemMapper lookupItemMapper;
+
+    @Autowired
+    private NaturalKeyIndex naturalKeyIndex;
+
+    @Autowired
+    private BankInstitutionIndex bankInstitutionIndex;
+
+    @Autowired
+    private LookupItemTreeIndex lookupItemTreeIndex;
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<List<ReferenceResultDTO>> resolveReferences(List<ReferenceRequestDTO> references) {
+        // Catalogs are fetched concurrently, each on its own connection, so this must not run in a transaction
+        return Mono.defer(() -> {
+            if (references.size() > MAX_REFERENCES) {
+                return Mono.error(new IllegalArgumentException(
+                        "At most " + MAX_REFERENCES + " references can be resolved at once"));
+            }
+            Map<ReferenceCatalogEnum, Set<UUID>> idsByCatalog = new EnumMap<>(ReferenceCatalogEnum.class);
+            for (ReferenceRequestDTO reference : references) {
+                if (reference != null && reference.getCatalog() != null && reference.getId() != null) {
+                    idsByCatalog.computeIfAbsent(reference.getCatalog(), catalog -> new LinkedHashSet<>())
+                            .add(reference.getId());
+                }
+            }
+            return Flux.fromIterable(idsByCatalog.entrySet())
+                    .flatMap(group -> findByIds(group.getKey(), group.getValue())
+                            .map(rows -> Map.entry(group.getKey(), rows)))
+                    .collectMap(Map.Entry::getKey, Map.Entry::getValue)
+                    .map(rowsByCatalog -> {
+                        List<ReferenceResultDTO> results = new ArrayList<>(references.size());
+                        for (int i = 0; i < references.size(); i++) {
+                            results.add(resolve(i, references.get(i), rowsByCatalog));
+                        }
+                        return results;
+                    });
+        });
+    }
+
+    private Mono<Map<UUID, Object>> findByIds(ReferenceCatalogEnum catalog, Set<UUID> ids) {
+        return switch (catalog) {
+            case COUNTRY -> collect(countryRepository.findAllById(ids).map(countryMapper::toSummaryDTO),
+                    CountryDTO::getCountryId);
+            case CURRENCY -> collect(currencyRepository.findAllById(ids).map(currencyMapper::toDTO),
+                    CurrencyDTO::getCurrencyId);
+            case LANGUAGE_LOCALE -> collect(languageLocaleRepository.findAllById(ids).map(languageLocaleMapper::toDTO),
+                    LanguageLocaleDTO::getLocaleId);
+            case LEGAL_FORM -> collect(legalFormRepository.findAllById(ids).map(legalFormMapper::toDTO),
+                    LegalFormDTO::getLegalFormId);
+            case TITLE -> collect(titleRepository.findAllById(ids).map(titleMapper::toDTO),
+                    TitleMasterDTO::getTitleId);
+            case BANK -> collect(bankRepository.findAllById(ids).map(bankMapper::toSummaryDTO),
+                    BankInstitutionCodeDTO::getInstitutionId);
+            case ACTIVITY_CODE -> collect(activityCodeRepository.findAllById(ids).map(activityCodeMapper::toDTO),
+                    ActivityCodeDTO::getActivityCodeId);
+            case LOOKUP_ITEM -> collect(lookupItemRepository.findAllById(ids).map(lookupItemMapper::toDTO),
+                    LookupItemDTO::getItemId);
+        };
+    }
+
+    private static <D> Mono<Map<UUID, Object>> collect(Flux<D> rows, Function<D, UUID> idOf) {
+        return rows.collectMap(idOf, Object.class::cast);
+    }
+
+    private ReferenceResultDTO resolve(long index, ReferenceRequestDTO reference,
+                                       Map<ReferenceCatalogEnum, Map<UUID, Object>> rowsByCatalog) {
+        ReferenceResultDTO result = ReferenceResultDTO.builder()
+                .index(index)
+                .found(false)
+                .build();
+        if (reference == null || reference.getCatalog() == null) {
+            result.setError("Catalog is required");
+            return result;
+        }
+        result.setCatalog(reference.getCatalog());
+        result.setId(reference.getId());
+        result.setCode(reference.getCode());
+
+        Object value;
+        if (reference.getId() != null) {
+            value = rowsByCatalog.getOrDefault(reference.getCatalog(), Map.of()).get(reference.getId());
+        } else if (reference.getCode() != null && !reference.getCode().isBlank()) {
+            try {
+                value = findByCode(reference);
+            } catch (IllegalArgumentException e) {
+                result.setError(e.getMessage());
+                return result;
+            }
+        } else {
+            result.setError("Either an ID or a code is required");
+            return result;
+        }
+        result.setFound(value != null);
+        result.setValue(value);
+        return result;
+    }
+
+    private Object findByCode(ReferenceRequestDTO reference) {
+        String code = reference.getCode();
+        return switch (reference.getCatalog()) {
+            case COUNTRY -> {
+                CountryDTO country = naturalKeyIndex.getCountry(code);
+                yield country == null ? null : countryMapper.toSummaryDTO(country);
+            }
+            case CURRENCY -> naturalKeyIndex.getCurrency(code);
+            case LANGUAGE_LOCALE -> naturalKeyIndex.getLanguageLocale(code);
+            case LEGAL_FORM -> naturalKeyIndex.getLegalForm(code, reference.getCountryId());
+            case TITLE -> naturalKeyIndex.getTitle(code);
+            case BANK -> bankInstitutionIndex.findBySwiftCode(code).orElse(null);
+            case ACTIVITY_CODE -> throw new IllegalArgumentException("Activity codes can only be referenced by ID");
+            case LOOKUP_ITEM -> {
+                if (reference.getDomainCode() == null || reference.getDomainCode().isBlank()) {
+                    throw new IllegalArgumentException("A domain code is required to reference a lookup item by code");
+                }
+                yield lookupItemTreeIndex.resolveItem(
+                        reference.getDomainCode(), reference.getTenantId(), code, LocalDate.now()).orElse(null);
+            }
+        };
+    }
+}
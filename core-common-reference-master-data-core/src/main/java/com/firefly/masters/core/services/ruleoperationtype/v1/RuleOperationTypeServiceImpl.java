@@ -20,11 +20,14 @@ package com.firefly.masters.core.services.ruleoperationtype.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.filters.FilterUtils;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.ruleoperationtype.v1.RuleOperationTypeMapper;
 import com.firefly.masters.interfaces.dtos.ruleoperationtype.v1.RuleOperationTypeDTO;
 import com.firefly.masters.models.entities.ruleoperationtype.v1.RuleOperationType;
 import com.firefly.masters.models.repositories.ruleoperationtype.v1.RuleOperationTypeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
@@ -61,26 +64,23 @@ public class RuleOperationTypeServiceImpl implements RuleOperationTypeService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.RULE_OPERATION_TYPE, key = "#operationTypeId", sync = true)
     public Mono<RuleOperationTypeDTO> getRuleOperationType(UUID operationTypeId) {
         return repository.findById(operationTypeId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.RULE_OPERATION_TYPE, key = "#operationTypeId")
     public Mono<RuleOperationTypeDTO> updateRuleOperationType(UUID operationTypeId, RuleOperationTypeDTO dto) {
-        return repository.findById(operationTypeId)
-                .flatMap(found -> {
-                    RuleOperationType updated = mapper.toEntity(dto);
-                    updated.setOperationTypeId(operationTypeId);
-                    updated.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updated);
-                })
+        return repository.updateById(operationTypeId, mapper.toEntity(dto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.RULE_OPERATION_TYPE, key = "#operationTypeId")
     public Mono<Void> deleteRuleOperationType(UUID operationTypeId) {
-        return repository.findById(operationTypeId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(operationTypeId)
+                .then();
     }
 }
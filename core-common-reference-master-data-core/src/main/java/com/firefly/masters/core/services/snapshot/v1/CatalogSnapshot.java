@@ -0,0 +1,28 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.snapshot.v1;
+
+/**
+ * A complete, pre-serialized catalog.
+ *
+ * @param body the catalog serialized as a JSON array
+ * @param eTag the strong entity tag of the body, including the surrounding quotes
+ * @param size the number of records in the catalog
+ */
+public record CatalogSnapshot(byte[] body, String eTag, int size) {
+}
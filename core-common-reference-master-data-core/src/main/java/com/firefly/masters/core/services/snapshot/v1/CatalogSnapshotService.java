@@ -0,0 +1,32 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.snapshot.v1;
+
+import reactor.core.publisher.Mono;
+
+public interface CatalogSnapshotService {
+
+    /**
+     * Retrieves the complete contents of a catalog, serialized as a JSON array.
+     * The snapshot is built once and served from memory until the catalog changes.
+     *
+     * @param catalog the catalog to retrieve
+     * @return a Mono emitting the current CatalogSnapshot of the catalog
+     */
+    Mono<CatalogSnapshot> getSnapshot(SnapshotCatalog catalog);
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.snapshot.v1;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.country.v1.CountryMapper;
+import com.firefly.masters.core.mappers.currency.v1.CurrencyMapper;
+import com.firefly.masters.core.mappers.legal.v1.LegalFormMapper;
+import com.firefly.masters.core.mappers.locale.v1.LanguageLocaleMapper;
+import com.firefly.masters.core.mappers.lookup.v1.LookupItemMapper;
+import com.firefly.masters.models.entities.country.v1.Country;
+import com.firefly.masters.models.entities.currency.v1.Currency;
+import com.firefly.masters.models.entities.legal.v1.LegalForm;
+import com.firefly.masters.models.entities.locale.v1.LanguageLocale;
+import com.firefly.masters.models.entities.lookup.v1.LookupItem;
+import com.firefly.masters.models.repositories.country.v1.CountryRepository;
+import com.firefly.masters.models.repositories.currency.v1.CurrencyRepository;
+import com.firefly.masters.models.repositories.legal.v1.LegalFormRepository;
+import com.firefly.masters.models.repositories.locale.v1.LanguageLocaleRepository;
+import com.firefly.masters.models.repositories.lookup.v1.LookupItemRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+
+@Service
+public class CatalogSnapshotServiceImpl implements CatalogSnapshotService {
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private CountryMapper countryMapper;
+
+    @Autowired
+    private CurrencyRepository currencyRepository;
+
+    @Autowired
+    private CurrencyMapper currencyMapper;
+
+    @Autowired
+    private LanguageLocaleRepository languageLocaleRepository;
+
+    @Autowired
+    private LanguageLocaleMapper languageLocaleMapper;
+
+    @Autowired
+    private LegalFormRepository legalFormRepository;
+
+    @Autowired
+    private LegalFormMapper legalFormMapper;
+
+    @Autowired
+    private LookupItemRepository lookupItemRepository;
+
+    @Autowired
+    private LookupItemMapper lookupItemMapper;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final Map<SnapshotCatalog, Mono<CatalogSnapshot>> snapshots = new ConcurrentHashMap<>();
+
+    @Override
+    public Mono<CatalogSnapshot> getSnapshot(SnapshotCatalog catalog) {
+        Mono<CatalogSnapshot> snapshot = snapshots.computeIfAbsent(catalog, key -> load(key).cache());
+        // Failed builds must not be served from memory; the next request retries.
+        return snapshot.doOnError(e -> snapshots.remove(catalog, snapshot));
+    }
+
+    /**
+     * Drops the snapshots of changed catalogs. They are rebuilt on the next request.
+     */
+    @EventListener
+    public void onCatalogChange(CatalogChangeEvent event) {
+        if (event.isResync()) {
+            snapshots.clear();
+            return;
+        }
+        for (SnapshotCatalog catalog : SnapshotCatalog.values()) {
+            if (catalog.getTable().equals(event.table())) {
+                snapshots.remove(catalog);
+            }
+        }
+    }
+
+    private Mono<CatalogSnapshot> load(SnapshotCatalog catalog) {
+        return switch (catalog) {
+            case COUNTRIES -> build(countryRepository.findAll(),
+                    Country::getCountryId, Country::getDateUpdated, countryMapper::toDTO);
+            case CURRENCIES -> build(currencyRepository.findAll(),
+                    Currency::getCurrencyId, Currency::getDateUpdated, currencyMapper::toDTO);
+            case LANGUAGE_LOCALES -> build(languageLocaleRepository.findAll(),
+                    LanguageLocale::getLocaleId, LanguageLocale::getDateUpdated, languageLocaleMapper::toDTO);
+            case LEGAL_FORMS -> build(legalFormRepository.findAll(),
+                    LegalForm::getLegalFormId, LegalForm::getDateUpdated, legalFormMapper::toDTO);
+            case LOOKUP_ITEMS -> build(lookupItemRepository.findAll(),
+                    LookupItem::getItemId, LookupItem::getDateUpdated, lookupItemMapper::toDTO);
+        };
+    }
+
+    private <E, D> Mono<CatalogSnapshot> build(Flux<E> rows,
+                                               Function<E, UUID> id,
+                                               Function<E, LocalDateTime> dateUpdated,
+                                               Function<E, D> toDTO) {
+        return rows.collectList()
+                .map(entities -> {
+                    // A stable order keeps the body, and therefore the ETag, stable between rebuilds.
+                    entities.sort(Comparator.comparing(id, Comparator.nullsLast(Comparator.naturalOrder())));
+                    LocalDateTime lastUpdated = entities.stream()
+                            .map(dateUpdated)
+                            .filter(Objects::nonNull)
+                            .max(Comparator.naturalOrder())
+                            .orElse(null);
+                    List<D> dtos = entities.stream().map(toDTO).toList();
+                    byte[] body = serialize(dtos);
+                    return new CatalogSnapshot(body, eTag(entities.size(), lastUpdated, body), entities.size());
+                });
+    }
+
+    private byte[] serialize(List<?> dtos) {
+        try {
+            return objectMapper.writeValueAsBytes(dtos);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize catalog snapshot", e);
+        }
+    }
+
+    /**
+     * Builds a strong ETag from the row count and the latest {@code date_updated}. A checksum of
+     * the body is appended so that updates which do not touch {@code date_updated} still change
+     * the tag.
+     */
+    private static String eTag(int count, LocalDateTime lastUpdated, byte[] body) {
+        CRC32 crc = new CRC32();
+        crc.update(body);
+        long lastUpdatedMicros = lastUpdated == null ? 0L
+                : lastUpdated.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + lastUpdated.getNano() / 1_000L;
+        return "\"" + count + "-" + Long.toHexString(lastUpdatedMicros) + "-" + Long.toHexString(crc.getValue()) + "\"";
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.snapshot.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Catalogs that can be replicated by clients, either as a whole through the snapshot endpoint
+ * or incrementally through the changes endpoint.
+ */
+public enum SnapshotCatalog {
+
+    COUNTRIES("countries", CatalogCacheNames.COUNTRIES),
+    CURRENCIES("currencies", CatalogCacheNames.CURRENCIES),
+    LANGUAGE_LOCALES("language-locales", CatalogCacheNames.LANGUAGE_LOCALE),
+    LEGAL_FORMS("legal-forms", CatalogCacheNames.LEGAL_FORM),
+    LOOKUP_ITEMS("lookup-items", CatalogCacheNames.LOOKUP_ITEM);
+
+    private final String path;
+    private final String table;
+
+    SnapshotCatalog(String path, String table) {
+        this.path = path;
+        this.table = table;
+    }
+
+    /**
+     * @return the path segment identifying the catalog in the snapshot API
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * @return the table backing the catalog
+     */
+    public String getTable() {
+        return table;
+    }
+
+    /**
+     * Resolves a catalog from its path segment.
+     *
+     * @param path the path segment, e.g. {@code language-locales}
+     * @return the matching catalog, or an empty Optional if the catalog is not available as a snapshot
+     */
+    public static Optional<SnapshotCatalog> fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(catalog -> catalog.path.equals(path))
+                .findFirst();
+    }
+}
@@ -19,9 +19,13 @@ package com.firefly.masters.core.services.title.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.title.v1.TitleMasterDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -37,6 +41,24 @@ public interface TitleMasterService {
      */
     Mono<PaginationResponse<TitleMasterDTO>> listTitles(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of titles, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the titles
+     */
+    Mono<PaginationResponse<TitleMasterDTO>> listTitles(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a page of titles using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the titles and the cursor of the next page
+     */
+    Mono<CursorPageDTO<TitleMasterDTO>> listTitlesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * Creates a new title master record based on the provided TitleMasterDTO.
      *
@@ -53,6 +75,27 @@ public interface TitleMasterService {
      */
     Mono<TitleMasterDTO> getTitle(UUID titleId);
 
+    /**
+     * Retrieves a title by its prefix, matched case-insensitively, from the in-memory natural-key index.
+     * Prefixes are not unique, so a prefix used by several titles is an error rather than an arbitrary pick.
+     *
+     * @param prefix the prefix, such as Dr.
+     * @return a Mono emitting the TitleMasterDTO, an empty Mono if not found, or an IllegalArgumentException
+     *         if several titles use the prefix
+     */
+    Mono<TitleMasterDTO> getTitleByPrefix(String prefix);
+
+    /**
+     * Retrieves the titles with any of the given prefixes, matched case-insensitively, from the
+     * in-memory natural-key index. Unknown and repeated prefixes are skipped; a prefix used by several titles
+     * returns all of them.
+     *
+     * @param prefixes the prefixes
+     * @return a Flux emitting the matches in the order of their prefixes, or an IllegalArgumentException
+     *         if no or too many prefixes are given
+     */
+    Flux<TitleMasterDTO> getTitlesByPrefixes(List<String> prefixes);
+
     /**
      * Updates the details of an existing title by its unique identifier.
      *
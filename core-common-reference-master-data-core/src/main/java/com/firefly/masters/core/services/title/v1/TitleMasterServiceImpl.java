@@ -20,17 +20,28 @@ package com.firefly.masters.core.services.title.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.title.v1.TitleMasterMapper;
+import com.firefly.masters.core.services.naturalkey.v1.NaturalKeyIndex;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.title.v1.TitleMasterDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.models.entities.relationships.v1.RelationshipTypeMaster;
 import com.firefly.masters.models.entities.title.v1.TitleMaster;
 import com.firefly.masters.models.repositories.title.v1.TitleMasterRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
-import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Service
@@ -43,13 +54,30 @@ public class TitleMasterServiceImpl implements TitleMasterService {
     @Autowired
     private TitleMasterMapper mapper;
 
+    @Autowired
+    private NaturalKeyIndex naturalKeyIndex;
+
     @Override
     public Mono<PaginationResponse<TitleMasterDTO>> listTitles(PaginationRequest paginationRequest) {
+        return listTitles(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<TitleMasterDTO>> listTitles(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<TitleMasterDTO>> listTitlesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
         );
     }
 
@@ -61,26 +89,35 @@ public class TitleMasterServiceImpl implements TitleMasterService {
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.TITLE_MASTER, key = "#titleId", sync = true)
     public Mono<TitleMasterDTO> getTitle(UUID titleId) {
         return repository.findById(titleId)
                 .map(mapper::toDTO);
     }
 
     @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<TitleMasterDTO> getTitleByPrefix(String prefix) {
+        return Mono.fromSupplier(() -> naturalKeyIndex.getTitle(prefix));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Flux<TitleMasterDTO> getTitlesByPrefixes(List<String> prefixes) {
+        return Flux.defer(() -> Flux.fromIterable(naturalKeyIndex.getTitles(prefixes)));
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.TITLE_MASTER, key = "#titleId")
     public Mono<TitleMasterDTO> updateTitle(UUID titleId, TitleMasterDTO titleDto) {
-        return repository.findById(titleId)
-                .flatMap(title -> {
-                    TitleMaster titleMaster = mapper.toEntity(titleDto);
-                    titleMaster.setTitleId(titleId); // Preserve actual id
-                    titleMaster.setDateUpdated(LocalDateTime.now()); // Update the field
-                    return repository.save(titleMaster);
-                })
+        return repository.updateById(titleId, mapper.toEntity(titleDto))
                 .map(mapper::toDTO);
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.TITLE_MASTER, key = "#titleId")
     public Mono<Void> deleteTitle(UUID titleId) {
-        return repository.findById(titleId)
-                .flatMap(repository::delete);
+        return repository.deleteByIdReturningCount(titleId)
+                .then();
     }
 }
@@ -19,8 +19,13 @@ package com.firefly.masters.core.services.transaction.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryCatalogDTO;
+import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryTreeNodeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -36,6 +41,35 @@ public interface TransactionCategoryCatalogService {
      */
     Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listTransactionCategories(PaginationRequest paginationRequest);
 
+    /**
+     * Retrieves a paginated list of transaction categories, computing the total count as requested.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @return a Mono emitting a PaginationResponse containing the transaction categories
+     */
+    Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listTransactionCategories(PaginationRequest paginationRequest, CountModeEnum countMode);
+
+    /**
+     * Retrieves a paginated list of transaction categories, reading only the requested fields from the database.
+     *
+     * @param paginationRequest the pagination request containing paging parameters
+     * @param countMode how to compute the total number of elements
+     * @param fields the fields to return, {@code *} for all; null or empty for every field except large ones
+     * @return a Mono emitting a PaginationResponse containing the transaction categories, or an IllegalArgumentException
+     *         if a field is unknown
+     */
+    Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listTransactionCategories(PaginationRequest paginationRequest, CountModeEnum countMode, List<String> fields);
+
+    /**
+     * Retrieves a page of transaction categories using keyset (cursor) pagination. Unlike offset pagination, the
+     * cost of a page does not depend on its depth, and the total count is only computed on request.
+     *
+     * @param cursorPaginationRequest the cursor of the previous page, the page size and the sort key
+     * @return a Mono emitting a CursorPageDTO containing the transaction categories and the cursor of the next page
+     */
+    Mono<CursorPageDTO<TransactionCategoryCatalogDTO>> listTransactionCategoriesByCursor(CursorPaginationRequest cursorPaginationRequest);
+
     /**
      * List all root transaction categories (categories without a parent) with pagination.
      *
@@ -53,6 +87,16 @@ public interface TransactionCategoryCatalogService {
      */
     Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listChildTransactionCategories(UUID parentCategoryId, PaginationRequest paginationRequest);
 
+    /**
+     * Get the whole transaction category tree, with names and descriptions localized server-side.
+     * The tree is read in a single query and cached per locale code, compared case-insensitively as in the query.
+     * Categories whose parents form a cycle cannot be placed under a root; they are logged and left out.
+     *
+     * @param locale the locale code to localize to, e.g. es-ES; null for the default names
+     * @return the root categories, each with its child categories nested and sorted by code
+     */
+    Mono<List<TransactionCategoryTreeNodeDTO>> getTransactionCategoryTree(String locale);
+
     /**
      * Create a new transaction category.
      *
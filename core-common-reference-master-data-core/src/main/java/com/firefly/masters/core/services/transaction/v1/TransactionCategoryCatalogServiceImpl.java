@@ -20,22 +20,42 @@ package com.firefly.masters.core.services.transaction.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.transaction.v1.TransactionCategoryCatalogMapper;
+import com.firefly.masters.core.utils.CountUtils;
+import com.firefly.masters.core.utils.CursorPaginationUtils;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryCatalogDTO;
+import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryTreeNodeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import com.firefly.masters.models.entities.transaction.v1.LocalizedTransactionCategory;
 import com.firefly.masters.models.entities.transaction.v1.TransactionCategoryCatalog;
 import com.firefly.masters.models.repositories.transaction.v1.TransactionCategoryCatalogRepository;
-import com.firefly.masters.models.repositories.transaction.v1.TransactionCategoryLocalizationRepository;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
  * Implementation of the TransactionCategoryCatalogService interface.
  */
+@Slf4j
 @Service
 @Transactional
 public class TransactionCategoryCatalogServiceImpl implements TransactionCategoryCatalogService {
@@ -43,27 +63,48 @@ public class TransactionCategoryCatalogServiceImpl implements TransactionCategor
     @Autowired
     private TransactionCategoryCatalogRepository repository;
 
-    @Autowired
-    private TransactionCategoryLocalizationRepository localizationRepository;
-
     @Autowired
     private TransactionCategoryCatalogMapper mapper;
 
     @Override
     public Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listTransactionCategories(PaginationRequest paginationRequest) {
+        return listTransactionCategories(paginationRequest, CountModeEnum.EXACT);
+    }
+
+    @Override
+    public Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listTransactionCategories(PaginationRequest paginationRequest, CountModeEnum countMode) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
                 pageable -> repository.findAllBy(pageable),
-                () -> repository.count()
+                () -> CountUtils.count(countMode, repository)
         );
     }
 
     @Override
-    public Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listRootTransactionCategories(PaginationRequest paginationRequest) {
+    public Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listTransactionCategories(PaginationRequest paginationRequest, CountModeEnum countMode, List<String> fields) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
                 mapper::toDTO,
+                pageable -> repository.findAllBy(pageable, fields),
+                () -> CountUtils.count(countMode, repository)
+        );
+    }
+
+    @Override
+    public Mono<CursorPageDTO<TransactionCategoryCatalogDTO>> listTransactionCategoriesByCursor(CursorPaginationRequest cursorPaginationRequest) {
+        return CursorPaginationUtils.paginateQuery(
+                cursorPaginationRequest,
+                mapper::toDTO,
+                repository
+        );
+    }
+
+    @Override
+    public Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listRootTransactionCategories(PaginationRequest paginationRequest) {
+        return PaginationUtils.paginateQuery(
+                paginationRequest,
+                mapper::toSummaryDTO,
                 pageable -> repository.findRootCategories(pageable),
                 () -> repository.countRootCategories()
         );
@@ -73,13 +114,22 @@ public class TransactionCategoryCatalogServiceImpl implements TransactionCategor
     public Mono<PaginationResponse<TransactionCategoryCatalogDTO>> listChildTransactionCategories(UUID parentCategoryId, PaginationRequest paginationRequest) {
         return PaginationUtils.paginateQuery(
                 paginationRequest,
-                mapper::toDTO,
+                mapper::toSummaryDTO,
                 pageable -> repository.findByParentCategoryId(parentCategoryId, pageable),
                 () -> repository.countByParentCategoryId(parentCategoryId)
         );
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_TREE, key = "#locale == null ? '' : #locale.toLowerCase(T(java.util.Locale).ROOT)", sync = true)
+    public Mono<List<TransactionCategoryTreeNodeDTO>> getTransactionCategoryTree(String locale) {
+        return repository.findAllLocalized(locale)
+                .collectList()
+                .map(TransactionCategoryCatalogServiceImpl::buildTree);
+    }
+
+    @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_TREE, allEntries = true)
     public Mono<TransactionCategoryCatalogDTO> createTransactionCategory(TransactionCategoryCatalogDTO transactionCategoryDTO) {
         // Set audit fields
         LocalDateTime now = LocalDateTime.now();
@@ -92,6 +142,7 @@ public class TransactionCategoryCatalogServiceImpl implements TransactionCategor
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_CATALOG, key = "#categoryId", sync = true)
     public Mono<TransactionCategoryCatalogDTO> getTransactionCategory(UUID categoryId) {
         return repository.findById(categoryId)
                 .flatMap(this::enrichWithParentCategory);
@@ -104,24 +155,27 @@ public class TransactionCategoryCatalogServiceImpl implements TransactionCategor
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_CATALOG, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_TREE, allEntries = true)
+    })
     public Mono<TransactionCategoryCatalogDTO> updateTransactionCategory(UUID categoryId, TransactionCategoryCatalogDTO transactionCategoryDTO) {
-        return repository.findById(categoryId)
-                .flatMap(existingCategory -> {
-                    TransactionCategoryCatalog updatedCategory = mapper.toEntity(transactionCategoryDTO);
-                    updatedCategory.setCategoryId(categoryId);
-                    updatedCategory.setDateCreated(existingCategory.getDateCreated());
-                    updatedCategory.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedCategory);
-                })
+        return repository.updateById(categoryId, mapper.toEntity(transactionCategoryDTO))
                 .flatMap(this::enrichWithParentCategory);
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_CATALOG, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_LOCALIZATION, allEntries = true),
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_TREE, allEntries = true)
+    })
     public Mono<Void> deleteTransactionCategory(UUID categoryId) {
-        return repository.findById(categoryId)
+        // Localizations are removed by ON DELETE CASCADE in the same statement
+        return repository.deleteByIdReturningCount(categoryId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction category not found with ID: " + categoryId)))
-                .flatMap(entity -> localizationRepository.deleteByCategoryId(categoryId)
-                        .then(repository.deleteById(categoryId)));
+                .then();
     }
 
     /**
@@ -142,4 +196,63 @@ public class TransactionCategoryCatalogServiceImpl implements TransactionCategor
 
         return Mono.just(dto);
     }
+
+    /**
+     * Nests localized category rows under their parents. Rows arrive sorted by code, so children
+     * keep that order; a category whose parent is missing is returned as a root.
+     *
+     * @param rows the localized rows of every category
+     * @return the root nodes of the tree
+     */
+    private static List<TransactionCategoryTreeNodeDTO> buildTree(List<LocalizedTransactionCategory> rows) {
+        Map<UUID, TransactionCategoryTreeNodeDTO> nodes = new HashMap<>();
+        for (LocalizedTransactionCategory row : rows) {
+            boolean localized = row.getLocalizedName() != null;
+            nodes.put(row.getCategoryId(), TransactionCategoryTreeNodeDTO.builder()
+                    .categoryId(row.getCategoryId())
+                    .categoryCode(row.getCategoryCode())
+                    .categoryName(localized ? row.getLocalizedName() : row.getCategoryName())
+                    .description(localized && row.getLocalizedDescription() != null
+                            ? row.getLocalizedDescription()
+                            : row.getDescription())
+                    .localized(localized)
+                    .status(row.getStatus())
+                    .build());
+        }
+        List<TransactionCategoryTreeNodeDTO> roots = new ArrayList<>();
+        for (LocalizedTransactionCategory row : rows) {
+            TransactionCategoryTreeNodeDTO node = nodes.get(row.getCategoryId());
+            TransactionCategoryTreeNodeDTO parent = row.getParentCategoryId() == null
+                    ? null
+                    : nodes.get(row.getParentCategoryId());
+            if (parent == null) {
+                roots.add(node);
+            } else {
+                parent.getChildren().add(node);
+            }
+        }
+        logUnreachable(nodes, roots);
+        return List.copyOf(roots);
+    }
+
+    /**
+     * Categories in a parent_category_id cycle, and those below them, have a parent and so are never
+     * roots, nor reachable from one.
+     */
+    private static void logUnreachable(Map<UUID, TransactionCategoryTreeNodeDTO> nodes, List<TransactionCategoryTreeNodeDTO> roots) {
+        Set<UUID> reached = new HashSet<>();
+        Deque<TransactionCategoryTreeNodeDTO> pending = new ArrayDeque<>(roots);
+        while (!pending.isEmpty()) {
+            TransactionCategoryTreeNodeDTO node = pending.pop();
+            if (reached.add(node.getCategoryId())) {
+                pending.addAll(node.getChildren());
+            }
+        }
+        if (reached.size() < nodes.size()) {
+            log.warn("Leaving transaction categories {} out of the tree: they are in or below a parent_category_id cycle",
+                    nodes.keySet().stream()
+                            .filter(categoryId -> !reached.contains(categoryId))
+                            .toList());
+        }
+    }
 }
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.transaction.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.mappers.transaction.v1.TransactionCategoryLocalizationMapper;
+import com.firefly.masters.core.services.locale.v1.AbstractLocalizationIndex;
+import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.transaction.v1.TransactionCategoryCatalog;
+import com.firefly.masters.models.repositories.transaction.v1.TransactionCategoryCatalogRepository;
+import com.firefly.masters.models.repositories.transaction.v1.TransactionCategoryLocalizationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+/**
+ * Resolves transaction category localizations through the locale fallback chain. The catalog default is
+ * {@code category_name} and {@code description} of the transaction category itself.
+ */
+@Component
+public class TransactionCategoryLocalizationIndex extends AbstractLocalizationIndex<TransactionCategoryCatalog, TransactionCategoryLocalizationDTO> {
+
+    @Autowired
+    private TransactionCategoryCatalogRepository catalogRepository;
+
+    @Autowired
+    private TransactionCategoryLocalizationRepository repository;
+
+    @Autowired
+    private TransactionCategoryLocalizationMapper mapper;
+
+    @Override
+    protected String catalogTable() {
+        return CatalogCacheNames.TRANSACTION_CATEGORY_CATALOG;
+    }
+
+    @Override
+    protected String localizationTable() {
+        return CatalogCacheNames.TRANSACTION_CATEGORY_LOCALIZATION;
+    }
+
+    @Override
+    protected Flux<TransactionCategoryCatalog> loadCatalog() {
+        return catalogRepository.findAll();
+    }
+
+    @Override
+    protected Flux<TransactionCategoryLocalizationDTO> loadLocalizations() {
+        return repository.findAll().map(mapper::toDTO);
+    }
+
+    @Override
+    protected Mono<TransactionCategoryCatalog> loadCatalogRow(UUID id) {
+        return catalogRepository.findById(id);
+    }
+
+    @Override
+    protected Mono<TransactionCategoryLocalizationDTO> loadLocalization(UUID id) {
+        return repository.findById(id).map(mapper::toDTO);
+    }
+
+    @Override
+    protected UUID idOf(TransactionCategoryCatalog row) {
+        return row.getCategoryId();
+    }
+
+    @Override
+    protected UUID localizationIdOf(TransactionCategoryLocalizationDTO localization) {
+        return localization.getLocalizationId();
+    }
+
+    @Override
+    protected UUID ownerOf(TransactionCategoryLocalizationDTO localization) {
+        return localization.getCategoryId();
+    }
+
+    @Override
+    protected UUID localeOf(TransactionCategoryLocalizationDTO localization) {
+        return localization.getLocaleId();
+    }
+
+    @Override
+    protected StatusEnum statusOf(TransactionCategoryLocalizationDTO localization) {
+        return localization.getStatus();
+    }
+
+    @Override
+    protected TransactionCategoryLocalizationDTO catalogDefault(TransactionCategoryCatalog row) {
+        if (row.getCategoryName() == null && row.getDescription() == null) {
+            return null;
+        }
+        return TransactionCategoryLocalizationDTO.builder()
+                .categoryId(row.getCategoryId())
+                .categoryName(row.getCategoryName())
+                .description(row.getDescription())
+                .status(row.getStatus())
+                .build();
+    }
+}
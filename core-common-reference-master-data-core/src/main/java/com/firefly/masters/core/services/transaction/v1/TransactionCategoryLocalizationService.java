@@ -19,6 +19,7 @@ package com.firefly.masters.core.services.transaction.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryLocalizationDTO;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -87,4 +88,15 @@ public interface TransactionCategoryLocalizationService {
      * @return a Mono that completes when the transaction category localization is deleted
      */
     Mono<Void> deleteTransactionCategoryLocalization(UUID localizationId);
+
+    /**
+     * Resolve the name and description of a transaction category in a locale. The language of the locale is
+     * tried next, then the category's own name and description, then the platform default locale.
+     *
+     * @param categoryId the ID of the transaction category
+     * @param locale the requested locale code, such as es-MX
+     * @return the resolved localization and the fallback step it was found at, or empty if the
+     *         transaction category is unknown or nothing along the chain localizes it
+     */
+    Mono<ResolvedLocalizationDTO<TransactionCategoryLocalizationDTO>> resolveTransactionCategoryLocalization(UUID categoryId, String locale);
 }
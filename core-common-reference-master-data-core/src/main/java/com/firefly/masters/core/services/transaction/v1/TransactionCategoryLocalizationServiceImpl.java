@@ -20,12 +20,17 @@ package com.firefly.masters.core.services.transaction.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import org.fireflyframework.core.queries.PaginationUtils;
+import com.firefly.masters.core.cache.CatalogCacheNames;
 import com.firefly.masters.core.mappers.transaction.v1.TransactionCategoryLocalizationMapper;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryLocalizationDTO;
-import com.firefly.masters.models.entities.transaction.v1.TransactionCategoryLocalization;
 import com.firefly.masters.models.repositories.transaction.v1.TransactionCategoryLocalizationRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -46,6 +51,9 @@ public class TransactionCategoryLocalizationServiceImpl implements TransactionCa
     @Autowired
     private TransactionCategoryLocalizationMapper mapper;
 
+    @Autowired
+    private TransactionCategoryLocalizationIndex index;
+
     @Override
     public Flux<TransactionCategoryLocalizationDTO> getLocalizationsByCategoryId(UUID categoryId) {
         return repository.findByCategoryId(categoryId)
@@ -64,6 +72,7 @@ public class TransactionCategoryLocalizationServiceImpl implements TransactionCa
     }
 
     @Override
+    @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_TREE, allEntries = true)
     public Mono<TransactionCategoryLocalizationDTO> createTransactionCategoryLocalization(TransactionCategoryLocalizationDTO localizationDTO) {
         // Set audit fields
         LocalDateTime now = LocalDateTime.now();
@@ -78,6 +87,7 @@ public class TransactionCategoryLocalizationServiceImpl implements TransactionCa
     }
 
     @Override
+    @Cacheable(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_LOCALIZATION, key = "#localizationId", sync = true)
     public Mono<TransactionCategoryLocalizationDTO> getTransactionCategoryLocalization(UUID localizationId) {
         return repository.findById(localizationId)
                 .map(mapper::toDTO)
@@ -92,23 +102,31 @@ public class TransactionCategoryLocalizationServiceImpl implements TransactionCa
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_LOCALIZATION, key = "#localizationId"),
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_TREE, allEntries = true)
+    })
     public Mono<TransactionCategoryLocalizationDTO> updateTransactionCategoryLocalization(UUID localizationId, TransactionCategoryLocalizationDTO localizationDTO) {
-        return repository.findById(localizationId)
-                .flatMap(existingLocalization -> {
-                    TransactionCategoryLocalization updatedLocalization = mapper.toEntity(localizationDTO);
-                    updatedLocalization.setLocalizationId(localizationId);
-                    updatedLocalization.setDateCreated(existingLocalization.getDateCreated());
-                    updatedLocalization.setDateUpdated(LocalDateTime.now());
-                    return repository.save(updatedLocalization);
-                })
+        return repository.updateById(localizationId, mapper.toEntity(localizationDTO))
                 .map(mapper::toDTO)
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction category localization not found with ID: " + localizationId)));
     }
 
     @Override
+    @Caching(evict = {
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_LOCALIZATION, key = "#localizationId"),
+            @CacheEvict(cacheNames = CatalogCacheNames.TRANSACTION_CATEGORY_TREE, allEntries = true)
+    })
     public Mono<Void> deleteTransactionCategoryLocalization(UUID localizationId) {
-        return repository.findById(localizationId)
+        return repository.deleteByIdReturningCount(localizationId)
+                .filter(deleted -> deleted > 0)
                 .switchIfEmpty(Mono.error(new RuntimeException("Transaction category localization not found with ID: " + localizationId)))
-                .flatMap(repository::delete);
+                .then();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<ResolvedLocalizationDTO<TransactionCategoryLocalizationDTO>> resolveTransactionCategoryLocalization(UUID categoryId, String locale) {
+        return Mono.fromSupplier(() -> index.resolve(categoryId, locale));
     }
 }
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.utils;
+
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.BulkUpsertStatusEnum;
+import com.firefly.masters.models.repositories.BaseRepository;
+import com.firefly.masters.models.repositories.UpsertedRow;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Streams rows into a catalog table with multi-row {@code INSERT ... ON CONFLICT} statements.
+ * <p>
+ * Input rows are grouped in chunks of {@link #CHUNK_SIZE}, and each chunk is written by one statement
+ * in its own transaction. Only one chunk is in flight at a time, so demand on the request body (and
+ * memory) stays bounded however large the load is. When a chunk fails, for example because one row
+ * violates a constraint, it is retried row by row so that only the offending rows are reported as
+ * failed.
+ */
+public final class BulkUpsertUtils {
+
+    public static final int CHUNK_SIZE = 500;
+
+    private BulkUpsertUtils() {
+    }
+
+    /**
+     * Upserts a stream of rows on a natural key.
+     *
+     * @param rows the rows to write, e.g. decoded from a JSON array or an NDJSON request body
+     * @param toEntity maps a row to its entity
+     * @param repository the repository to write to
+     * @param conflictTarget the ON CONFLICT target of the repository's natural key
+     * @param transactionalOperator runs each chunk in its own transaction
+     * @return a Flux emitting one result per input row, in input order
+     */
+    public static <D, E> Flux<BulkUpsertResultDTO> upsert(Flux<D> rows,
+                                                          Function<D, E> toEntity,
+                                                          BaseRepository<E, UUID> repository,
+                                                          String conflictTarget,
+                                                          TransactionalOperator transactionalOperator) {
+        return rows.index()
+                .buffer(CHUNK_SIZE)
+                .concatMap(chunk -> upsertChunk(chunk, toEntity, repository, conflictTarget, transactionalOperator), 1);
+    }
+
+    private static <D, E> Flux<BulkUpsertResultDTO> upsertChunk(List<Tuple2<Long, D>> chunk,
+                                                                Function<D, E> toEntity,
+                                                                BaseRepository<E, UUID> repository,
+                                                                String conflictTarget,
+                                                                TransactionalOperator transactionalOperator) {
+        return Mono.fromCallable(() -> chunk.stream().map(row -> toEntity.apply(row.getT2())).toList())
+                .flatMap(entities -> transactionalOperator.transactional(
+                        repository.upsertAll(entities, conflictTarget).collectList()))
+                .flatMapMany(upserted -> {
+                    if (upserted.size() != chunk.size()) {
+                        return Flux.error(new IllegalStateException(
+                                "Expected " + chunk.size() + " upserted rows but got " + upserted.size()));
+                    }
+                    return Flux.range(0, chunk.size())
+                            .map(i -> success(chunk.get(i).getT1(), upserted.get(i)));
+                })
+                .onErrorResume(e -> upsertRowByRow(chunk, toEntity, repository, conflictTarget));
+    }
+
+    private static <D, E> Flux<BulkUpsertResultDTO> upsertRowByRow(List<Tuple2<Long, D>> chunk,
+                                                                   Function<D, E> toEntity,
+                                                                   BaseRepository<E, UUID> repository,
+                                                                   String conflictTarget) {
+        return Flux.fromIterable(chunk)
+                .concatMap(row -> Mono.fromCallable(() -> toEntity.apply(row.getT2()))
+                        .flatMap(entity -> repository.upsertAll(List.of(entity), conflictTarget).next())
+                        .map(upserted -> success(row.getT1(), upserted))
+                        .onErrorResume(e -> Mono.just(failure(row.getT1(), e))));
+    }
+
+    private static BulkUpsertResultDTO success(long index, UpsertedRow<UUID> upserted) {
+        return BulkUpsertResultDTO.builder()
+                .index(index)
+                .id(upserted.id())
+                .status(upserted.inserted() ? BulkUpsertStatusEnum.CREATED : BulkUpsertStatusEnum.UPDATED)
+                .build();
+    }
+
+    private static BulkUpsertResultDTO failure(long index, Throwable error) {
+        return BulkUpsertResultDTO.builder()
+                .index(index)
+                .status(BulkUpsertStatusEnum.FAILED)
+                .error(error.getMessage())
+                .build();
+    }
+}
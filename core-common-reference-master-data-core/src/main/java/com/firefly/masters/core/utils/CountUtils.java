@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.utils;
+
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import com.firefly.masters.models.repositories.BaseRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * Computes the total element count of a paginated listing according to the requested
+ * {@link CountModeEnum}. An exact {@code COUNT(*)} scans the whole table, which on large catalogs
+ * can cost more than the page itself; clients that only render "next" links can opt out of it.
+ */
+public final class CountUtils {
+
+    /**
+     * Total reported when no count was computed.
+     */
+    public static final long NOT_COUNTED = -1L;
+
+    private CountUtils() {
+    }
+
+    /**
+     * Counts the rows of a repository.
+     *
+     * @param countMode how to count; null means {@link CountModeEnum#EXACT}
+     * @param repository the repository to count
+     * @return a Mono emitting the exact or estimated count, or {@link #NOT_COUNTED}
+     */
+    public static Mono<Long> count(CountModeEnum countMode, BaseRepository<?, ?> repository) {
+        if (countMode == null) {
+            return repository.count();
+        }
+        return switch (countMode) {
+            case EXACT -> repository.count();
+            case ESTIMATE -> repository.estimateCount();
+            case NONE -> Mono.just(NOT_COUNTED);
+        };
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import com.firefly.masters.models.repositories.BaseRepository;
+import com.firefly.masters.models.repositories.Keyset;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Keyset (cursor) counterpart of {@code PaginationUtils.paginateQuery}. Each page is read with an
+ * index range scan positioned after the last row of the previous page, so deep pages cost the same
+ * as the first one, and the total count is only computed when requested through {@link CountModeEnum}.
+ */
+public final class CursorPaginationUtils {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 1000;
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+    private static final TypeReference<List<String>> CURSOR_TYPE = new TypeReference<>() {
+    };
+
+    private CursorPaginationUtils() {
+    }
+
+    /**
+     * Reads one page of a keyset-paginated listing.
+     *
+     * @param request the cursor, page size and sort key
+     * @param mapper maps entities to DTOs
+     * @param repository the repository to read from
+     * @return a Mono emitting the page, or an IllegalArgumentException if the cursor, sort key or a field is invalid
+     */
+    public static <E, D> Mono<CursorPageDTO<D>> paginateQuery(CursorPaginationRequest request,
+                                                              Function<E, D> mapper,
+                                                              BaseRepository<E, ?> repository) {
+        Keyset keyset;
+        try {
+            keyset = request.getAfter() != null
+                    ? decode(request.getAfter())
+                    : Keyset.first(request.getSortBy(), direction(request.getSortDirection()));
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        int size = request.getSize() == null ? DEFAULT_SIZE : Math.max(1, Math.min(request.getSize(), MAX_SIZE));
+
+        // One extra row tells whether another page follows without a count query.
+        Mono<List<E>> rows = Flux.defer(() -> repository.findAllAfter(keyset, size + 1, request.getFields())).collectList();
+        CountModeEnum countMode = request.getCountMode() != null ? request.getCountMode() : CountModeEnum.NONE;
+        Mono<Long> total = Mono.defer(() -> CountUtils.count(countMode, repository));
+
+        return Mono.zip(rows, total)
+                .map(tuple -> {
+                    List<E> entities = tuple.getT1();
+                    boolean hasMore = entities.size() > size;
+                    List<E> page = hasMore ? entities.subList(0, size) : entities;
+                    String nextCursor = hasMore
+                            ? encode(repository.keysetOf(page.get(page.size() - 1), keyset))
+                            : null;
+                    return CursorPageDTO.<D>builder()
+                            .content(page.stream().map(mapper).toList())
+                            .nextCursor(nextCursor)
+                            .hasMore(hasMore)
+                            .totalElements(tuple.getT2() >= 0 ? tuple.getT2() : null)
+                            .countMode(countMode)
+                            .build();
+                });
+    }
+
+    static String encode(Keyset keyset) {
+        List<String> parts = new ArrayList<>(4);
+        parts.add(keyset.property());
+        parts.add(keyset.direction() != null ? keyset.direction().name() : null);
+        parts.add(keyset.value());
+        parts.add(keyset.id());
+        try {
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(OBJECT_MAPPER.writeValueAsBytes(parts));
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to encode cursor", e);
+        }
+    }
+
+    static Keyset decode(String cursor) {
+        try {
+            List<String> parts = OBJECT_MAPPER.readValue(Base64.getUrlDecoder().decode(cursor), CURSOR_TYPE);
+            if (parts.size() != 4 || parts.get(3) == null) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+            return new Keyset(parts.get(0), direction(parts.get(1)), parts.get(2), parts.get(3));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    private static Sort.Direction direction(String direction) {
+        return direction == null || direction.isBlank() ? Sort.Direction.ASC : Sort.Direction.fromString(direction);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.utils;
+
+import reactor.core.publisher.Flux;
+
+import java.util.Locale;
+
+/**
+ * Validates typeahead search requests and turns the search term into the parameters of the
+ * repositories' {@code search} queries, which match a name by prefix or by trigram word similarity
+ * (see V30).
+ */
+public final class SearchUtils {
+
+    /**
+     * Number of matches returned when no limit is given.
+     */
+    public static final int DEFAULT_LIMIT = 10;
+
+    /**
+     * Upper bound of the limit; typeahead never needs more, and it keeps the response small.
+     */
+    public static final int MAX_LIMIT = 50;
+
+    private SearchUtils() {
+    }
+
+    /**
+     * Runs a search query.
+     *
+     * @param query the search term, surrounding whitespace ignored
+     * @param limit the maximum number of matches, {@link #DEFAULT_LIMIT} if null
+     * @param search the repository query
+     * @param <T> the type of the matches
+     * @return a Flux emitting the matches, or an IllegalArgumentException if the term is blank or the
+     *         limit is not between 1 and {@link #MAX_LIMIT}
+     */
+    public static <T> Flux<T> search(String query, Integer limit, SearchQuery<T> search) {
+        return Flux.defer(() -> {
+            String term = query == null ? "" : query.trim();
+            if (term.isEmpty()) {
+                return Flux.error(new IllegalArgumentException("Search query is required"));
+            }
+            int size = limit == null ? DEFAULT_LIMIT : limit;
+            if (size < 1 || size > MAX_LIMIT) {
+                return Flux.error(new IllegalArgumentException("Limit must be between 1 and " + MAX_LIMIT));
+            }
+            return search.find(prefixPattern(term), term, size);
+        });
+    }
+
+    /**
+     * @param term the search term
+     * @return a lower-case LIKE pattern matching values starting with the term, wildcards escaped
+     */
+    static String prefixPattern(String term) {
+        return term.toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+    }
+
+    /**
+     * A repository search query.
+     *
+     * @param <T> the type of the matches
+     */
+    @FunctionalInterface
+    public interface SearchQuery<T> {
+
+        /**
+         * @param prefixPattern the lower-case LIKE pattern for prefix matches
+         * @param query the search term for fuzzy matches
+         * @param limit the maximum number of matches
+         * @return the matches, prefix matches first, then by similarity
+         */
+        Flux<T> find(String prefixPattern, String query, int limit);
+    }
+}
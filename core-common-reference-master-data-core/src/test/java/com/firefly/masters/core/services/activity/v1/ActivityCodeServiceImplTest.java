@@ -154,6 +154,71 @@ public class ActivityCodeServiceImplTest {
         verify(mapper).toDTO(any(ActivityCode.class));
     }
 
+    @Test
+    void getActivityCodeSubtree_ShouldQueryWholeBranchIncludingRoot() {
+        // Arrange
+        when(repository.findBranch(testActivityCodeId, 0, ActivityCodeRepository.MAX_TREE_DEPTH, true))
+                .thenReturn(Flux.just(entity));
+        when(mapper.toDTO(any(ActivityCode.class))).thenReturn(dto);
+
+        // Act
+        Flux<ActivityCodeDTO> result = service.getActivityCodeSubtree(testActivityCodeId, true);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(dto)
+                .verifyComplete();
+
+        verify(repository).findBranch(testActivityCodeId, 0, ActivityCodeRepository.MAX_TREE_DEPTH, true);
+    }
+
+    @Test
+    void getActivityCodeDescendants_ShouldExcludeRootAndLimitDepth() {
+        // Arrange
+        when(repository.findBranch(testActivityCodeId, 1, 2, null)).thenReturn(Flux.just(entity));
+        when(mapper.toDTO(any(ActivityCode.class))).thenReturn(dto);
+
+        // Act
+        Flux<ActivityCodeDTO> result = service.getActivityCodeDescendants(testActivityCodeId, 2, null);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(dto)
+                .verifyComplete();
+
+        verify(repository).findBranch(testActivityCodeId, 1, 2, null);
+    }
+
+    @Test
+    void getActivityCodeDescendants_ShouldRejectInvalidDepth() {
+        // Act
+        Flux<ActivityCodeDTO> result = service.getActivityCodeDescendants(testActivityCodeId, 0, null);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void getActivityCodeAncestors_ShouldReturnAncestors() {
+        // Arrange
+        when(repository.findAncestors(any(UUID.class), eq(ActivityCodeRepository.MAX_TREE_DEPTH))).thenReturn(Flux.just(entity));
+        when(mapper.toDTO(any(ActivityCode.class))).thenReturn(dto);
+
+        // Act
+        Flux<ActivityCodeDTO> result = service.getActivityCodeAncestors(testActivityCodeId);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(dto)
+                .verifyComplete();
+
+        verify(repository).findAncestors(any(UUID.class), eq(ActivityCodeRepository.MAX_TREE_DEPTH));
+    }
+
     @Test
     void createActivityCode_ShouldReturnCreatedActivityCode() {
         // Arrange
@@ -211,9 +276,8 @@ public class ActivityCodeServiceImplTest {
     @Test
     void updateActivityCode_ShouldReturnUpdatedActivityCodeWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(ActivityCodeDTO.class))).thenReturn(entity);
-        when(repository.save(any(ActivityCode.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(ActivityCode.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(ActivityCode.class))).thenReturn(dto);
 
         // Act
@@ -224,16 +288,16 @@ public class ActivityCodeServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(ActivityCodeDTO.class));
-        verify(repository).save(any(ActivityCode.class));
+        verify(repository).updateById(any(UUID.class), any(ActivityCode.class));
         verify(mapper).toDTO(any(ActivityCode.class));
     }
 
     @Test
     void updateActivityCode_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(ActivityCodeDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(ActivityCode.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<ActivityCodeDTO> result = service.updateActivityCode(testActivityCodeId, dto);
@@ -242,9 +306,8 @@ public class ActivityCodeServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(ActivityCodeDTO.class));
-        verify(repository, never()).save(any(ActivityCode.class));
+        verify(mapper).toEntity(any(ActivityCodeDTO.class));
+        verify(repository).updateById(any(UUID.class), any(ActivityCode.class));
         verify(mapper, never()).toDTO(any(ActivityCode.class));
     }
 
@@ -22,6 +22,7 @@ import com.firefly.masters.core.utils.TestPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.mappers.bank.v1.BankInstitutionCodeMapper;
 import com.firefly.masters.interfaces.dtos.bank.v1.BankInstitutionCodeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
 import com.firefly.masters.models.entities.bank.v1.BankInstitutionCode;
 import com.firefly.masters.models.repositories.bank.v1.BankInstitutionCodeRepository;
@@ -38,6 +39,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
@@ -123,6 +125,45 @@ public class BankInstitutionCodeServiceImplTest {
         verify(mapper).toDTO(any(BankInstitutionCode.class));
     }
 
+    @Test
+    void listBankInstitutionCodes_WithFields_ShouldReadOnlyRequestedFields() {
+        // Arrange
+        List<String> fields = List.of("bankName", "swiftCode");
+        when(repository.findAllBy(any(Pageable.class), eq(fields))).thenReturn(Flux.just(entity));
+        when(repository.count()).thenReturn(Mono.just(1L));
+        when(mapper.toDTO(any(BankInstitutionCode.class))).thenReturn(dto);
+
+        // Act
+        Mono<PaginationResponse<BankInstitutionCodeDTO>> result =
+                service.listBankInstitutionCodes(paginationRequest, CountModeEnum.EXACT, fields);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(response -> response.getContent().size() == 1)
+                .verifyComplete();
+
+        verify(repository).findAllBy(any(Pageable.class), eq(fields));
+        verify(repository, never()).findAllBy(any(Pageable.class));
+    }
+
+    @Test
+    void listBankInstitutionCodes_WithUnknownField_ShouldReturnError() {
+        // Arrange
+        List<String> fields = List.of("unknown");
+        when(repository.findAllBy(any(Pageable.class), eq(fields)))
+                .thenReturn(Flux.error(new IllegalArgumentException("Unknown field: unknown")));
+        lenient().when(repository.count()).thenReturn(Mono.just(1L));
+
+        // Act
+        Mono<PaginationResponse<BankInstitutionCodeDTO>> result =
+                service.listBankInstitutionCodes(paginationRequest, CountModeEnum.EXACT, fields);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
     @Test
     void createBankInstitutionCode_ShouldReturnCreatedEntity() {
         // Arrange
@@ -180,9 +221,8 @@ public class BankInstitutionCodeServiceImplTest {
     @Test
     void updateBankInstitutionCode_ShouldReturnUpdatedEntityWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(BankInstitutionCodeDTO.class))).thenReturn(entity);
-        when(repository.save(any(BankInstitutionCode.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(BankInstitutionCode.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(BankInstitutionCode.class))).thenReturn(dto);
 
         // Act
@@ -193,16 +233,16 @@ public class BankInstitutionCodeServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(BankInstitutionCodeDTO.class));
-        verify(repository).save(any(BankInstitutionCode.class));
+        verify(repository).updateById(any(UUID.class), any(BankInstitutionCode.class));
         verify(mapper).toDTO(any(BankInstitutionCode.class));
     }
 
     @Test
     void updateBankInstitutionCode_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(BankInstitutionCodeDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(BankInstitutionCode.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<BankInstitutionCodeDTO> result = service.updateBankInstitutionCode(testInstitutionId, dto);
@@ -211,9 +251,8 @@ public class BankInstitutionCodeServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(BankInstitutionCodeDTO.class));
-        verify(repository, never()).save(any(BankInstitutionCode.class));
+        verify(mapper).toEntity(any(BankInstitutionCodeDTO.class));
+        verify(repository).updateById(any(UUID.class), any(BankInstitutionCode.class));
         verify(mapper, never()).toDTO(any(BankInstitutionCode.class));
     }
 
@@ -0,0 +1,166 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.bank.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.bank.v1.BankInstitutionCodeMapper;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankInstitutionCodeDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionRequestDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionResultDTO;
+import com.firefly.masters.interfaces.enums.bank.v1.BankResolutionMatchEnum;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.bank.v1.BankInstitutionCode;
+import com.firefly.masters.models.repositories.bank.v1.BankInstitutionCodeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class BankInstitutionIndexTest {
+
+    @Mock
+    private BankInstitutionCodeRepository repository;
+
+    @Mock
+    private BankInstitutionCodeMapper mapper;
+
+    @InjectMocks
+    private BankInstitutionIndex index;
+
+    private BankInstitutionCode headOffice;
+    private BankInstitutionCode branch;
+    private BankInstitutionCode otherBank;
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        headOffice = institution("Commerzbank", "COBADEFF", "DE370400", null);
+        branch = institution("Commerzbank Koeln", "COBADEFF370", "DE37040044", null);
+        otherBank = institution("Chase", "CHASUS33XXX", null, "021000021");
+
+        when(mapper.toDTO(any(BankInstitutionCode.class))).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+        when(repository.findAll()).thenReturn(Flux.just(headOffice, branch, otherBank));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+    }
+
+    @Test
+    void findBySwiftCode_ShouldFallBackToTheHeadOfficeForUnknownBranches() {
+        // Act & Assert
+        assertEquals(branch.getInstitutionId(), index.findBySwiftCode("cobadeff370").orElseThrow().getInstitutionId());
+        assertEquals(headOffice.getInstitutionId(), index.findBySwiftCode("COBADEFFXXX").orElseThrow().getInstitutionId());
+        assertEquals(headOffice.getInstitutionId(), index.findBySwiftCode("COBADEFF123").orElseThrow().getInstitutionId());
+        assertEquals(otherBank.getInstitutionId(), index.findBySwiftCode("CHASUS33").orElseThrow().getInstitutionId());
+        assertTrue(index.findBySwiftCode("COBA").isEmpty());
+    }
+
+    @Test
+    void findByIban_ShouldMatchTheLongestPrefixOfCountryCodeAndBban() {
+        // Act & Assert
+        assertEquals(branch.getInstitutionId(),
+                index.findByIban("DE89 3704 0044 0532 0130 00").orElseThrow().getInstitutionId());
+        assertEquals(headOffice.getInstitutionId(),
+                index.findByIban("DE74370400990532013000").orElseThrow().getInstitutionId());
+        assertTrue(index.findByIban("FR7630006000011234567890189").isEmpty());
+        assertTrue(index.findByIban("DE89").isEmpty());
+    }
+
+    @Test
+    void resolve_ShouldTryBicThenIbanThenRoutingNumber() {
+        // Act
+        BankResolutionResultDTO byRouting = index.resolve(BankResolutionRequestDTO.builder()
+                .bic("ZZZZZZZZ")
+                .iban("FR7630006000011234567890189")
+                .routingNumber("021000021")
+                .build());
+        BankResolutionResultDTO unresolved = index.resolve(BankResolutionRequestDTO.builder()
+                .iban("FR7630006000011234567890189")
+                .build());
+
+        // Assert
+        assertEquals(BankResolutionMatchEnum.ROUTING_NUMBER, byRouting.getMatchedBy());
+        assertEquals(otherBank.getInstitutionId(), byRouting.getInstitution().getInstitutionId());
+        assertNull(unresolved.getInstitution());
+        assertNull(unresolved.getMatchedBy());
+    }
+
+    @Test
+    void refresh_ShouldRelinkOnlyTheChangedInstitution() {
+        // Arrange
+        branch.setIbanPrefix("DE50040000");
+        headOffice.setStatus(StatusEnum.INACTIVE);
+        when(repository.findById(branch.getInstitutionId())).thenReturn(Mono.just(branch));
+        when(repository.findById(headOffice.getInstitutionId())).thenReturn(Mono.just(headOffice));
+
+        // Act
+        StepVerifier.create(index.refresh(change(branch))).verifyComplete();
+        StepVerifier.create(index.refresh(change(headOffice))).verifyComplete();
+
+        // Assert
+        assertEquals(branch.getInstitutionId(),
+                index.findByIban("DE67500400000532013000").orElseThrow().getInstitutionId());
+        assertTrue(index.findByIban("DE89370400440532013000").isEmpty());
+        assertEquals(branch.getInstitutionId(), index.findBySwiftCode("COBADEFF").orElseThrow().getInstitutionId());
+        verify(repository, times(1)).findAll();
+    }
+
+    private static CatalogChangeEvent change(BankInstitutionCode institution) {
+        return new CatalogChangeEvent(
+                CatalogCacheNames.BANK_INSTITUTION_CODES,
+                institution.getInstitutionId().toString(),
+                CatalogChangeEvent.Operation.UPDATE);
+    }
+
+    private static BankInstitutionCode institution(String name, String swiftCode, String ibanPrefix, String routingNumber) {
+        return BankInstitutionCode.builder()
+                .institutionId(UUID.randomUUID())
+                .bankName(name)
+                .swiftCode(swiftCode)
+                .ibanPrefix(ibanPrefix)
+                .routingNumber(routingNumber)
+                .svgIcon("<svg/>")
+                .status(StatusEnum.ACTIVE)
+                .build();
+    }
+
+    private static BankInstitutionCodeDTO toDTO(BankInstitutionCode entity) {
+        return BankInstitutionCodeDTO.builder()
+                .institutionId(entity.getInstitutionId())
+                .bankName(entity.getBankName())
+                .swiftCode(entity.getSwiftCode())
+                .ibanPrefix(entity.getIbanPrefix())
+                .routingNumber(entity.getRoutingNumber())
+                .svgIcon(entity.getSvgIcon())
+                .status(entity.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.changes.v1;
+
+import com.firefly.masters.core.mappers.currency.v1.CurrencyMapper;
+import com.firefly.masters.core.services.snapshot.v1.SnapshotCatalog;
+import com.firefly.masters.interfaces.dtos.currency.v1.CurrencyDTO;
+import com.firefly.masters.models.entities.changes.v1.CatalogTombstone;
+import com.firefly.masters.models.entities.currency.v1.Currency;
+import com.firefly.masters.models.repositories.changes.v1.CatalogTombstoneRepository;
+import com.firefly.masters.models.repositories.currency.v1.CurrencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogChangeServiceImplTest {
+
+    @Mock
+    private CatalogTombstoneRepository tombstoneRepository;
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    @Mock
+    private CurrencyMapper currencyMapper;
+
+    @InjectMocks
+    private CatalogChangeServiceImpl catalogChangeService;
+
+    private Currency first;
+    private Currency second;
+    private CatalogTombstone tombstone;
+
+    @BeforeEach
+    void setUp() {
+        first = new Currency();
+        first.setCurrencyId(UUID.randomUUID());
+        first.setIsoCode("EUR");
+        first.setDateUpdated(LocalDateTime.of(2025, 1, 1, 10, 0));
+        first.setChangeXid(1200L);
+
+        second = new Currency();
+        second.setCurrencyId(UUID.randomUUID());
+        second.setIsoCode("USD");
+        second.setDateUpdated(LocalDateTime.of(2025, 1, 1, 11, 0));
+        second.setChangeXid(1100L);
+
+        tombstone = new CatalogTombstone();
+        tombstone.setTombstoneId(UUID.randomUUID());
+        tombstone.setTableName("currencies");
+        tombstone.setRowId(UUID.randomUUID());
+        tombstone.setDateDeleted(LocalDateTime.of(2025, 1, 1, 10, 30));
+        tombstone.setChangeXid(1150L);
+    }
+
+    @Test
+    void getChanges_ShouldReturnChangedRowsAndDeletions() {
+        // Arrange
+        LocalDateTime since = LocalDateTime.of(2025, 1, 1, 0, 0);
+        when(currencyRepository.findChangedSince(eq(since), eq(0L), eq(ChangeCursor.MIN_ID), eq(CatalogChangeServiceImpl.DEFAULT_LIMIT + 1)))
+                .thenReturn(Flux.just(second, first));
+        when(tombstoneRepository.findChangedSince(eq("currencies"), eq(since), eq(0L), eq(ChangeCursor.MIN_ID), anyInt()))
+                .thenReturn(Flux.just(tombstone));
+        when(currencyMapper.toDTO(any(Currency.class))).thenAnswer(invocation ->
+                CurrencyDTO.builder().currencyId(((Currency) invocation.getArgument(0)).getCurrencyId()).build());
+
+        // Act & Assert
+        StepVerifier.create(catalogChangeService.getChanges(SnapshotCatalog.CURRENCIES, since, null, null))
+                .assertNext(changes -> {
+                    assertEquals(2, changes.getChanged().size());
+                    assertEquals(1, changes.getDeleted().size());
+                    assertEquals(tombstone.getRowId(), changes.getDeleted().get(0).getId());
+                    assertFalse(changes.getHasMore());
+
+                    ChangeCursor next = ChangeCursor.decode(changes.getCursor());
+                    assertEquals(since, next.since());
+                    assertEquals(first.getChangeXid(), next.rowXid());
+                    assertEquals(first.getCurrencyId(), next.rowId());
+                    assertEquals(tombstone.getChangeXid(), next.tombstoneXid());
+                    assertEquals(tombstone.getRowId(), next.tombstoneId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_ShouldReportMoreWhenPageIsFull() {
+        // Arrange
+        when(currencyRepository.findChangedSince(any(LocalDateTime.class), anyLong(), any(UUID.class), eq(2)))
+                .thenReturn(Flux.just(second, first));
+        when(tombstoneRepository.findChangedSince(eq("currencies"), any(LocalDateTime.class), anyLong(), any(UUID.class), eq(2)))
+                .thenReturn(Flux.empty());
+        when(currencyMapper.toDTO(any(Currency.class))).thenReturn(new CurrencyDTO());
+
+        // Act & Assert
+        StepVerifier.create(catalogChangeService.getChanges(SnapshotCatalog.CURRENCIES, null, null, 1))
+                .assertNext(changes -> {
+                    assertEquals(1, changes.getChanged().size());
+                    assertTrue(changes.getHasMore());
+                    ChangeCursor next = ChangeCursor.decode(changes.getCursor());
+                    assertEquals(second.getCurrencyId(), next.rowId());
+                    assertEquals(0L, next.tombstoneXid());
+                    assertEquals(ChangeCursor.EPOCH, next.since());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_ShouldResumeFromCursor() {
+        // Arrange
+        ChangeCursor cursor = ChangeCursor.since(null)
+                .withRow(second.getChangeXid(), second.getCurrencyId())
+                .withTombstone(tombstone.getChangeXid(), tombstone.getRowId());
+        when(currencyRepository.findChangedSince(eq(ChangeCursor.EPOCH), eq(second.getChangeXid()), eq(second.getCurrencyId()), anyInt()))
+                .thenReturn(Flux.just(first));
+        when(tombstoneRepository.findChangedSince(eq("currencies"), eq(ChangeCursor.EPOCH), eq(tombstone.getChangeXid()), eq(tombstone.getRowId()), anyInt()))
+                .thenReturn(Flux.empty());
+        when(currencyMapper.toDTO(any(Currency.class))).thenReturn(new CurrencyDTO());
+
+        // Act & Assert
+        StepVerifier.create(catalogChangeService.getChanges(SnapshotCatalog.CURRENCIES, null, cursor.encode(), null))
+                .assertNext(changes -> {
+                    assertEquals(1, changes.getChanged().size());
+                    assertTrue(changes.getDeleted().isEmpty());
+                    assertEquals(tombstone.getRowId(), ChangeCursor.decode(changes.getCursor()).tombstoneId());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getChanges_ShouldRejectMalformedCursor() {
+        // Act & Assert
+        StepVerifier.create(catalogChangeService.getChanges(SnapshotCatalog.CURRENCIES, null, "not-a-cursor", null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verifyNoInteractions(currencyRepository, tombstoneRepository);
+    }
+}
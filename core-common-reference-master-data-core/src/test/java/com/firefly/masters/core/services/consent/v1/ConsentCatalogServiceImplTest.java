@@ -198,9 +198,8 @@ public class ConsentCatalogServiceImplTest {
     @Test
     void updateConsentCatalog_ShouldReturnUpdatedConsentCatalogWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(ConsentCatalogDTO.class))).thenReturn(entity);
-        when(repository.save(any(ConsentCatalog.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(ConsentCatalog.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(ConsentCatalog.class))).thenReturn(dto);
 
         // Act
@@ -211,16 +210,16 @@ public class ConsentCatalogServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(ConsentCatalogDTO.class));
-        verify(repository).save(any(ConsentCatalog.class));
+        verify(repository).updateById(any(UUID.class), any(ConsentCatalog.class));
         verify(mapper).toDTO(any(ConsentCatalog.class));
     }
 
     @Test
     void updateConsentCatalog_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(ConsentCatalogDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(ConsentCatalog.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<ConsentCatalogDTO> result = service.updateConsentCatalog(testConsentId, dto);
@@ -229,9 +228,8 @@ public class ConsentCatalogServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(ConsentCatalogDTO.class));
-        verify(repository, never()).save(any(ConsentCatalog.class));
+        verify(mapper).toEntity(any(ConsentCatalogDTO.class));
+        verify(repository).updateById(any(UUID.class), any(ConsentCatalog.class));
         verify(mapper, never()).toDTO(any(ConsentCatalog.class));
     }
 
@@ -22,9 +22,12 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import com.firefly.masters.core.utils.TestPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.mappers.country.v1.CountryMapper;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
 import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.BulkUpsertStatusEnum;
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
 import com.firefly.masters.models.entities.country.v1.Country;
+import com.firefly.masters.models.repositories.UpsertedRow;
 import com.firefly.masters.models.repositories.country.v1.CountryRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,6 +37,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.reactive.TransactionalOperator;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
@@ -41,6 +45,9 @@ import reactor.test.StepVerifier;
 import java.time.LocalDateTime;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 import java.util.UUID;
 
@@ -53,6 +60,9 @@ public class CountryServiceImplTest {
     @Mock
     private CountryMapper countryMapper;
 
+    @Mock
+    private TransactionalOperator transactionalOperator;
+
     @InjectMocks
     private CountryServiceImpl countryService;
 
@@ -143,9 +153,8 @@ public class CountryServiceImplTest {
     @Test
     void updateCountry_ShouldReturnUpdatedCountryWhenFound() {
         // Arrange
-        when(countryRepository.findById(any(UUID.class))).thenReturn(Mono.just(country));
         when(countryMapper.toEntity(any(CountryDTO.class))).thenReturn(country);
-        when(countryRepository.save(any(Country.class))).thenReturn(Mono.just(country));
+        when(countryRepository.updateById(any(UUID.class), any(Country.class))).thenReturn(Mono.just(country));
         when(countryMapper.toDTO(any(Country.class))).thenReturn(countryDTO);
 
         // Act
@@ -156,16 +165,16 @@ public class CountryServiceImplTest {
                 .expectNext(countryDTO)
                 .verifyComplete();
 
-        verify(countryRepository).findById(any(UUID.class));
         verify(countryMapper).toEntity(any(CountryDTO.class));
-        verify(countryRepository).save(any(Country.class));
+        verify(countryRepository).updateById(any(UUID.class), any(Country.class));
         verify(countryMapper).toDTO(any(Country.class));
     }
 
     @Test
     void updateCountry_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(countryRepository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(countryMapper.toEntity(any(CountryDTO.class))).thenReturn(country);
+        when(countryRepository.updateById(any(UUID.class), any(Country.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<CountryDTO> result = countryService.updateCountry(testCountryId, countryDTO);
@@ -174,17 +183,15 @@ public class CountryServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(countryRepository).findById(any(UUID.class));
-        verify(countryMapper, never()).toEntity(any(CountryDTO.class));
-        verify(countryRepository, never()).save(any(Country.class));
+        verify(countryMapper).toEntity(any(CountryDTO.class));
+        verify(countryRepository).updateById(any(UUID.class), any(Country.class));
         verify(countryMapper, never()).toDTO(any(Country.class));
     }
 
     @Test
     void deleteCountry_ShouldDeleteWhenFound() {
         // Arrange
-        when(countryRepository.findById(any(UUID.class))).thenReturn(Mono.just(country));
-        when(countryRepository.delete(any(Country.class))).thenReturn(Mono.empty());
+        when(countryRepository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = countryService.deleteCountry(testCountryId);
@@ -193,14 +200,13 @@ public class CountryServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(countryRepository).findById(any(UUID.class));
-        verify(countryRepository).delete(any(Country.class));
+        verify(countryRepository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteCountry_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(countryRepository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(countryRepository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = countryService.deleteCountry(testCountryId);
@@ -209,7 +215,89 @@ public class CountryServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(countryRepository).findById(any(UUID.class));
-        verify(countryRepository, never()).delete(any(Country.class));
+        verify(countryRepository).deleteByIdReturningCount(any(UUID.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertCountries_ShouldReportCreatedAndUpdatedRows() {
+        // Arrange
+        UUID updatedCountryId = UUID.randomUUID();
+        when(countryMapper.toEntity(any(CountryDTO.class))).thenReturn(country);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(countryRepository.upsertAll(anyList(), eq(CountryRepository.NATURAL_KEY))).thenReturn(Flux.just(
+                new UpsertedRow<>(testCountryId, true),
+                new UpsertedRow<>(updatedCountryId, false)
+        ));
+
+        // Act
+        Flux<BulkUpsertResultDTO> result = countryService.upsertCountries(Flux.just(countryDTO, countryDTO));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(row -> row.getIndex() == 0
+                        && testCountryId.equals(row.getId())
+                        && row.getStatus() == BulkUpsertStatusEnum.CREATED)
+                .expectNextMatches(row -> row.getIndex() == 1
+                        && updatedCountryId.equals(row.getId())
+                        && row.getStatus() == BulkUpsertStatusEnum.UPDATED)
+                .verifyComplete();
+
+        verify(countryRepository, times(1)).upsertAll(anyList(), eq(CountryRepository.NATURAL_KEY));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void upsertCountries_ShouldRetryFailedChunkRowByRow() {
+        // Arrange
+        when(countryMapper.toEntity(any(CountryDTO.class))).thenReturn(country);
+        when(transactionalOperator.transactional(any(Mono.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(countryRepository.upsertAll(anyList(), eq(CountryRepository.NATURAL_KEY)))
+                .thenReturn(Flux.error(new IllegalArgumentException("duplicate key")))
+                .thenReturn(Flux.just(new UpsertedRow<>(testCountryId, false)))
+                .thenReturn(Flux.error(new IllegalArgumentException("value too long")));
+
+        // Act
+        Flux<BulkUpsertResultDTO> result = countryService.upsertCountries(Flux.just(countryDTO, countryDTO));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(row -> row.getIndex() == 0 && row.getStatus() == BulkUpsertStatusEnum.UPDATED)
+                .expectNextMatches(row -> row.getIndex() == 1
+                        && row.getStatus() == BulkUpsertStatusEnum.FAILED
+                        && "value too long".equals(row.getError()))
+                .verifyComplete();
+
+        verify(countryRepository, times(3)).upsertAll(anyList(), eq(CountryRepository.NATURAL_KEY));
+    }
+
+    @Test
+    void searchCountries_ShouldEscapeWildcardsInThePrefix() {
+        // Arrange
+        when(countryRepository.search("united\\_k\\%%", "United_K%", 10)).thenReturn(Flux.just(country));
+        when(countryMapper.toSummaryDTO(any(Country.class))).thenReturn(countryDTO);
+
+        // Act
+        Flux<CountryDTO> result = countryService.searchCountries("  United_K%  ", null);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(countryDTO)
+                .verifyComplete();
+
+        verify(countryRepository).search("united\\_k\\%%", "United_K%", 10);
+    }
+
+    @Test
+    void searchCountries_ShouldRejectBlankQueriesAndLimitsOutOfRange() {
+        // Act & Assert
+        StepVerifier.create(countryService.searchCountries(" ", 10))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        StepVerifier.create(countryService.searchCountries("Spain", 51))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(countryRepository, never()).search(any(), any(), anyInt());
     }
 }
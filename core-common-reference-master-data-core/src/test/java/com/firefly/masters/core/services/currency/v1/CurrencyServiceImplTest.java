@@ -147,9 +147,8 @@ public class CurrencyServiceImplTest {
     @Test
     void updateCurrency_ShouldReturnUpdatedCurrencyWhenFound() {
         // Arrange
-        when(currencyRepository.findById(any(UUID.class))).thenReturn(Mono.just(currency));
         when(currencyMapper.toEntity(any(CurrencyDTO.class))).thenReturn(currency);
-        when(currencyRepository.save(any(Currency.class))).thenReturn(Mono.just(currency));
+        when(currencyRepository.updateById(any(UUID.class), any(Currency.class))).thenReturn(Mono.just(currency));
         when(currencyMapper.toDTO(any(Currency.class))).thenReturn(currencyDTO);
 
         // Act
@@ -160,16 +159,16 @@ public class CurrencyServiceImplTest {
                 .expectNext(currencyDTO)
                 .verifyComplete();
 
-        verify(currencyRepository).findById(any(UUID.class));
         verify(currencyMapper).toEntity(any(CurrencyDTO.class));
-        verify(currencyRepository).save(any(Currency.class));
+        verify(currencyRepository).updateById(any(UUID.class), any(Currency.class));
         verify(currencyMapper).toDTO(any(Currency.class));
     }
 
     @Test
     void updateCurrency_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(currencyRepository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(currencyMapper.toEntity(any(CurrencyDTO.class))).thenReturn(currency);
+        when(currencyRepository.updateById(any(UUID.class), any(Currency.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<CurrencyDTO> result = currencyService.updateCurrency(testCurrencyId, currencyDTO);
@@ -178,9 +177,8 @@ public class CurrencyServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(currencyRepository).findById(any(UUID.class));
-        verify(currencyMapper, never()).toEntity(any(CurrencyDTO.class));
-        verify(currencyRepository, never()).save(any(Currency.class));
+        verify(currencyMapper).toEntity(any(CurrencyDTO.class));
+        verify(currencyRepository).updateById(any(UUID.class), any(Currency.class));
         verify(currencyMapper, never()).toDTO(any(Currency.class));
     }
 
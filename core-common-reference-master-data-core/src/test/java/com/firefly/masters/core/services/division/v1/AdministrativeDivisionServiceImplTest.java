@@ -36,6 +36,7 @@ import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import java.util.UUID;
 
@@ -51,6 +52,9 @@ public class AdministrativeDivisionServiceImplTest {
     @Mock
     private AdministrativeDivisionMapper mapper;
 
+    @Mock
+    private DivisionTreeIndex divisionTreeIndex;
+
     @InjectMocks
     private AdministrativeDivisionServiceImpl service;
 
@@ -138,6 +142,22 @@ public class AdministrativeDivisionServiceImplTest {
         verify(mapper).toDTO(any(AdministrativeDivision.class));
     }
 
+    @Test
+    void resolvePostalCode_ShouldReturnMatchesFromIndex() {
+        // Arrange
+        when(divisionTreeIndex.resolvePostalCode(testCountryId, "10001")).thenReturn(List.of(dto));
+
+        // Act
+        Flux<AdministrativeDivisionDTO> result = service.resolvePostalCode(testCountryId, "10001");
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(dto)
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
+    }
+
     @Test
     void getDivision_ShouldReturnDivisionWhenFound() {
         // Arrange
@@ -175,9 +195,8 @@ public class AdministrativeDivisionServiceImplTest {
     @Test
     void updateDivision_ShouldReturnUpdatedDivisionWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(AdministrativeDivisionDTO.class))).thenReturn(entity);
-        when(repository.save(any(AdministrativeDivision.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(AdministrativeDivision.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(AdministrativeDivision.class))).thenReturn(dto);
 
         // Act
@@ -188,16 +207,16 @@ public class AdministrativeDivisionServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(AdministrativeDivisionDTO.class));
-        verify(repository).save(any(AdministrativeDivision.class));
+        verify(repository).updateById(any(UUID.class), any(AdministrativeDivision.class));
         verify(mapper).toDTO(any(AdministrativeDivision.class));
     }
 
     @Test
     void updateDivision_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(AdministrativeDivisionDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(AdministrativeDivision.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<AdministrativeDivisionDTO> result = service.updateDivision(testDivisionId, dto);
@@ -206,17 +225,15 @@ public class AdministrativeDivisionServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(AdministrativeDivisionDTO.class));
-        verify(repository, never()).save(any(AdministrativeDivision.class));
+        verify(mapper).toEntity(any(AdministrativeDivisionDTO.class));
+        verify(repository).updateById(any(UUID.class), any(AdministrativeDivision.class));
         verify(mapper, never()).toDTO(any(AdministrativeDivision.class));
     }
 
     @Test
     void deleteDivision_ShouldDeleteWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(AdministrativeDivision.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteDivision(testDivisionId);
@@ -225,14 +242,13 @@ public class AdministrativeDivisionServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(AdministrativeDivision.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteDivision_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteDivision(testDivisionId);
@@ -241,7 +257,6 @@ public class AdministrativeDivisionServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).delete(any(AdministrativeDivision.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
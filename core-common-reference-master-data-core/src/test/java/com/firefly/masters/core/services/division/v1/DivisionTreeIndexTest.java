@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.division.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.division.v1.AdministrativeDivisionMapper;
+import com.firefly.masters.interfaces.dtos.division.v1.AdministrativeDivisionDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.division.v1.AdministrativeDivision;
+import com.firefly.masters.models.repositories.division.v1.AdministrativeDivisionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class DivisionTreeIndexTest {
+
+    @Mock
+    private AdministrativeDivisionRepository repository;
+
+    @Mock
+    private AdministrativeDivisionMapper mapper;
+
+    @InjectMocks
+    private DivisionTreeIndex index;
+
+    private UUID countryId;
+    private AdministrativeDivision region;
+    private AdministrativeDivision province;
+    private AdministrativeDivision municipality;
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        countryId = UUID.randomUUID();
+        region = division("MD", null, "28\\d{3}");
+        province = division("M", region.getDivisionId(), null);
+        municipality = division("M-079", province.getDivisionId(), "280\\d{2}");
+
+        lenient().when(mapper.toDTO(any(AdministrativeDivision.class))).thenAnswer(invocation -> toDTO(invocation.getArgument(0)));
+    }
+
+    @Test
+    void rebuild_ShouldAnswerPathChildrenAndPostalCodeLookups() {
+        // Arrange
+        when(repository.findAll()).thenReturn(Flux.just(municipality, province, region));
+
+        // Act
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        // Assert
+        assertEquals(List.of("MD", "M", "M-079"),
+                index.getPath(municipality.getDivisionId()).stream().map(AdministrativeDivisionDTO::getCode).toList());
+        assertEquals(List.of("M"),
+                index.getChildren(region.getDivisionId()).stream().map(AdministrativeDivisionDTO::getCode).toList());
+        assertEquals(List.of("M-079", "MD"),
+                index.resolvePostalCode(countryId, " 28013 ").stream().map(AdministrativeDivisionDTO::getCode).toList());
+        assertEquals(List.of("MD"),
+                index.resolvePostalCode(countryId, "28500").stream().map(AdministrativeDivisionDTO::getCode).toList());
+        assertTrue(index.resolvePostalCode(countryId, "08001").isEmpty());
+    }
+
+    @Test
+    void rebuild_ShouldIgnoreInvalidPostalCodePatterns() {
+        // Arrange
+        province.setPostalCodePattern("28[");
+        when(repository.findAll()).thenReturn(Flux.just(municipality, province, region));
+
+        // Act
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        // Assert
+        assertEquals(2, index.resolvePostalCode(countryId, "28013").size());
+    }
+
+    @Test
+    void refresh_ShouldRebuildCountryOfChangedDivision() {
+        // Arrange
+        when(repository.findAll()).thenReturn(Flux.just(region, province));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+        when(repository.findById(municipality.getDivisionId())).thenReturn(Mono.just(municipality));
+        when(repository.findByCountryId(countryId)).thenReturn(Flux.just(region, province, municipality));
+
+        // Act
+        StepVerifier.create(index.refresh(new CatalogChangeEvent(
+                CatalogCacheNames.ADMINISTRATIVE_DIVISION,
+                municipality.getDivisionId().toString(),
+                CatalogChangeEvent.Operation.INSERT))).verifyComplete();
+
+        // Assert
+        assertEquals(3, index.getPath(municipality.getDivisionId()).size());
+        verify(repository).findByCountryId(countryId);
+    }
+
+    @Test
+    void refresh_ShouldDropDeletedDivision() {
+        // Arrange
+        when(repository.findAll()).thenReturn(Flux.just(region, province, municipality));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+        when(repository.findById(municipality.getDivisionId())).thenReturn(Mono.empty());
+        when(repository.findByCountryId(countryId)).thenReturn(Flux.just(region, province));
+
+        // Act
+        StepVerifier.create(index.refresh(new CatalogChangeEvent(
+                CatalogCacheNames.ADMINISTRATIVE_DIVISION,
+                municipality.getDivisionId().toString(),
+                CatalogChangeEvent.Operation.DELETE))).verifyComplete();
+
+        // Assert
+        assertTrue(index.getPath(municipality.getDivisionId()).isEmpty());
+        assertTrue(index.getChildren(province.getDivisionId()).isEmpty());
+    }
+
+    private AdministrativeDivision division(String code, UUID parentDivisionId, String postalCodePattern) {
+        return AdministrativeDivision.builder()
+                .divisionId(UUID.randomUUID())
+                .countryId(countryId)
+                .code(code)
+                .name(code)
+                .level("LEVEL")
+                .parentDivisionId(parentDivisionId)
+                .status(StatusEnum.ACTIVE)
+                .postalCodePattern(postalCodePattern)
+                .build();
+    }
+
+    private static AdministrativeDivisionDTO toDTO(AdministrativeDivision entity) {
+        return AdministrativeDivisionDTO.builder()
+                .divisionId(entity.getDivisionId())
+                .countryId(entity.getCountryId())
+                .code(entity.getCode())
+                .name(entity.getName())
+                .level(entity.getLevel())
+                .parentDivisionId(entity.getParentDivisionId())
+                .status(entity.getStatus())
+                .postalCodePattern(entity.getPostalCodePattern())
+                .build();
+    }
+}
@@ -22,10 +22,11 @@ import com.firefly.masters.core.mappers.identitydocument.v1.IdentityDocumentCata
 import com.firefly.masters.core.utils.TestPaginationRequest;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentCatalogDTO;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentCategoryCatalogDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationRequestDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationResultDTO;
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
 import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentCatalog;
 import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentCatalogRepository;
-import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentLocalizationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -52,10 +53,10 @@ public class IdentityDocumentCatalogServiceImplTest {
     private IdentityDocumentCatalogRepository repository;
 
     @Mock
-    private IdentityDocumentLocalizationRepository localizationRepository;
+    private IdentityDocumentCatalogMapper mapper;
 
     @Mock
-    private IdentityDocumentCatalogMapper mapper;
+    private IdentityDocumentValidator validator;
 
     @InjectMocks
     private IdentityDocumentCatalogServiceImpl service;
@@ -284,9 +285,8 @@ public class IdentityDocumentCatalogServiceImplTest {
     @Test
     void updateIdentityDocument_ShouldReturnUpdatedDocument_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(IdentityDocumentCatalogDTO.class))).thenReturn(entity);
-        when(repository.save(any(IdentityDocumentCatalog.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(IdentityDocumentCatalog.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(IdentityDocumentCatalog.class))).thenReturn(dto);
 
         // Act
@@ -297,16 +297,16 @@ public class IdentityDocumentCatalogServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(IdentityDocumentCatalogDTO.class));
-        verify(repository).save(any(IdentityDocumentCatalog.class));
+        verify(repository).updateById(any(UUID.class), any(IdentityDocumentCatalog.class));
         verify(mapper).toDTO(any(IdentityDocumentCatalog.class));
     }
 
     @Test
     void updateIdentityDocument_ShouldReturnError_WhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(IdentityDocumentCatalogDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(IdentityDocumentCatalog.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<IdentityDocumentCatalogDTO> result = service.updateIdentityDocument(testDocumentId, dto);
@@ -317,18 +317,15 @@ public class IdentityDocumentCatalogServiceImplTest {
                         throwable.getMessage().contains("Identity document not found with ID: " + testDocumentId))
                 .verify();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(IdentityDocumentCatalogDTO.class));
-        verify(repository, never()).save(any(IdentityDocumentCatalog.class));
+        verify(mapper).toEntity(any(IdentityDocumentCatalogDTO.class));
+        verify(repository).updateById(any(UUID.class), any(IdentityDocumentCatalog.class));
         verify(mapper, never()).toDTO(any(IdentityDocumentCatalog.class));
     }
 
     @Test
     void deleteIdentityDocument_ShouldDeleteDocument_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(localizationRepository.deleteByDocumentId(any(UUID.class))).thenReturn(Mono.empty());
-        when(repository.deleteById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteIdentityDocument(testDocumentId);
@@ -337,15 +334,13 @@ public class IdentityDocumentCatalogServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(localizationRepository).deleteByDocumentId(any(UUID.class));
-        verify(repository).deleteById(any(UUID.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteIdentityDocument_ShouldReturnError_WhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteIdentityDocument(testDocumentId);
@@ -356,8 +351,30 @@ public class IdentityDocumentCatalogServiceImplTest {
                         throwable.getMessage().contains("Identity document not found with ID: " + testDocumentId))
                 .verify();
 
-        verify(repository).findById(any(UUID.class));
-        verify(localizationRepository, never()).deleteByDocumentId(any(UUID.class));
-        verify(repository, never()).deleteById(any(UUID.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
+    }
+
+    @Test
+    void validateIdentityDocuments_ShouldNumberResultsInInputOrder() {
+        // Arrange
+        IdentityDocumentValidationRequestDTO first = IdentityDocumentValidationRequestDTO.builder()
+                .documentCode("PASSPORT").value("X1234567").build();
+        IdentityDocumentValidationRequestDTO second = IdentityDocumentValidationRequestDTO.builder()
+                .documentCode("PASSPORT").value("?").build();
+        when(validator.validate(first)).thenReturn(IdentityDocumentValidationResultDTO.builder()
+                .value("X1234567").valid(true).build());
+        when(validator.validate(second)).thenReturn(IdentityDocumentValidationResultDTO.builder()
+                .value("?").valid(false).error("Value does not match").build());
+
+        // Act
+        Flux<IdentityDocumentValidationResultDTO> result = service.validateIdentityDocuments(Flux.just(first, second));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(outcome -> outcome.getIndex() == 0L && outcome.getValid())
+                .expectNextMatches(outcome -> outcome.getIndex() == 1L && !outcome.getValid())
+                .verifyComplete();
+
+        verifyNoInteractions(repository);
     }
 }
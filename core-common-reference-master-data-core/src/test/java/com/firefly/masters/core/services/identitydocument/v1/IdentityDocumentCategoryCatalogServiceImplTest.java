@@ -207,9 +207,8 @@ public class IdentityDocumentCategoryCatalogServiceImplTest {
     @Test
     void updateIdentityDocumentCategory_ShouldReturnUpdatedCategory_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(IdentityDocumentCategoryCatalogDTO.class))).thenReturn(entity);
-        when(repository.save(any(IdentityDocumentCategoryCatalog.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(IdentityDocumentCategoryCatalog.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(IdentityDocumentCategoryCatalog.class))).thenReturn(dto);
 
         // Act
@@ -220,16 +219,16 @@ public class IdentityDocumentCategoryCatalogServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(IdentityDocumentCategoryCatalogDTO.class));
-        verify(repository).save(any(IdentityDocumentCategoryCatalog.class));
+        verify(repository).updateById(any(UUID.class), any(IdentityDocumentCategoryCatalog.class));
         verify(mapper).toDTO(any(IdentityDocumentCategoryCatalog.class));
     }
 
     @Test
     void updateIdentityDocumentCategory_ShouldReturnError_WhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(IdentityDocumentCategoryCatalogDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(IdentityDocumentCategoryCatalog.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<IdentityDocumentCategoryCatalogDTO> result = service.updateIdentityDocumentCategory(testCategoryId, dto);
@@ -240,17 +239,15 @@ public class IdentityDocumentCategoryCatalogServiceImplTest {
                         throwable.getMessage().contains("Identity document category not found with ID: " + testCategoryId))
                 .verify();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(IdentityDocumentCategoryCatalogDTO.class));
-        verify(repository, never()).save(any(IdentityDocumentCategoryCatalog.class));
+        verify(mapper).toEntity(any(IdentityDocumentCategoryCatalogDTO.class));
+        verify(repository).updateById(any(UUID.class), any(IdentityDocumentCategoryCatalog.class));
         verify(mapper, never()).toDTO(any(IdentityDocumentCategoryCatalog.class));
     }
 
     @Test
     void deleteIdentityDocumentCategory_ShouldDeleteCategory_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.deleteById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteIdentityDocumentCategory(testCategoryId);
@@ -259,14 +256,13 @@ public class IdentityDocumentCategoryCatalogServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).deleteById(any(UUID.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteIdentityDocumentCategory_ShouldReturnError_WhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteIdentityDocumentCategory(testCategoryId);
@@ -277,7 +273,6 @@ public class IdentityDocumentCategoryCatalogServiceImplTest {
                         throwable.getMessage().contains("Identity document category not found with ID: " + testCategoryId))
                 .verify();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).deleteById(any(UUID.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
@@ -203,9 +203,8 @@ public class IdentityDocumentLocalizationServiceImplTest {
     @Test
     void updateIdentityDocumentLocalization_ShouldReturnUpdatedLocalization_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(IdentityDocumentLocalizationDTO.class))).thenReturn(entity);
-        when(repository.save(any(IdentityDocumentLocalization.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(IdentityDocumentLocalization.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(IdentityDocumentLocalization.class))).thenReturn(dto);
 
         // Act
@@ -216,16 +215,16 @@ public class IdentityDocumentLocalizationServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(IdentityDocumentLocalizationDTO.class));
-        verify(repository).save(any(IdentityDocumentLocalization.class));
+        verify(repository).updateById(any(UUID.class), any(IdentityDocumentLocalization.class));
         verify(mapper).toDTO(any(IdentityDocumentLocalization.class));
     }
 
     @Test
     void updateIdentityDocumentLocalization_ShouldReturnError_WhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(IdentityDocumentLocalizationDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(IdentityDocumentLocalization.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<IdentityDocumentLocalizationDTO> result = service.updateIdentityDocumentLocalization(testLocalizationId, dto);
@@ -236,17 +235,15 @@ public class IdentityDocumentLocalizationServiceImplTest {
                         throwable.getMessage().contains("Identity document localization not found with ID: " + testLocalizationId))
                 .verify();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(IdentityDocumentLocalizationDTO.class));
-        verify(repository, never()).save(any(IdentityDocumentLocalization.class));
+        verify(mapper).toEntity(any(IdentityDocumentLocalizationDTO.class));
+        verify(repository).updateById(any(UUID.class), any(IdentityDocumentLocalization.class));
         verify(mapper, never()).toDTO(any(IdentityDocumentLocalization.class));
     }
 
     @Test
     void deleteIdentityDocumentLocalization_ShouldDeleteLocalization_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.deleteById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteIdentityDocumentLocalization(testLocalizationId);
@@ -255,14 +252,13 @@ public class IdentityDocumentLocalizationServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).deleteById(any(UUID.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteIdentityDocumentLocalization_ShouldReturnError_WhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteIdentityDocumentLocalization(testLocalizationId);
@@ -273,8 +269,7 @@ public class IdentityDocumentLocalizationServiceImplTest {
                         throwable.getMessage().contains("Identity document localization not found with ID: " + testLocalizationId))
                 .verify();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).deleteById(any(UUID.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
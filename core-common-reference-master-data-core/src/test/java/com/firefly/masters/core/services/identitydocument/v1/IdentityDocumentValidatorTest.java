@@ -0,0 +1,154 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.identitydocument.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationRequestDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationResultDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentCatalog;
+import com.firefly.masters.models.entities.identitydocument.v1.IdentityDocumentCategoryCatalog;
+import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentCatalogRepository;
+import com.firefly.masters.models.repositories.identitydocument.v1.IdentityDocumentCategoryCatalogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class IdentityDocumentValidatorTest {
+
+    @Mock
+    private IdentityDocumentCatalogRepository documentRepository;
+
+    @Mock
+    private IdentityDocumentCategoryCatalogRepository categoryRepository;
+
+    @InjectMocks
+    private IdentityDocumentValidator validator;
+
+    private UUID countryId;
+    private IdentityDocumentCatalog nationalId;
+    private IdentityDocumentCatalog residencePermit;
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        countryId = UUID.randomUUID();
+        IdentityDocumentCategoryCatalog category = IdentityDocumentCategoryCatalog.builder()
+                .categoryId(UUID.randomUUID())
+                .categoryCode("NATIONAL_ID")
+                .build();
+        nationalId = document("ES_DNI", category.getCategoryId(), "[0-9]{8}[A-Z]");
+        residencePermit = document("ES_NIE", category.getCategoryId(), "[XYZ][0-9]{7}[A-Z]");
+
+        when(categoryRepository.findAll()).thenReturn(Flux.just(category));
+        when(documentRepository.findAll()).thenReturn(Flux.just(nationalId, residencePermit));
+        StepVerifier.create(validator.rebuild()).verifyComplete();
+    }
+
+    @Test
+    void validate_ByDocumentCode_ShouldMatchTheWholeTrimmedValue() {
+        // Act
+        IdentityDocumentValidationResultDTO valid = validator.validate(byCode("ES_DNI", " 12345678Z "));
+        IdentityDocumentValidationResultDTO invalid = validator.validate(byCode("ES_DNI", "12345678Z1"));
+
+        // Assert
+        assertTrue(valid.getValid());
+        assertEquals(nationalId.getDocumentId(), valid.getDocumentId());
+        assertFalse(invalid.getValid());
+        assertEquals("Value does not match the format of identity document ES_DNI: 8 digits and a letter", invalid.getError());
+    }
+
+    @Test
+    void validate_ByCountryAndCategory_ShouldReportTheMatchingDocument() {
+        // Arrange
+        IdentityDocumentValidationRequestDTO request = IdentityDocumentValidationRequestDTO.builder()
+                .countryId(countryId)
+                .categoryCode("NATIONAL_ID")
+                .value("X1234567L")
+                .build();
+
+        // Act
+        IdentityDocumentValidationResultDTO result = validator.validate(request);
+
+        // Assert
+        assertTrue(result.getValid());
+        assertEquals("ES_NIE", result.getDocumentCode());
+    }
+
+    @Test
+    void validate_ShouldRejectUnknownDocumentsAndMissingValues() {
+        // Act & Assert
+        assertFalse(validator.validate(byCode("UNKNOWN", "123")).getValid());
+        assertFalse(validator.validate(byCode("ES_DNI", " ")).getValid());
+        assertFalse(validator.validate(IdentityDocumentValidationRequestDTO.builder().value("123").build()).getValid());
+    }
+
+    @Test
+    void refresh_ShouldRecompileOnlyTheChangedDocument() {
+        // Arrange
+        IdentityDocumentCatalog updated = document("ES_DNI", nationalId.getCategoryId(), "[0-9]{8}-[A-Z]");
+        updated.setDocumentId(nationalId.getDocumentId());
+        when(documentRepository.findById(updated.getDocumentId())).thenReturn(Mono.just(updated));
+
+        // Act
+        StepVerifier.create(validator.refresh(new CatalogChangeEvent(
+                CatalogCacheNames.IDENTITY_DOCUMENT_CATALOG,
+                updated.getDocumentId().toString(),
+                CatalogChangeEvent.Operation.UPDATE))).verifyComplete();
+
+        // Assert
+        assertTrue(validator.validate(byCode("ES_DNI", "12345678-Z")).getValid());
+        assertFalse(validator.validate(byCode("ES_DNI", "12345678Z")).getValid());
+        assertTrue(validator.validate(byCode("ES_NIE", "X1234567L")).getValid());
+        verify(documentRepository, times(1)).findAll();
+    }
+
+    private IdentityDocumentCatalog document(String code, UUID categoryId, String regex) {
+        return IdentityDocumentCatalog.builder()
+                .documentId(UUID.randomUUID())
+                .documentCode(code)
+                .categoryId(categoryId)
+                .countryId(countryId)
+                .validationRegex(regex)
+                .formatDescription("8 digits and a letter")
+                .status(StatusEnum.ACTIVE)
+                .build();
+    }
+
+    private static IdentityDocumentValidationRequestDTO byCode(String documentCode, String value) {
+        return IdentityDocumentValidationRequestDTO.builder()
+                .documentCode(documentCode)
+                .value(value)
+                .build();
+    }
+}
@@ -166,9 +166,8 @@ public class LegalFormServiceImplTest {
     @Test
     void updateLegalForm_ShouldReturnUpdatedLegalFormWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(LegalFormDTO.class))).thenReturn(entity);
-        when(repository.save(any(LegalForm.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(LegalForm.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(LegalForm.class))).thenReturn(dto);
 
         // Act
@@ -179,16 +178,16 @@ public class LegalFormServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(LegalFormDTO.class));
-        verify(repository).save(any(LegalForm.class));
+        verify(repository).updateById(any(UUID.class), any(LegalForm.class));
         verify(mapper).toDTO(any(LegalForm.class));
     }
 
     @Test
     void updateLegalForm_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(LegalFormDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(LegalForm.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<LegalFormDTO> result = service.updateLegalForm(testLegalFormId, dto);
@@ -197,17 +196,15 @@ public class LegalFormServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(LegalFormDTO.class));
-        verify(repository, never()).save(any(LegalForm.class));
+        verify(mapper).toEntity(any(LegalFormDTO.class));
+        verify(repository).updateById(any(UUID.class), any(LegalForm.class));
         verify(mapper, never()).toDTO(any(LegalForm.class));
     }
 
     @Test
     void deleteLegalForm_ShouldDeleteWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(LegalForm.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteLegalForm(testLegalFormId);
@@ -216,14 +213,13 @@ public class LegalFormServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(LegalForm.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteLegalForm_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteLegalForm(testLegalFormId);
@@ -232,7 +228,6 @@ public class LegalFormServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).delete(any(LegalForm.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
@@ -178,9 +178,8 @@ public class LanguageLocaleServiceImplTest {
     @Test
     void updateLanguageLocale_ShouldReturnUpdatedLanguageLocaleWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(LanguageLocaleDTO.class))).thenReturn(entity);
-        when(repository.save(any(LanguageLocale.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(LanguageLocale.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(LanguageLocale.class))).thenReturn(dto);
 
         // Act
@@ -191,16 +190,16 @@ public class LanguageLocaleServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(LanguageLocaleDTO.class));
-        verify(repository).save(any(LanguageLocale.class));
+        verify(repository).updateById(any(UUID.class), any(LanguageLocale.class));
         verify(mapper).toDTO(any(LanguageLocale.class));
     }
 
     @Test
     void updateLanguageLocale_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(LanguageLocaleDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(LanguageLocale.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<LanguageLocaleDTO> result = service.updateLanguageLocale(testLocaleId, dto);
@@ -209,17 +208,15 @@ public class LanguageLocaleServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(LanguageLocaleDTO.class));
-        verify(repository, never()).save(any(LanguageLocale.class));
+        verify(mapper).toEntity(any(LanguageLocaleDTO.class));
+        verify(repository).updateById(any(UUID.class), any(LanguageLocale.class));
         verify(mapper, never()).toDTO(any(LanguageLocale.class));
     }
 
     @Test
     void deleteLanguageLocale_ShouldDeleteWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(LanguageLocale.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteLanguageLocale(testLocaleId);
@@ -228,14 +225,13 @@ public class LanguageLocaleServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(LanguageLocale.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteLanguageLocale_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteLanguageLocale(testLocaleId);
@@ -244,7 +240,6 @@ public class LanguageLocaleServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).delete(any(LanguageLocale.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.locale.v1;
+
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.locale.v1.LanguageLocale;
+import com.firefly.masters.models.repositories.locale.v1.LanguageLocaleRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LocaleFallbackIndexTest {
+
+    @Mock
+    private LanguageLocaleRepository repository;
+
+    @InjectMocks
+    private LocaleFallbackIndex index;
+
+    private LanguageLocale enUs;
+    private LanguageLocale es;
+    private LanguageLocale esMx;
+    private LanguageLocale frFr;
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        enUs = locale("en", "US", "en-US", 1, StatusEnum.ACTIVE);
+        es = locale("es", null, "es", 5, StatusEnum.ACTIVE);
+        esMx = locale("es", "MX", "es-MX", 2, StatusEnum.ACTIVE);
+        frFr = locale("fr", "FR", "fr-FR", 3, StatusEnum.ACTIVE);
+        LanguageLocale frCa = locale("fr", "CA", "fr-CA", 4, StatusEnum.ACTIVE);
+        LanguageLocale deDe = locale("de", "DE", "de-DE", 6, StatusEnum.INACTIVE);
+
+        ReflectionTestUtils.setField(index, "defaultLocale", "en-US");
+        when(repository.findAll()).thenReturn(Flux.just(enUs, es, esMx, frFr, frCa, deDe));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+    }
+
+    @Test
+    void chain_ShouldFallBackFromLocaleToLanguageToPlatformDefault() {
+        // Act & Assert
+        assertEquals(new LocaleChain(esMx.getLocaleId(), es.getLocaleId(), enUs.getLocaleId()), index.chain(" es_mx "));
+        assertEquals(new LocaleChain(null, es.getLocaleId(), enUs.getLocaleId()), index.chain("es-AR"));
+        assertEquals(new LocaleChain(null, frFr.getLocaleId(), enUs.getLocaleId()), index.chain("fr-BE"));
+    }
+
+    @Test
+    void chain_ShouldSkipRepeatedAndInactiveLocales() {
+        // Act & Assert
+        assertEquals(new LocaleChain(enUs.getLocaleId(), null, null), index.chain("en-US"));
+        assertEquals(new LocaleChain(null, null, enUs.getLocaleId()), index.chain("de-DE"));
+        assertEquals(new LocaleChain(null, null, enUs.getLocaleId()), index.chain(null));
+        assertEquals("es-MX", index.localeCode(esMx.getLocaleId()));
+    }
+
+    private static LanguageLocale locale(String language, String country, String code, int sortOrder, StatusEnum status) {
+        return LanguageLocale.builder()
+                .localeId(UUID.randomUUID())
+                .languageCode(language)
+                .countryCode(country)
+                .localeCode(code)
+                .sortOrder(sortOrder)
+                .status(status)
+                .build();
+    }
+}
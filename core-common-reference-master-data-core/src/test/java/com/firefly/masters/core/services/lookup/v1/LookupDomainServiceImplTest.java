@@ -174,9 +174,8 @@ public class LookupDomainServiceImplTest {
     @Test
     void updateDomain_ShouldReturnUpdatedEntityWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(LookupDomainDTO.class))).thenReturn(entity);
-        when(repository.save(any(LookupDomain.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(LookupDomain.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(LookupDomain.class))).thenReturn(dto);
 
         // Act
@@ -187,16 +186,16 @@ public class LookupDomainServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(LookupDomainDTO.class));
-        verify(repository).save(any(LookupDomain.class));
+        verify(repository).updateById(any(UUID.class), any(LookupDomain.class));
         verify(mapper).toDTO(any(LookupDomain.class));
     }
 
     @Test
     void updateDomain_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(LookupDomainDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(LookupDomain.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<LookupDomainDTO> result = service.updateDomain(testDomainId, dto);
@@ -205,17 +204,15 @@ public class LookupDomainServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(LookupDomainDTO.class));
-        verify(repository, never()).save(any(LookupDomain.class));
+        verify(mapper).toEntity(any(LookupDomainDTO.class));
+        verify(repository).updateById(any(UUID.class), any(LookupDomain.class));
         verify(mapper, never()).toDTO(any(LookupDomain.class));
     }
 
     @Test
     void deleteDomain_ShouldDeleteWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(LookupDomain.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteDomain(testDomainId);
@@ -224,14 +221,13 @@ public class LookupDomainServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(LookupDomain.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteDomain_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteDomain(testDomainId);
@@ -240,7 +236,6 @@ public class LookupDomainServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).delete(any(LookupDomain.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
@@ -21,9 +21,14 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import com.firefly.masters.core.utils.TestPaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.mappers.lookup.v1.LookupItemMapper;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainItemsDTO;
 import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
 import com.firefly.masters.models.entities.lookup.v1.LookupItem;
+import com.firefly.masters.models.repositories.Keyset;
 import com.firefly.masters.models.repositories.lookup.v1.LookupItemRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -33,15 +38,21 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
 import java.time.LocalDate;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -53,6 +64,9 @@ public class LookupItemServiceImplTest {
     @Mock
     private LookupItemMapper mapper;
 
+    @Mock
+    private LookupItemTreeIndex lookupItemTreeIndex;
+
     @InjectMocks
     private LookupItemServiceImpl service;
 
@@ -126,6 +140,115 @@ public class LookupItemServiceImplTest {
         verify(mapper).toDTO(any(LookupItem.class));
     }
 
+    @Test
+    void listItems_WithEstimateCountMode_ShouldUsePlannerEstimate() {
+        // Arrange
+        when(repository.findAllBy(any(Pageable.class))).thenReturn(Flux.just(entity));
+        when(repository.estimateCount()).thenReturn(Mono.just(1000L));
+        when(mapper.toDTO(any(LookupItem.class))).thenReturn(dto);
+
+        // Act
+        Mono<PaginationResponse<LookupItemDTO>> result = service.listItems(paginationRequest, CountModeEnum.ESTIMATE);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(response -> response.getContent().size() == 1 &&
+                        response.getTotalElements() == 1000L)
+                .verifyComplete();
+
+        verify(repository).estimateCount();
+        verify(repository, never()).count();
+    }
+
+    @Test
+    void listItems_WithNoneCountMode_ShouldSkipCount() {
+        // Arrange
+        when(repository.findAllBy(any(Pageable.class))).thenReturn(Flux.just(entity));
+        when(mapper.toDTO(any(LookupItem.class))).thenReturn(dto);
+
+        // Act
+        Mono<PaginationResponse<LookupItemDTO>> result = service.listItems(paginationRequest, CountModeEnum.NONE);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(response -> response.getContent().size() == 1)
+                .verifyComplete();
+
+        verify(repository, never()).count();
+        verify(repository, never()).estimateCount();
+    }
+
+    @Test
+    void listItemsByCursor_ShouldReturnPageWithNextCursor() {
+        // Arrange
+        LookupItem next = new LookupItem();
+        next.setItemId(UUID.randomUUID());
+        Keyset position = new Keyset(null, Sort.Direction.ASC, testItemId.toString(), testItemId.toString());
+        when(repository.findAllAfter(any(Keyset.class), eq(2))).thenReturn(Flux.just(entity, next));
+        when(repository.keysetOf(eq(entity), any(Keyset.class))).thenReturn(position);
+        when(mapper.toDTO(any(LookupItem.class))).thenReturn(dto);
+
+        CursorPaginationRequest request = CursorPaginationRequest.builder().size(1).build();
+
+        // Act
+        Mono<CursorPageDTO<LookupItemDTO>> result = service.listItemsByCursor(request);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(page -> page.getContent().size() == 1 &&
+                        page.getHasMore() &&
+                        page.getNextCursor() != null &&
+                        page.getTotalElements() == null &&
+                        page.getCountMode() == CountModeEnum.NONE)
+                .verifyComplete();
+
+        verify(repository, never()).count();
+        verify(mapper).toDTO(entity);
+    }
+
+    @Test
+    void listItemsByCursor_ShouldResumeAfterCursor() {
+        // Arrange
+        LookupItem next = new LookupItem();
+        next.setItemId(UUID.randomUUID());
+        Keyset position = new Keyset(null, Sort.Direction.ASC, testItemId.toString(), testItemId.toString());
+        when(repository.findAllAfter(any(Keyset.class), eq(2))).thenReturn(Flux.just(entity, next));
+        when(repository.keysetOf(eq(entity), any(Keyset.class))).thenReturn(position);
+        when(mapper.toDTO(any(LookupItem.class))).thenReturn(dto);
+
+        String cursor = service.listItemsByCursor(CursorPaginationRequest.builder().size(1).build())
+                .map(page -> page.getNextCursor())
+                .block();
+        when(repository.findAllAfter(eq(position), eq(2))).thenReturn(Flux.empty());
+
+        // Act
+        Mono<CursorPageDTO<LookupItemDTO>> result = service.listItemsByCursor(
+                CursorPaginationRequest.builder().size(1).after(cursor).build());
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNextMatches(page -> page.getContent().isEmpty() &&
+                        !page.getHasMore() &&
+                        page.getNextCursor() == null)
+                .verifyComplete();
+
+        verify(repository).findAllAfter(eq(position), eq(2));
+    }
+
+    @Test
+    void listItemsByCursor_ShouldRejectMalformedCursor() {
+        // Act
+        Mono<CursorPageDTO<LookupItemDTO>> result = service.listItemsByCursor(
+                CursorPaginationRequest.builder().after("not-a-cursor").build());
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).findAllAfter(any(Keyset.class), anyInt());
+    }
+
     @Test
     void getItemsByDomain_ShouldReturnItems() {
         // Arrange
@@ -144,6 +267,25 @@ public class LookupItemServiceImplTest {
         verify(mapper).toDTO(any(LookupItem.class));
     }
 
+    @Test
+    void getItemsByDomain_WithAsOf_ShouldQueryEffectiveItems() {
+        // Arrange
+        LocalDate asOf = LocalDate.of(2020, 3, 31);
+        when(repository.findByDomainIdAsOf(testDomainId, asOf)).thenReturn(Flux.just(entity));
+        when(mapper.toDTO(any(LookupItem.class))).thenReturn(dto);
+
+        // Act
+        Flux<LookupItemDTO> result = service.getItemsByDomain(testDomainId, asOf);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(dto)
+                .verifyComplete();
+
+        verify(repository).findByDomainIdAsOf(testDomainId, asOf);
+        verify(repository, never()).findByDomainId(any(UUID.class));
+    }
+
     @Test
     void createItem_ShouldReturnCreatedEntity() {
         // Arrange
@@ -164,6 +306,23 @@ public class LookupItemServiceImplTest {
         verify(mapper).toDTO(any(LookupItem.class));
     }
 
+    @Test
+    void createItem_ShouldRejectRangeEndingBeforeItStarts() {
+        // Arrange
+        dto.setEffectiveFrom(LocalDate.of(2024, 1, 1));
+        dto.setEffectiveTo(LocalDate.of(2023, 12, 31));
+
+        // Act
+        Mono<LookupItemDTO> result = service.createItem(dto);
+
+        // Assert
+        StepVerifier.create(result)
+                .expectError(IllegalArgumentException.class)
+                .verify();
+
+        verify(repository, never()).save(any(LookupItem.class));
+    }
+
     @Test
     void getItem_ShouldReturnEntityWhenFound() {
         // Arrange
@@ -201,9 +360,8 @@ public class LookupItemServiceImplTest {
     @Test
     void updateItem_ShouldReturnUpdatedEntityWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(LookupItemDTO.class))).thenReturn(entity);
-        when(repository.save(any(LookupItem.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(LookupItem.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(LookupItem.class))).thenReturn(dto);
 
         // Act
@@ -214,16 +372,16 @@ public class LookupItemServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(LookupItemDTO.class));
-        verify(repository).save(any(LookupItem.class));
+        verify(repository).updateById(any(UUID.class), any(LookupItem.class));
         verify(mapper).toDTO(any(LookupItem.class));
     }
 
     @Test
     void updateItem_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(LookupItemDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(LookupItem.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<LookupItemDTO> result = service.updateItem(testItemId, dto);
@@ -232,17 +390,15 @@ public class LookupItemServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(LookupItemDTO.class));
-        verify(repository, never()).save(any(LookupItem.class));
+        verify(mapper).toEntity(any(LookupItemDTO.class));
+        verify(repository).updateById(any(UUID.class), any(LookupItem.class));
         verify(mapper, never()).toDTO(any(LookupItem.class));
     }
 
     @Test
     void deleteItem_ShouldDeleteWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(LookupItem.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteItem(testItemId);
@@ -251,14 +407,13 @@ public class LookupItemServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(LookupItem.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteItem_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteItem(testItemId);
@@ -267,7 +422,29 @@ public class LookupItemServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).delete(any(LookupItem.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
+    }
+
+    @Test
+    void getItemTreesByDomainCodes_ShouldSkipUnknownAndDuplicateDomains() {
+        // Arrange
+        LookupDomainItemsDTO domainItems = LookupDomainItemsDTO.builder()
+                .domainId(testDomainId)
+                .domainCode("BRANCH_TYPE")
+                .items(List.of())
+                .build();
+        when(lookupItemTreeIndex.getDomainItems(eq("BRANCH_TYPE"), isNull(), any(LocalDate.class))).thenReturn(Optional.of(domainItems));
+        when(lookupItemTreeIndex.getDomainItems(eq("UNKNOWN"), isNull(), any(LocalDate.class))).thenReturn(Optional.empty());
+
+        // Act
+        Flux<LookupDomainItemsDTO> result = service.getItemTreesByDomainCodes(List.of("BRANCH_TYPE", "UNKNOWN", "BRANCH_TYPE"));
+
+        // Assert
+        StepVerifier.create(result)
+                .expectNext(domainItems)
+                .verifyComplete();
+
+        verify(lookupItemTreeIndex, times(2)).getDomainItems(any(String.class), isNull(), any(LocalDate.class));
+        verifyNoInteractions(repository);
     }
 }
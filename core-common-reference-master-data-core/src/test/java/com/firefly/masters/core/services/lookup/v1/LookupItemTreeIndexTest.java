@@ -0,0 +1,303 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.lookup.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.lookup.v1.LookupDomainMapper;
+import com.firefly.masters.core.mappers.lookup.v1.LookupItemMapper;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainDTO;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainItemsDTO;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemDTO;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemNodeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.lookup.v1.LookupDomain;
+import com.firefly.masters.models.entities.lookup.v1.LookupItem;
+import com.firefly.masters.models.repositories.lookup.v1.LookupDomainRepository;
+import com.firefly.masters.models.repositories.lookup.v1.LookupItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class LookupItemTreeIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 1);
+
+    @Mock
+    private LookupDomainRepository domainRepository;
+
+    @Mock
+    private LookupItemRepository itemRepository;
+
+    @Mock
+    private LookupDomainMapper domainMapper;
+
+    @Mock
+    private LookupItemMapper itemMapper;
+
+    @InjectMocks
+    private LookupItemTreeIndex index;
+
+    private LookupDomain domain;
+    private LookupItem retail;
+    private LookupItem corporate;
+    private LookupItem smallBusiness;
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        domain = LookupDomain.builder()
+                .domainId(UUID.randomUUID())
+                .domainCode("SEGMENT")
+                .domainName("Customer Segments")
+                .hierarchyAllowed(true)
+                .tenantOverridable(true)
+                .status(StatusEnum.ACTIVE)
+                .build();
+        corporate = item("CORP", null, 2);
+        retail = item("RETAIL", null, 1);
+        smallBusiness = item("SME", corporate.getItemId(), 1);
+
+        lenient().when(domainMapper.toDTO(any(LookupDomain.class))).thenAnswer(invocation -> toDTO((LookupDomain) invocation.getArgument(0)));
+        lenient().when(itemMapper.toDTO(any(LookupItem.class))).thenAnswer(invocation -> toDTO((LookupItem) invocation.getArgument(0)));
+        lenient().when(domainRepository.findAll()).thenReturn(Flux.just(domain));
+    }
+
+    @Test
+    void getDomainItems_ShouldNestItemsSortedBySortOrder() {
+        // Arrange
+        when(itemRepository.findAll()).thenReturn(Flux.just(smallBusiness, corporate, retail));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        // Act
+        LookupDomainItemsDTO result = index.getDomainItems("SEGMENT", null, TODAY).orElseThrow();
+
+        // Assert
+        assertEquals(domain.getDomainId(), result.getDomainId());
+        assertEquals(List.of("RETAIL", "CORP"), codes(result.getItems()));
+        assertEquals(List.of("SME"), codes(result.getItems().get(1).getChildren()));
+        assertTrue(index.getDomainItems("UNKNOWN", null, TODAY).isEmpty());
+    }
+
+    @Test
+    void getDomainItems_ShouldLeaveOutExpiredTenantAndInactiveItems() {
+        // Arrange
+        corporate.setEffectiveTo(TODAY.minusDays(1));
+        LookupItem tenantItem = item("TENANT", null, 3);
+        tenantItem.setTenantId(UUID.randomUUID());
+        LookupItem inactive = item("OLD", null, 4);
+        inactive.setStatus(StatusEnum.INACTIVE);
+        when(itemRepository.findAll()).thenReturn(Flux.just(smallBusiness, corporate, retail, tenantItem, inactive));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        // Act
+        LookupDomainItemsDTO result = index.getDomainItems("SEGMENT", null, TODAY).orElseThrow();
+
+        // Assert
+        assertEquals(List.of("RETAIL"), codes(result.getItems()));
+    }
+
+    @Test
+    void getDomainItems_ShouldLeaveOutItemsInAParentCycle() {
+        // Arrange
+        LookupItem first = item("LOOP_A", null, 5);
+        LookupItem second = item("LOOP_B", first.getItemId(), 6);
+        LookupItem below = item("LOOP_C", second.getItemId(), 7);
+        first.setParentItemId(second.getItemId());
+        when(itemRepository.findAll()).thenReturn(Flux.just(smallBusiness, corporate, retail, first, second, below));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        // Act
+        LookupDomainItemsDTO result = index.getDomainItems("SEGMENT", null, TODAY).orElseThrow();
+
+        // Assert
+        assertEquals(List.of("RETAIL", "CORP"), codes(result.getItems()));
+        assertEquals(List.of("SME"), codes(result.getItems().get(1).getChildren()));
+    }
+
+    @Test
+    void refresh_ShouldReloadOnlyTheDomainOfTheChangedItem() {
+        // Arrange
+        when(itemRepository.findAll()).thenReturn(Flux.just(corporate, retail));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+        when(itemRepository.findById(smallBusiness.getItemId())).thenReturn(Mono.just(smallBusiness));
+        when(itemRepository.findByDomainId(domain.getDomainId())).thenReturn(Flux.just(corporate, retail, smallBusiness));
+
+        // Act
+        StepVerifier.create(index.refresh(new CatalogChangeEvent(
+                CatalogCacheNames.LOOKUP_ITEM,
+                smallBusiness.getItemId().toString(),
+                CatalogChangeEvent.Operation.INSERT))).verifyComplete();
+
+        // Assert
+        LookupDomainItemsDTO result = index.getDomainItems("SEGMENT", null, TODAY).orElseThrow();
+        assertEquals(List.of("SME"), codes(result.getItems().get(1).getChildren()));
+        verify(itemRepository, times(1)).findAll();
+    }
+
+    @Test
+    void resolveItem_ShouldFindTheVersionEffectiveOnTheDate() {
+        // Arrange
+        LookupItem firstVersion = item("RETAIL", null, 1);
+        firstVersion.setEffectiveTo(LocalDate.of(2019, 12, 31));
+        firstVersion.setStatus(StatusEnum.INACTIVE);
+        retail.setEffectiveFrom(LocalDate.of(2021, 1, 1));
+        when(itemRepository.findAll()).thenReturn(Flux.just(retail, corporate, firstVersion));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        // Act & Assert
+        assertEquals(firstVersion.getItemId(),
+                index.resolveItem("SEGMENT", null, "RETAIL", LocalDate.of(2019, 6, 30)).orElseThrow().getItemId());
+        assertEquals(retail.getItemId(),
+                index.resolveItem("SEGMENT", null, "RETAIL", LocalDate.of(2021, 1, 1)).orElseThrow().getItemId());
+        assertTrue(index.resolveItem("SEGMENT", null, "RETAIL", LocalDate.of(2020, 6, 30)).isEmpty());
+        assertTrue(index.resolveItem("SEGMENT", null, "UNKNOWN", TODAY).isEmpty());
+    }
+
+    @Test
+    void resolveItem_ShouldFallBackToAnEarlierOpenVersionWhenTheLatestHasEnded() {
+        // Arrange
+        retail.setEffectiveFrom(LocalDate.of(2020, 1, 1));
+        retail.setEffectiveTo(null);
+        LookupItem promotion = item("RETAIL", null, 1);
+        promotion.setEffectiveFrom(LocalDate.of(2022, 1, 1));
+        promotion.setEffectiveTo(LocalDate.of(2023, 12, 31));
+        when(itemRepository.findAll()).thenReturn(Flux.just(retail, corporate, promotion));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        // Act & Assert
+        assertEquals(promotion.getItemId(),
+                index.resolveItem("SEGMENT", null, "RETAIL", LocalDate.of(2023, 6, 30)).orElseThrow().getItemId());
+        assertEquals(retail.getItemId(),
+                index.resolveItem("SEGMENT", null, "RETAIL", LocalDate.of(2024, 6, 30)).orElseThrow().getItemId());
+        assertTrue(index.resolveItem("SEGMENT", null, "RETAIL", LocalDate.of(2019, 6, 30)).isEmpty());
+    }
+
+    @Test
+    void getDomainItems_ShouldOverlayTenantItemsOnItemCode() {
+        // Arrange
+        UUID tenantId = UUID.randomUUID();
+        LookupItem tenantCorporate = item("CORP", null, 0);
+        tenantCorporate.setTenantId(tenantId);
+        tenantCorporate.setItemLabelDefault("Enterprise");
+        when(itemRepository.findAll()).thenReturn(Flux.just(smallBusiness, corporate, retail, tenantCorporate));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+
+        // Act
+        LookupDomainItemsDTO tenantView = index.getDomainItems("SEGMENT", tenantId, TODAY).orElseThrow();
+        LookupDomainItemsDTO otherTenantView = index.getDomainItems("SEGMENT", UUID.randomUUID(), TODAY).orElseThrow();
+
+        // Assert
+        assertEquals(List.of("CORP", "RETAIL"), codes(tenantView.getItems()));
+        assertEquals(tenantCorporate.getItemId(), tenantView.getItems().get(0).getItemId());
+        assertEquals(List.of("SME"), codes(tenantView.getItems().get(0).getChildren()));
+        assertEquals(List.of("RETAIL", "CORP"), codes(otherTenantView.getItems()));
+        assertEquals(tenantCorporate.getItemId(),
+                index.resolveItem("SEGMENT", tenantId, "CORP", TODAY).orElseThrow().getItemId());
+    }
+
+    @Test
+    void getDomainItems_ShouldRecomputeOverlayWhenTenantLayerChanges() {
+        // Arrange
+        UUID tenantId = UUID.randomUUID();
+        LookupItem tenantRetail = item("RETAIL", null, 1);
+        tenantRetail.setTenantId(tenantId);
+        tenantRetail.setItemLabelDefault("Private Banking");
+        when(itemRepository.findAll()).thenReturn(Flux.just(corporate, retail, tenantRetail));
+        StepVerifier.create(index.rebuild()).verifyComplete();
+        assertEquals("Private Banking",
+                index.getDomainItems("SEGMENT", tenantId, TODAY).orElseThrow().getItems().get(0).getItemLabelDefault());
+
+        LookupItem renamed = item("RETAIL", null, 1);
+        renamed.setItemId(tenantRetail.getItemId());
+        renamed.setTenantId(tenantId);
+        renamed.setItemLabelDefault("Wealth");
+        when(itemRepository.findById(renamed.getItemId())).thenReturn(Mono.just(renamed));
+        when(itemRepository.findByDomainId(domain.getDomainId())).thenReturn(Flux.just(corporate, retail, renamed));
+
+        // Act
+        StepVerifier.create(index.refresh(new CatalogChangeEvent(
+                CatalogCacheNames.LOOKUP_ITEM,
+                renamed.getItemId().toString(),
+                CatalogChangeEvent.Operation.UPDATE))).verifyComplete();
+
+        // Assert
+        assertEquals("Wealth",
+                index.getDomainItems("SEGMENT", tenantId, TODAY).orElseThrow().getItems().get(0).getItemLabelDefault());
+    }
+
+    private LookupItem item(String code, UUID parentItemId, int sortOrder) {
+        return LookupItem.builder()
+                .itemId(UUID.randomUUID())
+                .domainId(domain.getDomainId())
+                .itemCode(code)
+                .itemLabelDefault(code)
+                .parentItemId(parentItemId)
+                .sortOrder(sortOrder)
+                .effectiveFrom(LocalDate.of(1900, 1, 1))
+                .status(StatusEnum.ACTIVE)
+                .build();
+    }
+
+    private static List<String> codes(List<LookupItemNodeDTO> nodes) {
+        return nodes.stream().map(LookupItemNodeDTO::getItemCode).toList();
+    }
+
+    private static LookupDomainDTO toDTO(LookupDomain entity) {
+        return LookupDomainDTO.builder()
+                .domainId(entity.getDomainId())
+                .domainCode(entity.getDomainCode())
+                .domainName(entity.getDomainName())
+                .hierarchyAllowed(entity.getHierarchyAllowed())
+                .tenantOverridable(entity.getTenantOverridable())
+                .tenantId(entity.getTenantId())
+                .status(entity.getStatus())
+                .build();
+    }
+
+    private static LookupItemDTO toDTO(LookupItem entity) {
+        return LookupItemDTO.builder()
+                .itemId(entity.getItemId())
+                .domainId(entity.getDomainId())
+                .itemCode(entity.getItemCode())
+                .itemLabelDefault(entity.getItemLabelDefault())
+                .parentItemId(entity.getParentItemId())
+                .sortOrder(entity.getSortOrder())
+                .effectiveFrom(entity.getEffectiveFrom())
+                .effectiveTo(entity.getEffectiveTo())
+                .tenantId(entity.getTenantId())
+                .status(entity.getStatus())
+                .build();
+    }
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.naturalkey.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.country.v1.CountryMapper;
+import com.firefly.masters.core.mappers.legal.v1.LegalFormMapper;
+import com.firefly.masters.core.mappers.locale.v1.LanguageLocaleMapper;
+import com.firefly.masters.core.mappers.title.v1.TitleMasterMapper;
+import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
+import com.firefly.masters.interfaces.dtos.legal.v1.LegalFormDTO;
+import com.firefly.masters.interfaces.dtos.locale.v1.LanguageLocaleDTO;
+import com.firefly.masters.interfaces.dtos.title.v1.TitleMasterDTO;
+import com.firefly.masters.models.entities.country.v1.Country;
+import com.firefly.masters.models.entities.legal.v1.LegalForm;
+import com.firefly.masters.models.entities.locale.v1.LanguageLocale;
+import com.firefly.masters.models.entities.title.v1.TitleMaster;
+import com.firefly.masters.models.repositories.country.v1.CountryRepository;
+import com.firefly.masters.models.repositories.legal.v1.LegalFormRepository;
+import com.firefly.masters.models.repositories.locale.v1.LanguageLocaleRepository;
+import com.firefly.masters.models.repositories.title.v1.TitleMasterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NaturalKeyIndexTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private CountryMapper countryMapper;
+
+    @Mock
+    private LegalFormRepository legalFormRepository;
+
+    @Mock
+    private LegalFormMapper legalFormMapper;
+
+    @Mock
+    private LanguageLocaleRepository languageLocaleRepository;
+
+    @Mock
+    private LanguageLocaleMapper languageLocaleMapper;
+
+    @Mock
+    private TitleMasterRepository titleRepository;
+
+    @Mock
+    private TitleMasterMapper titleMapper;
+
+    @InjectMocks
+    private NaturalKeyIndex index;
+
+    @Test
+    void getCountries_ShouldMatchCodesCaseInsensitivelyInRequestOrderWithoutFlags() {
+        // Arrange
+        Country spain = Country.builder().countryId(UUID.randomUUID()).isoCode("ES").build();
+        Country france = Country.builder().countryId(UUID.randomUUID()).isoCode("FR").build();
+        CountryDTO spainDto = CountryDTO.builder().countryId(spain.getCountryId()).isoCode("ES").svgFlag("<svg/>").build();
+        CountryDTO franceDto = CountryDTO.builder().countryId(france.getCountryId()).isoCode("FR").svgFlag("<svg/>").build();
+        CountryDTO spainSummary = CountryDTO.builder().countryId(spain.getCountryId()).isoCode("ES").build();
+        CountryDTO franceSummary = CountryDTO.builder().countryId(france.getCountryId()).isoCode("FR").build();
+        when(countryRepository.findAll()).thenReturn(Flux.just(spain, france));
+        when(countryMapper.toDTO(spain)).thenReturn(spainDto);
+        when(countryMapper.toDTO(france)).thenReturn(franceDto);
+        when(countryMapper.toSummaryDTO(spainDto)).thenReturn(spainSummary);
+        when(countryMapper.toSummaryDTO(franceDto)).thenReturn(franceSummary);
+
+        // Act
+        StepVerifier.create(index.refresh(event(CatalogCacheNames.COUNTRIES))).verifyComplete();
+
+        // Assert
+        assertEquals(spainDto, index.getCountry(" es "));
+        assertNull(index.getCountry("DE"));
+        assertEquals(List.of(franceSummary, spainSummary), index.getCountries(List.of("fr", "XX", "ES", "FR")));
+    }
+
+    @Test
+    void getLegalForm_CodeUsedInSeveralCountries_ShouldRequireTheCountry() {
+        // Arrange
+        UUID spainId = UUID.randomUUID();
+        UUID argentinaId = UUID.randomUUID();
+        LegalForm spanish = LegalForm.builder().legalFormId(UUID.randomUUID()).countryId(spainId).code("SA").build();
+        LegalForm argentine = LegalForm.builder().legalFormId(UUID.randomUUID()).countryId(argentinaId).code("SA").build();
+        LegalFormDTO spanishDto = LegalFormDTO.builder().legalFormId(spanish.getLegalFormId()).countryId(spainId).code("SA").build();
+        LegalFormDTO argentineDto = LegalFormDTO.builder().legalFormId(argentine.getLegalFormId()).countryId(argentinaId).code("SA").build();
+        when(legalFormRepository.findAll()).thenReturn(Flux.just(spanish, argentine));
+        when(legalFormMapper.toDTO(spanish)).thenReturn(spanishDto);
+        when(legalFormMapper.toDTO(argentine)).thenReturn(argentineDto);
+
+        // Act
+        StepVerifier.create(index.refresh(event(CatalogCacheNames.LEGAL_FORM))).verifyComplete();
+
+        // Assert
+        assertEquals(argentineDto, index.getLegalForm("sa", argentinaId));
+        assertThrows(IllegalArgumentException.class, () -> index.getLegalForm("SA", null));
+        assertEquals(List.of(spanishDto), index.getLegalForms(List.of("SA"), spainId));
+    }
+
+    @Test
+    void getTitle_PrefixUsedBySeveralTitles_ShouldThrow() {
+        // Arrange
+        TitleMaster doctor = title("DR");
+        TitleMaster drive = title("Dr");
+        TitleMaster mister = title("MR");
+        TitleMasterDTO doctorDto = TitleMasterDTO.builder().titleId(doctor.getTitleId()).prefix("DR").build();
+        TitleMasterDTO driveDto = TitleMasterDTO.builder().titleId(drive.getTitleId()).prefix("Dr").build();
+        TitleMasterDTO misterDto = TitleMasterDTO.builder().titleId(mister.getTitleId()).prefix("MR").build();
+        when(titleRepository.findAll()).thenReturn(Flux.just(doctor, drive, mister));
+        when(titleMapper.toDTO(doctor)).thenReturn(doctorDto);
+        when(titleMapper.toDTO(drive)).thenReturn(driveDto);
+        when(titleMapper.toDTO(mister)).thenReturn(misterDto);
+
+        // Act
+        StepVerifier.create(index.refresh(event(CatalogCacheNames.TITLE_MASTER))).verifyComplete();
+
+        // Assert
+        assertEquals(misterDto, index.getTitle("mr"));
+        assertThrows(IllegalArgumentException.class, () -> index.getTitle("dr"));
+        assertEquals(List.of(doctorDto, driveDto), index.getTitles(List.of("DR")));
+    }
+
+    @Test
+    void getLanguageLocale_ShouldNormalizeCodesAsLocaleFallbackDoes() {
+        // Arrange
+        LanguageLocale mexican = LanguageLocale.builder().localeId(UUID.randomUUID()).localeCode("es-MX").build();
+        LanguageLocaleDTO mexicanDto = LanguageLocaleDTO.builder().localeId(mexican.getLocaleId()).localeCode("es-MX").build();
+        when(languageLocaleRepository.findAll()).thenReturn(Flux.just(mexican));
+        when(languageLocaleMapper.toDTO(mexican)).thenReturn(mexicanDto);
+
+        // Act
+        StepVerifier.create(index.refresh(event(CatalogCacheNames.LANGUAGE_LOCALE))).verifyComplete();
+
+        // Assert
+        assertEquals(mexicanDto, index.getLanguageLocale(" es_mx "));
+        assertEquals(List.of(mexicanDto), index.getLanguageLocales(List.of("ES_MX", "es-MX")));
+        assertNull(index.getLanguageLocale(" "));
+    }
+
+    @Test
+    void getCountries_TooManyOrNoCodes_ShouldThrow() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> index.getCountries(List.of()));
+        assertThrows(IllegalArgumentException.class,
+                () -> index.getCountries(Collections.nCopies(NaturalKeyIndex.MAX_CODES + 1, "ES")));
+    }
+
+    private static TitleMaster title(String prefix) {
+        TitleMaster title = new TitleMaster();
+        title.setTitleId(UUID.randomUUID());
+        title.setPrefix(prefix);
+        return title;
+    }
+
+    private static CatalogChangeEvent event(String table) {
+        return new CatalogChangeEvent(table, UUID.randomUUID().toString(), CatalogChangeEvent.Operation.UPDATE);
+    }
+}
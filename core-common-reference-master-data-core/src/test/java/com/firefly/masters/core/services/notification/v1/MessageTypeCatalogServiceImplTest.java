@@ -170,9 +170,8 @@ public class MessageTypeCatalogServiceImplTest {
     @Test
     void updateMessageType_ShouldReturnUpdatedMessageType_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(MessageTypeCatalogDTO.class))).thenReturn(entity);
-        when(repository.save(any(MessageTypeCatalog.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(MessageTypeCatalog.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(MessageTypeCatalog.class))).thenReturn(dto);
 
         // Act
@@ -183,17 +182,15 @@ public class MessageTypeCatalogServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(MessageTypeCatalogDTO.class));
-        verify(repository).save(any(MessageTypeCatalog.class));
+        verify(repository).updateById(any(UUID.class), any(MessageTypeCatalog.class));
         verify(mapper).toDTO(any(MessageTypeCatalog.class));
     }
 
     @Test
     void deleteMessageType_ShouldDeleteMessageType_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(MessageTypeCatalog.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteMessageType(testTypeId);
@@ -202,7 +199,6 @@ public class MessageTypeCatalogServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(MessageTypeCatalog.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
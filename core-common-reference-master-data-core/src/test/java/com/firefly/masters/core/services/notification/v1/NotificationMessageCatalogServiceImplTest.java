@@ -213,9 +213,8 @@ public class NotificationMessageCatalogServiceImplTest {
     @Test
     void updateNotificationMessage_ShouldReturnUpdatedMessage_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(NotificationMessageCatalogDTO.class))).thenReturn(entity);
-        when(repository.save(any(NotificationMessageCatalog.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(NotificationMessageCatalog.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(NotificationMessageCatalog.class))).thenReturn(dto);
 
         // Act
@@ -226,17 +225,15 @@ public class NotificationMessageCatalogServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(NotificationMessageCatalogDTO.class));
-        verify(repository).save(any(NotificationMessageCatalog.class));
+        verify(repository).updateById(any(UUID.class), any(NotificationMessageCatalog.class));
         verify(mapper).toDTO(any(NotificationMessageCatalog.class));
     }
 
     @Test
     void deleteNotificationMessage_ShouldDeleteMessage_WhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(NotificationMessageCatalog.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteNotificationMessage(testMessageId);
@@ -245,7 +242,6 @@ public class NotificationMessageCatalogServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(NotificationMessageCatalog.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
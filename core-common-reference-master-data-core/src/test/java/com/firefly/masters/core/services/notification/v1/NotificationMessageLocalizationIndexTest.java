@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.notification.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.notification.v1.NotificationMessageLocalizationMapper;
+import com.firefly.masters.core.services.locale.v1.LocaleChain;
+import com.firefly.masters.core.services.locale.v1.LocaleFallbackIndex;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.interfaces.enums.locale.v1.LocaleFallbackEnum;
+import com.firefly.masters.models.entities.notification.v1.NotificationMessageCatalog;
+import com.firefly.masters.models.entities.notification.v1.NotificationMessageLocalization;
+import com.firefly.masters.models.repositories.notification.v1.NotificationMessageCatalogRepository;
+import com.firefly.masters.models.repositories.notification.v1.NotificationMessageLocalizationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationMessageLocalizationIndexTest {
+
+    @Mock
+    private NotificationMessageCatalogRepository catalogRepository;
+
+    @Mock
+    private NotificationMessageLocalizationRepository repository;
+
+    @Mock
+    private NotificationMessageLocalizationMapper mapper;
+
+    @Mock
+    private LocaleFallbackIndex locales;
+
+    @InjectMocks
+    private NotificationMessageLocalizationIndex index;
+
+    private final UUID esMx = UUID.randomUUID();
+    private final UUID es = UUID.randomUUID();
+    private final UUID enUs = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        when(locales.chain("es-MX")).thenReturn(new LocaleChain(esMx, es, enUs));
+        when(mapper.toDTO(any(NotificationMessageLocalization.class))).thenAnswer(invocation -> {
+            NotificationMessageLocalization entity = invocation.getArgument(0);
+            return NotificationMessageLocalizationDTO.builder()
+                    .localizationId(entity.getLocalizationId())
+                    .messageId(entity.getMessageId())
+                    .localeId(entity.getLocaleId())
+                    .subject(entity.getSubject())
+                    .status(entity.getStatus())
+                    .build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        index.stop();
+    }
+
+    @Test
+    void resolve_ShouldWalkTheFallbackChain() {
+        // Arrange
+        NotificationMessageCatalog exact = message("Welcome");
+        NotificationMessageCatalog language = message("Welcome");
+        NotificationMessageCatalog catalogDefault = message("Welcome");
+        NotificationMessageCatalog platformDefault = message(null);
+        when(catalogRepository.findAll()).thenReturn(Flux.just(exact, language, catalogDefault, platformDefault));
+        when(repository.findAll()).thenReturn(Flux.just(
+                localization(exact, esMx, "Bienvenido (MX)", StatusEnum.ACTIVE),
+                localization(exact, es, "Bienvenido", StatusEnum.ACTIVE),
+                localization(language, es, "Bienvenido", StatusEnum.ACTIVE),
+                localization(language, esMx, "Inactive", StatusEnum.INACTIVE),
+                localization(catalogDefault, enUs, "Welcome (US)", StatusEnum.ACTIVE),
+                localization(platformDefault, enUs, "Welcome (US)", StatusEnum.ACTIVE)));
+        when(locales.localeCode(esMx)).thenReturn("es-MX");
+        when(locales.localeCode(es)).thenReturn("es");
+        when(locales.localeCode(enUs)).thenReturn("en-US");
+
+        // Act
+        index.start();
+
+        // Assert
+        assertResolved(index.resolve(exact.getMessageId(), "es-MX"), LocaleFallbackEnum.EXACT, "es-MX", "Bienvenido (MX)");
+        assertResolved(index.resolve(language.getMessageId(), "es-MX"), LocaleFallbackEnum.LANGUAGE, "es", "Bienvenido");
+        assertResolved(index.resolve(catalogDefault.getMessageId(), "es-MX"), LocaleFallbackEnum.CATALOG_DEFAULT, null, "Welcome");
+        assertResolved(index.resolve(platformDefault.getMessageId(), "es-MX"), LocaleFallbackEnum.PLATFORM_DEFAULT, "en-US", "Welcome (US)");
+        assertNull(index.resolve(UUID.randomUUID(), "es-MX"));
+    }
+
+    @Test
+    void rebuild_ShouldDropPreviouslyResolvedTables() {
+        // Arrange
+        NotificationMessageCatalog welcome = message("Welcome");
+        when(catalogRepository.findAll()).thenReturn(Flux.just(welcome));
+        when(repository.findAll())
+                .thenReturn(Flux.empty())
+                .thenReturn(Flux.just(localization(welcome, esMx, "Bienvenido (MX)", StatusEnum.ACTIVE)));
+        index.start();
+        assertEquals(LocaleFallbackEnum.CATALOG_DEFAULT, index.resolve(welcome.getMessageId(), "es-MX").getFallback());
+
+        // Act
+        index.onCatalogChange(CatalogChangeEvent.resync());
+
+        // Assert
+        assertEquals(LocaleFallbackEnum.EXACT, index.resolve(welcome.getMessageId(), "es-MX").getFallback());
+    }
+
+    @Test
+    void refresh_ShouldReloadOnlyTheChangedLocalization() {
+        // Arrange
+        NotificationMessageCatalog welcome = message("Welcome");
+        NotificationMessageCatalog farewell = message("Goodbye");
+        NotificationMessageLocalization bienvenido = localization(welcome, esMx, "Bienvenido (MX)", StatusEnum.ACTIVE);
+        when(catalogRepository.findAll()).thenReturn(Flux.just(welcome, farewell));
+        when(repository.findAll()).thenReturn(Flux.empty());
+        when(repository.findById(bienvenido.getLocalizationId())).thenReturn(Mono.just(bienvenido));
+        index.start();
+        assertEquals(LocaleFallbackEnum.CATALOG_DEFAULT, index.resolve(welcome.getMessageId(), "es-MX").getFallback());
+
+        // Act
+        index.onCatalogChange(new CatalogChangeEvent(CatalogCacheNames.NOTIFICATION_MESSAGE_LOCALIZATION,
+                bienvenido.getLocalizationId().toString(), CatalogChangeEvent.Operation.INSERT));
+
+        // Assert
+        assertEquals(LocaleFallbackEnum.EXACT, index.resolve(welcome.getMessageId(), "es-MX").getFallback());
+        assertEquals("Goodbye", index.resolve(farewell.getMessageId(), "es-MX").getLocalization().getSubject());
+        verify(catalogRepository, times(1)).findAll();
+        verify(repository, times(1)).findAll();
+    }
+
+    @Test
+    void refresh_ShouldDropDeletedLocalizationsAndRows() {
+        // Arrange
+        NotificationMessageCatalog welcome = message("Welcome");
+        NotificationMessageLocalization bienvenido = localization(welcome, esMx, "Bienvenido (MX)", StatusEnum.ACTIVE);
+        when(catalogRepository.findAll()).thenReturn(Flux.just(welcome));
+        when(repository.findAll()).thenReturn(Flux.just(bienvenido));
+        when(repository.findById(bienvenido.getLocalizationId())).thenReturn(Mono.empty());
+        when(catalogRepository.findById(welcome.getMessageId())).thenReturn(Mono.empty());
+        index.start();
+        assertEquals(LocaleFallbackEnum.EXACT, index.resolve(welcome.getMessageId(), "es-MX").getFallback());
+
+        // Act
+        index.onCatalogChange(new CatalogChangeEvent(CatalogCacheNames.NOTIFICATION_MESSAGE_LOCALIZATION,
+                bienvenido.getLocalizationId().toString(), CatalogChangeEvent.Operation.DELETE));
+        LocaleFallbackEnum afterLocalizationDeleted = index.resolve(welcome.getMessageId(), "es-MX").getFallback();
+        index.onCatalogChange(new CatalogChangeEvent(CatalogCacheNames.NOTIFICATION_MESSAGE_CATALOG,
+                welcome.getMessageId().toString(), CatalogChangeEvent.Operation.DELETE));
+
+        // Assert
+        assertEquals(LocaleFallbackEnum.CATALOG_DEFAULT, afterLocalizationDeleted);
+        assertNull(index.resolve(welcome.getMessageId(), "es-MX"));
+    }
+
+    private static void assertResolved(ResolvedLocalizationDTO<NotificationMessageLocalizationDTO> resolved,
+                                       LocaleFallbackEnum fallback, String locale, String subject) {
+        assertEquals(fallback, resolved.getFallback());
+        assertEquals(locale, resolved.getResolvedLocale());
+        assertEquals("es-MX", resolved.getRequestedLocale());
+        assertEquals(subject, resolved.getLocalization().getSubject());
+    }
+
+    private static NotificationMessageCatalog message(String defaultSubject) {
+        return NotificationMessageCatalog.builder()
+                .messageId(UUID.randomUUID())
+                .defaultSubject(defaultSubject)
+                .status(StatusEnum.ACTIVE)
+                .build();
+    }
+
+    private static NotificationMessageLocalization localization(NotificationMessageCatalog message, UUID localeId,
+                                                                String subject, StatusEnum status) {
+        return NotificationMessageLocalization.builder()
+                .localizationId(UUID.randomUUID())
+                .messageId(message.getMessageId())
+                .localeId(localeId)
+                .subject(subject)
+                .status(status)
+                .build();
+    }
+}
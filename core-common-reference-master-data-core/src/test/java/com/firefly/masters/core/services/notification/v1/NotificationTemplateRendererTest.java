@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.notification.v1;
+
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.notification.v1.NotificationMessageTemplateMapper;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageTemplateDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderRequestDTO;
+import com.firefly.masters.models.entities.notification.v1.NotificationMessageTemplate;
+import com.firefly.masters.models.repositories.notification.v1.NotificationMessageTemplateRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class NotificationTemplateRendererTest {
+
+    @Mock
+    private NotificationMessageTemplateRepository repository;
+
+    @Mock
+    private NotificationMessageTemplateMapper mapper;
+
+    @InjectMocks
+    private NotificationTemplateRenderer renderer;
+
+    private UUID templateId;
+    private NotificationMessageTemplate entity;
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        templateId = UUID.randomUUID();
+        entity = NotificationMessageTemplate.builder()
+                .templateId(templateId)
+                .build();
+        when(repository.findById(templateId)).thenReturn(Mono.just(entity));
+    }
+
+    @Test
+    void render_ShouldBindVariablesAndApplyDefaults() {
+        // Arrange
+        when(mapper.toDTO(entity)).thenReturn(template("Hello {{ name }}, your balance is {{balance}} {{currency}}.", "TEXT",
+                Map.of("name", "Customer name", "balance", Map.of(), "currency", Map.of("default", "EUR"))));
+
+        // Act & Assert
+        StepVerifier.create(renderer.render(templateId, bindings(Map.of("name", "Ana", "balance", 42))))
+                .assertNext(result -> {
+                    assertEquals("Hello Ana, your balance is 42 EUR.", result.getContent());
+                    assertEquals("1.0", result.getVersion());
+                    assertNull(result.getError());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void render_ShouldReportMissingAndUnknownVariables() {
+        // Arrange
+        when(mapper.toDTO(entity)).thenReturn(template("Hello {{name}}{{suffix}}", "TEXT",
+                Map.of("name", Map.of("required", true), "suffix", Map.of("required", false))));
+
+        // Act & Assert
+        StepVerifier.create(renderer.render(templateId, bindings(Map.of("nickname", "Ana"))))
+                .assertNext(result -> {
+                    assertNull(result.getContent());
+                    assertEquals(List.of("name"), result.getMissingVariables());
+                    assertEquals(List.of("nickname"), result.getUnknownVariables());
+                    assertEquals("Invalid template variables: missing required variables [name], unknown variables [nickname]", result.getError());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void renderBatch_ShouldCompileOnceAndEscapeHtml() {
+        // Arrange
+        when(mapper.toDTO(entity)).thenReturn(template("<p>{{name}}</p>", "HTML", null));
+
+        // Act & Assert
+        StepVerifier.create(renderer.render(templateId, Flux.just(
+                        bindings(Map.of("name", "Ana")),
+                        bindings(Map.of("name", "<b>Luis</b>")))))
+                .assertNext(result -> {
+                    assertEquals(0L, result.getIndex());
+                    assertEquals("<p>Ana</p>", result.getContent());
+                })
+                .assertNext(result -> {
+                    assertEquals(1L, result.getIndex());
+                    assertEquals("<p>&lt;b&gt;Luis&lt;/b&gt;</p>", result.getContent());
+                })
+                .verifyComplete();
+        StepVerifier.create(renderer.render(templateId, bindings(Map.of("name", "Eva"))))
+                .expectNextCount(1)
+                .verifyComplete();
+        verify(repository, times(1)).findById(templateId);
+    }
+
+    @Test
+    void render_ShouldFailWithNotFoundWithoutCachingAnUnknownTemplate() {
+        // Arrange
+        when(repository.findById(templateId)).thenReturn(Mono.empty());
+
+        // Act & Assert
+        StepVerifier.create(renderer.render(templateId, Flux.just(bindings(Map.of("name", "Ana")))))
+                .expectError(NoSuchElementException.class)
+                .verify();
+        StepVerifier.create(renderer.render(templateId, bindings(Map.of("name", "Ana"))))
+                .expectError(NoSuchElementException.class)
+                .verify();
+        verify(repository, times(2)).findById(templateId);
+    }
+
+    @Test
+    void onCatalogChange_ShouldRecompileTheChangedTemplate() {
+        // Arrange
+        when(mapper.toDTO(entity))
+                .thenReturn(template("Hi {{name}}", "TEXT", null))
+                .thenReturn(template("Dear {{name}}", "TEXT", null));
+        StepVerifier.create(renderer.render(templateId, bindings(Map.of("name", "Ana"))))
+                .expectNextCount(1)
+                .verifyComplete();
+
+        // Act
+        renderer.onCatalogChange(new CatalogChangeEvent(
+                CatalogCacheNames.NOTIFICATION_MESSAGE_TEMPLATE,
+                templateId.toString(),
+                CatalogChangeEvent.Operation.UPDATE));
+
+        // Assert
+        StepVerifier.create(renderer.render(templateId, bindings(Map.of("name", "Ana"))))
+                .assertNext(result -> assertEquals("Dear Ana", result.getContent()))
+                .verifyComplete();
+        verify(repository, times(2)).findById(templateId);
+    }
+
+    private NotificationMessageTemplateDTO template(String content, String type, Map<String, Object> variables) {
+        return NotificationMessageTemplateDTO.builder()
+                .templateId(templateId)
+                .templateContent(content)
+                .templateType(type)
+                .version("1.0")
+                .templateVariables(variables)
+                .build();
+    }
+
+    private static NotificationTemplateRenderRequestDTO bindings(Map<String, Object> variables) {
+        return NotificationTemplateRenderRequestDTO.builder()
+                .variables(variables)
+                .build();
+    }
+}
@@ -166,9 +166,8 @@ public class RelationshipTypeMasterServiceImplTest {
     @Test
     void updateRelationshipType_ShouldReturnUpdatedEntityWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(RelationshipTypeMasterDTO.class))).thenReturn(entity);
-        when(repository.save(any(RelationshipTypeMaster.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(RelationshipTypeMaster.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(RelationshipTypeMaster.class))).thenReturn(dto);
 
         // Act
@@ -179,16 +178,16 @@ public class RelationshipTypeMasterServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(RelationshipTypeMasterDTO.class));
-        verify(repository).save(any(RelationshipTypeMaster.class));
+        verify(repository).updateById(any(UUID.class), any(RelationshipTypeMaster.class));
         verify(mapper).toDTO(any(RelationshipTypeMaster.class));
     }
 
     @Test
     void updateRelationshipType_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(RelationshipTypeMasterDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(RelationshipTypeMaster.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<RelationshipTypeMasterDTO> result = service.updateRelationshipType(testRelationshipTypeId, dto);
@@ -197,17 +196,15 @@ public class RelationshipTypeMasterServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(RelationshipTypeMasterDTO.class));
-        verify(repository, never()).save(any(RelationshipTypeMaster.class));
+        verify(mapper).toEntity(any(RelationshipTypeMasterDTO.class));
+        verify(repository).updateById(any(UUID.class), any(RelationshipTypeMaster.class));
         verify(mapper, never()).toDTO(any(RelationshipTypeMaster.class));
     }
 
     @Test
     void deleteRelationshipType_ShouldDeleteWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(RelationshipTypeMaster.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteRelationshipType(testRelationshipTypeId);
@@ -216,14 +213,13 @@ public class RelationshipTypeMasterServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(RelationshipTypeMaster.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteRelationshipType_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteRelationshipType(testRelationshipTypeId);
@@ -232,7 +228,6 @@ public class RelationshipTypeMasterServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).delete(any(RelationshipTypeMaster.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
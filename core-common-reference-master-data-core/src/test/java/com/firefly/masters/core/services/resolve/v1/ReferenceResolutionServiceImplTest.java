@@ -0,0 +1,146 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.resolve.v1;
+
+import com.firefly.masters.core.mappers.country.v1.CountryMapper;
+import com.firefly.masters.core.services.bank.v1.BankInstitutionIndex;
+import com.firefly.masters.core.services.naturalkey.v1.NaturalKeyIndex;
+import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
+import com.firefly.masters.interfaces.dtos.currency.v1.CurrencyDTO;
+import com.firefly.masters.interfaces.dtos.resolve.v1.ReferenceRequestDTO;
+import com.firefly.masters.interfaces.dtos.resolve.v1.ReferenceResultDTO;
+import com.firefly.masters.interfaces.enums.resolve.v1.ReferenceCatalogEnum;
+import com.firefly.masters.models.entities.country.v1.Country;
+import com.firefly.masters.models.repositories.country.v1.CountryRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ReferenceResolutionServiceImplTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private CountryMapper countryMapper;
+
+    @Mock
+    private NaturalKeyIndex naturalKeyIndex;
+
+    @Mock
+    private BankInstitutionIndex bankInstitutionIndex;
+
+    @InjectMocks
+    private ReferenceResolutionServiceImpl service;
+
+    @Test
+    void resolveReferences_ShouldFetchEachCatalogOnceAndKeepRequestOrder() {
+        // Arrange
+        UUID spainId = UUID.randomUUID();
+        UUID franceId = UUID.randomUUID();
+        Country spain = Country.builder().countryId(spainId).isoCode("ES").build();
+        CountryDTO spainDto = CountryDTO.builder().countryId(spainId).isoCode("ES").build();
+        CurrencyDTO euro = CurrencyDTO.builder().currencyId(UUID.randomUUID()).isoCode("EUR").build();
+        when(countryRepository.findAllById(Set.of(spainId, franceId))).thenReturn(Flux.just(spain));
+        when(countryMapper.toSummaryDTO(spain)).thenReturn(spainDto);
+        when(naturalKeyIndex.getCurrency("eur")).thenReturn(euro);
+        when(bankInstitutionIndex.findBySwiftCode("XXXXESMM")).thenReturn(Optional.empty());
+
+        List<ReferenceRequestDTO> references = List.of(
+                reference(ReferenceCatalogEnum.COUNTRY, spainId, null),
+                reference(ReferenceCatalogEnum.CURRENCY, null, "eur"),
+                reference(ReferenceCatalogEnum.COUNTRY, franceId, null),
+                reference(ReferenceCatalogEnum.BANK, null, "XXXXESMM"),
+                reference(ReferenceCatalogEnum.COUNTRY, spainId, null));
+
+        // Act & Assert
+        StepVerifier.create(service.resolveReferences(references))
+                .assertNext(results -> {
+                    assertEquals(5, results.size());
+                    assertEquals(spainDto, results.get(0).getValue());
+                    assertEquals(euro, results.get(1).getValue());
+                    assertFalse(results.get(2).getFound());
+                    assertFalse(results.get(3).getFound());
+                    assertEquals(spainDto, results.get(4).getValue());
+                    assertEquals(4L, results.get(4).getIndex());
+                })
+                .verifyComplete();
+        verify(countryRepository, times(1)).findAllById(anyIterable());
+    }
+
+    @Test
+    void resolveReferences_InvalidReferences_ShouldReportErrorsWithoutFailingTheRest() {
+        // Arrange
+        List<ReferenceRequestDTO> references = List.of(
+                reference(null, UUID.randomUUID(), null),
+                reference(ReferenceCatalogEnum.COUNTRY, null, " "),
+                reference(ReferenceCatalogEnum.ACTIVITY_CODE, null, "K64.19"),
+                reference(ReferenceCatalogEnum.LOOKUP_ITEM, null, "SINGLE"));
+
+        // Act & Assert
+        StepVerifier.create(service.resolveReferences(references))
+                .assertNext(results -> {
+                    assertEquals("Catalog is required", results.get(0).getError());
+                    assertEquals("Either an ID or a code is required", results.get(1).getError());
+                    assertEquals("Activity codes can only be referenced by ID", results.get(2).getError());
+                    assertEquals("A domain code is required to reference a lookup item by code", results.get(3).getError());
+                    assertTrue(results.stream().noneMatch(ReferenceResultDTO::getFound));
+                    assertNull(results.get(3).getValue());
+                })
+                .verifyComplete();
+        verifyNoInteractions(countryRepository, naturalKeyIndex);
+    }
+
+    @Test
+    void resolveReferences_TooManyReferences_ShouldReturnError() {
+        // Arrange
+        List<ReferenceRequestDTO> references = Collections.nCopies(
+                ReferenceResolutionServiceImpl.MAX_REFERENCES + 1,
+                reference(ReferenceCatalogEnum.COUNTRY, null, "ES"));
+
+        // Act & Assert
+        StepVerifier.create(service.resolveReferences(references))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+    }
+
+    private static ReferenceRequestDTO reference(ReferenceCatalogEnum catalog, UUID id, String code) {
+        return ReferenceRequestDTO.builder()
+                .catalog(catalog)
+                .id(id)
+                .code(code)
+                .build();
+    }
+}
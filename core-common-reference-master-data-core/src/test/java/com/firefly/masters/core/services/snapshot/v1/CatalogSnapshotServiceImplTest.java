@@ -0,0 +1,147 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.snapshot.v1;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.firefly.masters.core.cache.CatalogCacheNames;
+import com.firefly.masters.core.cache.CatalogChangeEvent;
+import com.firefly.masters.core.mappers.currency.v1.CurrencyMapper;
+import com.firefly.masters.interfaces.dtos.currency.v1.CurrencyDTO;
+import com.firefly.masters.models.entities.currency.v1.Currency;
+import com.firefly.masters.models.repositories.currency.v1.CurrencyRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class CatalogSnapshotServiceImplTest {
+
+    @Mock
+    private CurrencyRepository currencyRepository;
+
+    @Mock
+    private CurrencyMapper currencyMapper;
+
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @InjectMocks
+    private CatalogSnapshotServiceImpl catalogSnapshotService;
+
+    private Currency currency;
+
+    @BeforeEach
+    void setUp() {
+        currency = new Currency();
+        currency.setCurrencyId(UUID.randomUUID());
+        currency.setIsoCode("EUR");
+        currency.setCurrencyName("Euro");
+        currency.setDateUpdated(LocalDateTime.of(2025, 1, 1, 12, 0));
+
+        when(currencyMapper.toDTO(any(Currency.class))).thenAnswer(invocation -> {
+            Currency entity = invocation.getArgument(0);
+            CurrencyDTO dto = new CurrencyDTO();
+            dto.setCurrencyId(entity.getCurrencyId());
+            dto.setIsoCode(entity.getIsoCode());
+            dto.setCurrencyName(entity.getCurrencyName());
+            return dto;
+        });
+    }
+
+    @Test
+    void getSnapshot_ShouldSerializeWholeCatalog() {
+        // Arrange
+        when(currencyRepository.findAll()).thenReturn(Flux.just(currency));
+
+        // Act & Assert
+        StepVerifier.create(catalogSnapshotService.getSnapshot(SnapshotCatalog.CURRENCIES))
+                .assertNext(snapshot -> {
+                    assertEquals(1, snapshot.size());
+                    assertTrue(snapshot.eTag().startsWith("\"1-"));
+                    assertTrue(new String(snapshot.body(), StandardCharsets.UTF_8).contains("\"isoCode\":\"EUR\""));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    void getSnapshot_ShouldServeFromMemoryUntilCatalogChanges() {
+        // Arrange
+        when(currencyRepository.findAll()).thenReturn(Flux.just(currency));
+
+        // Act
+        CatalogSnapshot first = catalogSnapshotService.getSnapshot(SnapshotCatalog.CURRENCIES).block();
+        CatalogSnapshot second = catalogSnapshotService.getSnapshot(SnapshotCatalog.CURRENCIES).block();
+
+        // Assert
+        assertSame(first, second);
+        verify(currencyRepository, times(1)).findAll();
+    }
+
+    @Test
+    void onCatalogChange_ShouldRebuildSnapshotWithNewETag() {
+        // Arrange
+        Currency updated = new Currency();
+        updated.setCurrencyId(currency.getCurrencyId());
+        updated.setIsoCode("EUR");
+        updated.setCurrencyName("Euro (updated)");
+        updated.setDateUpdated(currency.getDateUpdated().plusMinutes(5));
+        when(currencyRepository.findAll()).thenReturn(Flux.just(currency), Flux.just(updated));
+
+        // Act
+        CatalogSnapshot before = catalogSnapshotService.getSnapshot(SnapshotCatalog.CURRENCIES).block();
+        catalogSnapshotService.onCatalogChange(new CatalogChangeEvent(
+                CatalogCacheNames.CURRENCIES, currency.getCurrencyId().toString(), CatalogChangeEvent.Operation.UPDATE));
+        CatalogSnapshot after = catalogSnapshotService.getSnapshot(SnapshotCatalog.CURRENCIES).block();
+
+        // Assert
+        assertNotNull(before);
+        assertNotNull(after);
+        assertNotEquals(before.eTag(), after.eTag());
+        verify(currencyRepository, times(2)).findAll();
+    }
+
+    @Test
+    void onCatalogChange_ShouldKeepSnapshotsOfOtherCatalogs() {
+        // Arrange
+        when(currencyRepository.findAll()).thenReturn(Flux.just(currency));
+
+        // Act
+        CatalogSnapshot before = catalogSnapshotService.getSnapshot(SnapshotCatalog.CURRENCIES).block();
+        catalogSnapshotService.onCatalogChange(new CatalogChangeEvent(
+                CatalogCacheNames.COUNTRIES, UUID.randomUUID().toString(), CatalogChangeEvent.Operation.DELETE));
+        CatalogSnapshot after = catalogSnapshotService.getSnapshot(SnapshotCatalog.CURRENCIES).block();
+
+        // Assert
+        assertSame(before, after);
+        verify(currencyRepository, times(1)).findAll();
+    }
+}
@@ -167,9 +167,8 @@ public class TitleMasterServiceImplTest {
     @Test
     void updateTitle_ShouldReturnUpdatedEntityWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
         when(mapper.toEntity(any(TitleMasterDTO.class))).thenReturn(entity);
-        when(repository.save(any(TitleMaster.class))).thenReturn(Mono.just(entity));
+        when(repository.updateById(any(UUID.class), any(TitleMaster.class))).thenReturn(Mono.just(entity));
         when(mapper.toDTO(any(TitleMaster.class))).thenReturn(dto);
 
         // Act
@@ -180,16 +179,16 @@ public class TitleMasterServiceImplTest {
                 .expectNext(dto)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
         verify(mapper).toEntity(any(TitleMasterDTO.class));
-        verify(repository).save(any(TitleMaster.class));
+        verify(repository).updateById(any(UUID.class), any(TitleMaster.class));
         verify(mapper).toDTO(any(TitleMaster.class));
     }
 
     @Test
     void updateTitle_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(mapper.toEntity(any(TitleMasterDTO.class))).thenReturn(entity);
+        when(repository.updateById(any(UUID.class), any(TitleMaster.class))).thenReturn(Mono.empty());
 
         // Act
         Mono<TitleMasterDTO> result = service.updateTitle(testTitleId, dto);
@@ -198,17 +197,15 @@ public class TitleMasterServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(mapper, never()).toEntity(any(TitleMasterDTO.class));
-        verify(repository, never()).save(any(TitleMaster.class));
+        verify(mapper).toEntity(any(TitleMasterDTO.class));
+        verify(repository).updateById(any(UUID.class), any(TitleMaster.class));
         verify(mapper, never()).toDTO(any(TitleMaster.class));
     }
 
     @Test
     void deleteTitle_ShouldDeleteWhenFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.just(entity));
-        when(repository.delete(any(TitleMaster.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(1L));
 
         // Act
         Mono<Void> result = service.deleteTitle(testTitleId);
@@ -217,14 +214,13 @@ public class TitleMasterServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository).delete(any(TitleMaster.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 
     @Test
     void deleteTitle_ShouldReturnEmptyWhenNotFound() {
         // Arrange
-        when(repository.findById(any(UUID.class))).thenReturn(Mono.empty());
+        when(repository.deleteByIdReturningCount(any(UUID.class))).thenReturn(Mono.just(0L));
 
         // Act
         Mono<Void> result = service.deleteTitle(testTitleId);
@@ -233,7 +229,6 @@ public class TitleMasterServiceImplTest {
         StepVerifier.create(result)
                 .verifyComplete();
 
-        verify(repository).findById(any(UUID.class));
-        verify(repository, never()).delete(any(TitleMaster.class));
+        verify(repository).deleteByIdReturningCount(any(UUID.class));
     }
 }
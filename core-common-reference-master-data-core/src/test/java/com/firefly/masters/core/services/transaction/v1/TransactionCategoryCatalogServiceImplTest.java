@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.core.services.transaction.v1;
+
+import com.firefly.masters.core.mappers.transaction.v1.TransactionCategoryCatalogMapper;
+import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryTreeNodeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.transaction.v1.LocalizedTransactionCategory;
+import com.firefly.masters.models.repositories.transaction.v1.TransactionCategoryCatalogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class TransactionCategoryCatalogServiceImplTest {
+
+    @Mock
+    private TransactionCategoryCatalogRepository repository;
+
+    @Mock
+    private TransactionCategoryCatalogMapper mapper;
+
+    @InjectMocks
+    private TransactionCategoryCatalogServiceImpl service;
+
+    private LocalizedTransactionCategory food;
+    private LocalizedTransactionCategory groceries;
+    private LocalizedTransactionCategory restaurants;
+
+    @BeforeEach
+    void setUp() {
+        // Setup test data
+        food = category("FOOD", "Food", null, "Comida");
+        groceries = category("FOOD_GROC", "Groceries", food.getCategoryId(), "Supermercado");
+        restaurants = category("FOOD_REST", "Restaurants", food.getCategoryId(), null);
+    }
+
+    @Test
+    void getTransactionCategoryTree_ShouldNestCategoriesWithLocalizedNames() {
+        // Arrange
+        when(repository.findAllLocalized("es-ES")).thenReturn(Flux.just(food, groceries, restaurants));
+
+        // Act
+        Mono<List<TransactionCategoryTreeNodeDTO>> result = service.getTransactionCategoryTree("es-ES");
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(roots -> {
+                    assertEquals(1, roots.size());
+                    TransactionCategoryTreeNodeDTO root = roots.get(0);
+                    assertEquals("Comida", root.getCategoryName());
+                    assertTrue(root.isLocalized());
+                    assertEquals(List.of("Supermercado", "Restaurants"),
+                            root.getChildren().stream().map(TransactionCategoryTreeNodeDTO::getCategoryName).toList());
+                    assertFalse(root.getChildren().get(1).isLocalized());
+                })
+                .verifyComplete();
+
+        verify(repository).findAllLocalized("es-ES");
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    void getTransactionCategoryTree_ShouldReturnOrphansAsRoots() {
+        // Arrange
+        groceries.setParentCategoryId(UUID.randomUUID());
+        when(repository.findAllLocalized(null)).thenReturn(Flux.just(food, groceries));
+
+        // Act
+        Mono<List<TransactionCategoryTreeNodeDTO>> result = service.getTransactionCategoryTree(null);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(roots -> assertEquals(List.of("FOOD", "FOOD_GROC"),
+                        roots.stream().map(TransactionCategoryTreeNodeDTO::getCategoryCode).toList()))
+                .verifyComplete();
+    }
+
+    @Test
+    void getTransactionCategoryTree_ShouldLeaveOutCategoriesInAParentCycle() {
+        // Arrange
+        food.setParentCategoryId(groceries.getCategoryId());
+        LocalizedTransactionCategory travel = category("TRAVEL", "Travel", null, null);
+        when(repository.findAllLocalized(null)).thenReturn(Flux.just(food, groceries, restaurants, travel));
+
+        // Act
+        Mono<List<TransactionCategoryTreeNodeDTO>> result = service.getTransactionCategoryTree(null);
+
+        // Assert
+        StepVerifier.create(result)
+                .assertNext(roots -> assertEquals(List.of("TRAVEL"),
+                        roots.stream().map(TransactionCategoryTreeNodeDTO::getCategoryCode).toList()))
+                .verifyComplete();
+    }
+
+    private static LocalizedTransactionCategory category(String code, String name, UUID parentCategoryId, String localizedName) {
+        return LocalizedTransactionCategory.builder()
+                .categoryId(UUID.randomUUID())
+                .categoryCode(code)
+                .categoryName(name)
+                .parentCategoryId(parentCategoryId)
+                .status(StatusEnum.ACTIVE)
+                .localizedName(localizedName)
+                .build();
+    }
+}
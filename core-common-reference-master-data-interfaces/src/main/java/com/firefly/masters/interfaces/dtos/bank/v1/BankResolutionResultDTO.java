@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.bank.v1;
+
+import com.firefly.masters.interfaces.enums.bank.v1.BankResolutionMatchEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of resolving one set of bank identifiers.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BankResolutionResultDTO {
+
+    @Schema(description = "Zero-based position of the row in the request body; only present for batch resolution")
+    private Long index;
+
+    private String bic;
+
+    private String iban;
+
+    private String routingNumber;
+
+    @Schema(description = "The identifier the institution was found by; absent when nothing resolved")
+    private BankResolutionMatchEnum matchedBy;
+
+    @Schema(description = "The resolved institution, without its icon; absent when nothing resolved")
+    private BankInstitutionCodeDTO institution;
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.commons.v1;
+
+import com.firefly.masters.interfaces.enums.commons.v1.BulkUpsertStatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.UUID;
+
+/**
+ * Result of one input row of a bulk upsert.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkUpsertResultDTO {
+
+    @Schema(description = "Zero-based position of the row in the request body")
+    private Long index;
+
+    @Schema(description = "Primary key of the created or updated row; absent when the row failed")
+    private UUID id;
+
+    private BulkUpsertStatusEnum status;
+
+    @Schema(description = "Why the row was rejected; only present for FAILED rows")
+    private String error;
+}
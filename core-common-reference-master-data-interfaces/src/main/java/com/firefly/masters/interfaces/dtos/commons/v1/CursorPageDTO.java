@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.commons.v1;
+
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * A page of a keyset (cursor) paginated listing.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPageDTO<T> {
+
+    private List<T> content;
+
+    /**
+     * Cursor of the following page, or null if this is the last page.
+     */
+    private String nextCursor;
+
+    private Boolean hasMore;
+
+    /**
+     * Total number of items, only present when requested.
+     */
+    private Long totalElements;
+
+    /**
+     * How {@link #totalElements} was computed.
+     */
+    private CountModeEnum countMode;
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.commons.v1;
+
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+
+import java.util.List;
+
+/**
+ * Request for a page of a keyset (cursor) paginated listing.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPaginationRequest {
+
+    @Schema(description = "Cursor returned as nextCursor by the previous page; omit for the first page")
+    private String after;
+
+    @Schema(description = "Maximum number of items per page (default 20, max 1000)")
+    private Integer size;
+
+    @Schema(description = "Property to sort by; defaults to the primary key. Ignored when a cursor is given")
+    private String sortBy;
+
+    @Schema(description = "Sort direction, ASC or DESC (default ASC). Ignored when a cursor is given")
+    private String sortDirection;
+
+    @Schema(description = "How to compute the total number of items: exact, estimate or none (default none)")
+    private CountModeEnum countMode;
+
+    @Schema(description = "Fields to return, comma-separated, or * for all; defaults to every field except large "
+            + "ones such as SVG images and template bodies. The ID and sort property are always returned")
+    private List<String> fields;
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.contractrole.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+import java.util.UUID;
+
+/**
+ * Outcome of one authorization check against the active contract role scopes.
+ */
+@Data
+@SuperBuilder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ContractRoleScopeCheckResultDTO {
+
+    @Schema(description = "Zero-based position of the check in the request body; only present for batch checks")
+    private Long index;
+
+    private UUID roleId;
+
+    private String actionType;
+
+    private String resourceType;
+
+    private Boolean allowed;
+
+    @Schema(description = "Why the check could not be evaluated; only present for incomplete checks")
+    private String error;
+}
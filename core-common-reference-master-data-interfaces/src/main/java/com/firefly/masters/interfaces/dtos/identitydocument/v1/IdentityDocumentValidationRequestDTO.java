@@ -0,0 +1,49 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.identitydocument.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * A document number to validate, identified either by the code of the identity document or by the
+ * country and category of the identity documents it may belong to.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdentityDocumentValidationRequestDTO {
+
+    @Schema(description = "Code of the identity document; takes precedence over countryId and categoryCode")
+    private String documentCode;
+
+    @Schema(description = "Country of the identity document; used together with categoryCode")
+    private UUID countryId;
+
+    @Schema(description = "Code of the identity document category; used together with countryId")
+    private String categoryCode;
+
+    @Schema(description = "The document number to validate; surrounding whitespace is ignored")
+    private String value;
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.identitydocument.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of validating one document number.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class IdentityDocumentValidationResultDTO {
+
+    @Schema(description = "Zero-based position of the value in the request body; only present for batch validation")
+    private Long index;
+
+    @Schema(description = "The validated value, as received")
+    private String value;
+
+    private Boolean valid;
+
+    @Schema(description = "Identity document the value was validated against; absent when no document applies")
+    private UUID documentId;
+
+    private String documentCode;
+
+    @Schema(description = "Why the value is invalid; only present for invalid values")
+    private String error;
+}
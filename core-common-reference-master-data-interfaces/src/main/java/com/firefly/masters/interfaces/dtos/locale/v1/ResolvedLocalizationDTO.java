@@ -0,0 +1,46 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.locale.v1;
+
+import com.firefly.masters.interfaces.enums.locale.v1.LocaleFallbackEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A localization resolved through the locale fallback chain.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResolvedLocalizationDTO<T> {
+
+    @Schema(description = "The locale code as requested")
+    private String requestedLocale;
+
+    @Schema(description = "Locale code of the localization returned; absent when the catalog default was used")
+    private String resolvedLocale;
+
+    private LocaleFallbackEnum fallback;
+
+    @Schema(description = "The localized text; for the catalog default it carries no localization or locale ID")
+    private T localization;
+}
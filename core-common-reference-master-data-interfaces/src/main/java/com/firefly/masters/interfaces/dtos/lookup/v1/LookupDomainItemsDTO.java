@@ -0,0 +1,52 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.lookup.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The items of one lookup domain, nested by parent item, as returned by the multi-domain tree fetch.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LookupDomainItemsDTO {
+
+    private UUID domainId;
+
+    private String domainCode;
+
+    private String domainName;
+
+    private UUID parentDomainId;
+
+    private Boolean multiselectAllowed;
+
+    private Boolean hierarchyAllowed;
+
+    @Schema(description = "Top-level items of the domain, sorted by sort order then code, with their children nested")
+    private List<LookupItemNodeDTO> items;
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.lookup.v1;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Lookup item within a domain's item tree, with its child items nested and sorted by sort order.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LookupItemNodeDTO {
+
+    private UUID itemId;
+
+    private String itemCode;
+
+    private String itemLabelDefault;
+
+    private String itemDesc;
+
+    private Integer sortOrder;
+
+    private LocalDate effectiveFrom;
+
+    private LocalDate effectiveTo;
+
+    private String extraJson;
+
+    @Builder.Default
+    private List<LookupItemNodeDTO> children = new ArrayList<>();
+}
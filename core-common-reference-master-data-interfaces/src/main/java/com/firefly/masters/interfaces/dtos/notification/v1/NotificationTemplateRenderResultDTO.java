@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.notification.v1;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Outcome of rendering one message from a notification message template.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class NotificationTemplateRenderResultDTO {
+
+    @Schema(description = "Zero-based position of the bindings in the request body; only present for batch rendering")
+    private Long index;
+
+    private UUID templateId;
+
+    @Schema(description = "Version of the template the message was rendered from")
+    private String version;
+
+    private String templateType;
+
+    @Schema(description = "The rendered message; absent when the bindings are invalid")
+    private String content;
+
+    @Schema(description = "Required variables that were not bound and have no default")
+    private List<String> missingVariables;
+
+    @Schema(description = "Bound variables that the template does not declare")
+    private List<String> unknownVariables;
+
+    @Schema(description = "Why the message could not be rendered; only present when rendering failed")
+    private String error;
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.resolve.v1;
+
+import com.firefly.masters.interfaces.enums.resolve.v1.ReferenceCatalogEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * A reference to one catalog row, by ID or by code. The ID wins if both are given.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReferenceRequestDTO {
+
+    private ReferenceCatalogEnum catalog;
+
+    private UUID id;
+
+    @Schema(description = "Natural key of the row, such as an ISO code, locale code or BIC; matched case-insensitively")
+    private String code;
+
+    @Schema(description = "Country of a legal form referenced by code; required when the code is used in several countries")
+    private UUID countryId;
+
+    @Schema(description = "Domain code of a lookup item referenced by code")
+    private String domainCode;
+
+    @Schema(description = "Tenant whose overrides apply to a lookup item referenced by code")
+    private UUID tenantId;
+}
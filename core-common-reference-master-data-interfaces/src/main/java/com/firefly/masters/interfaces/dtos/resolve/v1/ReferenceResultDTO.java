@@ -0,0 +1,54 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.resolve.v1;
+
+import com.firefly.masters.interfaces.enums.resolve.v1.ReferenceCatalogEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Outcome of resolving one reference.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReferenceResultDTO {
+
+    @Schema(description = "Zero-based position of the reference in the request body")
+    private Long index;
+
+    private ReferenceCatalogEnum catalog;
+
+    private UUID id;
+
+    private String code;
+
+    private Boolean found;
+
+    @Schema(description = "The resolved row, in the representation of its own catalog's API; absent when not found")
+    private Object value;
+
+    @Schema(description = "Why the reference could not be resolved; absent unless the reference is invalid")
+    private String error;
+}
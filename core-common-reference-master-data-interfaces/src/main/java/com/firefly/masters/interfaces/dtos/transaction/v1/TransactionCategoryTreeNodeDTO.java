@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.dtos.transaction.v1;
+
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Node of the transaction category tree, with its name and description resolved for the requested
+ * locale and its child categories nested. Icons are not included; they are read per category.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TransactionCategoryTreeNodeDTO {
+
+    private UUID categoryId;
+
+    private String categoryCode;
+
+    @Schema(description = "Localized category name, or the default name when there is no localization for the locale")
+    private String categoryName;
+
+    @Schema(description = "Localized description, or the default description when there is no localization for the locale")
+    private String description;
+
+    @Schema(description = "Whether the name and description come from a localization for the requested locale")
+    private boolean localized;
+
+    private StatusEnum status;
+
+    @Builder.Default
+    private List<TransactionCategoryTreeNodeDTO> children = new ArrayList<>();
+}
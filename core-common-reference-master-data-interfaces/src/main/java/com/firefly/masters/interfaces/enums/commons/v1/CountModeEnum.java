@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.enums.commons.v1;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+/**
+ * How the total number of elements of a paginated listing is computed.
+ */
+public enum CountModeEnum {
+
+    /**
+     * Exact {@code COUNT(*)}; the historical behavior.
+     */
+    EXACT,
+
+    /**
+     * Planner estimate from {@code pg_class.reltuples}, falling back to an exact count when the
+     * table has not been analyzed yet.
+     */
+    ESTIMATE,
+
+    /**
+     * No count is computed and the total is reported as -1.
+     */
+    NONE;
+
+    /**
+     * Response header reporting the count mode applied to a paginated listing.
+     */
+    public static final String HEADER = "X-Total-Count-Mode";
+
+    @JsonValue
+    public String getValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Parses a count mode, ignoring case.
+     *
+     * @param value the count mode, e.g. {@code estimate}
+     * @return the matching count mode, or null if {@code value} is blank
+     * @throws IllegalArgumentException if the value is not a known count mode
+     */
+    public static CountModeEnum fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
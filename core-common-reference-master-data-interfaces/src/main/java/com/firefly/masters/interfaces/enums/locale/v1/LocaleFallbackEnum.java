@@ -0,0 +1,40 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.enums.locale.v1;
+
+/**
+ * The step of the locale fallback chain a localization was resolved at.
+ */
+public enum LocaleFallbackEnum {
+    /**
+     * A localization for the requested locale code, such as {@code es-MX}.
+     */
+    EXACT,
+    /**
+     * A localization for the language of the requested locale, such as {@code es}.
+     */
+    LANGUAGE,
+    /**
+     * The default text stored on the catalog row itself.
+     */
+    CATALOG_DEFAULT,
+    /**
+     * A localization for the platform default locale.
+     */
+    PLATFORM_DEFAULT
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.interfaces.enums.resolve.v1;
+
+/**
+ * Catalogs a reference can point into, and the natural key a reference by code is matched on.
+ */
+public enum ReferenceCatalogEnum {
+    /**
+     * Countries, by ISO code.
+     */
+    COUNTRY,
+    /**
+     * Currencies, by ISO code.
+     */
+    CURRENCY,
+    /**
+     * Language locales, by locale code.
+     */
+    LANGUAGE_LOCALE,
+    /**
+     * Legal forms, by code within a country.
+     */
+    LEGAL_FORM,
+    /**
+     * Titles, by prefix.
+     */
+    TITLE,
+    /**
+     * Bank institutions, by SWIFT/BIC code.
+     */
+    BANK,
+    /**
+     * Activity codes, by ID only, as a code is only unique within a classification system and country.
+     */
+    ACTIVITY_CODE,
+    /**
+     * Lookup items, by item code within a lookup domain.
+     */
+    LOOKUP_ITEM
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.models.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.spi.Connection;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryMetadata;
+import io.r2dbc.spi.Wrapped;
+import reactor.core.publisher.Mono;
+
+import java.io.Closeable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Connection factory that delegates to a {@link ConnectionPool} and records how long callers wait
+ * to acquire a connection. It implements {@link Wrapped} so the actuator can still unwrap the pool
+ * and publish its gauges.
+ */
+class InstrumentedConnectionPool implements ConnectionFactory, Wrapped<ConnectionFactory>, Closeable {
+
+    private final ConnectionPool pool;
+    private final Timer acquireSuccess;
+    private final Timer acquireFailure;
+
+    InstrumentedConnectionPool(ConnectionPool pool, String poolName, MeterRegistry registry) {
+        this.pool = pool;
+        this.acquireSuccess = acquireTimer(poolName, "success", registry);
+        this.acquireFailure = acquireTimer(poolName, "error", registry);
+    }
+
+    private static Timer acquireTimer(String poolName, String outcome, MeterRegistry registry) {
+        return Timer.builder("r2dbc.pool.acquire")
+                .description("Time spent waiting to acquire a pooled R2DBC connection")
+                .tag("name", poolName)
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    @Override
+    public Mono<Connection> create() {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return pool.create()
+                    .doOnSuccess(connection -> acquireSuccess.record(System.nanoTime() - start, TimeUnit.NANOSECONDS))
+                    .doOnError(error -> acquireFailure.record(System.nanoTime() - start, TimeUnit.NANOSECONDS));
+        });
+    }
+
+    @Override
+    public ConnectionFactoryMetadata getMetadata() {
+        return pool.getMetadata();
+    }
+
+    @Override
+    public ConnectionFactory unwrap() {
+        return pool;
+    }
+
+    @Override
+    public void close() {
+        pool.dispose();
+    }
+}
@@ -19,11 +19,16 @@ package com.firefly.masters.models.config;
 
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
 import com.firefly.masters.interfaces.enums.country.v1.RegionEnum;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionConfiguration;
 import io.r2dbc.postgresql.PostgresqlConnectionFactory;
 import io.r2dbc.postgresql.client.SSLMode;
 import io.r2dbc.postgresql.codec.EnumCodec;
 import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -31,13 +36,17 @@ import org.springframework.context.annotation.Primary;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.data.convert.WritingConverter;
 import org.springframework.data.r2dbc.config.AbstractR2dbcConfiguration;
+import org.springframework.util.StringUtils;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 
 @Configuration
 public class R2dbcConfiguration extends AbstractR2dbcConfiguration {
 
+    private static final String POOL_NAME = "master-data";
+
     @Value("${DB_HOST:localhost}")
     private String host;
 
@@ -56,6 +65,30 @@ public class R2dbcConfiguration extends AbstractR2dbcConfiguration {
     @Value("${DB_SSL_MODE:disable}")
     private String sslMode;
 
+    @Value("${DB_POOL_ENABLED:true}")
+    private boolean poolEnabled;
+
+    @Value("${DB_POOL_INITIAL_SIZE:5}")
+    private int poolInitialSize;
+
+    @Value("${DB_POOL_MAX_SIZE:20}")
+    private int poolMaxSize;
+
+    @Value("${DB_POOL_MAX_IDLE_TIME:30m}")
+    private Duration poolMaxIdleTime;
+
+    @Value("${DB_POOL_MAX_ACQUIRE_TIME:5s}")
+    private Duration poolMaxAcquireTime;
+
+    @Value("${DB_POOL_VALIDATION_QUERY:SELECT 1}")
+    private String poolValidationQuery;
+
+    @Value("${DB_POOL_BACKGROUND_EVICTION_INTERVAL:2m}")
+    private Duration poolBackgroundEvictionInterval;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistry;
+
     @WritingConverter
     static class StatusEnumConverter implements Converter<StatusEnum, StatusEnum> {
         @Override
@@ -80,10 +113,56 @@ public class R2dbcConfiguration extends AbstractR2dbcConfiguration {
         return converters;
     }
 
+    /**
+     * Creates the application connection factory. When pooling is enabled (the default) physical
+     * Postgres connections are reused through an r2dbc-pool {@link ConnectionPool}, so requests no
+     * longer pay the TLS and authentication handshake. Pool gauges (acquired, idle, pending) are
+     * published by the actuator R2DBC pool metrics, and acquire latency is recorded as a histogram
+     * when a {@link MeterRegistry} is available.
+     */
     @Bean
     @Primary
     @Override
     public ConnectionFactory connectionFactory() {
+        PostgresqlConnectionFactory connectionFactory = postgresqlConnectionFactory();
+        if (!poolEnabled) {
+            return connectionFactory;
+        }
+
+        ConnectionPoolConfiguration.Builder configuration = ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(POOL_NAME)
+                .initialSize(poolInitialSize)
+                .maxSize(poolMaxSize)
+                .maxIdleTime(poolMaxIdleTime)
+                .maxAcquireTime(poolMaxAcquireTime)
+                .backgroundEvictionInterval(poolBackgroundEvictionInterval);
+        if (StringUtils.hasText(poolValidationQuery)) {
+            configuration.validationQuery(poolValidationQuery);
+        }
+
+        ConnectionPool pool = new ConnectionPool(configuration.build());
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        return registry != null ? new InstrumentedConnectionPool(pool, POOL_NAME, registry) : pool;
+    }
+
+    /**
+     * Creates a dedicated, non-pooled connection factory for {@code LISTEN} sessions. A listening
+     * connection is held open for the lifetime of the application, so it must not be taken from
+     * (or returned to) the application pool.
+     *
+     * @return the connection factory used for change notifications
+     */
+    @Bean
+    public PostgresqlConnectionFactory notificationConnectionFactory() {
+        return postgresqlConnectionFactory();
+    }
+
+    /**
+     * Builds a plain, non-pooled Postgres connection factory from the configured connection settings.
+     *
+     * @return a new PostgresqlConnectionFactory
+     */
+    protected PostgresqlConnectionFactory postgresqlConnectionFactory() {
         return new PostgresqlConnectionFactory(
             PostgresqlConnectionConfiguration.builder()
                 .host(host)
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.models.entities.changes.v1;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Record of a deleted catalog row, written by a database trigger on delete.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+@Table("catalog_tombstone")
+public class CatalogTombstone {
+
+    @Id
+    @Column("tombstone_id")
+    private UUID tombstoneId;
+
+    @Column("table_name")
+    private String tableName;
+
+    @Column("row_id")
+    private UUID rowId;
+
+    @Column("date_deleted")
+    private LocalDateTime dateDeleted;
+
+    /**
+     * Id of the transaction that deleted the row.
+     */
+    @Column("change_xid")
+    private Long changeXid;
+}
@@ -19,6 +19,7 @@ package com.firefly.masters.models.entities.country.v1;
 
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
 import com.firefly.masters.interfaces.enums.country.v1.RegionEnum;
+import com.firefly.masters.models.entities.LargeColumn;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
@@ -55,6 +56,7 @@ public class Country {
     @Column("status")
     private StatusEnum status;
 
+    @LargeColumn
     @Column("svg_flag")
     private String svgFlag;
 
@@ -63,4 +65,10 @@ public class Country {
 
     @Column("date_updated")
     private LocalDateTime dateUpdated;
+
+    /**
+     * Id of the transaction that last wrote the row; maintained by a database trigger.
+     */
+    @Column("change_xid")
+    private Long changeXid;
 }
@@ -18,6 +18,7 @@
 package com.firefly.masters.models.entities.document.v1;
 
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.LargeColumn;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
@@ -61,6 +62,7 @@ public class DocumentTemplateCatalog {
     @Column("template_name")
     private String templateName;
 
+    @LargeColumn
     @Column("template_content")
     private String templateContent;
 
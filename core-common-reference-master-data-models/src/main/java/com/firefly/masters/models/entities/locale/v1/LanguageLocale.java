@@ -74,4 +74,10 @@ public class LanguageLocale {
 
     @Column("date_updated")
     private LocalDateTime dateUpdated;
+
+    /**
+     * Id of the transaction that last wrote the row; maintained by a database trigger.
+     */
+    @Column("change_xid")
+    private Long changeXid;
 }
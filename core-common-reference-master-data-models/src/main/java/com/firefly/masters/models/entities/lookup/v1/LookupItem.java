@@ -84,4 +84,10 @@ public class LookupItem {
 
     @Column("date_updated")
     private LocalDateTime dateUpdated;
+
+    /**
+     * Id of the transaction that last wrote the row; maintained by a database trigger.
+     */
+    @Column("change_xid")
+    private Long changeXid;
 }
\ No newline at end of file
@@ -18,6 +18,7 @@
 package com.firefly.masters.models.entities.notification.v1;
 
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.LargeColumn;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
@@ -52,6 +53,7 @@ public class NotificationMessageTemplate {
     @Column("template_name")
     private String templateName;
 
+    @LargeColumn
     @Column("template_content")
     private String templateContent;
 
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.models.entities.transaction.v1;
+
+import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import org.springframework.data.relational.core.mapping.Column;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.ToString;
+
+import java.util.UUID;
+
+/**
+ * Read model of a transaction category joined with its localization for one locale.
+ * The localized columns are null when the category has no active localization for the locale.
+ */
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@ToString
+public class LocalizedTransactionCategory {
+
+    @Column("category_id")
+    private UUID categoryId;
+
+    @Column("category_code")
+    private String categoryCode;
+
+    @Column("category_name")
+    private String categoryName;
+
+    @Column("description")
+    private String description;
+
+    @Column("parent_category_id")
+    private UUID parentCategoryId;
+
+    @Column("status")
+    private StatusEnum status;
+
+    @Column("localized_name")
+    private String localizedName;
+
+    @Column("localized_description")
+    private String localizedDescription;
+}
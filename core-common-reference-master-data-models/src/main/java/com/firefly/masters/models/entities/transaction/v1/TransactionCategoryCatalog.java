@@ -18,6 +18,7 @@
 package com.firefly.masters.models.entities.transaction.v1;
 
 import com.firefly.masters.interfaces.enums.commons.v1.StatusEnum;
+import com.firefly.masters.models.entities.LargeColumn;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.relational.core.mapping.Column;
 import org.springframework.data.relational.core.mapping.Table;
@@ -68,6 +69,7 @@ public class TransactionCategoryCatalog {
     @Column("date_updated")
     private LocalDateTime dateUpdated;
 
+    @LargeColumn
     @Column("svg_icon")
     private String svgIcon;
 }
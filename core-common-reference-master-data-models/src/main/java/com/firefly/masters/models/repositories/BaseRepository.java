@@ -17,14 +17,107 @@
 
 package com.firefly.masters.models.repositories;
 
+import com.firefly.masters.models.entities.LargeColumn;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.repository.NoRepositoryBean;
 import org.springframework.data.repository.reactive.ReactiveCrudRepository;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.util.Collection;
+import java.util.List;
+
 @NoRepositoryBean
 public interface BaseRepository<T, ID> extends ReactiveCrudRepository<T, ID> {
+    /**
+     * Finds a page of rows, leaving {@link LargeColumn large columns} out of the {@code SELECT} list.
+     *
+     * @param pageable the page to read
+     * @return a Flux emitting the rows of the page
+     */
     Flux<T> findAllBy(Pageable pageable);
+
+    /**
+     * Finds a page of rows, reading only the given fields. The primary key is always read.
+     *
+     * @param pageable the page to read
+     * @param fields the property names to read, {@code *} for every column; null or empty for every column
+     *               except the {@link LargeColumn large} ones
+     * @return a Flux emitting the rows of the page, with the fields not read left null, or an
+     *         IllegalArgumentException if a field is not a property of the entity
+     */
+    Flux<T> findAllBy(Pageable pageable, Collection<String> fields);
+
     Mono<Long> count();
+
+    /**
+     * Finds the rows following a keyset position, ordered by the keyset's sort property and then by
+     * primary key. Unlike {@link #findAllBy(Pageable)} the cost of a page does not grow with its depth.
+     * {@link LargeColumn Large columns} are not read.
+     *
+     * @param keyset the position to continue from
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} rows
+     */
+    Flux<T> findAllAfter(Keyset keyset, int limit);
+
+    /**
+     * Finds the rows following a keyset position, reading only the given fields. The primary key and
+     * the sort property are always read, as the next position is built from them.
+     *
+     * @param keyset the position to continue from
+     * @param limit the maximum number of rows to return
+     * @param fields the property names to read, {@code *} for every column; null or empty for every column
+     *               except the {@link LargeColumn large} ones
+     * @return a Flux emitting at most {@code limit} rows, with the fields not read left null
+     */
+    Flux<T> findAllAfter(Keyset keyset, int limit, Collection<String> fields);
+
+    /**
+     * Builds the keyset position of a row, to continue a listing after it.
+     *
+     * @param entity the last row of a page
+     * @param keyset the position the page was read from
+     * @return the position following {@code entity}
+     */
+    Keyset keysetOf(T entity, Keyset keyset);
+
+    /**
+     * Estimates the number of rows from the planner statistics ({@code pg_class.reltuples}) instead
+     * of scanning the table. Falls back to {@link #count()} when the table has never been analyzed.
+     *
+     * @return a Mono emitting the estimated row count
+     */
+    Mono<Long> estimateCount();
+
+    /**
+     * Overwrites an existing row with a single {@code UPDATE ... RETURNING *} statement, without
+     * reading it first. The primary key and {@code date_created} are never written and
+     * {@code date_updated} is set by the database.
+     *
+     * @param id the primary key of the row to update
+     * @param entity the new column values
+     * @return a Mono emitting the updated row, or empty if no row has the given id
+     */
+    Mono<T> updateById(ID id, T entity);
+
+    /**
+     * Deletes a row with a single {@code DELETE ... WHERE <pk> = :id} statement, without reading it first.
+     *
+     * @param id the primary key of the row to delete
+     * @return a Mono emitting the number of deleted rows, 0 if no row has the given id
+     */
+    Mono<Long> deleteByIdReturningCount(ID id);
+
+    /**
+     * Inserts or updates many rows with one multi-row {@code INSERT ... ON CONFLICT DO UPDATE}
+     * statement. Rows without a primary key get a random UUID; on conflict the existing row keeps its
+     * primary key and {@code date_created}. Null properties are written as {@code DEFAULT}, so omitted
+     * fields take their schema default rather than NULL.
+     *
+     * @param entities the rows to write, at most a few thousand per call
+     * @param conflictTarget the ON CONFLICT target matching a unique index, e.g. {@code iso_code}
+     * @return a Flux emitting one UpsertedRow per entity, in the order of {@code entities}
+     */
+    Flux<UpsertedRow<ID>> upsertAll(List<T> entities, String conflictTarget);
 }
\ No newline at end of file
@@ -0,0 +1,494 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.models.repositories;
+
+import com.firefly.masters.models.entities.LargeColumn;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.r2dbc.convert.R2dbcConverter;
+import org.springframework.data.r2dbc.core.R2dbcEntityOperations;
+import org.springframework.data.r2dbc.core.ReactiveDataAccessStrategy;
+import org.springframework.data.r2dbc.mapping.OutboundRow;
+import org.springframework.data.r2dbc.repository.support.SimpleR2dbcRepository;
+import org.springframework.data.relational.core.mapping.RelationalPersistentEntity;
+import org.springframework.data.relational.core.mapping.RelationalPersistentProperty;
+import org.springframework.data.relational.core.query.Criteria;
+import org.springframework.data.relational.core.query.Query;
+import org.springframework.data.relational.core.sql.IdentifierProcessing;
+import org.springframework.data.relational.core.sql.SqlIdentifier;
+import org.springframework.data.relational.repository.query.RelationalEntityInformation;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * Repository base class for all catalog repositories, adding keyset pagination, count estimates,
+ * single-statement updates and deletes, and bulk upserts to the standard CRUD operations.
+ * Registered through {@code @EnableR2dbcRepositories(repositoryBaseClass = ...)}.
+ * <p>
+ * Listings select an explicit column list. {@link LargeColumn Large columns} are left out unless
+ * requested by field name, so they are neither read from disk nor sent over the wire.
+ */
+public class BaseRepositoryImpl<T, ID> extends SimpleR2dbcRepository<T, ID> {
+
+    private static final String ESTIMATE_COUNT_SQL =
+            "SELECT reltuples::bigint AS estimate FROM pg_class WHERE oid = to_regclass(:table)";
+    private static final String DATE_CREATED = "date_created";
+    private static final String DATE_UPDATED = "date_updated";
+    private static final String ALL_FIELDS = "*";
+    private static final String UPSERT_ORDINAL = "upsert_ordinal";
+
+    private final RelationalEntityInformation<T, ID> entityInformation;
+    private final R2dbcEntityOperations entityOperations;
+    private final RelationalPersistentEntity<T> persistentEntity;
+    private final R2dbcConverter converter;
+    private final SqlIdentifier[] defaultColumns;
+
+    @SuppressWarnings("unchecked")
+    public BaseRepositoryImpl(RelationalEntityInformation<T, ID> entity,
+                              R2dbcEntityOperations entityOperations,
+                              R2dbcConverter converter) {
+        super(entity, entityOperations, converter);
+        this.entityInformation = entity;
+        this.entityOperations = entityOperations;
+        this.persistentEntity = (RelationalPersistentEntity<T>) converter.getMappingContext()
+                .getRequiredPersistentEntity(entity.getJavaType());
+        this.converter = converter;
+
+        List<SqlIdentifier> columns = new ArrayList<>();
+        for (RelationalPersistentProperty property : persistentEntity) {
+            if (!property.isAnnotationPresent(LargeColumn.class)) {
+                columns.add(property.getColumnName());
+            }
+        }
+        this.defaultColumns = columns.toArray(SqlIdentifier[]::new);
+    }
+
+    /**
+     * Finds a page of rows without their large columns. Implemented here rather than derived from the
+     * method name, so that the {@code SELECT} list can be controlled.
+     *
+     * @param pageable the page to read
+     * @return a Flux emitting the rows of the page
+     */
+    public Flux<T> findAllBy(Pageable pageable) {
+        return findAllBy(pageable, null);
+    }
+
+    /**
+     * Finds a page of rows, reading only the given fields and the primary key.
+     *
+     * @param pageable the page to read
+     * @param fields the property names to read, {@code *} for every column; null or empty for every column
+     *               except the large ones
+     * @return a Flux emitting the rows of the page, or an IllegalArgumentException if a field is not a
+     *         property of the entity
+     */
+    public Flux<T> findAllBy(Pageable pageable, Collection<String> fields) {
+        return Flux.defer(() -> {
+            Query query = Query.empty()
+                    .columns(columns(fields, persistentEntity.getRequiredIdProperty()))
+                    .with(pageable);
+            return entityOperations.select(query, entityInformation.getJavaType());
+        });
+    }
+
+    /**
+     * Finds the rows following the given keyset position.
+     *
+     * @param keyset the position to continue from
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting at most {@code limit} rows in keyset order
+     * @throws IllegalArgumentException if the sort property is unknown or a keyset value cannot be converted
+     */
+    public Flux<T> findAllAfter(Keyset keyset, int limit) {
+        return findAllAfter(keyset, limit, null);
+    }
+
+    /**
+     * Finds the rows following the given keyset position, reading only the given fields, the primary
+     * key and the sort property.
+     *
+     * @param keyset the position to continue from
+     * @param limit the maximum number of rows to return
+     * @param fields the property names to read, {@code *} for every column; null or empty for every column
+     *               except the large ones
+     * @return a Flux emitting at most {@code limit} rows in keyset order
+     * @throws IllegalArgumentException if the sort property or a field is unknown, or a keyset value cannot be converted
+     */
+    public Flux<T> findAllAfter(Keyset keyset, int limit, Collection<String> fields) {
+        RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+        RelationalPersistentProperty sortProperty = sortProperty(keyset, idProperty);
+        Sort.Direction direction = keyset.direction() != null ? keyset.direction() : Sort.Direction.ASC;
+
+        Sort sort = Sort.by(direction, sortProperty.getName());
+        if (!sortProperty.equals(idProperty)) {
+            sort = sort.and(Sort.by(direction, idProperty.getName()));
+        }
+
+        Criteria criteria = keyset.isFirst()
+                ? Criteria.empty()
+                : after(sortProperty, idProperty, direction,
+                        convert(keyset.value(), sortProperty), convert(keyset.id(), idProperty));
+
+        Query query = Query.query(criteria)
+                .columns(columns(fields, idProperty, sortProperty))
+                .sort(sort)
+                .limit(limit);
+        return entityOperations.select(query, entityInformation.getJavaType());
+    }
+
+    /**
+     * Builds the keyset position of a row, to continue a listing after it.
+     *
+     * @param entity the last row of a page
+     * @param keyset the position the page was read from
+     * @return the position following {@code entity}
+     */
+    public Keyset keysetOf(T entity, Keyset keyset) {
+        RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+        RelationalPersistentProperty sortProperty = sortProperty(keyset, idProperty);
+        PersistentPropertyAccessor<T> accessor = persistentEntity.getPropertyAccessor(entity);
+        Object value = accessor.getProperty(sortProperty);
+        Object id = accessor.getProperty(idProperty);
+        return new Keyset(
+                keyset.property(),
+                keyset.direction(),
+                value != null ? value.toString() : null,
+                id != null ? id.toString() : null);
+    }
+
+    /**
+     * Estimates the number of rows from {@code pg_class.reltuples}. A table that has not been
+     * vacuumed or analyzed yet reports -1 (or 0 on older Postgres versions), in which case the
+     * exact count is used instead.
+     *
+     * @return a Mono emitting the estimated row count
+     */
+    public Mono<Long> estimateCount() {
+        String table = persistentEntity.getTableName().toSql(IdentifierProcessing.NONE);
+        return entityOperations.getDatabaseClient()
+                .sql(ESTIMATE_COUNT_SQL)
+                .bind("table", table)
+                .map(row -> row.get("estimate", Long.class))
+                .one()
+                .filter(estimate -> estimate > 0)
+                .switchIfEmpty(Mono.defer(this::count));
+    }
+
+    /**
+     * Overwrites an existing row with a single {@code UPDATE ... RETURNING *} statement. Column values
+     * go through the same conversions as {@code save}; the primary key and {@code date_created} are
+     * left untouched and {@code date_updated} is set to {@code now()}.
+     *
+     * @param id the primary key of the row to update
+     * @param entity the new column values
+     * @return a Mono emitting the updated row, or empty if no row has the given id
+     */
+    public Mono<T> updateById(ID id, T entity) {
+        ReactiveDataAccessStrategy strategy = entityOperations.getDataAccessStrategy();
+        SqlIdentifier idColumn = persistentEntity.getRequiredIdProperty().getColumnName();
+
+        OutboundRow row = new OutboundRow();
+        converter.write(entity, row);
+        boolean touchDateUpdated = row.keySet().removeIf(column -> DATE_UPDATED.equals(column.getReference()));
+        row.keySet().removeIf(column -> column.getReference().equals(idColumn.getReference())
+                || DATE_CREATED.equals(column.getReference()));
+
+        StringJoiner assignments = new StringJoiner(", ");
+        List<Parameter> values = new ArrayList<>(row.size());
+        row.forEach((column, value) -> {
+            assignments.add(strategy.toSql(column) + " = :p" + values.size());
+            values.add(value);
+        });
+        if (touchDateUpdated) {
+            assignments.add(strategy.toSql(SqlIdentifier.unquoted(DATE_UPDATED)) + " = now()");
+        }
+        String sql = "UPDATE " + strategy.toSql(persistentEntity.getTableName())
+                + " SET " + assignments
+                + " WHERE " + strategy.toSql(idColumn) + " = :id RETURNING *";
+
+        DatabaseClient.GenericExecuteSpec spec = entityOperations.getDatabaseClient().sql(sql).bind("id", id);
+        for (int i = 0; i < values.size(); i++) {
+            spec = spec.bind("p" + i, values.get(i));
+        }
+        return spec.map((result, metadata) -> converter.read(entityInformation.getJavaType(), result, metadata))
+                .one();
+    }
+
+    /**
+     * Deletes a row by primary key and reports how many rows were affected, so callers can tell a
+     * missing row apart without loading it beforehand.
+     *
+     * @param id the primary key of the row to delete
+     * @return a Mono emitting the number of deleted rows
+     */
+    public Mono<Long> deleteByIdReturningCount(ID id) {
+        String idName = persistentEntity.getRequiredIdProperty().getName();
+        return entityOperations.delete(Query.query(Criteria.where(idName).is(id)), entityInformation.getJavaType());
+    }
+
+    /**
+     * Inserts or updates many rows with one {@code INSERT ... VALUES (...), (...) ON CONFLICT (...)
+     * DO UPDATE} statement. Every column except the primary key and the audit dates is overwritten on
+     * conflict, and {@code date_updated} is set to {@code now()}. A null property is written as
+     * {@code DEFAULT}, so the column takes its schema default both on insert and on conflict.
+     * {@code xmax = 0} tells inserted rows apart from updated ones.
+     * <p>
+     * Postgres does not guarantee the order of {@code RETURNING} rows, so the statement pairs each
+     * written row with its input itself: an inserted row by the primary key it was given, an updated
+     * row by the conflict key, both evaluated by Postgres. The statement fails as a whole if two rows
+     * share a conflict key or any row violates a constraint.
+     *
+     * @param entities the rows to write
+     * @param conflictTarget the ON CONFLICT target matching a unique index
+     * @return a Flux emitting one UpsertedRow per entity, in input order
+     */
+    public Flux<UpsertedRow<ID>> upsertAll(List<T> entities, String conflictTarget) {
+        if (entities.isEmpty()) {
+            return Flux.empty();
+        }
+        ReactiveDataAccessStrategy strategy = entityOperations.getDataAccessStrategy();
+        RelationalPersistentProperty idProperty = persistentEntity.getRequiredIdProperty();
+        String idColumn = idProperty.getColumnName().getReference();
+        String idName = strategy.toSql(idProperty.getColumnName());
+
+        boolean touchDateUpdated = false;
+        List<OutboundRow> rows = new ArrayList<>(entities.size());
+        for (T entity : entities) {
+            OutboundRow row = new OutboundRow();
+            converter.write(entity, row);
+            touchDateUpdated |= row.keySet().removeIf(column -> DATE_UPDATED.equals(column.getReference()));
+            row.keySet().removeIf(column -> DATE_CREATED.equals(column.getReference()));
+            for (Map.Entry<SqlIdentifier, Parameter> column : row.entrySet()) {
+                if (idColumn.equals(column.getKey().getReference()) && column.getValue().isEmpty()
+                        && idProperty.getType() == UUID.class) {
+                    column.setValue(Parameter.from(UUID.randomUUID()));
+                }
+            }
+            rows.add(row);
+        }
+        List<SqlIdentifier> columns = new ArrayList<>(rows.get(0).keySet());
+
+        // The input side of the pairing only needs the primary key and the columns the conflict target reads
+        List<Integer> keyColumns = new ArrayList<>();
+        StringJoiner columnList = new StringJoiner(", ", "(", ")");
+        StringJoiner keyColumnList = new StringJoiner(", ", "(", ")");
+        StringJoiner assignments = new StringJoiner(", ");
+        keyColumnList.add(UPSERT_ORDINAL);
+        for (int c = 0; c < columns.size(); c++) {
+            SqlIdentifier column = columns.get(c);
+            String name = strategy.toSql(column);
+            columnList.add(name);
+            if (idColumn.equals(column.getReference())) {
+                keyColumns.add(c);
+                keyColumnList.add(name);
+            } else {
+                assignments.add(name + " = EXCLUDED." + name);
+                if (referencedBy(conflictTarget, column)) {
+                    keyColumns.add(c);
+                    keyColumnList.add(name);
+                }
+            }
+        }
+        if (touchDateUpdated) {
+            assignments.add(strategy.toSql(SqlIdentifier.unquoted(DATE_UPDATED)) + " = now()");
+        }
+
+        Map<String, Parameter> bindings = new LinkedHashMap<>();
+        StringJoiner valueLists = new StringJoiner(", ");
+        StringJoiner keyLists = new StringJoiner(", ");
+        for (int r = 0; r < rows.size(); r++) {
+            OutboundRow row = rows.get(r);
+            StringJoiner values = new StringJoiner(", ", "(", ")");
+            for (int c = 0; c < columns.size(); c++) {
+                Parameter value = row.get(columns.get(c));
+                if (value == null || value.isEmpty()) {
+                    values.add("DEFAULT");
+                } else {
+                    values.add(":r" + r + "c" + c);
+                    bindings.put("r" + r + "c" + c, value);
+                }
+            }
+            valueLists.add(values.toString());
+
+            StringJoiner keys = new StringJoiner(", ", "(", ")");
+            keys.add(String.valueOf(r));
+            for (int c : keyColumns) {
+                keys.add(":k" + r + "c" + c);
+                bindings.put("k" + r + "c" + c, row.get(columns.get(c)));
+            }
+            keyLists.add(keys.toString());
+        }
+        String conflictKey = "ROW(" + conflictTarget + ")::text";
+        String sql = "WITH upserted AS ("
+                + "INSERT INTO " + strategy.toSql(persistentEntity.getTableName()) + " " + columnList
+                + " VALUES " + valueLists
+                + " ON CONFLICT (" + conflictTarget + ") DO UPDATE SET " + assignments
+                + " RETURNING " + idName + ", (xmax = 0) AS inserted, " + conflictKey + " AS conflict_key"
+                + "), given AS ("
+                + "SELECT " + UPSERT_ORDINAL + ", " + idName + ", " + conflictKey + " AS conflict_key"
+                + " FROM (VALUES " + keyLists + ") AS given_rows " + keyColumnList
+                + ") SELECT upserted." + idName + ", upserted.inserted FROM given JOIN upserted ON CASE"
+                + " WHEN upserted.inserted AND given." + idName + " IS NOT NULL"
+                + " THEN upserted." + idName + " = given." + idName
+                + " ELSE upserted.conflict_key = given.conflict_key END"
+                + " ORDER BY given." + UPSERT_ORDINAL;
+
+        DatabaseClient.GenericExecuteSpec spec = entityOperations.getDatabaseClient().sql(sql);
+        for (Map.Entry<String, Parameter> binding : bindings.entrySet()) {
+            spec = spec.bind(binding.getKey(), binding.getValue());
+        }
+        @SuppressWarnings("unchecked")
+        Class<ID> idType = (Class<ID>) idProperty.getType();
+        return spec.map(result -> new UpsertedRow<>(
+                        result.get(idColumn, idType),
+                        Boolean.TRUE.equals(result.get("inserted", Boolean.class))))
+                .all();
+    }
+
+    /**
+     * Tells whether an ON CONFLICT target reads a column, matching the column name as a whole identifier.
+     */
+    private static boolean referencedBy(String conflictTarget, SqlIdentifier column) {
+        return Pattern.compile("(?<![A-Za-z0-9_])" + Pattern.quote(column.getReference()) + "(?![A-Za-z0-9_])",
+                Pattern.CASE_INSENSITIVE).matcher(conflictTarget).find();
+    }
+
+    /**
+     * Resolves the {@code SELECT} list of a listing. The required properties are read whatever fields are asked for.
+     */
+    private SqlIdentifier[] columns(Collection<String> fields, RelationalPersistentProperty... required) {
+        if (fields == null || fields.stream().allMatch(field -> field == null || field.isBlank())) {
+            Set<SqlIdentifier> columns = new LinkedHashSet<>(Arrays.asList(defaultColumns));
+            for (RelationalPersistentProperty property : required) {
+                columns.add(property.getColumnName());
+            }
+            return columns.toArray(SqlIdentifier[]::new);
+        }
+        Set<SqlIdentifier> columns = new LinkedHashSet<>();
+        for (RelationalPersistentProperty property : required) {
+            columns.add(property.getColumnName());
+        }
+        for (String field : fields) {
+            if (field == null || field.isBlank()) {
+                continue;
+            }
+            String name = field.trim();
+            if (ALL_FIELDS.equals(name)) {
+                persistentEntity.forEach(property -> columns.add(property.getColumnName()));
+                continue;
+            }
+            RelationalPersistentProperty property = persistentEntity.getPersistentProperty(name);
+            if (property == null) {
+                throw new IllegalArgumentException("Unknown field: " + name);
+            }
+            columns.add(property.getColumnName());
+        }
+        return columns.toArray(SqlIdentifier[]::new);
+    }
+
+    private RelationalPersistentProperty sortProperty(Keyset keyset, RelationalPersistentProperty idProperty) {
+        if (keyset.property() == null || keyset.property().isBlank()) {
+            return idProperty;
+        }
+        RelationalPersistentProperty property = persistentEntity.getPersistentProperty(keyset.property());
+        if (property == null) {
+            throw new IllegalArgumentException("Unknown sort property: " + keyset.property());
+        }
+        return property;
+    }
+
+    /**
+     * Restricts a query to the rows after ({@code sort}, {@code id}) = ({@code value}, {@code idValue}).
+     * Postgres orders nulls last when ascending and first when descending, which the null branches mirror.
+     */
+    private static Criteria after(RelationalPersistentProperty sort, RelationalPersistentProperty id,
+                                  Sort.Direction direction, Object value, Object idValue) {
+        String sortName = sort.getName();
+        String idName = id.getName();
+        boolean ascending = direction.isAscending();
+
+        if (sort.equals(id)) {
+            return ascending ? Criteria.where(idName).greaterThan(idValue) : Criteria.where(idName).lessThan(idValue);
+        }
+        if (ascending) {
+            return value != null
+                    ? Criteria.where(sortName).greaterThan(value)
+                        .or(Criteria.where(sortName).is(value).and(idName).greaterThan(idValue))
+                        .or(Criteria.where(sortName).isNull())
+                    : Criteria.where(sortName).isNull().and(idName).greaterThan(idValue);
+        }
+        return value != null
+                ? Criteria.where(sortName).lessThan(value)
+                    .or(Criteria.where(sortName).is(value).and(idName).lessThan(idValue))
+                : Criteria.where(sortName).isNull().and(idName).lessThan(idValue)
+                    .or(Criteria.where(sortName).isNotNull());
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object convert(String value, RelationalPersistentProperty property) {
+        if (value == null) {
+            return null;
+        }
+        Class<?> type = property.getActualType();
+        try {
+            if (type == String.class) {
+                return value;
+            } else if (type == UUID.class) {
+                return UUID.fromString(value);
+            } else if (type == Integer.class || type == int.class) {
+                return Integer.valueOf(value);
+            } else if (type == Long.class || type == long.class) {
+                return Long.valueOf(value);
+            } else if (type == Short.class || type == short.class) {
+                return Short.valueOf(value);
+            } else if (type == Boolean.class || type == boolean.class) {
+                return Boolean.valueOf(value);
+            } else if (type == BigDecimal.class) {
+                return new BigDecimal(value);
+            } else if (type == LocalDate.class) {
+                return LocalDate.parse(value);
+            } else if (type == LocalDateTime.class) {
+                return LocalDateTime.parse(value);
+            } else if (type.isEnum()) {
+                return Enum.valueOf((Class<? extends Enum>) type, value);
+            }
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid value for " + property.getName() + ": " + value, e);
+        }
+        throw new IllegalArgumentException("Property " + property.getName() + " cannot be used for keyset pagination");
+    }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.models.repositories;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * Position in a keyset-paginated listing. Rows are ordered by {@code property} and then by the
+ * primary key, both in {@code direction}; a page holds the rows strictly after the position.
+ * <p>
+ * Values are kept in their string form so a position can travel through an opaque cursor and be
+ * converted back to the property types by the repository.
+ *
+ * @param property  the entity property to sort by, or {@code null} to sort by the primary key only
+ * @param direction the sort direction
+ * @param value     the sort value of the last row seen, {@code null} if that value was null
+ * @param id        the primary key of the last row seen, {@code null} for the first page
+ */
+public record Keyset(String property, Sort.Direction direction, String value, String id) {
+
+    public static Keyset first(String property, Sort.Direction direction) {
+        return new Keyset(property, direction, null, null);
+    }
+
+    public boolean isFirst() {
+        return id == null;
+    }
+}
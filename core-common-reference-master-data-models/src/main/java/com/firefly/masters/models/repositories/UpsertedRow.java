@@ -0,0 +1,27 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.models.repositories;
+
+/**
+ * Outcome of one row of a bulk upsert.
+ *
+ * @param id       the primary key of the written row; for an update, the key of the existing row
+ * @param inserted {@code true} if the row was inserted, {@code false} if an existing row was updated
+ */
+public record UpsertedRow<ID>(ID id, boolean inserted) {
+}
@@ -19,10 +19,23 @@ package com.firefly.masters.models.repositories.activity.v1;
 
 import com.firefly.masters.models.entities.activity.v1.ActivityCode;
 import com.firefly.masters.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
 import java.util.UUID;
 
 public interface ActivityCodeRepository extends BaseRepository<ActivityCode, UUID> {
+    /**
+     * ON CONFLICT target of bulk upserts: classification system, code and country, matching the
+     * unique index of V28.
+     */
+    String NATURAL_KEY = "classification_sys, code, (COALESCE(country_id, '00000000-0000-0000-0000-000000000000'::uuid))";
+
+    /**
+     * Deepest level walked by the hierarchy queries. Classification systems such as NACE and ISIC
+     * have four or five levels, so this only guards against runaway data.
+     */
+    int MAX_TREE_DEPTH = 32;
+
     /**
      * Finds all activity codes for a specific country.
      *
@@ -38,4 +51,74 @@ public interface ActivityCodeRepository extends BaseRepository<ActivityCode, UUI
      * @return a Flux emitting ActivityCode objects that are children of the specified parent
      */
     Flux<ActivityCode> findByParentCodeId(UUID parentCodeId);
+
+    /**
+     * Finds a branch of the activity code hierarchy with a single recursive query, in depth-first
+     * order with siblings sorted by code. Levels are numbered from the root, which is level 0.
+     *
+     * @param rootId the unique identifier of the activity code at the top of the branch
+     * @param minDepth the first level to return; 0 includes the root itself
+     * @param maxDepth the last level to return
+     * @param highRisk when not null, only returns activity codes with this high-risk flag; the branch is still
+     *                 walked through codes that do not match
+     * @return a Flux emitting the ActivityCode objects of the branch
+     */
+    @Query("""
+            WITH RECURSIVE branch AS (
+                SELECT a.*, 0 AS depth, ARRAY[a.activity_code_id] AS visited, ARRAY[a.code::text] AS sort_path
+                FROM activity_code a
+                WHERE a.activity_code_id = :rootId
+                UNION ALL
+                SELECT c.*, b.depth + 1, b.visited || c.activity_code_id, b.sort_path || c.code::text
+                FROM activity_code c
+                JOIN branch b ON c.parent_code_id = b.activity_code_id
+                WHERE b.depth < :maxDepth
+                  AND NOT c.activity_code_id = ANY(b.visited)
+            )
+            SELECT * FROM branch
+            WHERE depth >= :minDepth
+              AND (CAST(:highRisk AS BOOLEAN) IS NULL OR high_risk = CAST(:highRisk AS BOOLEAN))
+            ORDER BY sort_path
+            """)
+    Flux<ActivityCode> findBranch(UUID rootId, int minDepth, int maxDepth, Boolean highRisk);
+
+    /**
+     * Finds the ancestors of an activity code with a single recursive query, from the root of the
+     * hierarchy down to the direct parent.
+     *
+     * @param activityCodeId the unique identifier of the activity code whose ancestors to retrieve
+     * @param maxDepth the number of levels to walk up at most
+     * @return a Flux emitting the ancestor ActivityCode objects, root first; empty for a root code
+     */
+    @Query("""
+            WITH RECURSIVE ancestors AS (
+                SELECT p.*, 1 AS depth, ARRAY[a.activity_code_id, p.activity_code_id] AS visited
+                FROM activity_code a
+                JOIN activity_code p ON p.activity_code_id = a.parent_code_id
+                WHERE a.activity_code_id = :activityCodeId
+                UNION ALL
+                SELECT p.*, x.depth + 1, x.visited || p.activity_code_id
+                FROM activity_code p
+                JOIN ancestors x ON p.activity_code_id = x.parent_code_id
+                WHERE x.depth < :maxDepth
+                  AND NOT p.activity_code_id = ANY(x.visited)
+            )
+            SELECT * FROM ancestors
+            ORDER BY depth DESC
+            """)
+    Flux<ActivityCode> findAncestors(UUID activityCodeId, int maxDepth);
+
+    /**
+     * Finds activity codes whose description starts with the search term or contains a word similar to it.
+     * Prefix matches come first, then the closest fuzzy matches. Backed by the indexes of V30.
+     *
+     * @param prefixPattern the lower-case LIKE pattern for prefix matches, wildcards escaped
+     * @param query the search term for fuzzy (trigram word similarity) matches
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the matching ActivityCode objects
+     */
+    @Query("SELECT * FROM activity_code WHERE lower(description) LIKE :prefixPattern OR :query <% description " +
+            "ORDER BY lower(description) LIKE :prefixPattern DESC, word_similarity(:query, description) DESC, description " +
+            "LIMIT :limit")
+    Flux<ActivityCode> search(String prefixPattern, String query, int limit);
 }
@@ -19,7 +19,29 @@ package com.firefly.masters.models.repositories.bank.v1;
 
 import com.firefly.masters.models.entities.bank.v1.BankInstitutionCode;
 import com.firefly.masters.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
 import java.util.UUID;
 
 public interface BankInstitutionCodeRepository extends BaseRepository<BankInstitutionCode, UUID> {
+    /**
+     * ON CONFLICT target of bulk upserts: the SWIFT/BIC code, matching the unique index of V28.
+     */
+    String NATURAL_KEY = "swift_code";
+
+    /**
+     * Finds bank institution codes whose bank name starts with the search term or contains a word similar to it.
+     * Prefix matches come first, then the closest fuzzy matches. Backed by the indexes of V30.
+     *
+     * @param prefixPattern the lower-case LIKE pattern for prefix matches, wildcards escaped
+     * @param query the search term for fuzzy (trigram word similarity) matches
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the matching BankInstitutionCode objects
+     */
+    @Query("SELECT institution_id, bank_name, swift_code, routing_number, iban_prefix, country_id, " +
+            "institution_type_lkp_id, status, date_created, date_updated " +
+            "FROM bank_institution_codes WHERE lower(bank_name) LIKE :prefixPattern OR :query <% bank_name " +
+            "ORDER BY lower(bank_name) LIKE :prefixPattern DESC, word_similarity(:query, bank_name) DESC, bank_name " +
+            "LIMIT :limit")
+    Flux<BankInstitutionCode> search(String prefixPattern, String query, int limit);
 }
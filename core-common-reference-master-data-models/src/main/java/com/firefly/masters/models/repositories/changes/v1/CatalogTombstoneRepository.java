@@ -0,0 +1,47 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.models.repositories.changes.v1;
+
+import com.firefly.masters.models.entities.changes.v1.CatalogTombstone;
+import com.firefly.masters.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public interface CatalogTombstoneRepository extends BaseRepository<CatalogTombstone, UUID> {
+
+    /**
+     * Finds tombstones of a table recorded after the given position, ordered by (change_xid, row_id).
+     * Only deletions of transactions below the xmin of the current snapshot are returned, so that no
+     * deletion can commit behind the returned position.
+     *
+     * @param tableName the table whose deletions are requested
+     * @param since the earliest date_deleted to return
+     * @param afterXid the change_xid of the last tombstone already seen
+     * @param afterId the row_id of the last tombstone already seen
+     * @param limit the maximum number of tombstones to return
+     * @return a Flux emitting the matching tombstones
+     */
+    @Query("SELECT * FROM catalog_tombstone WHERE table_name = :tableName AND date_deleted >= :since " +
+            "AND (change_xid, row_id) > (:afterXid, :afterId) " +
+            "AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+            "ORDER BY change_xid, row_id LIMIT :limit")
+    Flux<CatalogTombstone> findChangedSince(String tableName, LocalDateTime since, long afterXid, UUID afterId, int limit);
+}
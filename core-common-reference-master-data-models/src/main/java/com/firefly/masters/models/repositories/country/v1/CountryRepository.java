@@ -19,7 +19,46 @@ package com.firefly.masters.models.repositories.country.v1;
 
 import com.firefly.masters.models.entities.country.v1.Country;
 import com.firefly.masters.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface CountryRepository extends BaseRepository<Country, UUID> {
+    /**
+     * ON CONFLICT target of bulk upserts: the ISO code, matching the unique index of V28.
+     */
+    String NATURAL_KEY = "iso_code";
+
+    /**
+     * Finds countries changed after the given position, ordered by (change_xid, country_id).
+     * Only changes of transactions below the xmin of the current snapshot are returned: those have
+     * all finished, and any later write gets a higher transaction id, so no change can commit behind
+     * the returned position.
+     *
+     * @param since the earliest date_updated to return
+     * @param afterXid the change_xid of the last row already seen
+     * @param afterId the country_id of the last row already seen
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the changed Country objects
+     */
+    @Query("SELECT * FROM countries WHERE date_updated >= :since AND (change_xid, country_id) > (:afterXid, :afterId) " +
+            "AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+            "ORDER BY change_xid, country_id LIMIT :limit")
+    Flux<Country> findChangedSince(LocalDateTime since, long afterXid, UUID afterId, int limit);
+
+    /**
+     * Finds countries whose name starts with the search term or contains a word similar to it.
+     * Prefix matches come first, then the closest fuzzy matches. Backed by the indexes of V30.
+     *
+     * @param prefixPattern the lower-case LIKE pattern for prefix matches, wildcards escaped
+     * @param query the search term for fuzzy (trigram word similarity) matches
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the matching Country objects
+     */
+    @Query("SELECT country_id, iso_code, country_name, region, status, date_created, date_updated, change_xid " +
+            "FROM countries WHERE lower(country_name) LIKE :prefixPattern OR :query <% country_name " +
+            "ORDER BY lower(country_name) LIKE :prefixPattern DESC, word_similarity(:query, country_name) DESC, country_name " +
+            "LIMIT :limit")
+    Flux<Country> search(String prefixPattern, String query, int limit);
 }
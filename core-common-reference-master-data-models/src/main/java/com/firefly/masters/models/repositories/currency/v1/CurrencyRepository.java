@@ -19,7 +19,31 @@ package com.firefly.masters.models.repositories.currency.v1;
 
 import com.firefly.masters.models.entities.currency.v1.Currency;
 import com.firefly.masters.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface CurrencyRepository extends BaseRepository<Currency, UUID> {
+    /**
+     * ON CONFLICT target of bulk upserts: the ISO 4217 code, matching the unique index of V28.
+     */
+    String NATURAL_KEY = "iso_code";
+
+    /**
+     * Finds currencies changed after the given position, ordered by (change_xid, currency_id).
+     * Only changes of transactions below the xmin of the current snapshot are returned: those have
+     * all finished, and any later write gets a higher transaction id, so no change can commit behind
+     * the returned position.
+     *
+     * @param since the earliest date_updated to return
+     * @param afterXid the change_xid of the last row already seen
+     * @param afterId the currency_id of the last row already seen
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the changed Currency objects
+     */
+    @Query("SELECT * FROM currencies WHERE date_updated >= :since AND (change_xid, currency_id) > (:afterXid, :afterId) " +
+            "AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+            "ORDER BY change_xid, currency_id LIMIT :limit")
+    Flux<Currency> findChangedSince(LocalDateTime since, long afterXid, UUID afterId, int limit);
 }
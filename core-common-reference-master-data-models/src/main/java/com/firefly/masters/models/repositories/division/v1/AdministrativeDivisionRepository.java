@@ -19,7 +19,15 @@ package com.firefly.masters.models.repositories.division.v1;
 
 import com.firefly.masters.models.entities.division.v1.AdministrativeDivision;
 import com.firefly.masters.models.repositories.BaseRepository;
+import reactor.core.publisher.Flux;
 import java.util.UUID;
 
 public interface AdministrativeDivisionRepository extends BaseRepository<AdministrativeDivision, UUID> {
+    /**
+     * Finds all administrative divisions of a specific country.
+     *
+     * @param countryId the unique identifier of the country to retrieve divisions for
+     * @return a Flux emitting AdministrativeDivision objects for the specified country
+     */
+    Flux<AdministrativeDivision> findByCountryId(UUID countryId);
 }
\ No newline at end of file
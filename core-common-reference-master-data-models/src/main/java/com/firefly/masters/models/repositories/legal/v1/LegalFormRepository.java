@@ -19,7 +19,9 @@ package com.firefly.masters.models.repositories.legal.v1;
 
 import com.firefly.masters.models.entities.legal.v1.LegalForm;
 import com.firefly.masters.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface LegalFormRepository extends BaseRepository<LegalForm, UUID> {
@@ -30,4 +32,35 @@ public interface LegalFormRepository extends BaseRepository<LegalForm, UUID> {
      * @return a Flux emitting LegalForm objects for the specified country
      */
     Flux<LegalForm> findByCountryId(UUID countryId);
+
+    /**
+     * Finds legal forms changed after the given position, ordered by (change_xid, legal_form_id).
+     * Only changes of transactions below the xmin of the current snapshot are returned: those have
+     * all finished, and any later write gets a higher transaction id, so no change can commit behind
+     * the returned position.
+     *
+     * @param since the earliest date_updated to return
+     * @param afterXid the change_xid of the last row already seen
+     * @param afterId the legal_form_id of the last row already seen
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the changed LegalForm objects
+     */
+    @Query("SELECT * FROM legal_form WHERE date_updated >= :since AND (change_xid, legal_form_id) > (:afterXid, :afterId) " +
+            "AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+            "ORDER BY change_xid, legal_form_id LIMIT :limit")
+    Flux<LegalForm> findChangedSince(LocalDateTime since, long afterXid, UUID afterId, int limit);
+
+    /**
+     * Finds legal forms whose name starts with the search term or contains a word similar to it.
+     * Prefix matches come first, then the closest fuzzy matches. Backed by the indexes of V30.
+     *
+     * @param prefixPattern the lower-case LIKE pattern for prefix matches, wildcards escaped
+     * @param query the search term for fuzzy (trigram word similarity) matches
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the matching LegalForm objects
+     */
+    @Query("SELECT * FROM legal_form WHERE lower(name) LIKE :prefixPattern OR :query <% name " +
+            "ORDER BY lower(name) LIKE :prefixPattern DESC, word_similarity(:query, name) DESC, name " +
+            "LIMIT :limit")
+    Flux<LegalForm> search(String prefixPattern, String query, int limit);
 }
@@ -19,7 +19,26 @@ package com.firefly.masters.models.repositories.locale.v1;
 
 import com.firefly.masters.models.entities.locale.v1.LanguageLocale;
 import com.firefly.masters.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
+import reactor.core.publisher.Flux;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface LanguageLocaleRepository extends BaseRepository<LanguageLocale, UUID> {
+    /**
+     * Finds language locales changed after the given position, ordered by (change_xid, locale_id).
+     * Only changes of transactions below the xmin of the current snapshot are returned: those have
+     * all finished, and any later write gets a higher transaction id, so no change can commit behind
+     * the returned position.
+     *
+     * @param since the earliest date_updated to return
+     * @param afterXid the change_xid of the last row already seen
+     * @param afterId the locale_id of the last row already seen
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the changed LanguageLocale objects
+     */
+    @Query("SELECT * FROM language_locale WHERE date_updated >= :since AND (change_xid, locale_id) > (:afterXid, :afterId) " +
+            "AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+            "ORDER BY change_xid, locale_id LIMIT :limit")
+    Flux<LanguageLocale> findChangedSince(LocalDateTime since, long afterXid, UUID afterId, int limit);
 }
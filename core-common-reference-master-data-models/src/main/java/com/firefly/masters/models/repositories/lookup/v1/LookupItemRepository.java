@@ -19,10 +19,20 @@ package com.firefly.masters.models.repositories.lookup.v1;
 
 import com.firefly.masters.models.entities.lookup.v1.LookupItem;
 import com.firefly.masters.models.repositories.BaseRepository;
+import org.springframework.data.r2dbc.repository.Query;
 import reactor.core.publisher.Flux;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 public interface LookupItemRepository extends BaseRepository<LookupItem, UUID> {
+    /**
+     * ON CONFLICT target of bulk upserts: domain, item code, tenant and effective date, matching the
+     * unique index of V28.
+     */
+    String NATURAL_KEY = "domain_id, item_code, (COALESCE(tenant_id, '00000000-0000-0000-0000-000000000000'::uuid)), " +
+            "(COALESCE(effective_from, DATE '1900-01-01'))";
+
     /**
      * Finds all lookup items for a specific domain.
      *
@@ -30,4 +40,34 @@ public interface LookupItemRepository extends BaseRepository<LookupItem, UUID> {
      * @return a Flux emitting LookupItem objects for the specified domain
      */
     Flux<LookupItem> findByDomainId(UUID domainId);
+
+    /**
+     * Finds the lookup items of a domain that are effective on a date, both bounds inclusive and a
+     * missing bound treated as open. Backed by the range index of V29.
+     *
+     * @param domainId the unique identifier of the domain to retrieve items for
+     * @param asOf the date the items must be effective on
+     * @return a Flux emitting the effective LookupItem objects, ordered by sort order and code
+     */
+    @Query("SELECT * FROM lookup_item WHERE domain_id = :domainId " +
+            "AND daterange(effective_from, effective_to, '[]') @> CAST(:asOf AS date) " +
+            "ORDER BY sort_order NULLS LAST, item_code")
+    Flux<LookupItem> findByDomainIdAsOf(UUID domainId, LocalDate asOf);
+
+    /**
+     * Finds lookup items changed after the given position, ordered by (change_xid, item_id).
+     * Only changes of transactions below the xmin of the current snapshot are returned: those have
+     * all finished, and any later write gets a higher transaction id, so no change can commit behind
+     * the returned position.
+     *
+     * @param since the earliest date_updated to return
+     * @param afterXid the change_xid of the last row already seen
+     * @param afterId the item_id of the last row already seen
+     * @param limit the maximum number of rows to return
+     * @return a Flux emitting the changed LookupItem objects
+     */
+    @Query("SELECT * FROM lookup_item WHERE date_updated >= :since AND (change_xid, item_id) > (:afterXid, :afterId) " +
+            "AND change_xid < pg_snapshot_xmin(pg_current_snapshot())::text::bigint " +
+            "ORDER BY change_xid, item_id LIMIT :limit")
+    Flux<LookupItem> findChangedSince(LocalDateTime since, long afterXid, UUID afterId, int limit);
 }
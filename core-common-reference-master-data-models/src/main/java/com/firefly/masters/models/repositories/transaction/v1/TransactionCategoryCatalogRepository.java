@@ -17,6 +17,7 @@
 
 package com.firefly.masters.models.repositories.transaction.v1;
 
+import com.firefly.masters.models.entities.transaction.v1.LocalizedTransactionCategory;
 import com.firefly.masters.models.entities.transaction.v1.TransactionCategoryCatalog;
 import com.firefly.masters.models.repositories.BaseRepository;
 import org.springframework.data.domain.Pageable;
@@ -64,7 +65,8 @@ public interface TransactionCategoryCatalogRepository extends BaseRepository<Tra
      * @param pageable pagination information
      * @return a Flux of TransactionCategoryCatalog entities without a parent
      */
-    @Query("SELECT * FROM transaction_category_catalog WHERE parent_category_id IS NULL")
+    @Query("SELECT category_id, category_code, category_name, description, parent_category_id, status, " +
+            "date_created, date_updated FROM transaction_category_catalog WHERE parent_category_id IS NULL")
     Flux<TransactionCategoryCatalog> findRootCategories(Pageable pageable);
 
     /**
@@ -74,4 +76,23 @@ public interface TransactionCategoryCatalogRepository extends BaseRepository<Tra
      */
     @Query("SELECT COUNT(*) FROM transaction_category_catalog WHERE parent_category_id IS NULL")
     Mono<Long> countRootCategories();
+
+    /**
+     * Find all transaction categories together with their active localization for a locale, in a
+     * single query.
+     *
+     * @param localeCode the locale code to localize to (case-insensitive), or null for no localization
+     * @return a Flux of LocalizedTransactionCategory rows ordered by category code
+     */
+    @Query("""
+            SELECT c.category_id, c.category_code, c.category_name, c.description, c.parent_category_id,
+                   c.status,
+                   l.category_name AS localized_name, l.description AS localized_description
+            FROM transaction_category_catalog c
+            LEFT JOIN language_locale ll ON lower(ll.locale_code) = lower(:localeCode)
+            LEFT JOIN transaction_category_localization l
+                   ON l.category_id = c.category_id AND l.locale_id = ll.locale_id AND l.status = 'ACTIVE'
+            ORDER BY c.category_code
+            """)
+    Flux<LocalizedTransactionCategory> findAllLocalized(String localeCode);
 }
@@ -0,0 +1,274 @@
+-- V26__Add_Catalog_Change_Notifications.sql
+
+-- Flyway will run this script in a transaction by default, so no need for BEGIN/COMMIT here.
+
+------------------------------------------------------------------------------
+-- Publish row changes on the master_data_changes channel
+------------------------------------------------------------------------------
+-- Every service instance LISTENs on this channel and evicts its local caches
+-- for the affected (table, id) pair. The primary key column is passed as the
+-- first trigger argument. Cascaded deletes fire the trigger of the child table
+-- too, so dependent rows are announced without extra work in the services.
+CREATE OR REPLACE FUNCTION notify_catalog_change() RETURNS TRIGGER AS $$
+DECLARE
+    changed_row JSONB;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        changed_row := to_jsonb(OLD);
+    ELSE
+        changed_row := to_jsonb(NEW);
+    END IF;
+
+    PERFORM pg_notify(
+        'master_data_changes',
+        json_build_object(
+            'table', TG_TABLE_NAME,
+            'id', changed_row ->> TG_ARGV[0],
+            'op', TG_OP
+        )::text
+    );
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+------------------------------------------------------------------------------
+-- activity_code
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_activity_code_notify_change ON activity_code;
+CREATE TRIGGER trg_activity_code_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON activity_code
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('activity_code_id');
+
+------------------------------------------------------------------------------
+-- administrative_division
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_administrative_division_notify_change ON administrative_division;
+CREATE TRIGGER trg_administrative_division_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON administrative_division
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('division_id');
+
+------------------------------------------------------------------------------
+-- asset_type
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_asset_type_notify_change ON asset_type;
+CREATE TRIGGER trg_asset_type_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON asset_type
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('asset_id');
+
+------------------------------------------------------------------------------
+-- bank_institution_codes
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_bank_institution_codes_notify_change ON bank_institution_codes;
+CREATE TRIGGER trg_bank_institution_codes_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON bank_institution_codes
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('institution_id');
+
+------------------------------------------------------------------------------
+-- consent_catalog
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_consent_catalog_notify_change ON consent_catalog;
+CREATE TRIGGER trg_consent_catalog_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON consent_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('consent_id');
+
+------------------------------------------------------------------------------
+-- contract_document_type
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_contract_document_type_notify_change ON contract_document_type;
+CREATE TRIGGER trg_contract_document_type_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON contract_document_type
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('document_type_id');
+
+------------------------------------------------------------------------------
+-- contract_role
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_contract_role_notify_change ON contract_role;
+CREATE TRIGGER trg_contract_role_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON contract_role
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('role_id');
+
+------------------------------------------------------------------------------
+-- contract_role_scope
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_contract_role_scope_notify_change ON contract_role_scope;
+CREATE TRIGGER trg_contract_role_scope_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON contract_role_scope
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('scope_id');
+
+------------------------------------------------------------------------------
+-- contract_type
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_contract_type_notify_change ON contract_type;
+CREATE TRIGGER trg_contract_type_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON contract_type
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('contract_id');
+
+------------------------------------------------------------------------------
+-- countries
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_countries_notify_change ON countries;
+CREATE TRIGGER trg_countries_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON countries
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('country_id');
+
+------------------------------------------------------------------------------
+-- currencies
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_currencies_notify_change ON currencies;
+CREATE TRIGGER trg_currencies_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON currencies
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('currency_id');
+
+------------------------------------------------------------------------------
+-- document_template_catalog
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_document_template_catalog_notify_change ON document_template_catalog;
+CREATE TRIGGER trg_document_template_catalog_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON document_template_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('template_id');
+
+------------------------------------------------------------------------------
+-- document_template_localization
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_document_template_localization_notify_change ON document_template_localization;
+CREATE TRIGGER trg_document_template_localization_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON document_template_localization
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('localization_id');
+
+------------------------------------------------------------------------------
+-- document_template_type_catalog
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_document_template_type_catalog_notify_change ON document_template_type_catalog;
+CREATE TRIGGER trg_document_template_type_catalog_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON document_template_type_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('type_id');
+
+------------------------------------------------------------------------------
+-- identity_document_catalog
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_identity_document_catalog_notify_change ON identity_document_catalog;
+CREATE TRIGGER trg_identity_document_catalog_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON identity_document_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('document_id');
+
+------------------------------------------------------------------------------
+-- identity_document_category_catalog
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_identity_document_category_catalog_notify_change ON identity_document_category_catalog;
+CREATE TRIGGER trg_identity_document_category_catalog_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON identity_document_category_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('category_id');
+
+------------------------------------------------------------------------------
+-- identity_document_localization
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_identity_document_localization_notify_change ON identity_document_localization;
+CREATE TRIGGER trg_identity_document_localization_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON identity_document_localization
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('localization_id');
+
+------------------------------------------------------------------------------
+-- language_locale
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_language_locale_notify_change ON language_locale;
+CREATE TRIGGER trg_language_locale_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON language_locale
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('locale_id');
+
+------------------------------------------------------------------------------
+-- legal_form
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_legal_form_notify_change ON legal_form;
+CREATE TRIGGER trg_legal_form_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON legal_form
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('legal_form_id');
+
+------------------------------------------------------------------------------
+-- lookup_domain
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_lookup_domain_notify_change ON lookup_domain;
+CREATE TRIGGER trg_lookup_domain_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON lookup_domain
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('domain_id');
+
+------------------------------------------------------------------------------
+-- lookup_item
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_lookup_item_notify_change ON lookup_item;
+CREATE TRIGGER trg_lookup_item_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON lookup_item
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('item_id');
+
+------------------------------------------------------------------------------
+-- message_type_catalog
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_message_type_catalog_notify_change ON message_type_catalog;
+CREATE TRIGGER trg_message_type_catalog_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON message_type_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('type_id');
+
+------------------------------------------------------------------------------
+-- notification_message_catalog
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_notification_message_catalog_notify_change ON notification_message_catalog;
+CREATE TRIGGER trg_notification_message_catalog_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON notification_message_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('message_id');
+
+------------------------------------------------------------------------------
+-- notification_message_localization
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_notification_message_localization_notify_change ON notification_message_localization;
+CREATE TRIGGER trg_notification_message_localization_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON notification_message_localization
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('localization_id');
+
+------------------------------------------------------------------------------
+-- notification_message_template
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_notification_message_template_notify_change ON notification_message_template;
+CREATE TRIGGER trg_notification_message_template_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON notification_message_template
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('template_id');
+
+------------------------------------------------------------------------------
+-- relationship_type_master
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_relationship_type_master_notify_change ON relationship_type_master;
+CREATE TRIGGER trg_relationship_type_master_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON relationship_type_master
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('relationship_type_id');
+
+------------------------------------------------------------------------------
+-- rule_operation_type
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_rule_operation_type_notify_change ON rule_operation_type;
+CREATE TRIGGER trg_rule_operation_type_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON rule_operation_type
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('operation_type_id');
+
+------------------------------------------------------------------------------
+-- title_master
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_title_master_notify_change ON title_master;
+CREATE TRIGGER trg_title_master_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON title_master
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('title_id');
+
+------------------------------------------------------------------------------
+-- transaction_category_catalog
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_transaction_category_catalog_notify_change ON transaction_category_catalog;
+CREATE TRIGGER trg_transaction_category_catalog_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON transaction_category_catalog
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('category_id');
+
+------------------------------------------------------------------------------
+-- transaction_category_localization
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_transaction_category_localization_notify_change ON transaction_category_localization;
+CREATE TRIGGER trg_transaction_category_localization_notify_change
+    AFTER INSERT OR UPDATE OR DELETE ON transaction_category_localization
+    FOR EACH ROW EXECUTE FUNCTION notify_catalog_change('localization_id');
+
+-- End of V26__Add_Catalog_Change_Notifications.sql
@@ -0,0 +1,116 @@
+-- V27__Add_Catalog_Change_Tracking.sql
+
+-- Flyway will run this script in a transaction by default, so no need for BEGIN/COMMIT here.
+
+------------------------------------------------------------------------------
+-- Create TABLE catalog_tombstone
+------------------------------------------------------------------------------
+-- One row per deleted catalog record, so that replicas syncing through the
+-- changes API can learn about deletions.
+CREATE TABLE IF NOT EXISTS catalog_tombstone (
+    tombstone_id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    table_name   VARCHAR(100)    NOT NULL,
+    row_id       UUID            NOT NULL,
+    date_deleted TIMESTAMP       NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_catalog_tombstone_sync ON catalog_tombstone(table_name, date_deleted, row_id);
+
+------------------------------------------------------------------------------
+-- Trigger functions
+------------------------------------------------------------------------------
+-- date_updated is the replication watermark, so it is maintained by the
+-- database rather than by each writer. clock_timestamp() is used instead of the
+-- transaction start time to keep the watermark as close to commit as possible.
+CREATE OR REPLACE FUNCTION touch_date_updated() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.date_updated := clock_timestamp()::timestamp;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+-- The primary key column is passed as the first trigger argument.
+CREATE OR REPLACE FUNCTION record_catalog_tombstone() RETURNS TRIGGER AS $$
+BEGIN
+    INSERT INTO catalog_tombstone (table_name, row_id, date_deleted)
+    VALUES (TG_TABLE_NAME, (to_jsonb(OLD) ->> TG_ARGV[0])::uuid, clock_timestamp()::timestamp);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+------------------------------------------------------------------------------
+-- countries
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_countries_touch_date_updated ON countries;
+CREATE TRIGGER trg_countries_touch_date_updated
+    BEFORE INSERT OR UPDATE ON countries
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+
+DROP TRIGGER IF EXISTS trg_countries_tombstone ON countries;
+CREATE TRIGGER trg_countries_tombstone
+    AFTER DELETE ON countries
+    FOR EACH ROW EXECUTE FUNCTION record_catalog_tombstone('country_id');
+
+CREATE INDEX IF NOT EXISTS idx_countries_sync ON countries(date_updated, country_id);
+
+------------------------------------------------------------------------------
+-- currencies
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_currencies_touch_date_updated ON currencies;
+CREATE TRIGGER trg_currencies_touch_date_updated
+    BEFORE INSERT OR UPDATE ON currencies
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+
+DROP TRIGGER IF EXISTS trg_currencies_tombstone ON currencies;
+CREATE TRIGGER trg_currencies_tombstone
+    AFTER DELETE ON currencies
+    FOR EACH ROW EXECUTE FUNCTION record_catalog_tombstone('currency_id');
+
+CREATE INDEX IF NOT EXISTS idx_currencies_sync ON currencies(date_updated, currency_id);
+
+------------------------------------------------------------------------------
+-- language_locale
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_language_locale_touch_date_updated ON language_locale;
+CREATE TRIGGER trg_language_locale_touch_date_updated
+    BEFORE INSERT OR UPDATE ON language_locale
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+
+DROP TRIGGER IF EXISTS trg_language_locale_tombstone ON language_locale;
+CREATE TRIGGER trg_language_locale_tombstone
+    AFTER DELETE ON language_locale
+    FOR EACH ROW EXECUTE FUNCTION record_catalog_tombstone('locale_id');
+
+CREATE INDEX IF NOT EXISTS idx_language_locale_sync ON language_locale(date_updated, locale_id);
+
+------------------------------------------------------------------------------
+-- legal_form
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_legal_form_touch_date_updated ON legal_form;
+CREATE TRIGGER trg_legal_form_touch_date_updated
+    BEFORE INSERT OR UPDATE ON legal_form
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+
+DROP TRIGGER IF EXISTS trg_legal_form_tombstone ON legal_form;
+CREATE TRIGGER trg_legal_form_tombstone
+    AFTER DELETE ON legal_form
+    FOR EACH ROW EXECUTE FUNCTION record_catalog_tombstone('legal_form_id');
+
+CREATE INDEX IF NOT EXISTS idx_legal_form_sync ON legal_form(date_updated, legal_form_id);
+
+------------------------------------------------------------------------------
+-- lookup_item
+------------------------------------------------------------------------------
+DROP TRIGGER IF EXISTS trg_lookup_item_touch_date_updated ON lookup_item;
+CREATE TRIGGER trg_lookup_item_touch_date_updated
+    BEFORE INSERT OR UPDATE ON lookup_item
+    FOR EACH ROW EXECUTE FUNCTION touch_date_updated();
+
+DROP TRIGGER IF EXISTS trg_lookup_item_tombstone ON lookup_item;
+CREATE TRIGGER trg_lookup_item_tombstone
+    AFTER DELETE ON lookup_item
+    FOR EACH ROW EXECUTE FUNCTION record_catalog_tombstone('item_id');
+
+CREATE INDEX IF NOT EXISTS idx_lookup_item_sync ON lookup_item(date_updated, item_id);
+
+-- End of V27__Add_Catalog_Change_Tracking.sql
@@ -0,0 +1,34 @@
+-- V28__Add_Catalog_Natural_Keys.sql
+
+-- Flyway will run this script in a transaction by default, so no need for BEGIN/COMMIT here.
+
+------------------------------------------------------------------------------
+-- Natural keys for bulk upserts
+------------------------------------------------------------------------------
+-- The bulk endpoints load reference data with INSERT ... ON CONFLICT on these
+-- keys, so they must be backed by unique indexes. Nullable key parts are
+-- wrapped in COALESCE so that rows without a country or tenant still collide;
+-- the ON CONFLICT targets in the repositories repeat the same expressions.
+
+-- countries: ISO 3166 code (replaces the plain lookup index)
+DROP INDEX IF EXISTS idx_countries_iso_code;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_countries_iso_code ON countries(iso_code);
+
+-- currencies: ISO 4217 code (replaces the plain lookup index)
+DROP INDEX IF EXISTS idx_currencies_iso_code;
+CREATE UNIQUE INDEX IF NOT EXISTS uk_currencies_iso_code ON currencies(iso_code);
+
+-- bank_institution_codes: SWIFT/BIC code. Institutions without one are never merged.
+CREATE UNIQUE INDEX IF NOT EXISTS uk_bank_institution_codes_swift_code ON bank_institution_codes(swift_code);
+
+-- activity_code: code within a classification system (NACE, ISIC, ...) and country
+CREATE UNIQUE INDEX IF NOT EXISTS uk_activity_code_natural_key
+ON activity_code(classification_sys, code, COALESCE(country_id, '00000000-0000-0000-0000-000000000000'::uuid));
+
+-- lookup_item: item code within a domain, per tenant layer and effective version
+CREATE UNIQUE INDEX IF NOT EXISTS uk_lookup_item_natural_key
+ON lookup_item(domain_id, item_code,
+               COALESCE(tenant_id, '00000000-0000-0000-0000-000000000000'::uuid),
+               COALESCE(effective_from, DATE '1900-01-01'));
+
+-- End of V28__Add_Catalog_Natural_Keys.sql
@@ -0,0 +1,33 @@
+-- V29__Add_Lookup_Item_Effective_Range_Index.sql
+
+-- Flyway will run this script in a transaction by default, so no need for BEGIN/COMMIT here.
+
+------------------------------------------------------------------------------
+-- Point-in-time ("as of") reads of lookup items
+------------------------------------------------------------------------------
+-- Items are read as of a date with
+--   domain_id = :domainId AND daterange(effective_from, effective_to, '[]') @> :asOf
+-- A GiST index over the domain and the closed validity range answers that
+-- predicate without scanning every version of the domain. A missing bound
+-- (NULL) leaves the range open on that side. btree_gist provides the GiST
+-- operator class for the uuid column; it is a trusted extension, so the
+-- database owner can create it.
+--
+-- daterange() raises an error when the upper bound is below the lower one, so
+-- inverted ranges are collapsed to their start date and then ruled out by a
+-- CHECK constraint before the index is built. Collapsing keeps effective_from,
+-- which is part of the natural key.
+
+UPDATE lookup_item
+SET effective_to = effective_from
+WHERE effective_to < effective_from;
+
+ALTER TABLE lookup_item ADD CONSTRAINT chk_lookup_item_effective_range
+CHECK (effective_to IS NULL OR effective_from IS NULL OR effective_from <= effective_to);
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE INDEX IF NOT EXISTS idx_lookup_item_domain_effective_range
+ON lookup_item USING gist (domain_id, daterange(effective_from, effective_to, '[]'));
+
+-- End of V29__Add_Lookup_Item_Effective_Range_Index.sql
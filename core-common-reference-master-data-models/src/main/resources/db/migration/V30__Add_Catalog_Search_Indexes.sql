@@ -0,0 +1,41 @@
+-- V30__Add_Catalog_Search_Indexes.sql
+
+-- Flyway will run this script in a transaction by default, so no need for BEGIN/COMMIT here.
+
+------------------------------------------------------------------------------
+-- Typeahead search
+------------------------------------------------------------------------------
+-- The /search endpoints match a name either by prefix or fuzzily:
+--   lower(col) LIKE :prefixPattern OR :query <% col
+-- The prefix branch is served by a btree over lower(col) with
+-- text_pattern_ops, which also answers one- and two-character prefixes;
+-- the fuzzy branch (pg_trgm word similarity) by a GIN trigram index.
+-- pg_trgm is a trusted extension, so the database owner can create it.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- bank_institution_codes.bank_name
+CREATE INDEX IF NOT EXISTS idx_bank_institution_codes_bank_name_prefix
+ON bank_institution_codes(lower(bank_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_bank_institution_codes_bank_name_trgm
+ON bank_institution_codes USING gin (bank_name gin_trgm_ops);
+
+-- activity_code.description
+CREATE INDEX IF NOT EXISTS idx_activity_code_description_prefix
+ON activity_code(lower(description) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_activity_code_description_trgm
+ON activity_code USING gin (description gin_trgm_ops);
+
+-- countries.country_name
+CREATE INDEX IF NOT EXISTS idx_countries_country_name_prefix
+ON countries(lower(country_name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_countries_country_name_trgm
+ON countries USING gin (country_name gin_trgm_ops);
+
+-- legal_form.name
+CREATE INDEX IF NOT EXISTS idx_legal_form_name_prefix
+ON legal_form(lower(name) text_pattern_ops);
+CREATE INDEX IF NOT EXISTS idx_legal_form_name_trgm
+ON legal_form USING gin (name gin_trgm_ops);
+
+-- End of V30__Add_Catalog_Search_Indexes.sql
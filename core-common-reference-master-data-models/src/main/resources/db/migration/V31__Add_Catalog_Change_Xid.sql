@@ -0,0 +1,91 @@
+-- V31__Add_Catalog_Change_Xid.sql
+
+-- Flyway will run this script in a transaction by default, so no need for BEGIN/COMMIT here.
+
+------------------------------------------------------------------------------
+-- Commit-ordered change feed
+------------------------------------------------------------------------------
+-- date_updated is stamped when a row is written, not when it commits, so a
+-- long transaction can commit rows older than the position a replica has
+-- already passed. Each change therefore also records the id of its writing
+-- transaction in change_xid. The feed only returns changes whose transaction
+-- id is below the xmin of the reader's snapshot: every such transaction has
+-- finished, and every later writer is assigned a higher id, so paging by
+-- (change_xid, id) never passes a change that commits afterwards.
+-- Rows written before this migration keep change_xid 0.
+CREATE OR REPLACE FUNCTION touch_change_xid() RETURNS TRIGGER AS $$
+BEGIN
+    NEW.change_xid := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+------------------------------------------------------------------------------
+-- catalog_tombstone
+------------------------------------------------------------------------------
+ALTER TABLE catalog_tombstone ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE catalog_tombstone ALTER COLUMN change_xid SET DEFAULT pg_current_xact_id()::text::bigint;
+
+CREATE INDEX IF NOT EXISTS idx_catalog_tombstone_change_xid ON catalog_tombstone(table_name, change_xid, row_id);
+
+------------------------------------------------------------------------------
+-- countries
+------------------------------------------------------------------------------
+ALTER TABLE countries ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+
+DROP TRIGGER IF EXISTS trg_countries_touch_change_xid ON countries;
+CREATE TRIGGER trg_countries_touch_change_xid
+    BEFORE INSERT OR UPDATE ON countries
+    FOR EACH ROW EXECUTE FUNCTION touch_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_countries_change_xid ON countries(change_xid, country_id);
+
+------------------------------------------------------------------------------
+-- currencies
+------------------------------------------------------------------------------
+ALTER TABLE currencies ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+
+DROP TRIGGER IF EXISTS trg_currencies_touch_change_xid ON currencies;
+CREATE TRIGGER trg_currencies_touch_change_xid
+    BEFORE INSERT OR UPDATE ON currencies
+    FOR EACH ROW EXECUTE FUNCTION touch_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_currencies_change_xid ON currencies(change_xid, currency_id);
+
+------------------------------------------------------------------------------
+-- language_locale
+------------------------------------------------------------------------------
+ALTER TABLE language_locale ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+
+DROP TRIGGER IF EXISTS trg_language_locale_touch_change_xid ON language_locale;
+CREATE TRIGGER trg_language_locale_touch_change_xid
+    BEFORE INSERT OR UPDATE ON language_locale
+    FOR EACH ROW EXECUTE FUNCTION touch_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_language_locale_change_xid ON language_locale(change_xid, locale_id);
+
+------------------------------------------------------------------------------
+-- legal_form
+------------------------------------------------------------------------------
+ALTER TABLE legal_form ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+
+DROP TRIGGER IF EXISTS trg_legal_form_touch_change_xid ON legal_form;
+CREATE TRIGGER trg_legal_form_touch_change_xid
+    BEFORE INSERT OR UPDATE ON legal_form
+    FOR EACH ROW EXECUTE FUNCTION touch_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_legal_form_change_xid ON legal_form(change_xid, legal_form_id);
+
+------------------------------------------------------------------------------
+-- lookup_item
+------------------------------------------------------------------------------
+ALTER TABLE lookup_item ADD COLUMN IF NOT EXISTS change_xid BIGINT NOT NULL DEFAULT 0;
+
+DROP TRIGGER IF EXISTS trg_lookup_item_touch_change_xid ON lookup_item;
+CREATE TRIGGER trg_lookup_item_touch_change_xid
+    BEFORE INSERT OR UPDATE ON lookup_item
+    FOR EACH ROW EXECUTE FUNCTION touch_change_xid();
+
+CREATE INDEX IF NOT EXISTS idx_lookup_item_change_xid ON lookup_item(change_xid, item_id);
+
+-- End of V31__Add_Catalog_Change_Xid.sql
@@ -0,0 +1,24 @@
+-- V32__Add_Country_Summary_View.sql
+
+-- Flyway will run this script in a transaction by default, so no need for BEGIN/COMMIT here.
+
+------------------------------------------------------------------------------
+-- Countries without their flag
+------------------------------------------------------------------------------
+-- POST /api/v1/countries/filter builds its query from the entity it is given
+-- and reads every mapped column. Filtering the CountrySummary entity over this
+-- view keeps svg_flag out of the SELECT, so the flag is neither detoasted nor
+-- sent over the wire. Columns added to countries must be added here as well
+-- to become filterable.
+CREATE OR REPLACE VIEW country_summary AS
+SELECT country_id,
+       iso_code,
+       country_name,
+       region,
+       status,
+       date_created,
+       date_updated,
+       change_xid
+FROM countries;
+
+-- End of V32__Add_Country_Summary_View.sql
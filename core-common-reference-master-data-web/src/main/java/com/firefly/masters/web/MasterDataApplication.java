@@ -17,6 +17,7 @@
 
 package com.firefly.masters.web;
 
+import com.firefly.masters.models.repositories.BaseRepositoryImpl;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.info.Contact;
 import io.swagger.v3.oas.annotations.info.Info;
@@ -36,7 +37,8 @@ import org.springframework.web.reactive.config.EnableWebFlux;
 )
 @EnableWebFlux
 @EnableR2dbcRepositories(
-        basePackages = "com.firefly.masters.models.repositories"
+        basePackages = "com.firefly.masters.models.repositories",
+        repositoryBaseClass = BaseRepositoryImpl.class
 )
 @EnableR2dbcAuditing
 @ConfigurationPropertiesScan
@@ -0,0 +1,45 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.web.config;
+
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
+
+/**
+ * WebFlux customizations. {@code @EnableWebFlux} turns off Boot's WebFlux auto-configuration, so
+ * request parameter converters are registered here.
+ */
+@Configuration
+public class WebFluxConfiguration implements WebFluxConfigurer {
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        // Accept the lowercase values documented in the API (e.g. countMode=estimate)
+        registry.addConverter(String.class, CountModeEnum.class, new StringToCountModeConverter());
+    }
+
+    private static final class StringToCountModeConverter implements Converter<String, CountModeEnum> {
+        @Override
+        public CountModeEnum convert(String source) {
+            return CountModeEnum.fromValue(source);
+        }
+    }
+}
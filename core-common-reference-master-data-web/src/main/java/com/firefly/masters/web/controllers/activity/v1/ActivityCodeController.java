@@ -21,6 +21,10 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.activity.v1.ActivityCodeService;
 import com.firefly.masters.interfaces.dtos.activity.v1.ActivityCodeDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -36,6 +40,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Activity Codes", description = "APIs for managing activity codes")
@@ -60,10 +65,65 @@ public class ActivityCodeController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<ActivityCodeDTO>>> listActivityCodes(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return service.listActivityCodes(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listActivityCodes(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Activity Codes by Cursor", description = "Retrieve activity codes using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of activity codes"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<ActivityCodeDTO>>> listActivityCodesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listActivityCodesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Search Activity Codes", description = "Typeahead search on the description: prefix matches first, then fuzzy (trigram) matches.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching activity codes",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ActivityCodeDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query or limit out of range",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<ActivityCodeDTO>>> searchActivityCodes(
+            @Parameter(description = "Search term", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of matches, 1 to 50; defaults to 10")
+            @RequestParam(required = false) Integer limit
+    ) {
+        return service.searchActivityCodes(query, limit)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Get Activity Codes by Country", description = "Retrieve all activity codes for a specific country.")
@@ -104,6 +164,78 @@ public class ActivityCodeController {
         return Mono.just(ResponseEntity.ok(service.getChildActivityCodes(parentCodeId)));
     }
 
+    @Operation(summary = "Get Activity Code Subtree", description = "Retrieve an activity code and its whole branch of descendants in depth-first order, optionally filtered by the high-risk flag.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the activity code subtree",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ActivityCodeDTO.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/{activityCodeId}/subtree", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<ActivityCodeDTO>>> getActivityCodeSubtree(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the activity code at the top of the branch", required = true)
+            @PathVariable UUID activityCodeId,
+            @Parameter(description = "Only return activity codes with this high-risk flag")
+            @RequestParam(required = false) Boolean highRisk
+    ) {
+        return Mono.just(ResponseEntity.ok(service.getActivityCodeSubtree(activityCodeId, highRisk)));
+    }
+
+    @Operation(summary = "Get Activity Code Descendants", description = "Retrieve the descendants of an activity code down to a given depth in depth-first order, optionally filtered by the high-risk flag.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the activity code descendants",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ActivityCodeDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid maxDepth",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/{activityCodeId}/descendants", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<ActivityCodeDTO>>> getActivityCodeDescendants(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the parent activity code", required = true)
+            @PathVariable UUID activityCodeId,
+            @Parameter(description = "Number of levels below the activity code to return")
+            @RequestParam(defaultValue = "1") int maxDepth,
+            @Parameter(description = "Only return activity codes with this high-risk flag")
+            @RequestParam(required = false) Boolean highRisk
+    ) {
+        // Collected so that a depth rejected by the service still turns into a 400 before the body is written
+        return service.getActivityCodeDescendants(activityCodeId, maxDepth, highRisk)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Get Activity Code Ancestors", description = "Retrieve the ancestor path of an activity code, from the root of the classification down to its direct parent.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the activity code ancestors",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ActivityCodeDTO.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/{activityCodeId}/ancestors", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<ActivityCodeDTO>>> getActivityCodeAncestors(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the activity code", required = true)
+            @PathVariable UUID activityCodeId
+    ) {
+        return Mono.just(ResponseEntity.ok(service.getActivityCodeAncestors(activityCodeId)));
+    }
+
     @Operation(summary = "Create Activity Code", description = "Create a new activity code.")
     @ApiResponses({
             @ApiResponse(
@@ -128,6 +260,28 @@ public class ActivityCodeController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Bulk Upsert Activity Codes", description = "Create or update activity codes matched on their classification system, code and country. Accepts a JSON array or an NDJSON stream and streams back one result per input row.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-row results, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BulkUpsertResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<BulkUpsertResultDTO> upsertActivityCodes(
+            @RequestBody Flux<ActivityCodeDTO> activityCodes
+    ) {
+        return service.upsertActivityCodes(activityCodes);
+    }
+
     @Operation(summary = "Get Activity Code by ID", description = "Retrieve a specific activity code by its ID.")
     @ApiResponses({
             @ApiResponse(
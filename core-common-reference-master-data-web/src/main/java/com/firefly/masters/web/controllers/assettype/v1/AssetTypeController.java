@@ -21,6 +21,9 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.assettype.v1.AssetTypeService;
 import com.firefly.masters.interfaces.dtos.assettype.v1.AssetTypeDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -59,10 +62,36 @@ public class AssetTypeController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<AssetTypeDTO>>> listAssetTypes(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return assetTypeService.listAssetTypes(paginationRequest)
-                .map(ResponseEntity::ok);
+        return assetTypeService.listAssetTypes(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Asset Types by Cursor", description = "Retrieve asset types using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of asset types"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<AssetTypeDTO>>> listAssetTypesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return assetTypeService.listAssetTypesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Create Asset Type", description = "Create a new asset type record.")
@@ -21,6 +21,12 @@ import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.bank.v1.BankInstitutionCodeServiceImpl;
 import com.firefly.masters.interfaces.dtos.bank.v1.BankInstitutionCodeDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionRequestDTO;
+import com.firefly.masters.interfaces.dtos.bank.v1.BankResolutionResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -34,7 +40,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "BankInstitutionCodes", description = "APIs for managing bank or institution codes")
@@ -54,15 +62,78 @@ public class BankInstitutionCodeController {
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = PaginationResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field",
+                    content = @Content
             )
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<BankInstitutionCodeDTO>>> listBankInstitutionCodes(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode,
+            @Parameter(description = "Fields to return, comma-separated, or * for all; defaults to every field except large ones such as SVG images and template bodies")
+            @RequestParam(required = false) List<String> fields
     ) {
-        return service.listBankInstitutionCodes(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listBankInstitutionCodes(paginationRequest, countMode, fields)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "List Bank Institution Codes by Cursor", description = "Retrieve bank institution codes using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of bank institution codes"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<BankInstitutionCodeDTO>>> listBankInstitutionCodesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listBankInstitutionCodesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Search Bank Institution Codes", description = "Typeahead search on the bank name: prefix matches first, then fuzzy (trigram) matches.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching bank institution codes",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BankInstitutionCodeDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query or limit out of range",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<BankInstitutionCodeDTO>>> searchBankInstitutionCodes(
+            @Parameter(description = "Search term", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of matches, 1 to 50; defaults to 10")
+            @RequestParam(required = false) Integer limit
+    ) {
+        return service.searchBankInstitutionCodes(query, limit)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Create Bank Institution Code", description = "Create a new bank or institution code.")
@@ -89,6 +160,77 @@ public class BankInstitutionCodeController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Bulk Upsert Bank Institution Codes", description = "Create or update bank institution codes matched on their SWIFT/BIC code. Accepts a JSON array or an NDJSON stream and streams back one result per input row.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-row results, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BulkUpsertResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<BulkUpsertResultDTO> upsertBankInstitutionCodes(
+            @RequestBody Flux<BankInstitutionCodeDTO> bankInstitutionCodes
+    ) {
+        return service.upsertBankInstitutionCodes(bankInstitutionCodes);
+    }
+
+    @Operation(summary = "Resolve Bank Institution", description = "Find the institution of a SWIFT/BIC code, an IBAN or a routing number, tried in that order. An unknown branch code falls back to the bank's head office, and an IBAN matches the institution with the longest IBAN prefix.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the bank institution",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = BankResolutionResultDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No active institution matches",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/resolve", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<BankResolutionResultDTO>> resolveBankInstitution(
+            @ParameterObject
+            @ModelAttribute BankResolutionRequestDTO request
+    ) {
+        return service.resolveBankInstitution(request)
+                .map(result -> result.getInstitution() == null
+                        ? ResponseEntity.notFound().<BankResolutionResultDTO>build()
+                        : ResponseEntity.ok(result));
+    }
+
+    @Operation(summary = "Resolve Bank Institutions in Batch", description = "Resolve many rows of SWIFT/BIC codes, IBANs or routing numbers at once, e.g. to enrich payment files. Accepts a JSON array or an NDJSON stream and streams back one result per row; unresolved rows come back without an institution.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-row results, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BankResolutionResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/resolve/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<BankResolutionResultDTO> resolveBankInstitutions(
+            @RequestBody Flux<BankResolutionRequestDTO> requests
+    ) {
+        return service.resolveBankInstitutions(requests);
+    }
+
     @Operation(summary = "Get Bank Institution Code by ID", description = "Retrieve a specific bank or institution code by its ID.")
     @ApiResponses({
             @ApiResponse(
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.web.controllers.changes.v1;
+
+import com.firefly.masters.core.services.changes.v1.CatalogChangeServiceImpl;
+import com.firefly.masters.core.services.snapshot.v1.SnapshotCatalog;
+import com.firefly.masters.interfaces.dtos.changes.v1.CatalogChangeSetDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Tag(name = "Catalog Changes", description = "APIs for incremental catalog replication")
+@RestController
+@RequestMapping("/api/v1/changes")
+public class CatalogChangeController {
+
+    @Autowired
+    private CatalogChangeServiceImpl service;
+
+    @Operation(
+            summary = "Get Catalog Changes",
+            description = "Retrieve rows of a catalog changed or deleted after a watermark, ordered by writing transaction and id. " +
+                    "Supported catalogs are countries, currencies, language-locales, legal-forms and lookup-items. " +
+                    "Start with 'since' (or neither parameter for the full history) and continue with the returned " +
+                    "cursor until hasMore is false; keep the last cursor for the next sync."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Changes retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CatalogChangeSetDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown catalog",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/{catalog}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CatalogChangeSetDTO<?>>> getChanges(
+            @Parameter(in = ParameterIn.PATH, description = "Catalog to read changes from, e.g. countries", required = true)
+            @PathVariable String catalog,
+            @Parameter(description = "Watermark (ISO date-time) to start from when no cursor is given")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @Parameter(description = "Cursor returned by the previous call")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Maximum number of changed rows and of deletions to return (default 500, max 1000)")
+            @RequestParam(required = false) Integer limit
+    ) {
+        return SnapshotCatalog.fromPath(catalog)
+                .map(snapshotCatalog -> service.getChanges(snapshotCatalog, since, cursor, limit)
+                        .map(ResponseEntity::ok)
+                        .onErrorResume(IllegalArgumentException.class,
+                                e -> Mono.just(ResponseEntity.badRequest().<CatalogChangeSetDTO<?>>build())))
+                .orElseGet(() -> Mono.just(ResponseEntity.notFound().build()));
+    }
+}
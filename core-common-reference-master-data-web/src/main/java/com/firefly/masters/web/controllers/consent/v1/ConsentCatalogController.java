@@ -20,7 +20,10 @@ package com.firefly.masters.web.controllers.consent.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.consent.v1.ConsentCatalogServiceImpl;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.consent.v1.ConsentCatalogDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -59,10 +62,36 @@ public class ConsentCatalogController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<ConsentCatalogDTO>>> listConsentCatalog(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return service.listConsentCatalog(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listConsentCatalog(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Consent Catalog by Cursor", description = "Retrieve consent catalog using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of consent catalog"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<ConsentCatalogDTO>>> listConsentCatalogByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listConsentCatalogByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "List Consent Catalog by Type", description = "Retrieve a paginated list of consent catalog entries of a specific type.")
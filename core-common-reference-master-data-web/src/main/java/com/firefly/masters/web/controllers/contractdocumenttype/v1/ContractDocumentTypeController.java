@@ -20,7 +20,10 @@ package com.firefly.masters.web.controllers.contractdocumenttype.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.contractdocumenttype.v1.ContractDocumentTypeService;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.contractdocumenttype.v1.ContractDocumentTypeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -60,10 +63,36 @@ public class ContractDocumentTypeController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<ContractDocumentTypeDTO>>> listContractDocumentTypes(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return contractDocumentTypeService.listContractDocumentTypes(paginationRequest)
-                .map(ResponseEntity::ok);
+        return contractDocumentTypeService.listContractDocumentTypes(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Contract Document Types by Cursor", description = "Retrieve contract document types using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of contract document types"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<ContractDocumentTypeDTO>>> listContractDocumentTypesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return contractDocumentTypeService.listContractDocumentTypesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Create Contract Document Type", description = "Create a new contract document type record.")
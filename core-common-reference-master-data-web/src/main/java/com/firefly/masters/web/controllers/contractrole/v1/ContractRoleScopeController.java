@@ -20,6 +20,8 @@ package com.firefly.masters.web.controllers.contractrole.v1;
 import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.contractrole.v1.ContractRoleScopeService;
+import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeCheckRequestDTO;
+import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeCheckResultDTO;
 import com.firefly.masters.interfaces.dtos.contractrole.v1.ContractRoleScopeDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -96,6 +98,47 @@ public class ContractRoleScopeController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Check Contract Role Scope", description = "Check whether a contract role may perform an action on a resource type, against a permission matrix compiled in memory from the active scopes.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Outcome of the check",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ContractRoleScopeCheckResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(value = "/check", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ContractRoleScopeCheckResultDTO>> checkContractRoleScope(
+            @RequestBody ContractRoleScopeCheckRequestDTO request
+    ) {
+        return contractRoleScopeService.checkContractRoleScope(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Check Contract Role Scopes in Batch", description = "Check many (role, action, resource) triples at once. Accepts a JSON array or an NDJSON stream and streams back one outcome per check.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-check outcomes, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ContractRoleScopeCheckResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/check/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<ContractRoleScopeCheckResultDTO> checkContractRoleScopes(
+            @RequestBody Flux<ContractRoleScopeCheckRequestDTO> requests
+    ) {
+        return contractRoleScopeService.checkContractRoleScopes(requests);
+    }
+
     @Operation(summary = "Get Contract Role Scope", description = "Retrieve a specific contract role scope by its ID.")
     @ApiResponses({
             @ApiResponse(
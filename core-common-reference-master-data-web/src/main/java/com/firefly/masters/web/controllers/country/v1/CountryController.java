@@ -21,6 +21,9 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.country.v1.CountryServiceImpl;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -35,7 +38,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Countries", description = "APIs for managing countries")
@@ -46,7 +51,7 @@ public class CountryController {
     @Autowired
     private CountryServiceImpl service;
 
-    @Operation(summary = "List Countries", description = "Retrieve a paginated list of countries.")
+    @Operation(summary = "List Countries", description = "Retrieve a paginated list of countries matching a filter. Flags are never read and 'fields' is not supported; fetch a single country to get its flag.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
@@ -62,6 +67,57 @@ public class CountryController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "List Countries by Cursor", description = "Retrieve countries using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page. Flags are only returned when requested through 'fields'.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of countries"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<CountryDTO>>> listCountriesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listCountriesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Search Countries", description = "Typeahead search on the name: prefix matches first, then fuzzy (trigram) matches. Flags are never read and 'fields' is not supported; fetch a single country to get its flag.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching countries",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CountryDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query or limit out of range",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<CountryDTO>>> searchCountries(
+            @Parameter(description = "Search term", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of matches, 1 to 50; defaults to 10")
+            @RequestParam(required = false) Integer limit
+    ) {
+        return service.searchCountries(query, limit)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(summary = "Create Country", description = "Create a new country.")
     @ApiResponses({
             @ApiResponse(
@@ -86,6 +142,28 @@ public class CountryController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Bulk Upsert Countries", description = "Create or update countries matched on their ISO code. Accepts a JSON array or an NDJSON stream and streams back one result per input row.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-row results, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BulkUpsertResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<BulkUpsertResultDTO> upsertCountries(
+            @RequestBody Flux<CountryDTO> countries
+    ) {
+        return service.upsertCountries(countries);
+    }
+
     @Operation(summary = "Get Country by ID", description = "Retrieve a specific country by its ID.")
     @ApiResponses({
             @ApiResponse(
@@ -112,6 +190,61 @@ public class CountryController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get Country by ISO code", description = "Retrieve a country by its ISO code, matched case-insensitively, from the in-memory natural-key index.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Country retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CountryDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "ISO code matches several countries when case is ignored",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Country not found",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-code/{code}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CountryDTO>> getCountryByIsoCode(
+            @Parameter(in = ParameterIn.PATH, description = "ISO code of the country, such as ES", required = true)
+            @PathVariable String code
+    ) {
+        return service.getCountryByIsoCode(code)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Get Countries by ISO codes", description = "Retrieve the countries with any of the given ISO codes, matched case-insensitively, from the in-memory natural-key index. Unknown ISO codes are skipped. Flags are not returned and 'fields' is not supported; fetch a single country to get its flag.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching countries"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No ISO codes or more than 500 ISO codes",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-codes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<CountryDTO>>> getCountriesByIsoCodes(
+            @Parameter(description = "ISO codes of the countries, comma-separated or repeated", required = true)
+            @RequestParam List<String> codes
+    ) {
+        return service.getCountriesByIsoCodes(codes)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(summary = "Update Country", description = "Update an existing country by its ID.")
     @ApiResponses({
             @ApiResponse(
@@ -21,6 +21,7 @@ import org.fireflyframework.core.filters.FilterRequest;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.currency.v1.CurrencyServiceImpl;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
 import com.firefly.masters.interfaces.dtos.country.v1.CountryDTO;
 import com.firefly.masters.interfaces.dtos.currency.v1.CurrencyDTO;
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,7 +37,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Currencies", description = "APIs for managing currencies")
@@ -88,6 +91,28 @@ public class CurrencyController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Bulk Upsert Currencies", description = "Create or update currencies matched on their ISO 4217 code. Accepts a JSON array or an NDJSON stream and streams back one result per input row.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-row results, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BulkUpsertResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<BulkUpsertResultDTO> upsertCurrencies(
+            @RequestBody Flux<CurrencyDTO> currencies
+    ) {
+        return service.upsertCurrencies(currencies);
+    }
+
     @Operation(summary = "Get Currency by ID", description = "Retrieve a specific currency by its ID.")
     @ApiResponses({
             @ApiResponse(
@@ -114,6 +139,61 @@ public class CurrencyController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get Currency by ISO code", description = "Retrieve a currency by its ISO code, matched case-insensitively, from the in-memory natural-key index.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Currency retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = CurrencyDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "ISO code matches several currencies when case is ignored",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Currency not found",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-code/{code}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CurrencyDTO>> getCurrencyByIsoCode(
+            @Parameter(in = ParameterIn.PATH, description = "ISO code of the currency, such as EUR", required = true)
+            @PathVariable String code
+    ) {
+        return service.getCurrencyByIsoCode(code)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Get Currencies by ISO codes", description = "Retrieve the currencies with any of the given ISO codes, matched case-insensitively, from the in-memory natural-key index. Unknown ISO codes are skipped.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching currencies"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No ISO codes or more than 500 ISO codes",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-codes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<CurrencyDTO>>> getCurrenciesByIsoCodes(
+            @Parameter(description = "ISO codes of the currencies, comma-separated or repeated", required = true)
+            @RequestParam List<String> codes
+    ) {
+        return service.getCurrenciesByIsoCodes(codes)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(summary = "Update Currency", description = "Update an existing currency by its ID.")
     @ApiResponses({
             @ApiResponse(
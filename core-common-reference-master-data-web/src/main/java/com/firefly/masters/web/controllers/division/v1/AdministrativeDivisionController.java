@@ -20,7 +20,10 @@ package com.firefly.masters.web.controllers.division.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.division.v1.AdministrativeDivisionService;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.division.v1.AdministrativeDivisionDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -34,7 +37,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Administrative Divisions", description = "APIs for managing administrative divisions")
@@ -59,10 +64,36 @@ public class AdministrativeDivisionController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<AdministrativeDivisionDTO>>> listDivisions(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return service.listDivisions(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listDivisions(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Divisions by Cursor", description = "Retrieve divisions using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of divisions"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<AdministrativeDivisionDTO>>> listDivisionsByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listDivisionsByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Create Administrative Division", description = "Create a new administrative division.")
@@ -89,6 +120,74 @@ public class AdministrativeDivisionController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Resolve Postal Code", description = "Find the active divisions of a country whose postal code pattern matches a postal code, most specific first.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the postal code",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AdministrativeDivisionDTO.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/resolve", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<AdministrativeDivisionDTO>>> resolvePostalCode(
+            @Parameter(description = "ID of the country", required = true)
+            @RequestParam UUID countryId,
+            @Parameter(description = "Postal code to resolve", required = true)
+            @RequestParam String postalCode
+    ) {
+        return Mono.just(ResponseEntity.ok(service.resolvePostalCode(countryId, postalCode)));
+    }
+
+    @Operation(summary = "Get Division Path", description = "Retrieve the path from the top-level division of the country down to a division, e.g. region, province, municipality.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the division path",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AdministrativeDivisionDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Administrative division not found",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/{divisionId}/path", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<AdministrativeDivisionDTO>>> getDivisionPath(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the administrative division", required = true)
+            @PathVariable UUID divisionId
+    ) {
+        return service.getDivisionPath(divisionId)
+                .collectList()
+                .filter(path -> !path.isEmpty())
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Get Child Divisions", description = "Retrieve the direct children of an administrative division.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved child divisions",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = AdministrativeDivisionDTO.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/{divisionId}/children", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<AdministrativeDivisionDTO>>> getChildDivisions(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the parent administrative division", required = true)
+            @PathVariable UUID divisionId
+    ) {
+        return Mono.just(ResponseEntity.ok(service.getChildDivisions(divisionId)));
+    }
+
     @Operation(summary = "Get Administrative Division by ID", description = "Retrieve a specific administrative division by its ID.")
     @ApiResponses({
             @ApiResponse(
@@ -19,6 +19,7 @@ package com.firefly.masters.web.controllers.document.v1;
 
 import com.firefly.masters.interfaces.dtos.document.v1.DocumentTemplateLocalizationDTO;
 import com.firefly.masters.core.services.document.v1.DocumentTemplateLocalizationService;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -164,6 +165,34 @@ public class DocumentTemplateLocalizationController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Resolve Document Template Localization", description = "Get the name and content of a document template in the requested locale, falling back to its language, then to the template's own name and content, and finally to the platform default locale.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Localization resolved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ResolvedLocalizationDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown document template, or no localization along the fallback chain",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/template/{templateId}/resolve", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResolvedLocalizationDTO<DocumentTemplateLocalizationDTO>>> resolveDocumentTemplateLocalization(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the document template", required = true)
+            @PathVariable UUID templateId,
+            @Parameter(description = "Requested locale code, such as es-MX")
+            @RequestParam(required = false) String locale
+    ) {
+        return service.resolveDocumentTemplateLocalization(templateId, locale)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(summary = "Update Document Template Localization", description = "Update an existing document template localization.")
     @ApiResponses({
             @ApiResponse(
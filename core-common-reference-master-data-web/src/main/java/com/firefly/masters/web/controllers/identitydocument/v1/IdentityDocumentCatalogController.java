@@ -19,8 +19,13 @@ package com.firefly.masters.web.controllers.identitydocument.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentCatalogDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationRequestDTO;
+import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentValidationResultDTO;
 import com.firefly.masters.core.services.identitydocument.v1.IdentityDocumentCatalogService;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -34,6 +39,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import java.util.UUID;
 
@@ -62,10 +68,36 @@ public class IdentityDocumentCatalogController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<IdentityDocumentCatalogDTO>>> listIdentityDocuments(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return service.listIdentityDocuments(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listIdentityDocuments(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Identity Documents by Cursor", description = "Retrieve identity documents using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of identity documents"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<IdentityDocumentCatalogDTO>>> listIdentityDocumentsByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listIdentityDocumentsByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "List Identity Documents by Category", description = "Retrieve a paginated list of identity documents of a specific category.")
@@ -136,6 +168,47 @@ public class IdentityDocumentCatalogController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Validate Identity Document Number", description = "Validate a document number against the format of its identity document, given either the document code or the country and category code.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Validation outcome; invalid values are reported in the body",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = IdentityDocumentValidationResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(value = "/validate", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<IdentityDocumentValidationResultDTO>> validateIdentityDocument(
+            @RequestBody IdentityDocumentValidationRequestDTO request
+    ) {
+        return service.validateIdentityDocument(request)
+                .map(ResponseEntity::ok);
+    }
+
+    @Operation(summary = "Validate Identity Document Numbers in Batch", description = "Validate many document numbers at once. Accepts a JSON array or an NDJSON stream and streams back one result per value.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-value outcomes, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = IdentityDocumentValidationResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/validate/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<IdentityDocumentValidationResultDTO> validateIdentityDocuments(
+            @RequestBody Flux<IdentityDocumentValidationRequestDTO> requests
+    ) {
+        return service.validateIdentityDocuments(requests);
+    }
+
     @Operation(summary = "Get Identity Document", description = "Get a specific identity document by its ID.")
     @ApiResponses({
             @ApiResponse(
@@ -19,8 +19,12 @@ package com.firefly.masters.web.controllers.identitydocument.v1;
 
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.identitydocument.v1.IdentityDocumentLocalizationDTO;
 import com.firefly.masters.core.services.identitydocument.v1.IdentityDocumentLocalizationService;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -62,10 +66,36 @@ public class IdentityDocumentLocalizationController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<IdentityDocumentLocalizationDTO>>> listIdentityDocumentLocalizations(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return service.listIdentityDocumentLocalizations(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listIdentityDocumentLocalizations(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Identity Document Localizations by Cursor", description = "Retrieve identity document localizations using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of identity document localizations"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<IdentityDocumentLocalizationDTO>>> listIdentityDocumentLocalizationsByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listIdentityDocumentLocalizationsByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "List Localizations by Document ID", description = "Retrieve a paginated list of localizations for a specific identity document.")
@@ -142,6 +172,34 @@ public class IdentityDocumentLocalizationController {
                 .onErrorResume(e -> Mono.just(ResponseEntity.notFound().build()));
     }
 
+    @Operation(summary = "Resolve Identity Document Localization", description = "Get the name, description and format description of an identity document in the requested locale. When the locale has no localization, its language is tried, then the name and description stored on the document itself, and finally the platform default locale.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Localization resolved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ResolvedLocalizationDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown identity document, or no localization along the fallback chain",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/document/{documentId}/resolve", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResolvedLocalizationDTO<IdentityDocumentLocalizationDTO>>> resolveIdentityDocumentLocalization(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the identity document", required = true)
+            @PathVariable UUID documentId,
+            @Parameter(description = "Requested locale code, such as es-MX")
+            @RequestParam(required = false) String locale
+    ) {
+        return service.resolveIdentityDocumentLocalization(documentId, locale)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(summary = "Update Identity Document Localization", description = "Update a specific identity document localization by its ID.")
     @ApiResponses({
             @ApiResponse(
@@ -38,6 +38,7 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Legal Forms", description = "APIs for managing legal forms")
@@ -63,6 +64,35 @@ public class LegalFormController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Search Legal Forms", description = "Typeahead search on the name: prefix matches first, then fuzzy (trigram) matches.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching legal forms",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LegalFormDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Blank query or limit out of range",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/search", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<LegalFormDTO>>> searchLegalForms(
+            @Parameter(description = "Search term", required = true)
+            @RequestParam("q") String query,
+            @Parameter(description = "Maximum number of matches, 1 to 50; defaults to 10")
+            @RequestParam(required = false) Integer limit
+    ) {
+        return service.searchLegalForms(query, limit)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(summary = "Get Legal Forms by Country", description = "Retrieve all legal forms for a specific country.")
     @ApiResponses({
             @ApiResponse(
@@ -132,6 +162,65 @@ public class LegalFormController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get Legal Form by Code", description = "Retrieve a legal form by its code, matched case-insensitively, from the in-memory natural-key index.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Legal form retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LegalFormDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Code used in several countries and no country given",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Legal form not found",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-code/{code}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<LegalFormDTO>> getLegalFormByCode(
+            @Parameter(in = ParameterIn.PATH, description = "Code of the legal form, such as SL", required = true)
+            @PathVariable String code,
+            @Parameter(description = "ID of the country; required when the code is used in several countries")
+            @RequestParam(required = false) UUID countryId
+    ) {
+        return service.getLegalFormByCode(code, countryId)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()))
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
+    @Operation(summary = "Get Legal Forms by Codes", description = "Retrieve the legal forms with any of the given codes, matched case-insensitively, from the in-memory natural-key index. Unknown codes are skipped.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching legal forms"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No codes or more than 500 codes",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-codes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<LegalFormDTO>>> getLegalFormsByCodes(
+            @Parameter(description = "Codes of the legal forms, comma-separated or repeated", required = true)
+            @RequestParam List<String> codes,
+            @Parameter(description = "ID of the country to restrict the legal forms to")
+            @RequestParam(required = false) UUID countryId
+    ) {
+        return service.getLegalFormsByCodes(codes, countryId)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(summary = "Update Legal Form", description = "Update an existing legal form by its ID.")
     @ApiResponses({
             @ApiResponse(
@@ -20,7 +20,10 @@ package com.firefly.masters.web.controllers.locale.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.locale.v1.LanguageLocaleServiceImpl;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.locale.v1.LanguageLocaleDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -35,6 +38,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "LanguageLocale", description = "APIs for managing language/locale data")
@@ -59,10 +63,36 @@ public class LanguageLocaleController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<LanguageLocaleDTO>>> listLanguageLocales(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return service.listLanguageLocales(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listLanguageLocales(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Language Locales by Cursor", description = "Retrieve language locales using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of language locales"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<LanguageLocaleDTO>>> listLanguageLocalesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listLanguageLocalesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Create LanguageLocale", description = "Create a new language/locale entry.")
@@ -115,6 +145,61 @@ public class LanguageLocaleController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get Language Locale by Locale code", description = "Retrieve a language locale by its locale code, matched case-insensitively and reading _ as -, from the in-memory natural-key index.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "LanguageLocale retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LanguageLocaleDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Locale code matches several language locales once normalized",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "LanguageLocale not found",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-code/{code}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<LanguageLocaleDTO>> getLanguageLocaleByCode(
+            @Parameter(in = ParameterIn.PATH, description = "Locale code of the language locale, such as es-ES", required = true)
+            @PathVariable String code
+    ) {
+        return service.getLanguageLocaleByCode(code)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Get Language Locales by Locale codes", description = "Retrieve the language locales with any of the given locale codes, matched case-insensitively, from the in-memory natural-key index. Unknown locale codes are skipped.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching language locales"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No locale codes or more than 500 locale codes",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-codes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<LanguageLocaleDTO>>> getLanguageLocalesByCodes(
+            @Parameter(description = "Locale codes of the language locales, comma-separated or repeated", required = true)
+            @RequestParam List<String> codes
+    ) {
+        return service.getLanguageLocalesByCodes(codes)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(summary = "Update LanguageLocale", description = "Update an existing language/locale record by its ID.")
     @ApiResponses({
             @ApiResponse(
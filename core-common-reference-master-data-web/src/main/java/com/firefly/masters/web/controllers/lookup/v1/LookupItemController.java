@@ -20,7 +20,12 @@ package com.firefly.masters.web.controllers.lookup.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.lookup.v1.LookupItemService;
+import com.firefly.masters.interfaces.dtos.commons.v1.BulkUpsertResultDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
+import com.firefly.masters.interfaces.dtos.lookup.v1.LookupDomainItemsDTO;
 import com.firefly.masters.interfaces.dtos.lookup.v1.LookupItemDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -31,11 +36,14 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Lookup Items", description = "APIs for managing lookup items")
@@ -60,13 +68,39 @@ public class LookupItemController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<LookupItemDTO>>> listItems(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return service.listItems(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listItems(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
     }
 
-    @Operation(summary = "Get Lookup Items by Domain", description = "Retrieve all lookup items for a specific domain.")
+    @Operation(summary = "List Items by Cursor", description = "Retrieve items using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of items"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<LookupItemDTO>>> listItemsByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listItemsByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Get Lookup Items by Domain", description = "Retrieve all lookup items for a specific domain, or only those effective on the 'asOf' date.")
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
@@ -80,9 +114,68 @@ public class LookupItemController {
     @GetMapping(value = "/domain/{domainId}", produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<Flux<LookupItemDTO>>> getItemsByDomain(
             @Parameter(in = ParameterIn.PATH, description = "ID of the domain", required = true)
-            @PathVariable UUID domainId
+            @PathVariable UUID domainId,
+            @Parameter(description = "Only return items effective on this date (ISO 8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) {
+        return Mono.just(ResponseEntity.ok(asOf == null
+                ? service.getItemsByDomain(domainId)
+                : service.getItemsByDomain(domainId, asOf)));
+    }
+
+    @Operation(summary = "Get Lookup Item Trees by Domain Codes", description = "Retrieve the active items of several domains in one call, nested by parent item and sorted by sort order. Items are effective today unless 'asOf' is given. With 'tenantId', the tenant's items replace global items with the same code. Unknown domain codes are left out.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved lookup item trees",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LookupDomainItemsDTO.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/tree", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<Flux<LookupDomainItemsDTO>>> getItemTreesByDomainCodes(
+            @Parameter(description = "Codes of the domains to retrieve, comma separated or repeated", required = true)
+            @RequestParam List<String> domainCodes,
+            @Parameter(description = "Tenant whose overrides apply; global items only if omitted")
+            @RequestParam(required = false) UUID tenantId,
+            @Parameter(description = "Date the items must be effective on (ISO 8601); defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
+    ) {
+        return Mono.just(ResponseEntity.ok(service.getItemTreesByDomainCodes(domainCodes, tenantId, asOf)));
+    }
+
+    @Operation(summary = "Resolve Lookup Item", description = "Resolve the version of an item code that is effective on a date, served from memory. Intended for back-dated processing of historical codes.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully resolved the lookup item",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = LookupItemDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No version of the item is effective on that date",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/resolve", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<LookupItemDTO>> resolveItem(
+            @Parameter(description = "Code of the domain", required = true)
+            @RequestParam String domainCode,
+            @Parameter(description = "Code of the item", required = true)
+            @RequestParam String itemCode,
+            @Parameter(description = "Tenant whose overrides apply; global items only if omitted")
+            @RequestParam(required = false) UUID tenantId,
+            @Parameter(description = "Date the item must be effective on (ISO 8601); defaults to today")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf
     ) {
-        return Mono.just(ResponseEntity.ok(service.getItemsByDomain(domainId)));
+        return service.resolveItem(domainCode, itemCode, tenantId, asOf)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
     @Operation(summary = "Create Lookup Item", description = "Create a new lookup item.")
@@ -106,7 +199,30 @@ public class LookupItemController {
             @RequestBody LookupItemDTO itemDto
     ) {
         return service.createItem(itemDto)
-                .map(ResponseEntity::ok);
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Bulk Upsert Lookup Items", description = "Create or update lookup items matched on their domain, item code, tenant and effective date. Accepts a JSON array or an NDJSON stream and streams back one result per input row.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-row results, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = BulkUpsertResultDTO.class)
+                    )
+            )
+    })
+    @PostMapping(
+            value = "/bulk",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<BulkUpsertResultDTO> upsertItems(
+            @RequestBody Flux<LookupItemDTO> items
+    ) {
+        return service.upsertItems(items);
     }
 
     @Operation(summary = "Get Lookup Item by ID", description = "Retrieve a specific lookup item by its ID.")
@@ -145,6 +261,11 @@ public class LookupItemController {
                             schema = @Schema(implementation = LookupItemDTO.class)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid input data",
+                    content = @Content
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Lookup item not found",
@@ -159,7 +280,8 @@ public class LookupItemController {
     ) {
         return service.updateItem(itemId, itemDto)
                 .map(ResponseEntity::ok)
-                .defaultIfEmpty(ResponseEntity.notFound().build());
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Delete Lookup Item", description = "Delete a specific lookup item by its ID.")
@@ -18,6 +18,7 @@
 package com.firefly.masters.web.controllers.notification.v1;
 
 import com.firefly.masters.core.services.notification.v1.NotificationMessageLocalizationService;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageLocalizationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -162,6 +163,34 @@ public class NotificationMessageLocalizationController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Resolve Notification Message Localization", description = "Get the subject and message of a notification message in the requested locale. If neither the locale nor its language is localized, the default subject and message of the notification are returned, or else its localization in the platform default locale.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Localization resolved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ResolvedLocalizationDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown notification message, or no localization along the fallback chain",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/message/{messageId}/resolve", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResolvedLocalizationDTO<NotificationMessageLocalizationDTO>>> resolveNotificationMessageLocalization(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the notification message", required = true)
+            @PathVariable UUID messageId,
+            @Parameter(description = "Requested locale code, such as es-MX")
+            @RequestParam(required = false) String locale
+    ) {
+        return service.resolveNotificationMessageLocalization(messageId, locale)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(summary = "Update Notification Message Localization", description = "Update a specific notification message localization by its ID.")
     @ApiResponses({
             @ApiResponse(
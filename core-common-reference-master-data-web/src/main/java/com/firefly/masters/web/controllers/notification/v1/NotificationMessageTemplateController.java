@@ -20,7 +20,12 @@ package com.firefly.masters.web.controllers.notification.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.notification.v1.NotificationMessageTemplateService;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.notification.v1.NotificationMessageTemplateDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderRequestDTO;
+import com.firefly.masters.interfaces.dtos.notification.v1.NotificationTemplateRenderResultDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -31,11 +36,15 @@ import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.UUID;
 
 /**
@@ -58,15 +67,49 @@ public class NotificationMessageTemplateController {
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = PaginationResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field",
+                    content = @Content
             )
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<NotificationMessageTemplateDTO>>> listNotificationMessageTemplates(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode,
+            @Parameter(description = "Fields to return, comma-separated, or * for all; defaults to every field except large ones such as SVG images and template bodies")
+            @RequestParam(required = false) List<String> fields
     ) {
-        return service.listNotificationMessageTemplates(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listNotificationMessageTemplates(paginationRequest, countMode, fields)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "List Notification Message Templates by Cursor", description = "Retrieve notification message templates using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of notification message templates"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<NotificationMessageTemplateDTO>>> listNotificationMessageTemplatesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listNotificationMessageTemplatesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "List Notification Message Templates by Type", description = "Retrieve a paginated list of notification message templates for a specific template type.")
@@ -249,4 +292,64 @@ public class NotificationMessageTemplateController {
                 .then(Mono.just(ResponseEntity.noContent().<Void>build()))
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
+
+    @Operation(summary = "Render Notification Message Template", description = "Render one message from a template with the given variable bindings. The template is compiled once and reused until it changes.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Message rendered successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NotificationTemplateRenderResultDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Missing or unknown template variables",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = NotificationTemplateRenderResultDTO.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "Notification message template not found")
+    })
+    @PostMapping(value = "/{templateId}/render", consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<NotificationTemplateRenderResultDTO>> renderNotificationMessageTemplate(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the notification message template", required = true)
+            @PathVariable UUID templateId,
+            @RequestBody NotificationTemplateRenderRequestDTO request
+    ) {
+        return service.renderNotificationMessageTemplate(templateId, request)
+                .map(result -> result.getError() == null
+                        ? ResponseEntity.ok(result)
+                        : ResponseEntity.badRequest().body(result))
+                .onErrorResume(NoSuchElementException.class, e -> Mono.just(ResponseEntity.notFound().build()));
+    }
+
+    @Operation(summary = "Render Notification Message Template in Batch", description = "Render one message per set of variable bindings. Accepts a JSON array or an NDJSON stream and streams back one result per message; invalid bindings are reported in their result.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Per-message outcomes, in input order",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = NotificationTemplateRenderResultDTO.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "404", description = "Notification message template not found")
+    })
+    @PostMapping(
+            value = "/{templateId}/render/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE}
+    )
+    public Flux<NotificationTemplateRenderResultDTO> renderNotificationMessageTemplates(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the notification message template", required = true)
+            @PathVariable UUID templateId,
+            @RequestBody Flux<NotificationTemplateRenderRequestDTO> requests
+    ) {
+        // The template is resolved before the first result, so the status has not been committed yet
+        return service.renderNotificationMessageTemplates(templateId, requests)
+                .onErrorMap(NoSuchElementException.class, e -> new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage(), e));
+    }
 }
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.web.controllers.resolve.v1;
+
+import com.firefly.masters.core.services.resolve.v1.ReferenceResolutionServiceImpl;
+import com.firefly.masters.interfaces.dtos.resolve.v1.ReferenceRequestDTO;
+import com.firefly.masters.interfaces.dtos.resolve.v1.ReferenceResultDTO;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.media.Content;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+import java.util.List;
+
+@Tag(name = "Reference Resolution", description = "APIs for resolving references into several catalogs in one call")
+@RestController
+@RequestMapping("/api/v1/resolve")
+public class ReferenceResolutionController {
+
+    @Autowired
+    private ReferenceResolutionServiceImpl service;
+
+    @Operation(
+            summary = "Resolve References",
+            description = "Resolve references to countries, currencies, language locales, legal forms, titles, banks, " +
+                    "activity codes and lookup items, each by ID or by code, in a single call. References by ID are " +
+                    "fetched with one query per catalog; references by code are answered from memory. Results come " +
+                    "back in request order; a reference that is unknown or invalid does not fail the others."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "One result per reference, in request order"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "More than 500 references",
+                    content = @Content
+            )
+    })
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<ReferenceResultDTO>>> resolveReferences(
+            @RequestBody List<ReferenceRequestDTO> references
+    ) {
+        return service.resolveReferences(references)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 Firefly Software Solutions Inc
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package com.firefly.masters.web.controllers.snapshot.v1;
+
+import com.firefly.masters.core.services.snapshot.v1.CatalogSnapshotServiceImpl;
+import com.firefly.masters.core.services.snapshot.v1.SnapshotCatalog;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.enums.ParameterIn;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.media.Content;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+@Tag(name = "Snapshots", description = "APIs for downloading complete catalogs")
+@RestController
+@RequestMapping("/api/v1/snapshots")
+public class SnapshotController {
+
+    @Autowired
+    private CatalogSnapshotServiceImpl service;
+
+    @Operation(
+            summary = "Get Catalog Snapshot",
+            description = "Retrieve the complete contents of a catalog in a single response. " +
+                    "Supported catalogs are countries, currencies, language-locales, legal-forms and lookup-items. " +
+                    "The response carries a strong ETag; send it back in If-None-Match to receive 304 Not Modified " +
+                    "while the catalog is unchanged."
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Catalog snapshot retrieved successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE)
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Catalog has not changed since the snapshot identified by If-None-Match",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown catalog",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/{catalog}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<byte[]>> getSnapshot(
+            @Parameter(in = ParameterIn.PATH, description = "Catalog to retrieve, e.g. countries", required = true)
+            @PathVariable String catalog
+    ) {
+        // If-None-Match is evaluated by WebFlux against the ETag of the returned entity, which
+        // answers 304 without writing the body.
+        return SnapshotCatalog.fromPath(catalog)
+                .map(snapshotCatalog -> service.getSnapshot(snapshotCatalog)
+                        .map(snapshot -> ResponseEntity.ok()
+                                .eTag(snapshot.eTag())
+                                .cacheControl(CacheControl.noCache())
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .body(snapshot.body())))
+                .orElseGet(() -> Mono.just(ResponseEntity.notFound().build()));
+    }
+}
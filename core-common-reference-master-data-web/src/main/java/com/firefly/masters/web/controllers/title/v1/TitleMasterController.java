@@ -20,7 +20,10 @@ package com.firefly.masters.web.controllers.title.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.title.v1.TitleMasterService;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.title.v1.TitleMasterDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -35,6 +38,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 @Tag(name = "Title Master", description = "APIs for managing Title Master data")
@@ -59,10 +63,36 @@ public class TitleMasterController {
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<TitleMasterDTO>>> listTitles(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode
     ) {
-        return titleMasterService.listTitles(paginationRequest)
-                .map(ResponseEntity::ok);
+        return titleMasterService.listTitles(paginationRequest, countMode)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response));
+    }
+
+    @Operation(summary = "List Titles by Cursor", description = "Retrieve titles using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of titles"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<TitleMasterDTO>>> listTitlesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return titleMasterService.listTitlesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "Create Title", description = "Create a new title master record.")
@@ -115,6 +145,61 @@ public class TitleMasterController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Get Title by Prefix", description = "Retrieve a title by its prefix, matched case-insensitively, from the in-memory natural-key index. Prefixes are not unique; a prefix used by several titles is rejected.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Title retrieved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TitleMasterDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Prefix used by several titles; look the title up by ID instead",
+                    content = @Content
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Title not found",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-code/{code}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<TitleMasterDTO>> getTitleByPrefix(
+            @Parameter(in = ParameterIn.PATH, description = "Prefix of the title, such as Dr.", required = true)
+            @PathVariable String code
+    ) {
+        return titleMasterService.getTitleByPrefix(code)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build())
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "Get Titles by Prefixes", description = "Retrieve the titles with any of the given prefixes, matched case-insensitively, from the in-memory natural-key index. Unknown prefixes are skipped.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved matching titles"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No prefixes or more than 500 prefixes",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/by-codes", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<TitleMasterDTO>>> getTitlesByPrefixes(
+            @Parameter(description = "Prefixes of the titles, comma-separated or repeated", required = true)
+            @RequestParam List<String> codes
+    ) {
+        return titleMasterService.getTitlesByPrefixes(codes)
+                .collectList()
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
     @Operation(summary = "Update Title", description = "Update an existing title by its ID.")
     @ApiResponses({
             @ApiResponse(
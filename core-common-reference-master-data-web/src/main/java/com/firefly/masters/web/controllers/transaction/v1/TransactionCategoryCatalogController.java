@@ -20,7 +20,11 @@ package com.firefly.masters.web.controllers.transaction.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.transaction.v1.TransactionCategoryCatalogService;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPageDTO;
+import com.firefly.masters.interfaces.dtos.commons.v1.CursorPaginationRequest;
 import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryCatalogDTO;
+import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryTreeNodeDTO;
+import com.firefly.masters.interfaces.enums.commons.v1.CountModeEnum;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.enums.ParameterIn;
@@ -35,6 +39,7 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import reactor.core.publisher.Mono;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -57,15 +62,49 @@ public class TransactionCategoryCatalogController {
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             schema = @Schema(implementation = PaginationResponse.class)
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Unknown field",
+                    content = @Content
             )
     })
     @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
     public Mono<ResponseEntity<PaginationResponse<TransactionCategoryCatalogDTO>>> listTransactionCategories(
             @ParameterObject
-            @ModelAttribute PaginationRequest paginationRequest
+            @ModelAttribute PaginationRequest paginationRequest,
+            @Parameter(description = "How to compute totalElements: exact (default), estimate or none")
+            @RequestParam(defaultValue = "exact") CountModeEnum countMode,
+            @Parameter(description = "Fields to return, comma-separated, or * for all; defaults to every field except large ones such as SVG images and template bodies")
+            @RequestParam(required = false) List<String> fields
     ) {
-        return service.listTransactionCategories(paginationRequest)
-                .map(ResponseEntity::ok);
+        return service.listTransactionCategories(paginationRequest, countMode, fields)
+                .map(response -> ResponseEntity.ok()
+                        .header(CountModeEnum.HEADER, countMode.getValue())
+                        .body(response))
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
+    }
+
+    @Operation(summary = "List Transaction Categories by Cursor", description = "Retrieve transaction categories using keyset (cursor) pagination. Pass the returned nextCursor as 'after' to fetch the following page.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved page of transaction categories"
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid cursor, sort property or field",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/cursor", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<CursorPageDTO<TransactionCategoryCatalogDTO>>> listTransactionCategoriesByCursor(
+            @ParameterObject
+            @ModelAttribute CursorPaginationRequest cursorPaginationRequest
+    ) {
+        return service.listTransactionCategoriesByCursor(cursorPaginationRequest)
+                .map(ResponseEntity::ok)
+                .onErrorResume(IllegalArgumentException.class, e -> Mono.just(ResponseEntity.badRequest().build()));
     }
 
     @Operation(summary = "List Root Transaction Categories", description = "Retrieve a paginated list of root transaction categories (categories without a parent).")
@@ -110,6 +149,26 @@ public class TransactionCategoryCatalogController {
                 .map(ResponseEntity::ok);
     }
 
+    @Operation(summary = "Get Transaction Category Tree", description = "Retrieve the whole transaction category tree with names and descriptions localized for a locale, falling back to the default names.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the transaction category tree",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = TransactionCategoryTreeNodeDTO.class)
+                    )
+            )
+    })
+    @GetMapping(value = "/tree", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<List<TransactionCategoryTreeNodeDTO>>> getTransactionCategoryTree(
+            @Parameter(description = "Locale code to localize names to, e.g. es-ES")
+            @RequestParam(required = false) String locale
+    ) {
+        return service.getTransactionCategoryTree(locale)
+                .map(ResponseEntity::ok);
+    }
+
     @Operation(summary = "Get Transaction Category by ID", description = "Retrieve a transaction category by its ID.")
     @ApiResponses({
             @ApiResponse(
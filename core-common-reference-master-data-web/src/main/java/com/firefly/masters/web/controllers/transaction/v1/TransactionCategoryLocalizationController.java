@@ -20,6 +20,7 @@ package com.firefly.masters.web.controllers.transaction.v1;
 import org.fireflyframework.core.queries.PaginationRequest;
 import org.fireflyframework.core.queries.PaginationResponse;
 import com.firefly.masters.core.services.transaction.v1.TransactionCategoryLocalizationService;
+import com.firefly.masters.interfaces.dtos.locale.v1.ResolvedLocalizationDTO;
 import com.firefly.masters.interfaces.dtos.transaction.v1.TransactionCategoryLocalizationDTO;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -149,6 +150,34 @@ public class TransactionCategoryLocalizationController {
                 .defaultIfEmpty(ResponseEntity.notFound().build());
     }
 
+    @Operation(summary = "Resolve Transaction Category Localization", description = "Get the name and description of a transaction category in the requested locale. Falls back to the language of the locale, then to the category's own name and description, then to the platform default locale.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Localization resolved successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ResolvedLocalizationDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Unknown transaction category, or no localization along the fallback chain",
+                    content = @Content
+            )
+    })
+    @GetMapping(value = "/category/{categoryId}/resolve", produces = MediaType.APPLICATION_JSON_VALUE)
+    public Mono<ResponseEntity<ResolvedLocalizationDTO<TransactionCategoryLocalizationDTO>>> resolveTransactionCategoryLocalization(
+            @Parameter(in = ParameterIn.PATH, description = "ID of the transaction category", required = true)
+            @PathVariable UUID categoryId,
+            @Parameter(description = "Requested locale code, such as es-MX")
+            @RequestParam(required = false) String locale
+    ) {
+        return service.resolveTransactionCategoryLocalization(categoryId, locale)
+                .map(ResponseEntity::ok)
+                .defaultIfEmpty(ResponseEntity.notFound().build());
+    }
+
     @Operation(summary = "Create Transaction Category Localization", description = "Create a new transaction category localization.")
     @ApiResponses({
             @ApiResponse(